@@ -208,6 +208,60 @@ public final class Common {
         };
     }
 
+    /**
+     * Get the name of the pbj-runtime primitive list class, such as "LongList", that stores the values of a repeated
+     * field in messages that enable the `pbj.primitive_repeated` option.
+     *
+     * @param field the field
+     *
+     * @return the primitive list class name, or null if the field is not a repeated numeric or boolean field
+     */
+    public static String primitiveListClassName(final Field field) {
+        if (!field.repeated() || field.optionalValueType()) {
+            return null;
+        }
+        return switch (field.type()) {
+            case INT32, UINT32, SINT32, FIXED32, SFIXED32 -> "IntList";
+            case INT64, UINT64, SINT64, FIXED64, SFIXED64 -> "LongList";
+            case FLOAT -> "FloatList";
+            case DOUBLE -> "DoubleList";
+            case BOOL -> "BooleanList";
+            default -> null;
+        };
+    }
+
+    /**
+     * Check if a field is parsed lazily in messages that enable the `pbj.lazy_messages` option. Only singular message
+     * fields are parsed lazily. Repeated, oneof and map fields, as well as the optional value types, are always
+     * parsed eagerly.
+     *
+     * @param field the field
+     *
+     * @return true if the field holds a lazily parsed message
+     */
+    public static boolean isLazyMessageField(final Field field) {
+        return field.type() == Field.FieldType.MESSAGE
+                && !field.repeated()
+                && !field.optionalValueType()
+                && field.parent() == null;
+    }
+
+    /**
+     * Check if a field is stored as a {@code Utf8String} in messages that enable the `pbj.utf8_strings` option.
+     * Only singular string fields are stored this way. Repeated, oneof and map fields, as well as the StringValue
+     * optional value type, always hold {@code String} values.
+     *
+     * @param field the field
+     *
+     * @return true if the field holds a Utf8String
+     */
+    public static boolean isUtf8StringField(final Field field) {
+        return field.type() == Field.FieldType.STRING
+                && !field.repeated()
+                && !field.optionalValueType()
+                && field.parent() == null;
+    }
+
     /**
      * Recursively calculates the hashcode for a message fields.
      *
@@ -444,7 +498,10 @@ public final class Common {
     private static String getRepeatedHashCodeGeneration(String generatedCodeSoFar, Field f, String fieldNamePrefix) {
         generatedCodeSoFar += ("""
                 java.util.List list$$fieldName = $prefixFieldName$fieldName;
-                if (list$$fieldName != null) {
+                if (list$$fieldName instanceof com.hedera.pbj.runtime.PrimitiveList primitiveList$$fieldName) {
+                    // Same result as the loop below, but without boxing the values
+                    result = primitiveList$$fieldName.hashCode(result);
+                } else if (list$$fieldName != null) {
                     for (Object o : list$$fieldName) {
                         if (o != null) {
                             result = 31 * result + o.hashCode();
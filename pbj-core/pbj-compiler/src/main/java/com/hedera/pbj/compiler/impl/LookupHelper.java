@@ -50,6 +50,10 @@ public final class LookupHelper {
 
     private static final String PBJ_COMPARABLE_OPTION_NAME = "pbj.comparable";
     private static final String PBJ_CACHEABLE_OPTION_NAME = "pbj.cacheable";
+    private static final String PBJ_PRIMITIVE_REPEATED_OPTION_NAME = "pbj.primitive_repeated";
+    private static final String PBJ_LAZY_MESSAGES_OPTION_NAME = "pbj.lazy_messages";
+    private static final String PBJ_UTF8_STRINGS_OPTION_NAME = "pbj.utf8_strings";
+    private static final String PBJ_FIELD_MASK_OPTION_NAME = "pbj.field_mask";
 
     /** The option name for protoc java package at file level */
     private static final String PROTOC_JAVA_PACKAGE_OPTION_NAME = "java_package";
@@ -123,6 +127,26 @@ public final class LookupHelper {
      */
     private final Map<String, Integer> cacheableMessagesCacheSize = new HashMap<>();
 
+    /**
+     * Set of fully qualified message names whose repeated primitive fields are parsed into primitive lists.
+     */
+    private final Set<String> primitiveRepeatedMessages = new HashSet<>();
+
+    /**
+     * Set of fully qualified message names whose singular message fields are parsed lazily.
+     */
+    private final Set<String> lazyMessagesMessages = new HashSet<>();
+
+    /**
+     * Set of fully qualified message names whose singular string fields keep the UTF-8 bytes they were parsed from.
+     */
+    private final Set<String> utf8StringsMessages = new HashSet<>();
+
+    /**
+     * Set of fully qualified message names that can be parsed partially with a FieldMask.
+     */
+    private final Set<String> fieldMaskMessages = new HashSet<>();
+
     /**
      * Set of all fully qualified message names that are enums, so we can check if a message is an
      * enum or not
@@ -480,6 +504,49 @@ public final class LookupHelper {
         return cacheableMessagesCacheSize.get(fullyQualifiedMessageOrEnumName);
     }
 
+    /**
+     * Check if the given message stores its repeated primitive fields in primitive lists, such as
+     * {@code com.hedera.pbj.runtime.LongList}, rather than in lists of boxed values.
+     *
+     * @param fullyQualifiedMessageName to check
+     * @return true if the message enables the `pbj.primitive_repeated` option
+     */
+    public boolean isPrimitiveRepeated(final String fullyQualifiedMessageName) {
+        return primitiveRepeatedMessages.contains(fullyQualifiedMessageName);
+    }
+
+    /**
+     * Check if the given message keeps its singular message fields as unparsed bytes until they are first accessed.
+     *
+     * @param fullyQualifiedMessageName to check
+     * @return true if the message enables the `pbj.lazy_messages` option
+     */
+    public boolean isLazyMessages(final String fullyQualifiedMessageName) {
+        return lazyMessagesMessages.contains(fullyQualifiedMessageName);
+    }
+
+    /**
+     * Check if the given message stores its singular string fields as {@code com.hedera.pbj.runtime.Utf8String}
+     * values that are decoded on first access.
+     *
+     * @param fullyQualifiedMessageName to check
+     * @return true if the message enables the `pbj.utf8_strings` option
+     */
+    public boolean isUtf8Strings(final String fullyQualifiedMessageName) {
+        return utf8StringsMessages.contains(fullyQualifiedMessageName);
+    }
+
+    /**
+     * Check if the given message can be parsed partially with a {@code com.hedera.pbj.runtime.FieldMask}, in which
+     * case its model remembers the mask it was parsed with.
+     *
+     * @param fullyQualifiedMessageName to check
+     * @return true if the message enables the `pbj.field_mask` option
+     */
+    public boolean isFieldMask(final String fullyQualifiedMessageName) {
+        return fieldMaskMessages.contains(fullyQualifiedMessageName);
+    }
+
     // =================================================================================================================
     // BUILD METHODS to construct lookup tables
 
@@ -660,6 +727,20 @@ public final class LookupHelper {
         if (cacheSize != null) {
             cacheableMessagesCacheSize.put(fullyQualifiedMessage, cacheSize);
         }
+        if (extractPrimitiveRepeated(msgDef)) {
+            primitiveRepeatedMessages.add(fullyQualifiedMessage);
+        }
+        // Cacheable messages are compared while parsing, which would force parsing of any lazy fields anyway
+        if (cacheSize == null && extractLazyMessages(msgDef)) {
+            lazyMessagesMessages.add(fullyQualifiedMessage);
+        }
+        // Cacheable messages hash the parsed values with the String hash code before creating the model
+        if (cacheSize == null && extractUtf8Strings(msgDef)) {
+            utf8StringsMessages.add(fullyQualifiedMessage);
+        }
+        if (extractFieldMask(msgDef)) {
+            fieldMaskMessages.add(fullyQualifiedMessage);
+        }
         // insert into maps
         pbjPackageMap.put(fullyQualifiedMessage, messagePbjPackage);
         pbjCompleteClassMap.put(
@@ -764,6 +845,68 @@ public final class LookupHelper {
         return null;
     }
 
+    /**
+     * Checks if a msgDef enables the `pbj.primitive_repeated` option, e.g. `// <<<pbj.primitive_repeated = true>>>`.
+     * @param msgDef a message definition
+     * @return true if repeated primitive fields of the message should be stored in primitive lists
+     */
+    static boolean extractPrimitiveRepeated(final MessageDefContext msgDef) {
+        return extractBooleanOption(msgDef, PBJ_PRIMITIVE_REPEATED_OPTION_NAME);
+    }
+
+    /**
+     * Checks if a msgDef enables the `pbj.lazy_messages` option, e.g. `// <<<pbj.lazy_messages = true>>>`.
+     * @param msgDef a message definition
+     * @return true if singular message fields of the message should be parsed lazily
+     */
+    static boolean extractLazyMessages(final MessageDefContext msgDef) {
+        return extractBooleanOption(msgDef, PBJ_LAZY_MESSAGES_OPTION_NAME);
+    }
+
+    /**
+     * Checks if a msgDef enables the `pbj.utf8_strings` option, e.g. `// <<<pbj.utf8_strings = true>>>`.
+     * @param msgDef a message definition
+     * @return true if singular string fields of the message should be stored as Utf8String values
+     */
+    static boolean extractUtf8Strings(final MessageDefContext msgDef) {
+        return extractBooleanOption(msgDef, PBJ_UTF8_STRINGS_OPTION_NAME);
+    }
+
+    /**
+     * Checks if a msgDef enables the `pbj.field_mask` option, e.g. `// <<<pbj.field_mask = true>>>`.
+     * @param msgDef a message definition
+     * @return true if the message should support partial parsing with a FieldMask
+     */
+    static boolean extractFieldMask(final MessageDefContext msgDef) {
+        return extractBooleanOption(msgDef, PBJ_FIELD_MASK_OPTION_NAME);
+    }
+
+    /**
+     * Checks if a msgDef sets a boolean option comment to true.
+     * @param msgDef a message definition
+     * @param name the option name
+     * @return true if the option is present and set to true
+     */
+    private static boolean extractBooleanOption(final MessageDefContext msgDef, final String name) {
+        if (msgDef.optionComment() == null || msgDef.optionComment().isEmpty()) {
+            return false;
+        }
+        for (Protobuf3Parser.OptionCommentContext optionComment : msgDef.optionComment()) {
+            if (optionComment.getText() == null) {
+                continue;
+            }
+            final var matcher = OPTION_COMMENT.matcher(optionComment.getText());
+            if (matcher.find()) {
+                final String optionName = matcher.group(1);
+                final String optionValue = matcher.group(2);
+                if (optionName.equals(name)) {
+                    return Boolean.parseBoolean(optionValue.replace("\"", "").trim());
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Walk an enum def and build packages and enums lists
      *
@@ -55,6 +55,12 @@ public final class ModelGenerator implements Generator {
             hashCode += hashCode << 30;
         """.indent(DEFAULT_INDENT * 2);
 
+    /** Statements that force parsing of lazily parsed message fields of both the objects in equals() and compareTo() */
+    private static final String PARSE_LAZY_FIELDS_CALLS = """
+            $parseLazyFields();
+            thatObj.$parseLazyFields();
+            """;
+
     /**
      * {@inheritDoc}
      *
@@ -81,6 +87,18 @@ public final class ModelGenerator implements Generator {
         final List<String> oneofGetters = new ArrayList<>();
         // The generated Java code for has methods for normal fields
         final List<String> hasMethods = new ArrayList<>();
+        // True if singular message fields are parsed on first access
+        final boolean lazyMessages = lookupHelper
+                .getLookupHelper()
+                .isLazyMessages(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+        // True if singular string fields are stored as Utf8String values
+        final boolean utf8Strings = lookupHelper
+                .getLookupHelper()
+                .isUtf8Strings(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+        // True if the model can be parsed partially with a FieldMask, and remembers the mask it was parsed with
+        final boolean fieldMask = lookupHelper
+                .getLookupHelper()
+                .isFieldMask(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
         // The generated Java import statements. We'll build this up as we go.
         writer.addImport("com.hedera.pbj.runtime.*");
         writer.addImport("com.hedera.pbj.runtime.UnknownField");
@@ -107,7 +125,7 @@ public final class ModelGenerator implements Generator {
                 fields.add(field);
                 field.addAllNeededImports(writer::addImport, true, false, false);
             } else if (item.field() != null && item.field().fieldName() != null) {
-                generateCodeForField(lookupHelper, item, fields, writer::addImport, hasMethods);
+                generateCodeForField(lookupHelper, item, fields, writer::addImport, hasMethods, lazyMessages);
             } else if (item.optionStatement() != null) {
                 if ("deprecated".equals(item.optionStatement().optionName().getText())) {
                     deprecated = "@Deprecated ";
@@ -122,6 +140,9 @@ public final class ModelGenerator implements Generator {
 
         // collect all non precomputed fields
         final List<Field> fieldsNoPrecomputed = new ArrayList<>(fields);
+        final boolean hasLazyFields = lazyMessages && fieldsNoPrecomputed.stream().anyMatch(Common::isLazyMessageField);
+        final boolean hasUtf8Fields = utf8Strings && fieldsNoPrecomputed.stream().anyMatch(Common::isUtf8StringField);
+        final boolean hasObjectParams = hasEnums(fieldsNoPrecomputed) || hasLazyFields || hasUtf8Fields;
 
         // add precomputed fields to fields
         fields.add(new SingleField(
@@ -183,43 +204,127 @@ public final class ModelGenerator implements Generator {
                     }
                     final String javaFieldType = field.type() == FieldType.ENUM
                             ? field.repeated() ? "List<?>" : "Object"
-                            : field.javaFieldType();
+                            : utf8Strings && Common.isUtf8StringField(field) ? "Utf8String" : field.javaFieldType();
                     if (field.type() == FieldType.ENUM) {
                         // A trick to save memory:
                         fieldComment = "// Enum \"Object\" is either " + field.javaFieldTypeBase()
                                 + " or Integer representing its protoOrdinal value:\n" + fieldComment;
                     }
+                    final boolean lazy = lazyMessages && Common.isLazyMessageField(field);
+                    if (lazy) {
+                        // Not final because the getter caches the lazily parsed value here:
+                        fieldComment = "// Set on the first access if the field was parsed lazily:\n" + fieldComment;
+                    }
                     return fieldComment
                             + "private "
-                            + (field.fieldNumber() != -1 ? "final " : "")
+                            + (field.fieldNumber() != -1 && !lazy ? "final " : "")
                             + getFieldAnnotations(field)
                             + javaFieldType + " " + field.nameCamelFirstLower()
                             + (field.fieldNumber() == -1 ? " = -1" : "")
-                            + ";";
+                            + ";"
+                            + (lazy
+                                    ? "\n/** Unparsed bytes of field " + field.nameCamelFirstLower()
+                                            + ", or null if not parsed lazily */\n"
+                                            + "private final LazyMessage<" + field.javaFieldType() + "> "
+                                            + lazyFieldName(field) + ";"
+                                    : "");
                 })
                 .collect(Collectors.joining("\n"))
                 .indent(DEFAULT_INDENT);
         bodyContent += "\n";
 
         bodyContent += "private final List<UnknownField> $unknownFields;".indent(DEFAULT_INDENT);
+        if (fieldMask) {
+            bodyContent += "/** The fields that were parsed if this object was parsed partially, or null if complete */"
+                    .indent(DEFAULT_INDENT);
+            bodyContent += "private final FieldMask $fieldMask;".indent(DEFAULT_INDENT);
+        }
         bodyContent += "\n";
         bodyContent += "\n";
 
-        // constructors: w/o unknownFields, and with unknownFields; both w/ real enums and with Object
+        // constructors: w/o unknownFields, and with unknownFields; both w/ real enums and with Object.
+        // The Object constructors also accept LazyMessage values for lazily parsed message fields, and Utf8String
+        // values for string fields stored as Utf8String.
         bodyContent += generateConstructor(
-                javaRecordName, fields, false, false, false, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                javaRecordName,
+                fields,
+                false,
+                false,
+                false,
+                fieldsNoPrecomputed,
+                true,
+                msgDef,
+                lookupHelper,
+                lazyMessages,
+                utf8Strings,
+                fieldMask,
+                false);
         bodyContent += "\n";
-        if (hasEnums(fieldsNoPrecomputed)) {
+        if (hasObjectParams) {
             bodyContent += generateConstructor(
-                    javaRecordName, fields, false, false, true, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                    javaRecordName,
+                    fields,
+                    false,
+                    false,
+                    true,
+                    fieldsNoPrecomputed,
+                    true,
+                    msgDef,
+                    lookupHelper,
+                    lazyMessages,
+                    utf8Strings,
+                    fieldMask,
+                    false);
             bodyContent += "\n";
         }
         bodyContent += generateConstructor(
-                javaRecordName, fields, true, false, false, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                javaRecordName,
+                fields,
+                true,
+                false,
+                false,
+                fieldsNoPrecomputed,
+                true,
+                msgDef,
+                lookupHelper,
+                lazyMessages,
+                utf8Strings,
+                fieldMask,
+                false);
         bodyContent += "\n";
-        if (hasEnums(fieldsNoPrecomputed)) {
+        if (hasObjectParams) {
             bodyContent += generateConstructor(
-                    javaRecordName, fields, true, false, true, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                    javaRecordName,
+                    fields,
+                    true,
+                    false,
+                    true,
+                    fieldsNoPrecomputed,
+                    true,
+                    msgDef,
+                    lookupHelper,
+                    lazyMessages,
+                    utf8Strings,
+                    fieldMask,
+                    false);
+            bodyContent += "\n";
+        }
+        // And a ctor w/ $fieldMask for partially parsed objects, with the same parameter types as the codec uses
+        if (fieldMask) {
+            bodyContent += generateConstructor(
+                    javaRecordName,
+                    fields,
+                    true,
+                    false,
+                    hasObjectParams,
+                    fieldsNoPrecomputed,
+                    true,
+                    msgDef,
+                    lookupHelper,
+                    lazyMessages,
+                    utf8Strings,
+                    true,
+                    true);
             bodyContent += "\n";
         }
         // And if the model is cacheable, then also ctors w/ $hashCode
@@ -229,26 +334,78 @@ public final class ModelGenerator implements Generator {
                                 lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef))
                 != null) {
             bodyContent += generateConstructor(
-                    javaRecordName, fields, false, true, false, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                    javaRecordName,
+                    fields,
+                    false,
+                    true,
+                    false,
+                    fieldsNoPrecomputed,
+                    true,
+                    msgDef,
+                    lookupHelper,
+                    lazyMessages,
+                    utf8Strings,
+                    fieldMask,
+                    false);
             bodyContent += "\n";
-            if (hasEnums(fieldsNoPrecomputed)) {
+            if (hasObjectParams) {
                 bodyContent += generateConstructor(
-                        javaRecordName, fields, false, true, true, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                        javaRecordName,
+                        fields,
+                        false,
+                        true,
+                        true,
+                        fieldsNoPrecomputed,
+                        true,
+                        msgDef,
+                        lookupHelper,
+                        lazyMessages,
+                        utf8Strings,
+                        fieldMask,
+                        false);
                 bodyContent += "\n";
             }
             bodyContent += generateConstructor(
-                    javaRecordName, fields, true, true, false, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                    javaRecordName,
+                    fields,
+                    true,
+                    true,
+                    false,
+                    fieldsNoPrecomputed,
+                    true,
+                    msgDef,
+                    lookupHelper,
+                    lazyMessages,
+                    utf8Strings,
+                    fieldMask,
+                    false);
             bodyContent += "\n";
-            if (hasEnums(fieldsNoPrecomputed)) {
+            if (hasObjectParams) {
                 bodyContent += generateConstructor(
-                        javaRecordName, fields, true, true, true, fieldsNoPrecomputed, true, msgDef, lookupHelper);
+                        javaRecordName,
+                        fields,
+                        true,
+                        true,
+                        true,
+                        fieldsNoPrecomputed,
+                        true,
+                        msgDef,
+                        lookupHelper,
+                        lazyMessages,
+                        utf8Strings,
+                        fieldMask,
+                        false);
                 bodyContent += "\n";
             }
         }
 
         // record style getters
-        bodyContent += generateRecordStyleGetters(fieldsNoPrecomputed, false);
+        bodyContent += generateRecordStyleGetters(fieldsNoPrecomputed, false, lazyMessages, utf8Strings);
         bodyContent += "\n";
+        if (hasLazyFields) {
+            bodyContent += generateParseLazyFields(fieldsNoPrecomputed);
+            bodyContent += "\n";
+        }
 
         bodyContent += """
                 /**
@@ -276,27 +433,59 @@ public final class ModelGenerator implements Generator {
                 """.indent(DEFAULT_INDENT);
         bodyContent += "\n";
 
+        if (fieldMask) {
+            bodyContent += """
+                /**
+                 * Check if this object was parsed partially with a {@link FieldMask}, in which case the fields that
+                 * were not selected by the mask have their default values regardless of the parsed data. A partial
+                 * object should not be written back out as a replacement of the original data, because the codec writes
+                 * the default values of the fields that were not parsed, i.e. it omits them.
+                 * <p>
+                 * Note that equals() and hashCode() only compare the field values, not whether the objects are partial,
+                 * so a partial object equals a complete object that has default values for the fields that were not
+                 * parsed. The mask is not copied by copyBuilder() either, so {@code copyBuilder().build()} returns a
+                 * complete object with the same field values.
+                 *
+                 * @return true if this object was parsed partially
+                 */
+                public boolean isPartial() {
+                    return $fieldMask != null;
+                }
+
+                /**
+                 * Get the mask that this object was parsed with, see {@link #isPartial()}.
+                 *
+                 * @return the mask of the parsed fields, or null if this object is complete
+                 */
+                public @Nullable FieldMask getFieldMask() {
+                    return $fieldMask;
+                }
+                """.indent(DEFAULT_INDENT);
+            bodyContent += "\n";
+        }
+
         // protobuf size method
         bodyContent +=
-                LazyGetProtobufSizeMethodGenerator.generateLazyGetProtobufSize(fieldsNoPrecomputed, schemaClassName);
+                LazyGetProtobufSizeMethodGenerator.generateLazyGetProtobufSize(
+                        fieldsNoPrecomputed, schemaClassName, lazyMessages, utf8Strings);
         bodyContent += "\n";
 
         // hashCode method
-        bodyContent += generateHashCode(javaRecordName, fieldsNoPrecomputed);
+        bodyContent += generateHashCode(javaRecordName, fieldsNoPrecomputed, hasLazyFields);
         bodyContent += "\n";
 
         // equals method
-        bodyContent += generateEquals(fieldsNoPrecomputed, javaRecordName);
+        bodyContent += generateEquals(fieldsNoPrecomputed, javaRecordName, hasLazyFields);
 
         final List<Field> comparableFields = filterComparableFields(msgDef, lookupHelper, fields);
         final boolean hasComparableFields = !comparableFields.isEmpty();
         if (hasComparableFields) {
-            bodyContent += generateCompareTo(comparableFields, javaRecordName);
+            bodyContent += generateCompareTo(comparableFields, javaRecordName, hasLazyFields);
         }
         bodyContent += "\n";
 
         // toString method
-        bodyContent += generateToString(javaRecordName, fieldsNoPrecomputed);
+        bodyContent += generateToString(javaRecordName, fieldsNoPrecomputed, hasLazyFields);
         bodyContent += "\n";
 
         // Has methods
@@ -308,7 +497,7 @@ public final class ModelGenerator implements Generator {
         bodyContent += "\n";
 
         // builder copy & new builder methods
-        bodyContent = generateBuilderFactoryMethods(bodyContent, fieldsNoPrecomputed);
+        bodyContent = generateBuilderFactoryMethods(bodyContent, fieldsNoPrecomputed, lazyMessages, utf8Strings);
         bodyContent += "\n";
 
         // generate builder
@@ -404,16 +593,24 @@ public final class ModelGenerator implements Generator {
      *
      * @param fields the fields to use for the code generation
      * @param guardBuildFieldName if true and the field name is "build", then prefix the getter with "_"
+     * @param lazyMessages if true, then singular message fields may hold unparsed bytes to parse on first access
+     * @param utf8Strings if true, then singular string fields are stored as Utf8String values
      * @return the generated code
      */
-    private static String generateRecordStyleGetters(final List<Field> fields, final boolean guardBuildFieldName) {
+    private static String generateRecordStyleGetters(
+            final List<Field> fields,
+            final boolean guardBuildFieldName,
+            final boolean lazyMessages,
+            final boolean utf8Strings) {
         return fields.stream()
                 .map(field -> {
                     String fieldComment = field.comment();
                     String fieldCommentLowerFirst =
                             fieldComment.substring(0, 1).toLowerCase() + fieldComment.substring(1);
                     final String fieldValue;
-                    if (field.type() != FieldType.ENUM) {
+                    if (utf8Strings && Common.isUtf8StringField(field)) {
+                        fieldValue = field.nameCamelFirstLower() + ".toString()";
+                    } else if (field.type() != FieldType.ENUM) {
                         fieldValue = field.nameCamelFirstLower();
                     } else {
                         if (field.repeated()) {
@@ -464,9 +661,53 @@ public final class ModelGenerator implements Generator {
                                     .replace("$enumName", field.javaFieldType())
                                     .indent(DEFAULT_INDENT);
                         }
+                    } else if (lazyMessages && Common.isLazyMessageField(field)) {
+                        extraGetter = """
+
+                            /**
+                             * Get the original protobuf bytes of the $fieldName field if it was parsed lazily.
+                             * Codecs write these bytes as they are, even after the field has been accessed.
+                             *
+                             * @return the bytes without the tag and the length, or null if not parsed lazily
+                             */
+                            public @Nullable Bytes $methodNameProtobufBytes() {
+                                return $lazyField == null ? null : $lazyField.bytes();
+                            }
+                            """.replace("$methodName", methodName)
+                                .replace("$fieldName", field.nameCamelFirstLower())
+                                .replace("$lazyField", lazyFieldName(field))
+                                .indent(DEFAULT_INDENT);
+                    } else if (utf8Strings && Common.isUtf8StringField(field)) {
+                        extraGetter = """
+
+                            /**
+                             * Get the $fieldName field as UTF-8 encoded bytes, without decoding them into a String.
+                             * Codecs write these bytes as they are.
+                             *
+                             * @return the value of the $fieldName field
+                             */
+                            public @NonNull Utf8String $methodNameUtf8() {
+                                return $fieldName;
+                            }
+                            """.replace("$methodName", methodName)
+                                .replace("$fieldName", field.nameCamelFirstLower())
+                                .indent(DEFAULT_INDENT);
                     } else {
                         extraGetter = "";
                     }
+                    final String getterBody;
+                    if (lazyMessages && Common.isLazyMessageField(field)) {
+                        getterBody = """
+                                $fieldType $value = $fieldValue;
+                                    if ($value == null && $lazyField != null) {
+                                        $value = $lazyField.get();
+                                        $fieldValue = $value;
+                                    }
+                                    return $value;"""
+                                .replace("$lazyField", lazyFieldName(field));
+                    } else {
+                        getterBody = "return $fieldValue;";
+                    }
                     return """
                     /**
                      * Get field $fieldCommentLowerFirst
@@ -474,10 +715,11 @@ public final class ModelGenerator implements Generator {
                      * @return the value of the $fieldName field
                      */
                     public $fieldType $methodName() {
-                        return $fieldValue;
+                        $getterBody
                     }
                     $extraGetter
-                    """.replace("$fieldCommentLowerFirst", fieldCommentLowerFirst)
+                    """.replace("$getterBody", getterBody)
+                            .replace("$fieldCommentLowerFirst", fieldCommentLowerFirst)
                             .replace("$methodName", methodName)
                             .replace("$fieldValue", fieldValue)
                             .replace("$fieldType", field.javaFieldType())
@@ -522,10 +764,12 @@ public final class ModelGenerator implements Generator {
      *
      * @param fields                the fields to use for the code generation
      * @param javaRecordName        the name of the class
+     * @param hasLazyFields         true if the model has lazily parsed message fields
      * @return the generated code
      */
     @NonNull
-    private static String generateCompareTo(final List<Field> fields, final String javaRecordName) {
+    private static String generateCompareTo(
+            final List<Field> fields, final String javaRecordName, final boolean hasLazyFields) {
         // spotless:off
         String bodyContent =
             """
@@ -539,6 +783,9 @@ public final class ModelGenerator implements Generator {
                 }
                 int result = 0;
             """.replace("$javaRecordName", javaRecordName).indent(DEFAULT_INDENT);
+        if (hasLazyFields) {
+            bodyContent += PARSE_LAZY_FIELDS_CALLS.indent(DEFAULT_INDENT * 2);
+        }
 
         bodyContent += Common.getFieldsCompareToStatements(fields, "");
 
@@ -585,10 +832,12 @@ public final class ModelGenerator implements Generator {
      * Generates the equals method
      * @param fields the fields to use for the code generation
      * @param javaRecordName the name of the class
+     * @param hasLazyFields true if the model has lazily parsed message fields
      * @return the generated code
      */
     @NonNull
-    private static String generateEquals(final List<Field> fields, final String javaRecordName) {
+    private static String generateEquals(
+            final List<Field> fields, final String javaRecordName, final boolean hasLazyFields) {
         // spotless:off
         String bodyContent =
         """
@@ -605,6 +854,9 @@ public final class ModelGenerator implements Generator {
                 return false;
             }
         """.replace("$javaRecordName", javaRecordName).indent(DEFAULT_INDENT);
+        if (hasLazyFields) {
+            bodyContent += PARSE_LAZY_FIELDS_CALLS.indent(DEFAULT_INDENT * 2);
+        }
 
         bodyContent +=
         """
@@ -654,11 +906,13 @@ public final class ModelGenerator implements Generator {
      * Generates the hashCode method
      *
      * @param fields the fields to use for the code generation
+     * @param hasLazyFields true if the model has lazily parsed message fields
      *
      * @return the generated code
      */
     @NonNull
-    private static String generateHashCode(String modelClassName, final List<Field> fields) {
+    private static String generateHashCode(
+            String modelClassName, final List<Field> fields, final boolean hasLazyFields) {
         // spotless:off
         String bodyContent =
             """
@@ -683,7 +937,8 @@ public final class ModelGenerator implements Generator {
                 return $hashCode;
             }
             """.replace("$hashCodeManipulation", HASH_CODE_MANIPULATION)
-               .replace("$hashCodeBody", generateHashCodeBody(modelClassName, fields, "").indent(DEFAULT_INDENT))
+               .replace("$hashCodeBody", ((hasLazyFields ? "    $parseLazyFields();\n" : "")
+                       + generateHashCodeBody(modelClassName, fields, "")).indent(DEFAULT_INDENT))
                 .indent(DEFAULT_INDENT);
         // spotless:on
         return bodyContent;
@@ -722,11 +977,13 @@ public final class ModelGenerator implements Generator {
      * Generates the toString method, based on how Java records generate toStrings
      *
      * @param fields the fields to use for the code generation
+     * @param hasLazyFields true if the model has lazily parsed message fields
      *
      * @return the generated code
      */
     @NonNull
-    private static String generateToString(final String modelClassName, final List<Field> fields) {
+    private static String generateToString(
+            final String modelClassName, final List<Field> fields, final boolean hasLazyFields) {
         // spotless:off
         String bodyContent =
             """
@@ -735,6 +992,7 @@ public final class ModelGenerator implements Generator {
              */
             @Override
             public String toString() {
+                $parseLazyFieldsCall
                 String $ufstr = null;
                 if ($unknownFields != null && !$unknownFields.isEmpty()) {
                     final StringBuilder sb = new StringBuilder();
@@ -745,7 +1003,8 @@ public final class ModelGenerator implements Generator {
                     $ufstr = sb.toString();
                 }
                 return "$modelClassName["
-            """.replace("$modelClassName", modelClassName);
+            """.replace("$modelClassName", modelClassName)
+                .replace("    $parseLazyFieldsCall\n", hasLazyFields ? "    $parseLazyFields();\n" : "");
         // spotless:on
         for (int i = 0; i < fields.size(); i++) {
             Field f = fields.get(i);
@@ -778,6 +1037,13 @@ public final class ModelGenerator implements Generator {
     /**
      * Generates a pre-populated constructor for a class.
      * @param fields the fields to use for the code generation
+     * @param lazyMessages if true, then singular message fields are initialized with LazyMessage values
+     *                     when objectForEnum is true, and with nulls otherwise
+     * @param utf8Strings if true, then singular string fields are stored as Utf8String values, which are accepted
+     *                    as is when objectForEnum is true, and encoded from String values otherwise
+     * @param hasFieldMask if true, then the class has a $fieldMask field that the constructor initializes
+     * @param initFieldMask if true, then the constructor initializes $fieldMask from a parameter, and with null
+     *                      otherwise
      * @return the generated code
      */
     private static String generateConstructor(
@@ -789,19 +1055,24 @@ public final class ModelGenerator implements Generator {
             final List<Field> fieldsNoPrecomputed,
             final boolean shouldThrowOnOneOfNull,
             final MessageDefContext msgDef,
-            final ContextualLookupHelper lookupHelper) {
+            final ContextualLookupHelper lookupHelper,
+            final boolean lazyMessages,
+            final boolean utf8Strings,
+            final boolean hasFieldMask,
+            final boolean initFieldMask) {
         if (fields.isEmpty() && !initUnknownFields) {
             return "";
         }
+        final boolean hasLazyFields = lazyMessages && fieldsNoPrecomputed.stream().anyMatch(Common::isLazyMessageField);
         // spotless:off
         return """
                 /**
                  * Create a pre-populated $constructorName.
                  * $constructorParamDocs
                  */
-                public $constructorName($constructorParams$unknownFieldsParam$hashCodeParam) {
+                $suppressWarningspublic $constructorName($constructorParams$unknownFieldsParam$hashCodeParam$fieldMaskParam) {
                     $unknownFieldsCode
-                    $hashCodeCode
+                    $hashCodeCode$fieldMaskCode
             $constructorCode    }
             """
                 .replace("$constructorParamDocs",fieldsNoPrecomputed.stream().map(field ->
@@ -809,11 +1080,14 @@ public final class ModelGenerator implements Generator {
                                 field.comment().replaceAll("\n", "\n     *         "+" ".repeat(field.nameCamelFirstLower().length()))
                 ).collect(Collectors.joining(" ")))
                 .replace("$constructorName", constructorName)
+                .replace("$suppressWarnings", objectForEnum && hasLazyFields ? "@SuppressWarnings(\"unchecked\")\n    " : "")
                 .replace("$constructorParams",fieldsNoPrecomputed.stream().map(field -> {
                     if (field.type() == FieldType.ENUM && field.repeated()) {
                         return "List<?>" + " " + field.nameCamelFirstLower();
                     }
-                    if (objectForEnum && field.type() == FieldType.ENUM) {
+                    if (objectForEnum && (field.type() == FieldType.ENUM
+                            || (lazyMessages && Common.isLazyMessageField(field))
+                            || (utf8Strings && Common.isUtf8StringField(field)))) {
                         return "Object" + " " + field.nameCamelFirstLower();
                     } else {
                         return field.javaFieldType() + " " + field.nameCamelFirstLower();
@@ -831,11 +1105,27 @@ public final class ModelGenerator implements Generator {
                 .replace("$hashCodeCode", initHashCode
                         ? "this.$hashCode = $hashCode;"
                         : "")
+                .replace("$fieldMaskParam", initFieldMask ? ", @Nullable final FieldMask $fieldMask" : "")
+                .replace("$fieldMaskCode", hasFieldMask
+                        ? "\n        this.$fieldMask = " + (initFieldMask ? "$fieldMask" : "null") + ";"
+                        : "")
                 .replace("$constructorCode",fieldsNoPrecomputed.stream().map(field -> {
                     StringBuilder sb = new StringBuilder();
                     if (shouldThrowOnOneOfNull && field instanceof OneOfField) {
                         sb.append(generateConstructorCodeForField(field)).append('\n');
                     }
+                    if (utf8Strings && Common.isUtf8StringField(field)) {
+                        sb.append((objectForEnum
+                                ? """
+                                        if ($name instanceof Utf8String) {
+                                            this.$name = (Utf8String) $name;
+                                        } else {
+                                            this.$name = $name != null ? Utf8String.of((String) $name) : Utf8String.EMPTY;
+                                        }"""
+                                : "this.$name = $name != null ? Utf8String.of($name) : Utf8String.EMPTY;")
+                                .replace("$name", field.nameCamelFirstLower()));
+                        return sb.toString();
+                    }
                     switch (field.type()) {
                         case BYTES, STRING: {
                             sb.append("this.$name = $name != null ? $name : $default;"
@@ -854,6 +1144,22 @@ public final class ModelGenerator implements Generator {
                             if (field.repeated()) {
                                 sb.append("this.$name = $name == null ? Collections.emptyList() : $name;".replace(
                                         "$name", field.nameCamelFirstLower()));
+                            } else if (lazyMessages && Common.isLazyMessageField(field) && objectForEnum) {
+                                sb.append("""
+                                        if ($name instanceof LazyMessage) {
+                                            this.$name = null;
+                                            this.$lazyName = (LazyMessage<$type>) $name;
+                                        } else {
+                                            this.$name = ($type) $name;
+                                            this.$lazyName = null;
+                                        }"""
+                                        .replace("$lazyName", lazyFieldName(field))
+                                        .replace("$name", field.nameCamelFirstLower())
+                                        .replace("$type", field.javaFieldType()));
+                            } else if (lazyMessages && Common.isLazyMessageField(field)) {
+                                sb.append("this.$name = $name;\nthis.$lazyName = null;"
+                                        .replace("$lazyName", lazyFieldName(field))
+                                        .replace("$name", field.nameCamelFirstLower()));
                             } else {
                                 sb.append("this.$name = $name;".replace("$name", field.nameCamelFirstLower()));
                             }
@@ -929,13 +1235,15 @@ public final class ModelGenerator implements Generator {
      * @param fields the fields to use for the code generation
      * @param imports the imports to use for the code generation
      * @param hasMethods the has methods to use for the code generation
+     * @param lazyMessages true if singular message fields are parsed on first access
      */
     private static void generateCodeForField(
             final ContextualLookupHelper lookupHelper,
             final Protobuf3Parser.MessageElementContext item,
             final List<Field> fields,
             final Consumer<String> imports,
-            final List<String> hasMethods) {
+            final List<String> hasMethods,
+            final boolean lazyMessages) {
         final SingleField field = new SingleField(item.field(), lookupHelper);
         fields.add(field);
         field.addAllNeededImports(imports, true, false, false);
@@ -943,6 +1251,7 @@ public final class ModelGenerator implements Generator {
         // and therefore the additional convenience methods, especially when they throw an NPE, don't make sense.
         // spotless:off
         if (field.type() == FieldType.MESSAGE && !field.repeated()) {
+            final boolean lazy = lazyMessages && Common.isLazyMessageField(field);
             hasMethods.add("""
                     /**
                      * Convenience method to check if the $fieldName has a value
@@ -950,7 +1259,7 @@ public final class ModelGenerator implements Generator {
                      * @return true of the $fieldName has a value
                      */
                     public boolean has$fieldNameUpperFirst() {
-                        return $fieldName != null;
+                        return $hasValue;
                     }
                     
                     /**
@@ -961,7 +1270,7 @@ public final class ModelGenerator implements Generator {
                      * @return the value for $fieldName if it has a value, or else returns the default value
                      */
                     public $javaFieldType $fieldNameOrElse(@NonNull final $javaFieldType defaultValue) {
-                        return has$fieldNameUpperFirst() ? $fieldName : defaultValue;
+                        return has$fieldNameUpperFirst() ? $fieldValue : defaultValue;
                     }
                     
                     /**
@@ -972,7 +1281,7 @@ public final class ModelGenerator implements Generator {
                      * @throws NullPointerException if $fieldName is null
                      */
                     public @NonNull $javaFieldType $fieldNameOrThrow() {
-                        return requireNonNull($fieldName, "Field $fieldName is null");
+                        return requireNonNull($fieldValue, "Field $fieldName is null");
                     }
                     
                     /**
@@ -982,10 +1291,14 @@ public final class ModelGenerator implements Generator {
                      */
                     public void if$fieldNameUpperFirst(@NonNull final Consumer<$javaFieldType> ifPresent) {
                         if (has$fieldNameUpperFirst()) {
-                            ifPresent.accept($fieldName);
+                            ifPresent.accept($fieldValue);
                         }
                     }
                     """
+                    .replace("$hasValue", lazy
+                            ? "$fieldName != null || " + lazyFieldName(field) + " != null"
+                            : "$fieldName != null")
+                    .replace("$fieldValue", lazy ? "$fieldName()" : "$fieldName")
                     .replace("$fieldNameUpperFirst", field.nameCamelFirstUpper())
                     .replace("$javaFieldType", field.javaFieldType())
                     .replace("$fieldName", field.nameCamelFirstLower())
@@ -1098,10 +1411,13 @@ public final class ModelGenerator implements Generator {
      *
      * @param bodyContent the body content to append to
      * @param fields the fields to use for the code generation
+     * @param lazyMessages true if singular message fields are parsed on first access
+     * @param utf8Strings true if singular string fields are stored as Utf8String values
      * @return the body content with new code appended
      */
     @NonNull
-    private static String generateBuilderFactoryMethods(String bodyContent, final List<Field> fields) {
+    private static String generateBuilderFactoryMethods(
+            String bodyContent, final List<Field> fields, final boolean lazyMessages, final boolean utf8Strings) {
         // spotless:off
         bodyContent +=
             """
@@ -1124,7 +1440,13 @@ public final class ModelGenerator implements Generator {
                 return new Builder();
             }
             """
-            .formatted(fields.stream().map(Field::nameCamelFirstLower).collect(Collectors.joining(", ")))
+            .formatted(fields.stream()
+                    .map(field -> field.nameCamelFirstLower()
+                            + ((lazyMessages && Common.isLazyMessageField(field))
+                                            || (utf8Strings && Common.isUtf8StringField(field))
+                                    ? "()"
+                                    : ""))
+                    .collect(Collectors.joining(", ")))
             .replace("$unknownFieldsArg", (fields.isEmpty() ? "" : ", ") + "$unknownFields")
             .indent(DEFAULT_INDENT);
         // spotless:on
@@ -1338,14 +1660,14 @@ public final class ModelGenerator implements Generator {
                             + " " + field.nameCamelFirstLower()
                             + " = " + getDefaultValue(field, msgDef, lookupHelper);
                 }).collect(Collectors.joining(";\n    ")))
-                .replace("$prePopulatedBuilder", generateConstructor("Builder", fields, false, false, false, fields, false, msgDef, lookupHelper))
-                .replace("$prePopulatedObjectForEnumBuilder", hasEnums(fields) ? generateConstructor("Builder", fields, false, false, true, fields, false, msgDef, lookupHelper) : "")
-                .replace("$prePopulatedWithUnknownFieldsBuilder", generateConstructor("Builder", fields, true, false, false, fields, false, msgDef, lookupHelper))
-                .replace("$prePopulatedWithUnknownFieldsObjectForEnumBuilder", hasEnums(fields) ? generateConstructor("Builder", fields, true, false, true, fields, false, msgDef, lookupHelper) : "")
+                .replace("$prePopulatedBuilder", generateConstructor("Builder", fields, false, false, false, fields, false, msgDef, lookupHelper, false, false, false))
+                .replace("$prePopulatedObjectForEnumBuilder", hasEnums(fields) ? generateConstructor("Builder", fields, false, false, true, fields, false, msgDef, lookupHelper, false, false, false) : "")
+                .replace("$prePopulatedWithUnknownFieldsBuilder", generateConstructor("Builder", fields, true, false, false, fields, false, msgDef, lookupHelper, false, false, false))
+                .replace("$prePopulatedWithUnknownFieldsObjectForEnumBuilder", hasEnums(fields) ? generateConstructor("Builder", fields, true, false, true, fields, false, msgDef, lookupHelper, false, false, false) : "")
                 .replace("$javaRecordName",javaRecordName)
                 .replace("$recordParams",fields.stream().map(Field::nameCamelFirstLower).collect(Collectors.joining(", ")))
                 .replace("$builderMethods", String.join("\n", builderMethods))
-                .replace("$getterMethods", generateRecordStyleGetters(fields, true))
+                .replace("$getterMethods", generateRecordStyleGetters(fields, true, false, false))
                 .indent(DEFAULT_INDENT);
         // spotless:on
     }
@@ -1366,6 +1688,39 @@ public final class ModelGenerator implements Generator {
         }
     }
 
+    /**
+     * Get the name of the model class field that holds the unparsed bytes of a lazily parsed message field.
+     * @param field the field
+     * @return the field name
+     */
+    private static String lazyFieldName(final Field field) {
+        return "$lazy" + field.nameCamelFirstUpper();
+    }
+
+    /**
+     * Generates a method that parses all lazily parsed message fields, so that hashCode(), equals(), compareTo()
+     * and toString() can access the parsed values directly.
+     * @param fields the fields to use for the code generation
+     * @return the generated code
+     */
+    private static String generateParseLazyFields(final List<Field> fields) {
+        // spotless:off
+        return """
+                /**
+                 * Parse the lazily parsed message fields that haven't been accessed yet.
+                 */
+                private void $parseLazyFields() {
+                $getterCalls
+                }
+                """
+                .replace("$getterCalls", fields.stream()
+                        .filter(Common::isLazyMessageField)
+                        .map(field -> "    " + field.nameCamelFirstLower() + "();")
+                        .collect(Collectors.joining("\n")))
+                .indent(DEFAULT_INDENT);
+        // spotless:on
+    }
+
     // Check for non-repeated enums so that we could generate Object constructors.
     // This doesn't work for repeated fields because List<Enum> and List<Object> are the same for JVM/javac,
     // so for repeated enums we're forced to only use the List<?> type.
@@ -214,7 +214,7 @@ public final class ServiceGenerator {
                     case $methodName -> Pipelines.<$requestType, $replyType>$kind()
                             .mapRequest(bytes -> parse$simpleRequestType(bytes, options))
                             .method($methodLambda)
-                            .mapResponse(reply -> serialize$simpleReplyType(reply, options))
+                            .mapResponse(get$simpleReplyTypeCodec(options))
                             .respondTo(replies)
                             .build();
                     """
@@ -236,9 +236,50 @@ public final class ServiceGenerator {
 
                         @Override
                         $methodSignatureWithOptions {
-                            final AtomicReference<$replyType> replyRef = new AtomicReference<>();
-                            final AtomicReference<Throwable> errorRef = new AtomicReference<>();
-                            final CountDownLatch latch = new CountDownLatch(1);
+                            final CompletableFuture<$replyType> future = $methodNameAsync(request, requestOptions);
+                            try {
+                                return future.get();
+                            } catch (InterruptedException e) {
+                                future.cancel(true);
+                                throw new RuntimeException(e);
+                            } catch (ExecutionException e) {
+                                // Make a new exception to capture the stack trace. Simply re-throwing the original
+                                // exception may look confusing because the stack trace would be misleading.
+                                throw new RuntimeException(e.getCause());
+                            }
+                        }
+
+                        /**
+                         * Call $methodName asynchronously with the default RequestOptions of this client.
+                         * @see #$methodNameAsync($requestType, RequestOptions)
+                         */
+                        @NonNull
+                        public CompletableFuture<$replyType> $methodNameAsync(@NonNull final $requestType request) {
+                            return $methodNameAsync(request, this.requestOptions);
+                        }
+
+                        /**
+                         * Call $methodName asynchronously. Creating the call and sending the request may block, so both
+                         * run on the GrpcClient.executor(), and the reply completes the returned future. The caller
+                         * thread never blocks. Cancelling the future, or timing it out with CompletableFuture.orTimeout(),
+                         * cancels the call. The call is retried, or hedged, according to the RequestOptions.retryPolicy()
+                         * of the method, and the RequestOptions.timeout() sets a single deadline for all its attempts.
+                         */
+                        @NonNull
+                        public CompletableFuture<$replyType> $methodNameAsync(@NonNull final $requestType request, @NonNull final RequestOptions requestOptions) {
+                            return requestOptions.retryPolicy(FULL_NAME + "/$methodName")
+                                    .call(requestOptions.timeout().orElse(null), timeout -> $methodNameAttempt(request, requestOptions, timeout));
+                        }
+
+                        /**
+                         * Send a single attempt of a $methodName call that fails once the given time left until the deadline
+                         * of the call expires, or never if it's null. Cancelling the returned future cancels the attempt.
+                         */
+                        @NonNull
+                        private CompletableFuture<$replyType> $methodNameAttempt(@NonNull final $requestType request, @NonNull final RequestOptions requestOptions, @Nullable final java.time.Duration timeout) {
+                            // The time spent waiting for the executor counts against the deadline
+                            final long startNanos = System.nanoTime();
+                            final CompletableFuture<$replyType> future = new CompletableFuture<>();
                             final Pipeline<$replyType> pipeline = new Pipeline<>() {
                                 @Override
                                 public void onSubscribe(final Flow.Subscription subscription) {
@@ -246,48 +287,50 @@ public final class ServiceGenerator {
                                 }
                                 @Override
                                 public void onNext(final $replyType reply) {
-                                    if (replyRef.get() != null) {
+                                    if (!future.complete(reply) && !future.isCompletedExceptionally()) {
                                         throw new IllegalStateException("$methodName is unary, but received more than one reply. The latest reply is: " + reply);
                                     }
-                                    replyRef.set(reply);
-                                    latch.countDown();
                                 }
                                 @Override
                                 public void onError(final Throwable throwable) {
-                                    errorRef.set(throwable);
-                                    latch.countDown();
+                                    future.completeExceptionally(throwable);
                                 }
                                 @Override
                                 public void onComplete() {
-                                    latch.countDown();
+                                    // A no-op if the reply has been received already
+                                    future.completeExceptionally(new RuntimeException("Call to $methodName completed w/o receiving a reply or an error explicitly. The request was: " + request));
                                 }
                             };
 
-                            final GrpcCall<$requestType, $replyType> call = grpcClient.createCall(
-                                    FULL_NAME + "/$methodName",
-                                    get$simpleRequestTypeCodec(requestOptions),
-                                    get$simpleReplyTypeCodec(requestOptions),
-                                    pipeline,
-                                    requestOptions.metadata()
-                                    );
-                            call.sendRequest(request, true);
                             try {
-                                latch.await();
-                            } catch (InterruptedException e) {
-                                throw new RuntimeException(e);
-                            }
-
-                            if (errorRef.get() != null) {
-                                // Make a new exception to capture the stack trace. Simply re-throwing the original
-                                // exception may look confusing because the stack trace would be misleading.
-                                throw new RuntimeException(errorRef.get());
-                            }
-
-                            if (replyRef.get() != null) {
-                                return replyRef.get();
+                                grpcClient.executor().execute(() -> {
+                                    if (future.isDone()) {
+                                        // Cancelled before the call was created
+                                        return;
+                                    }
+                                    try {
+                                        final GrpcCall<$requestType, $replyType> call = grpcClient.createCall(
+                                                FULL_NAME + "/$methodName",
+                                                get$simpleRequestTypeCodec(requestOptions),
+                                                get$simpleReplyTypeCodec(requestOptions),
+                                                pipeline,
+                                                requestOptions.metadata(),
+                                                timeout == null ? null : timeout.minusNanos(System.nanoTime() - startNanos)
+                                                );
+                                        future.whenComplete((reply, throwable) -> {
+                                            if (throwable instanceof CancellationException || throwable instanceof TimeoutException) {
+                                                call.cancel();
+                                            }
+                                        });
+                                        call.sendRequest(request, true);
+                                    } catch (RuntimeException e) {
+                                        future.completeExceptionally(e);
+                                    }
+                                });
+                            } catch (RejectedExecutionException e) {
+                                future.completeExceptionally(e);
                             }
-
-                            throw new RuntimeException("Call to $methodName completed w/o receiving a reply or an error explicitly. The request was: " + request);
+                            return future;
                         }
                         """
                     .replace("$methodSignatureWithoutOptions", formatMethodSignature("public", false))
@@ -338,7 +381,8 @@ public final class ServiceGenerator {
                                     get$simpleRequestTypeCodec(requestOptions),
                                     get$simpleReplyTypeCodec(requestOptions),
                                     pipeline,
-                                    requestOptions.metadata()
+                                    requestOptions.metadata(),
+                                    requestOptions.timeout().orElse(null)
                                     );
 
                             return new Pipeline<$requestType>() {
@@ -407,7 +451,8 @@ public final class ServiceGenerator {
                                     get$simpleRequestTypeCodec(requestOptions),
                                     get$simpleReplyTypeCodec(requestOptions),
                                     pipeline,
-                                    requestOptions.metadata()
+                                    requestOptions.metadata(),
+                                    requestOptions.timeout().orElse(null)
                                     );
                             call.sendRequest(request, true);
                             try {
@@ -464,7 +509,8 @@ public final class ServiceGenerator {
                                     get$simpleRequestTypeCodec(requestOptions),
                                     get$simpleReplyTypeCodec(requestOptions),
                                     pipeline,
-                                    requestOptions.metadata()
+                                    requestOptions.metadata(),
+                                    requestOptions.timeout().orElse(null)
                                     );
 
                             return new Pipeline<$requestType>() {
@@ -604,11 +650,17 @@ public final class ServiceGenerator {
         writer.addImport("com.hedera.pbj.runtime.ParseException");
         writer.addImport("com.hedera.pbj.runtime.io.buffer.Bytes");
         writer.addImport("edu.umd.cs.findbugs.annotations.NonNull");
+        writer.addImport("edu.umd.cs.findbugs.annotations.Nullable");
         writer.addImport("java.util.List");
         writer.addImport("java.util.Arrays");
         writer.addImport("java.util.Objects");
+        writer.addImport("java.util.concurrent.CancellationException");
+        writer.addImport("java.util.concurrent.CompletableFuture");
         writer.addImport("java.util.concurrent.CountDownLatch");
+        writer.addImport("java.util.concurrent.ExecutionException");
         writer.addImport("java.util.concurrent.Flow");
+        writer.addImport("java.util.concurrent.RejectedExecutionException");
+        writer.addImport("java.util.concurrent.TimeoutException");
         writer.addImport("java.util.concurrent.atomic.AtomicReference");
 
         rpcList.forEach(rpc -> {
@@ -753,12 +805,6 @@ public final class ServiceGenerator {
                         .map(RPC::requestType)
                         .distinct()
                         .map(ServiceGenerator::formatParseRequestMethod)
-                        .collect(Collectors.joining("\n\n"))
-                + "\n"
-                + rpcList.stream()
-                        .map(RPC::replyType)
-                        .distinct()
-                        .map(ServiceGenerator::formatSerializeReplyMethod)
                         .collect(Collectors.joining("\n\n"));
     }
 
@@ -779,21 +825,4 @@ public final class ServiceGenerator {
                 ;
         // spotless:on
     }
-
-    private static String formatSerializeReplyMethod(final String replyType) {
-        // spotless:off
-        return """
-                @NonNull
-                private static Bytes serialize$simpleReplyType(@NonNull final $replyType reply, @NonNull final RequestOptions options) {
-                    Objects.requireNonNull(reply);
-                    Objects.requireNonNull(options);
-
-                    return get$simpleReplyTypeCodec(options).toBytes(reply);
-                }
-                """
-                .replace("$replyType", replyType)
-                .replace("$simpleReplyType", replyType.replace(".", ""))
-                ;
-        // spotless:on
-    }
 }
@@ -59,6 +59,10 @@ public final class JsonCodecGenerator implements Generator {
 
         final String staticModifier = Generator.isInner(msgDef) ? " static" : "";
 
+        final boolean isPrimitiveRepeated = lookupHelper
+                .getLookupHelper()
+                .isPrimitiveRepeated(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+
         writer.addImport("com.hedera.pbj.runtime.*");
         writer.addImport("com.hedera.pbj.runtime.io.*");
         writer.addImport("com.hedera.pbj.runtime.io.buffer.*");
@@ -97,7 +101,7 @@ public final class JsonCodecGenerator implements Generator {
                 .replace("$codecClass", codecClassName)
                 .replace("$unsetOneOfConstants", JsonCodecParseMethodGenerator.generateUnsetOneOfConstants(fields))
                 .replace("$writeMethod", writeMethod)
-                .replace("$parseObject", JsonCodecParseMethodGenerator.generateParseObjectMethod(modelClassName, fields))
+                .replace("$parseObject", JsonCodecParseMethodGenerator.generateParseObjectMethod(modelClassName, fields, isPrimitiveRepeated))
         );
         // spotless:on
 
@@ -42,7 +42,8 @@ class JsonCodecParseMethodGenerator {
                         .collect(Collectors.joining("\n"));
     }
 
-    static String generateParseObjectMethod(final String modelClassName, final List<Field> fields) {
+    static String generateParseObjectMethod(
+            final String modelClassName, final List<Field> fields, final boolean isPrimitiveRepeated) {
         return """
                 /**
                  * Parses a HashObject object from JSON parse tree for object JSONParser.ObjContext.
@@ -103,7 +104,7 @@ class JsonCodecParseMethodGenerator {
                 .replace(
                         "$fieldsList",
                         fields.stream().map(field -> "temp_" + field.name()).collect(Collectors.joining(", ")))
-                .replace("$caseStatements", generateCaseStatements(fields))
+                .replace("$caseStatements", generateCaseStatements(fields, isPrimitiveRepeated))
                 .indent(DEFAULT_INDENT);
     }
 
@@ -112,9 +113,10 @@ class JsonCodecParseMethodGenerator {
      * generate 2 case statements for packed and unpacked encoding.
      *
      * @param fields list of all fields in record
+     * @param isPrimitiveRepeated true if the message enables the `pbj.primitive_repeated` option
      * @return string of case statement code
      */
-    private static String generateCaseStatements(final List<Field> fields) {
+    private static String generateCaseStatements(final List<Field> fields, final boolean isPrimitiveRepeated) {
         StringBuilder sb = new StringBuilder();
         for (Field field : fields) {
             if (field instanceof final OneOfField oneOfField) {
@@ -127,6 +129,12 @@ class JsonCodecParseMethodGenerator {
                     generateFieldCaseStatement(sb, subField, "kvPair.value()");
                     sb.append("); break;\n");
                 }
+            } else if (isPrimitiveRepeated && Common.primitiveListClassName(field) != null) {
+                // Copy the parsed boxed values into a primitive list to match the protobuf codec
+                sb.append("case \"" + toJsonFieldName(field.name()) + "\" /* [" + field.fieldNumber() + "] */ "
+                        + ": temp_" + field.name() + " = " + Common.primitiveListClassName(field) + ".copyOf(");
+                generateFieldCaseStatement(sb, field, "kvPair.value()");
+                sb.append("); break;\n");
             } else {
                 sb.append("case \"" + toJsonFieldName(field.name()) + "\" /* [" + field.fieldNumber() + "] */ "
                         + ": temp_" + field.name() + " = ");
@@ -60,10 +60,19 @@ public final class CodecGenerator implements Generator {
                 System.err.printf("WriterGenerator Warning - Unknown element: %s -- %s%n", item, item.getText());
             }
         }
-        final String writeMethod =
-                CodecWriteMethodGenerator.generateWriteMethod(modelClassName, schemaClassName, fields);
-        final String writeByteArrayMethod =
-                CodecWriteByteArrayMethodGenerator.generateWriteMethod(modelClassName, schemaClassName, fields);
+        final boolean lazyMessages = lookupHelper
+                .getLookupHelper()
+                .isLazyMessages(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+        final boolean utf8Strings = lookupHelper
+                .getLookupHelper()
+                .isUtf8Strings(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+        final boolean fieldMask = lookupHelper
+                .getLookupHelper()
+                .isFieldMask(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+        final String writeMethod = CodecWriteMethodGenerator.generateWriteMethod(
+                modelClassName, schemaClassName, fields, lazyMessages, utf8Strings);
+        final String writeByteArrayMethod = CodecWriteByteArrayMethodGenerator.generateWriteMethod(
+                modelClassName, schemaClassName, fields, lazyMessages, utf8Strings);
 
         final String staticModifier = Generator.isInner(msgDef) ? " static" : "";
 
@@ -106,6 +115,10 @@ public final class CodecGenerator implements Generator {
             cacheableSupport = "";
         }
 
+        final boolean isPrimitiveRepeated = lookupHelper
+                .getLookupHelper()
+                .isPrimitiveRepeated(lookupHelper.getLookupHelper().getFullyQualifiedProtoNameForContext(msgDef));
+
         writer.addImport("com.hedera.pbj.runtime.*");
         writer.addImport("com.hedera.pbj.runtime.io.*");
         writer.addImport("com.hedera.pbj.runtime.io.buffer.*");
@@ -119,6 +132,7 @@ public final class CodecGenerator implements Generator {
         writer.addImport("java.util.stream.Stream");
         writer.addImport("java.util.*");
         writer.addImport("edu.umd.cs.findbugs.annotations.NonNull");
+        writer.addImport("edu.umd.cs.findbugs.annotations.Nullable");
         writer.addImport(lookupHelper.getFullyQualifiedMessageClassname(FileType.MODEL, msgDef));
         writer.addImport("static " + lookupHelper.getFullyQualifiedMessageClassname(FileType.SCHEMA, msgDef) + ".*");
         writer.addImport("static com.hedera.pbj.runtime.ProtoWriterTools.*");
@@ -166,7 +180,7 @@ public final class CodecGenerator implements Generator {
                 .replace("$codecClass", codecClassName)
                 .replace("$cacheableSupport", cacheableSupport)
                 .replace("$unsetOneOfConstants", CodecParseMethodGenerator.generateUnsetOneOfConstants(fields))
-                .replace("$parseMethod", CodecParseMethodGenerator.generateParseMethod(sbFunc, modelClassName, schemaClassName, fields, !cacheableSupport.isBlank()))
+                .replace("$parseMethod", CodecParseMethodGenerator.generateParseMethod(sbFunc, modelClassName, schemaClassName, fields, !cacheableSupport.isBlank(), isPrimitiveRepeated, lazyMessages, utf8Strings, fieldMask))
                 .replace("$writeMethod", writeMethod)
                 .replace("$writeByteArrayMethod", writeByteArrayMethod)
                 .replace("$measureDataMethod", CodecMeasureDataMethodGenerator.generateMeasureMethod(modelClassName, fields))
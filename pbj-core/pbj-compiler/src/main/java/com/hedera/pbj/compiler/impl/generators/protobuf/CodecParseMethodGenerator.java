@@ -52,10 +52,18 @@ class CodecParseMethodGenerator {
             final String modelClassName,
             final String schemaClassName,
             final List<Field> fields,
-            final boolean isCacheable) {
+            final boolean isCacheable,
+            final boolean isPrimitiveRepeated,
+            final boolean lazyMessages,
+            final boolean utf8Strings,
+            final boolean fieldMask) {
 
-        ParseAndDefaultBody parseAndDefaultBodyPair =
-                generateParseLoop(generateCaseStatements(sbFunc, fields, schemaClassName), "", schemaClassName);
+        ParseAndDefaultBody parseAndDefaultBodyPair = generateParseLoop(
+                generateCaseStatements(
+                        sbFunc, fields, schemaClassName, isPrimitiveRepeated, lazyMessages, utf8Strings, fieldMask),
+                "",
+                schemaClassName,
+                fieldMask);
         // spotless:off
         return """
                 /**
@@ -87,7 +95,7 @@ class CodecParseMethodGenerator {
                         final boolean strictMode,
                         final boolean parseUnknownFields,
                         final int maxDepth,
-                        final int maxSize) throws ParseException {
+                        final int maxSize) throws ParseException {$maskedParseMethod
                     if (maxDepth < 0) {
                         throw new ParseException("Reached maximum allowed depth of nested messages");
                     }
@@ -116,10 +124,17 @@ class CodecParseMethodGenerator {
                     return $unknownFields;
                 }
                 """
-        .replace("$cacheableSupport", isCacheable ? generateCacheableSupport(modelClassName, fields) : "return new $modelClassName($fieldsList);")
+        .replace("$maskedParseMethod", fieldMask ? generateMaskedParseMethod() : "")
+        .replace("$cacheableSupport", isCacheable
+                ? (fieldMask ? generatePartialSupport() : "") + generateCacheableSupport(modelClassName, fields)
+                : fieldMask ? "return new $modelClassName($fieldsList, fieldMask);" : "return new $modelClassName($fieldsList);")
         .replace("$modelClassName",modelClassName)
         .replace("$fieldDefs",fields.stream().map(field -> {
-            final String javaFieldType = field.type() == Field.FieldType.ENUM ? field.repeated() ? "List" :  "Object" : field.javaFieldType();
+            if (utf8Strings && Common.isUtf8StringField(field)) {
+                return "    Utf8String temp_%s = Utf8String.EMPTY;".formatted(field.name());
+            }
+            final String javaFieldType = field.type() == Field.FieldType.ENUM ? field.repeated() ? "List" :  "Object"
+                    : lazyMessages && Common.isLazyMessageField(field) ? "Object" : field.javaFieldType();
             return "    %s temp_%s = %s;".formatted(javaFieldType,
                             field.name(), field.javaDefault());
         }).collect(Collectors.joining("\n")))
@@ -131,13 +146,67 @@ class CodecParseMethodGenerator {
         .replace("$defaultCaseBody", parseAndDefaultBodyPair.defaultBody())
         .replace("$listFieldsWriteProtection", fields.stream()
                 .filter(Field::repeated)
-                .map(field -> "if (temp_" + field.name() + " instanceof UnmodifiableArrayList ual) ual.makeReadOnly();")
+                .map(field -> isPrimitiveRepeated && Common.primitiveListClassName(field) != null
+                        ? "if (temp_" + field.name() + " instanceof PrimitiveList pl) pl.makeReadOnly();"
+                        : "if (temp_" + field.name() + " instanceof UnmodifiableArrayList ual) ual.makeReadOnly();")
                 .collect(Collectors.joining("\n"))
                 .indent(DEFAULT_INDENT * 2))
         .indent(DEFAULT_INDENT);
         // spotless:on
     }
 
+    /**
+     * Models that enable the `pbj.field_mask` option get a parse() overload that takes a {@code FieldMask}, and the
+     * regular parse() method delegates to it. The returned code closes the regular method and opens the overload.
+     *
+     * @return code that delegates to the masked parse() method and starts it
+     */
+    static String generateMaskedParseMethod() {
+        // spotless:off
+        return """
+
+                    return parse(input, null, strictMode, parseUnknownFields, maxDepth, maxSize);
+                }
+
+                /**
+                 * Parses the fields of a $modelClassName object selected by a {@link FieldMask} from ProtoBuf bytes in a
+                 * {@link ReadableSequentialData}. Fields that are not selected are skipped and left at their default values,
+                 * and the returned object reports {@code isPartial() == true}. A null mask parses all fields, see
+                 * {@link #parse(ReadableSequentialData, boolean, boolean, int, int)}.
+                 *
+                 * @param input The data input to parse data from
+                 * @param fieldMask the fields to parse, or null to parse all fields
+                 * @param strictMode when {@code true}, the parser errors out on unknown fields; otherwise they'll be simply skipped.
+                 * @param parseUnknownFields when {@code true} and strictMode is {@code false}, the parser will collect unknown
+                 *                           fields in the unknownFields list in the model; otherwise they'll be simply skipped.
+                 * @param maxDepth a ParseException will be thrown if the depth of nested messages exceeds the maxDepth value.
+                 * @param maxSize a ParseException will be thrown if the size of a delimited field exceeds the limit
+                 * @return Parsed $modelClassName model object
+                 * @throws ParseException If parsing fails
+                 */
+                public @NonNull $modelClassName parse(
+                        @NonNull final ReadableSequentialData input,
+                        @Nullable final FieldMask fieldMask,
+                        final boolean strictMode,
+                        final boolean parseUnknownFields,
+                        final int maxDepth,
+                        final int maxSize) throws ParseException {""";
+        // spotless:on
+    }
+
+    /**
+     * Partially parsed objects bypass the cache, so that they are never returned for a full parse.
+     *
+     * @return code that returns a partial object
+     */
+    static String generatePartialSupport() {
+        return """
+                if (fieldMask != null) {
+                    return new $modelClassName($fieldsList, fieldMask);
+                }
+                """.indent(DEFAULT_INDENT * 2);
+    }
+
     static String generateCacheableSupport(String modelClassName, final List<Field> fields) {
         return """
                 final int objectHashCode;
@@ -173,9 +242,13 @@ class CodecParseMethodGenerator {
     public record ParseAndDefaultBody(String parseBody, String defaultBody) {}
 
     // prefix is pre-pended to variable names to support a nested parsing loop.
+    // withFieldMask is true to skip the fields that are not selected by the fieldMask parameter.
     // The list returned is [$parseLoop, $defaultCaseBody]
     static ParseAndDefaultBody generateParseLoop(
-            final String caseStatements, @NonNull final String prefix, @NonNull final String schemaClassName) {
+            final String caseStatements,
+            @NonNull final String prefix,
+            @NonNull final String schemaClassName,
+            final boolean withFieldMask) {
         // spotless:off
         List<String> list = new ArrayList<>();
         list.add("""
@@ -199,6 +272,7 @@ class CodecParseMethodGenerator {
 
                             // The field is the top 5 bits of the byte. Read this off
                             final int $prefixfield = $prefixtag >>> TAG_FIELD_OFFSET;
+$fieldMaskCheck
 
                             // Ask the Schema to inform us what field this represents.
                             final var $prefixf = $schemaClassName.getField($prefixfield);
@@ -251,6 +325,13 @@ class CodecParseMethodGenerator {
         for (int i = 0; i < list.size(); i++) {
             list.set(i, list.get(i)
                 .replace("$caseStatements", caseStatements)
+                .replace("$fieldMaskCheck", withFieldMask ? """
+                        // Skip the fields that are not selected without decoding them
+                        if (fieldMask != null && !fieldMask.includes($prefixfield)) {
+                            skipField(input, ProtoConstants.get($prefixtag & TAG_WIRE_TYPE_MASK), $skipMaxSize);
+                            continue;
+                        }
+                        """.indent(DEFAULT_INDENT * 7) : "")
                 .replace("$prefix", prefix)
                 .replace("$schemaClassName", schemaClassName)
                 .replace("$skipMaxSize", "maxSize")
@@ -260,35 +341,65 @@ class CodecParseMethodGenerator {
         return new ParseAndDefaultBody(list.get(0), list.get(1));
     }
 
-    private static String generateCaseStatements(StringBuilder sbFunc, List<Field> fields, String schemaClassName) {
+    private static String generateCaseStatements(
+            StringBuilder sbFunc,
+            List<Field> fields,
+            String schemaClassName,
+            final boolean isPrimitiveRepeated,
+            final boolean lazyMessages,
+            final boolean utf8Strings,
+            final boolean withFieldMask) {
         StringBuilder sb = new StringBuilder();
         for (Field field : fields) {
             if (field instanceof final OneOfField oneOfField) {
                 for (final Field subField : oneOfField.fields()) {
-                    generateFieldCaseStatement(sb, sbFunc, subField, schemaClassName);
+                    generateFieldCaseStatement(
+                            sb, sbFunc, subField, schemaClassName, isPrimitiveRepeated, false, false, withFieldMask);
                 }
             } else if (field.repeated() && field.type().wireType() != Common.TYPE_LENGTH_DELIMITED) {
                 // for repeated fields that are not length encoded there are 2 forms they can be stored in file.
                 // "packed" and repeated primitive fields
-                generateFieldCaseStatement(sb, sbFunc, field, schemaClassName);
-                generateFieldCaseStatementPacked(sb, sbFunc, field);
+                generateFieldCaseStatement(
+                        sb, sbFunc, field, schemaClassName, isPrimitiveRepeated, false, false, withFieldMask);
+                generateFieldCaseStatementPacked(sb, sbFunc, field, isPrimitiveRepeated);
             } else {
-                generateFieldCaseStatement(sb, sbFunc, field, schemaClassName);
+                generateFieldCaseStatement(
+                        sb,
+                        sbFunc,
+                        field,
+                        schemaClassName,
+                        isPrimitiveRepeated,
+                        lazyMessages && Common.isLazyMessageField(field),
+                        utf8Strings && Common.isUtf8StringField(field),
+                        withFieldMask);
             }
         }
         return sb.toString().indent(DEFAULT_INDENT * 4);
     }
 
+    /**
+     * Get the name of the runtime method that adds a value to the list of a repeated field.
+     *
+     * @param field the repeated field
+     * @param isPrimitiveRepeated true if the message enables the `pbj.primitive_repeated` option
+     * @return the name of a ProtoParserTools method
+     */
+    static String addToListMethod(final Field field, final boolean isPrimitiveRepeated) {
+        final String primitiveListClassName = Common.primitiveListClassName(field);
+        return isPrimitiveRepeated && primitiveListClassName != null ? "addTo" + primitiveListClassName : "addToList";
+    }
+
     /**
      * Generate switch case statement for a repeated numeric value type in packed encoding.
      *
      * @param field field to generate case statement for
      * @param sbCase code written in case statement
      * @param sbFunc code written in class scope, used to create functions
+     * @param isPrimitiveRepeated true if the message enables the `pbj.primitive_repeated` option
      */
     @SuppressWarnings("StringConcatenationInsideStringBufferAppend")
     private static void generateFieldCaseStatementPacked(
-            StringBuilder sbCase, StringBuilder sbFunc, final Field field) {
+            StringBuilder sbCase, StringBuilder sbFunc, final Field field, final boolean isPrimitiveRepeated) {
         final int wireType = Common.TYPE_LENGTH_DELIMITED;
         final int fieldNum = field.fieldNumber();
         final int tag = Common.getTag(wireType, fieldNum);
@@ -332,13 +443,14 @@ class CodecParseMethodGenerator {
                 final long beforePosition = input.position();
                 input.limit(input.position() + length);
                 while (input.hasRemaining()) {
-                    $preRead$tempFieldName = addToList($tempFieldName,$readMethod);
+                    $preRead$tempFieldName = $addToList($tempFieldName,$readMethod);
                 }
                 input.limit(beforeLimit);
                 if (input.position() != beforePosition + length) {
                     throw new BufferUnderflowException();
                 }""".replace("$tempFieldName", tempFieldName)
                 .replace("$preRead", preRead)
+                .replace("$addToList", addToListMethod(field, isPrimitiveRepeated))
                 .replace("$readMethod", field.type() == Field.FieldType.ENUM ? "value" : readMethod(field))
                 .replace("$maxSize", field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize")
                 .replace("$fieldName", field.name())
@@ -354,9 +466,20 @@ class CodecParseMethodGenerator {
      * @param field field to generate case statement for
      * @param sbCase code written in case statement
      * @param sbFunc code written in class scope, used to create functions
+     * @param isPrimitiveRepeated true if the message enables the `pbj.primitive_repeated` option
+     * @param lazy true if the field is a message field that is parsed on first access rather than here
+     * @param utf8 true if the field is a string field that is read as a Utf8String without decoding it
+     * @param withFieldMask true to parse message fields with the sub-mask of the fieldMask parameter
      */
     private static void generateFieldCaseStatement(
-            StringBuilder sbCase, StringBuilder sbFunc, final Field field, final String schemaClassName) {
+            StringBuilder sbCase,
+            StringBuilder sbFunc,
+            final Field field,
+            final String schemaClassName,
+            final boolean isPrimitiveRepeated,
+            final boolean lazy,
+            final boolean utf8,
+            final boolean withFieldMask) {
         final int wireType = field.optionalValueType()
                 ? Common.TYPE_LENGTH_DELIMITED
                 : field.type().wireType();
@@ -410,6 +533,31 @@ class CodecParseMethodGenerator {
             );
             sbCase.append('\n');
             // spotless:on
+        } else if (lazy) {
+            // spotless:off
+            sbCase.append("""
+                        final var messageLength = input.readVarInt(false);
+                        final Object value;
+                        if (messageLength == 0) {
+                            value = $fieldType.DEFAULT;
+                        } else {
+                            if (messageLength > $maxSize) {
+                                throw new ParseException("$fieldName size " + messageLength + " is greater than max " + $maxSize);
+                            }
+                            if (maxDepth - 1 < 0) {
+                                throw new ParseException("Reached maximum allowed depth of nested messages");
+                            }
+                            // Only read the bytes here, the sub-message is parsed on first access
+                            value = new LazyMessage<>($fieldType.PROTOBUF, input.readBytes(messageLength),
+                                    strictMode, parseUnknownFields, maxDepth - 1, maxSize);
+                        }
+                        """
+                    .replace("$fieldType", field.javaFieldTypeBase())
+                    .replace("$fieldName", field.name())
+                    .replace("$maxSize", field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize")
+                    .indent(DEFAULT_INDENT)
+            );
+            // spotless:on
         } else if (field.type() == Field.FieldType.MESSAGE) {
             // spotless:off
             sbCase.append("""
@@ -442,7 +590,7 @@ class CodecParseMethodGenerator {
                             }
                         }
                         """
-                    .replace("$readMethod", readMethod(field))
+                    .replace("$readMethod", withFieldMask ? maskedMessageParseCode(field) : readMethod(field))
                     .replace("$fieldType", field.javaFieldTypeBase())
                     .replace("$fieldName", field.name())
                     .replace("$maxSize", field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize")
@@ -455,7 +603,10 @@ class CodecParseMethodGenerator {
             final MapField mapField = (MapField) field;
             final List<Field> mapEntryFields = List.of(mapField.keyField(), mapField.valueField());
             ParseAndDefaultBody parseAndDefaultBodyPair = generateParseLoop(
-                    generateCaseStatements(sbFunc, mapEntryFields, schemaClassName), "map_entry_", schemaClassName);
+                    generateCaseStatements(sbFunc, mapEntryFields, schemaClassName, false, false, false, false),
+                    "map_entry_",
+                    schemaClassName,
+                    false);
             // spotless:off
             sbCase.append("""
                         final var __map_messageLength = input.readVarInt(false);
@@ -506,6 +657,10 @@ class CodecParseMethodGenerator {
                     .indent(DEFAULT_INDENT)
             );
             // spotless:on
+        } else if (utf8) {
+            sbCase.append(("final var value = readUtf8String(input, %s);\n"
+                            .formatted(field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize"))
+                    .indent(DEFAULT_INDENT));
         } else {
             sbCase.append(("final var value = " + readMethod(field) + ";\n").indent(DEFAULT_INDENT));
         }
@@ -525,8 +680,9 @@ class CodecParseMethodGenerator {
                 if (temp_%s.size() >= %s) {
                     throw new ParseException("%1$s size %%d is greater than max %2$s".formatted(temp_%1$s.size()));
                 }
-                temp_%1$s = addToList(temp_%1$s,value);
-                """.formatted(field.name(), field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize"));
+                temp_%1$s = %3$s(temp_%1$s,value);
+                """.formatted(field.name(), field.maxSize() >= 0 ? String.valueOf(field.maxSize()) : "maxSize",
+                        addToListMethod(field, isPrimitiveRepeated)));
         } else if (field.type() == Field.FieldType.MAP) {
             final MapField mapField = (MapField) field;
             sbCase.append(
@@ -556,6 +712,20 @@ class CodecParseMethodGenerator {
         // spotless:on
     }
 
+    /**
+     * Get the code that parses a message field with the sub-mask of the fieldMask parameter, so that only the
+     * selected sub-fields are parsed. If the whole field is selected, the sub-mask is null and all sub-fields are
+     * parsed.
+     *
+     * @param field the message field
+     * @return the parse code
+     */
+    static String maskedMessageParseCode(final Field field) {
+        return ("%s.PROTOBUF.parse(input, fieldMask == null ? null : fieldMask.subMask(%d), strictMode, "
+                        + "parseUnknownFields, maxDepth - 1, maxSize)")
+                .formatted(field.messageType(), field.fieldNumber());
+    }
+
     static String readMethod(Field field) {
         if (field.optionalValueType()) {
             return switch (field.messageType()) {
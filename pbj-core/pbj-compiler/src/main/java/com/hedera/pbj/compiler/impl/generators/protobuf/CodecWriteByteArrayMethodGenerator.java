@@ -20,7 +20,11 @@ import java.util.stream.Stream;
 final class CodecWriteByteArrayMethodGenerator {
 
     static String generateWriteMethod(
-            final String modelClassName, final String schemaClassName, final List<Field> fields) {
+            final String modelClassName,
+            final String schemaClassName,
+            final List<Field> fields,
+            final boolean lazyMessages,
+            final boolean utf8Strings) {
         final String fieldWriteLines = buildFieldWriteLines(
                 modelClassName,
                 schemaClassName,
@@ -35,7 +39,9 @@ final class CodecWriteByteArrayMethodGenerator {
                     }
                     return " data.%s()".formatted(field.nameCamelFirstLower());
                 },
-                true);
+                true,
+                lazyMessages,
+                utf8Strings);
         // spotless:off
         return
             """
@@ -72,14 +78,22 @@ final class CodecWriteByteArrayMethodGenerator {
             final String schemaClassName,
             final List<Field> fields,
             final Function<Field, String> getValueBuilder,
-            final boolean skipDefault) {
+            final boolean skipDefault,
+            final boolean lazyMessages,
+            final boolean utf8Strings) {
         return fields.stream()
                 .flatMap(field -> field.type() == Field.FieldType.ONE_OF
                         ? ((OneOfField) field).fields().stream()
                         : Stream.of(field))
                 .sorted(Comparator.comparingInt(Field::fieldNumber))
                 .map(field -> generateFieldWriteLines(
-                        field, modelClassName, schemaClassName, getValueBuilder.apply(field), skipDefault))
+                        field,
+                        modelClassName,
+                        schemaClassName,
+                        getValueBuilder.apply(field),
+                        skipDefault,
+                        lazyMessages && Common.isLazyMessageField(field),
+                        utf8Strings && Common.isUtf8StringField(field)))
                 .collect(Collectors.joining("\n"))
                 .indent(DEFAULT_INDENT);
     }
@@ -91,6 +105,8 @@ final class CodecWriteByteArrayMethodGenerator {
      * @param modelClassName The model class name for model class for message type we are generating writer for
      * @param getValueCode java code to get the value of field
      * @param skipDefault skip writing the field if it has default value (for non-oneOf only)
+     * @param lazy the field is a lazily parsed message field, so its original bytes are written if available
+     * @param utf8 the field holds a Utf8String, so its bytes are written without encoding
      * @return java code to write field to output
      */
     private static String generateFieldWriteLines(
@@ -98,7 +114,9 @@ final class CodecWriteByteArrayMethodGenerator {
             final String modelClassName,
             final String schemaClassName,
             String getValueCode,
-            boolean skipDefault) {
+            boolean skipDefault,
+            boolean lazy,
+            boolean utf8) {
         final String fieldDef = schemaClassName + "." + Common.camelToUpperSnake(field.name());
         String prefix = "// [%d] - %s%n".formatted(field.fieldNumber(), field.name());
 
@@ -138,7 +156,19 @@ final class CodecWriteByteArrayMethodGenerator {
                 codecReference = "%s.%s.PROTOBUF".formatted(((SingleField) field).messageTypeModelPackage(),
                         ((SingleField) field).completeClassName());
             }
-            if (field.repeated()) {
+            if (lazy) {
+                return prefix + """
+                        if (data.%1$sProtobufBytes() != null) {
+                            offset += ProtoArrayWriterTools.writeMessageBytes(output, offset, %2$s, data.%1$sProtobufBytes());
+                        } else {
+                            offset += ProtoArrayWriterTools.writeMessage(output, offset, %2$s, data.%1$s(), %3$s);
+                        }
+                        """
+                        .formatted(field.nameCamelFirstLower(), fieldDef, codecReference);
+            } else if (utf8) {
+                return prefix + "offset += ProtoArrayWriterTools.writeUtf8String(output, offset, %s, data.%sUtf8(), %s);"
+                        .formatted(fieldDef, field.nameCamelFirstLower(), skipDefault);
+            } else if (field.repeated()) {
                 return prefix + switch(field.type()) {
                     case ENUM -> "offset += ProtoArrayWriterTools.writeEnumListProtoOrdinals(output, offset, %s, %s);"
                             .formatted(fieldDef, getValueCode);
@@ -182,6 +212,8 @@ final class CodecWriteByteArrayMethodGenerator {
                         schemaClassName,
                         mapEntryFields,
                         getValueBuilder,
+                        false,
+                        false,
                         false);
                 final String fieldSizeOfLines = CodecMeasureRecordMethodGenerator.buildFieldSizeOfLines(
                         field.name(),
@@ -20,9 +20,13 @@ import java.util.stream.Stream;
  */
 public class LazyGetProtobufSizeMethodGenerator {
 
-    public static String generateLazyGetProtobufSize(final List<Field> fields, final String schemaClassName) {
-        final String fieldSizeOfLines =
-                buildFieldSizeOfLines(null, schemaClassName, fields, Field::nameCamelFirstLower, true);
+    public static String generateLazyGetProtobufSize(
+            final List<Field> fields,
+            final String schemaClassName,
+            final boolean lazyMessages,
+            final boolean utf8Strings) {
+        final String fieldSizeOfLines = buildFieldSizeOfLines(
+                null, schemaClassName, fields, Field::nameCamelFirstLower, true, lazyMessages, utf8Strings);
         return """
                 /**
                  * Get number of bytes when serializing the object to protobuf binary.
@@ -58,14 +62,22 @@ public class LazyGetProtobufSizeMethodGenerator {
             final String schemaClassName,
             final List<Field> fields,
             final Function<Field, String> getValueBuilder,
-            boolean skipDefault) {
+            boolean skipDefault,
+            boolean lazyMessages,
+            boolean utf8Strings) {
         return fields.stream()
                 .flatMap(field -> field.type() == Field.FieldType.ONE_OF
                         ? ((OneOfField) field).fields().stream()
                         : Stream.of(field))
                 .sorted(Comparator.comparingInt(Field::fieldNumber))
                 .map(field -> generateFieldSizeOfLines(
-                        field, modelClassName, schemaClassName, getValueBuilder.apply(field), skipDefault))
+                        field,
+                        modelClassName,
+                        schemaClassName,
+                        getValueBuilder.apply(field),
+                        skipDefault,
+                        lazyMessages && Common.isLazyMessageField(field),
+                        utf8Strings && Common.isUtf8StringField(field)))
                 .collect(Collectors.joining("\n"))
                 .indent(DEFAULT_INDENT);
     }
@@ -89,6 +101,8 @@ public class LazyGetProtobufSizeMethodGenerator {
      * @param modelClassName The model class name for model class for message type we are generating writer for
      * @param getValueCode java code to get the value of field
      * @param skipDefault true if default value of the field should result in size zero
+     * @param lazy true if the field is a lazily parsed message field whose original bytes are written if available
+     * @param utf8 true if the field holds a Utf8String
      * @return java code for adding fields size to "size" variable
      */
     private static String generateFieldSizeOfLines(
@@ -96,7 +110,9 @@ public class LazyGetProtobufSizeMethodGenerator {
             final String modelClassName,
             final String schemaClassName,
             String getValueCode,
-            boolean skipDefault) {
+            boolean skipDefault,
+            boolean lazy,
+            boolean utf8) {
         final String fieldDef = schemaClassName + "." + Common.camelToUpperSnake(field.name());
         String prefix = "// [" + field.fieldNumber() + "] - " + field.name();
         prefix += "\n";
@@ -131,6 +147,24 @@ public class LazyGetProtobufSizeMethodGenerator {
                             throw new UnsupportedOperationException(
                                     "Unhandled optional message type:" + field.messageType());
                     };
+        } else if (lazy) {
+            return prefix
+                    + """
+                        if ($lazyField != null) {
+                            _size += sizeOfDelimited($fieldDef, Math.toIntExact($lazyField.bytes().length()));
+                        } else {
+                            _size += sizeOfMessage($fieldDef, $valueCode, $codec);
+                        }
+                        """
+                            .replace("$lazyField", "$lazy" + field.nameCamelFirstUpper())
+                            .replace("$fieldDef", fieldDef)
+                            .replace("$valueCode", getValueCode)
+                            .replace(
+                                    "$codec",
+                                    ((SingleField) field).messageTypeModelPackage() + "."
+                                            + ((SingleField) field).completeClassName() + ".PROTOBUF");
+        } else if (utf8) {
+            return prefix + "_size += sizeOfUtf8String(%s, %s, %s);".formatted(fieldDef, getValueCode, skipDefault);
         } else if (field.repeated()) {
             return prefix
                     + switch (field.type()) {
@@ -151,7 +185,7 @@ public class LazyGetProtobufSizeMethodGenerator {
             final Function<Field, String> getValueBuilder = mapEntryField ->
                     mapEntryField == mapField.keyField() ? "k" : (mapEntryField == mapField.valueField() ? "v" : null);
             final String fieldSizeOfLines = LazyGetProtobufSizeMethodGenerator.buildFieldSizeOfLines(
-                    field.name(), schemaClassName, mapEntryFields, getValueBuilder, false);
+                    field.name(), schemaClassName, mapEntryFields, getValueBuilder, false, false, false);
             return prefix
                     + """
                         if (!$map.isEmpty()) {
@@ -2,6 +2,10 @@
 package com.hedera.pbj.compiler.impl;
 
 import static com.hedera.pbj.compiler.impl.LookupHelper.extractComparableFields;
+import static com.hedera.pbj.compiler.impl.LookupHelper.extractFieldMask;
+import static com.hedera.pbj.compiler.impl.LookupHelper.extractLazyMessages;
+import static com.hedera.pbj.compiler.impl.LookupHelper.extractPrimitiveRepeated;
+import static com.hedera.pbj.compiler.impl.LookupHelper.extractUtf8Strings;
 import static com.hedera.pbj.compiler.impl.LookupHelper.normalizeFileName;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -117,6 +121,71 @@ class LookupHelperTest {
         assertEquals("text", comparableFields.get(2), "Should return text");
     }
 
+    @Test
+    void testExtractPrimitiveRepeated_nullComment() {
+        assertFalse(extractPrimitiveRepeated(defContext), "Should be disabled by default");
+    }
+
+    @Test
+    void testExtractPrimitiveRepeated_notApplicableComment() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.cacheable = 16>>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertFalse(extractPrimitiveRepeated(defContext), "Should be disabled by default");
+    }
+
+    @Test
+    void testExtractPrimitiveRepeated_enabled() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.primitive_repeated = \"true\">>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertTrue(extractPrimitiveRepeated(defContext), "Should be enabled");
+    }
+
+    @Test
+    void testExtractPrimitiveRepeated_disabled() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.primitive_repeated = false>>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertFalse(extractPrimitiveRepeated(defContext), "Should be disabled");
+    }
+
+    @Test
+    void testExtractLazyMessages_nullComment() {
+        assertFalse(extractLazyMessages(defContext), "Should be disabled by default");
+    }
+
+    @Test
+    void testExtractLazyMessages_enabled() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.lazy_messages = true>>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertTrue(extractLazyMessages(defContext), "Should be enabled");
+        assertFalse(extractPrimitiveRepeated(defContext), "Should not enable other options");
+    }
+
+    @Test
+    void testExtractUtf8Strings_nullComment() {
+        assertFalse(extractUtf8Strings(defContext), "Should be disabled by default");
+    }
+
+    @Test
+    void testExtractUtf8Strings_enabled() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.utf8_strings = true>>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertTrue(extractUtf8Strings(defContext), "Should be enabled");
+        assertFalse(extractLazyMessages(defContext), "Should not enable other options");
+    }
+
+    @Test
+    void testExtractFieldMask_nullComment() {
+        assertFalse(extractFieldMask(defContext), "Should be disabled by default");
+    }
+
+    @Test
+    void testExtractFieldMask_enabled() {
+        when(optionComment.getText()).thenReturn("// <<<pbj.field_mask = true>>>");
+        when(defContext.optionComment()).thenReturn(List.of(optionComment));
+        assertTrue(extractFieldMask(defContext), "Should be enabled");
+        assertFalse(extractUtf8Strings(defContext), "Should not enable other options");
+    }
+
     private static MessageElementContext createMessageElement(final String fieldNameStr) {
         final var messageElement = mock(MessageElementContext.class);
         final var field = mock(Protobuf3Parser.FieldContext.class);
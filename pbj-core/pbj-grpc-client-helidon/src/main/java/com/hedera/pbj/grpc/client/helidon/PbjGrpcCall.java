@@ -9,6 +9,8 @@ import com.hedera.pbj.runtime.grpc.GrpcException;
 import com.hedera.pbj.runtime.grpc.GrpcStatus;
 import com.hedera.pbj.runtime.grpc.Pipeline;
 import com.hedera.pbj.runtime.grpc.ServiceInterface;
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.http.HeaderName;
@@ -19,12 +21,14 @@ import io.helidon.http.WritableHeaders;
 import io.helidon.http.http2.Http2FrameData;
 import io.helidon.http.http2.Http2Headers;
 import io.helidon.http.http2.Http2StreamState;
-import io.helidon.webclient.http2.Http2ClientStream;
 import io.helidon.webclient.http2.StreamTimeoutException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +55,14 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
     private static final HeaderName GRPC_MESSAGE = HeaderNames.createFromLowercase("grpc-message");
     private static final HeaderName GRPC_ENCODING = HeaderNames.createFromLowercase("grpc-encoding");
     private static final HeaderName GRPC_ACCEPT_ENCODING = HeaderNames.createFromLowercase("grpc-accept-encoding");
+    private static final HeaderName GRPC_TIMEOUT = HeaderNames.createFromLowercase("grpc-timeout");
+
+    /**
+     * The longest timeout, which is the longest that fits in a long of nanoseconds, or about 292 years. Longer
+     * timeouts, such as ChronoUnit.FOREVER.getDuration(), are capped at it. The grpc-timeout header can express it in
+     * hours.
+     */
+    static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
 
     private static final PbjGrpcNetworkBytesInspector NO_OP_NETWORK_BYTES_INSPECTOR =
             new PbjGrpcNetworkBytesInspector() {};
@@ -75,11 +87,34 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
     private final Codec<ReplyT> replyCodec;
     private final Pipeline<ReplyT> pipeline;
 
-    private final Http2ClientStream clientStream;
+    private final PbjGrpcClientStream clientStream;
 
     // grpc-encoding to use for sending requests, e.g. "identity", or "gzip" (w/o quotes)
     private final String grpcOutgoingEncoding;
 
+    // The method name that the compression policy keeps its statistics under
+    private final String fullMethodName;
+
+    // Requests that are coalesced into a single write to the stream, or null if the requestBatchSize is 0.
+    // All the batch fields are guarded by the batchLock.
+    private final Object batchLock = new Object();
+    private byte[] batch;
+    private int batchLength;
+    // Incremented on every write of a batch, so that a delayed flush doesn't write out a later batch too early
+    private long batchGeneration;
+
+    // The timeout of the call, or null if the call has no deadline
+    private final Duration timeout;
+    // The System.nanoTime() at which the call fails with DEADLINE_EXCEEDED, if it has a deadline
+    private final long deadlineNanos;
+    // Fails the call when the deadline expires, or null if the call has no deadline
+    private final CompletableFuture<Void> deadlineTimer;
+    // Set once the pipeline has been completed or failed, so that it's never completed or failed again
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+    // Guards the delivery of replies and the setting of the terminated flag, so that the deadline timer never fails
+    // the pipeline while onNext() is running on the replies loop, and the signals to the pipeline stay serial
+    private final Object signalLock = new Object();
+
     /**
      * Create a new GRPC call, start a replies receiving loop in the underlying Helidon WebClient executor,
      * and send client HTTP2 headers.
@@ -93,18 +128,47 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
      */
     PbjGrpcCall(
             final PbjGrpcClient grpcClient,
-            final Http2ClientStream clientStream,
+            final PbjGrpcClientStream clientStream,
             final ServiceInterface.RequestOptions requestOptions,
             final String fullMethodName,
             final Codec<RequestT> requestCodec,
             final Codec<ReplyT> replyCodec,
             final Pipeline<ReplyT> pipeline) {
+        this(grpcClient, clientStream, requestOptions, fullMethodName, requestCodec, replyCodec, pipeline, null);
+    }
+
+    /**
+     * Create a new GRPC call with a deadline, start a replies receiving loop in the underlying Helidon WebClient
+     * executor, and send client HTTP2 headers, including the grpc-timeout header.
+     * @param grpcClient GRPC client
+     * @param clientStream a client stream
+     * @param requestOptions options such as the authority, content type, etc.
+     * @param fullMethodName a full GRPC method name that includes the fully-qualified service name and the method name
+     * @param requestCodec a PBJ codec for requests that MUST correspond to the content type in the requestOptions
+     * @param replyCodec a PBJ codec for replies that MUST correspond to the content type in the requestOptions
+     * @param pipeline a pipeline for receiving replies
+     * @param timeout the time after which the call is cancelled and fails with DEADLINE_EXCEEDED, or null
+     */
+    PbjGrpcCall(
+            final PbjGrpcClient grpcClient,
+            final PbjGrpcClientStream clientStream,
+            final ServiceInterface.RequestOptions requestOptions,
+            final String fullMethodName,
+            final Codec<RequestT> requestCodec,
+            final Codec<ReplyT> replyCodec,
+            final Pipeline<ReplyT> pipeline,
+            final Duration timeout) {
+        this.timeout = timeout == null || timeout.compareTo(MAX_TIMEOUT) <= 0 ? timeout : MAX_TIMEOUT;
+        this.deadlineNanos = System.nanoTime() + (this.timeout == null ? 0 : this.timeout.toNanos());
         this.grpcClient = grpcClient;
         this.requestCodec = requestCodec;
         this.replyCodec = replyCodec;
         this.pipeline = pipeline;
 
         this.clientStream = clientStream;
+        this.fullMethodName = fullMethodName;
+        final int requestBatchSize = grpcClient.getConfig().requestBatchSize();
+        this.batch = requestBatchSize > 0 ? new byte[requestBatchSize] : null;
 
         if (GrpcCompression.getCompressor(grpcClient.getConfig().encoding()) != null) {
             this.grpcOutgoingEncoding = grpcClient.getConfig().encoding();
@@ -125,6 +189,9 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
         headers.add(HeaderValues.create(
                 GRPC_ACCEPT_ENCODING, String.join(",", grpcClient.getConfig().acceptEncodings())));
         headers.add(HeaderValues.create(GRPC_ENCODING, grpcOutgoingEncoding));
+        if (this.timeout != null) {
+            headers.add(HeaderValues.create(GRPC_TIMEOUT, formatTimeout(deadlineNanos - System.nanoTime())));
+        }
 
         if (requestOptions.metadata() != null && !requestOptions.metadata().isEmpty()) {
             for (String key : requestOptions.metadata().keySet()) {
@@ -142,8 +209,25 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
 
         clientStream.writeHeaders(Http2Headers.create(headers), false);
 
+        // Expiring the deadline writes an RST_STREAM frame and runs the pipeline, so it doesn't run on the common pool
+        this.deadlineTimer = this.timeout == null
+                ? null
+                : CompletableFuture.runAsync(
+                        this::expireDeadline,
+                        CompletableFuture.delayedExecutor(
+                                deadlineNanos - System.nanoTime(),
+                                TimeUnit.NANOSECONDS,
+                                grpcClient.getWebClient().executor()));
+
+        // The keep-alive timer of the connection fails the call as soon as a ping fails, rather than the replies loop
+        // finding out when its read times out
+        clientStream.onConnectionFailure(this::reportError);
+
         // We must start this loop only AFTER writing headers above because that operation initializes
         // an internal buffer in the clientStream. W/o that, we get NPEs when calling clientStream APIs.
+        // FUTURE WORK: read the frames of all the streams of a connection on a single reader that pushes them to
+        // the calls, instead of a task per call that waits for the frames of its stream. Helidon's Http2ClientStream
+        // only lets a stream pull its own frames, so this requires an HTTP2 client of our own.
         grpcClient.getWebClient().executor().submit(this::receiveRepliesLoop);
     }
 
@@ -154,32 +238,271 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
      */
     @Override
     public void sendRequest(final RequestT request, final boolean endOfStream) {
+        final int length = requestCodec.measureRecord(request);
+        // Requests that aren't worth compressing are sent with the compressed flag set to 0, whatever the encoding
+        final Bytes compressed = GrpcCompression.IDENTITY.equals(grpcOutgoingEncoding)
+                        || !grpcClient.getConfig().compressionPolicy().shouldCompress(fullMethodName, length)
+                ? null
+                : compressRequest(request, length);
+        if (batch != null) {
+            batchRequest(request, length, compressed, endOfStream);
+        } else if (compressed == null) {
+            clientStream.writeData(createUncompressedDatagram(request, length), endOfStream);
+        } else {
+            clientStream.writeData(createCompressedDatagram(compressed), endOfStream);
+        }
+    }
+
+    private Bytes compressRequest(final RequestT request, final int length) {
         final Bytes requestBytes = requestCodec.toBytes(request);
         final Bytes bytes = GrpcCompression.getCompressor(grpcOutgoingEncoding).compress(requestBytes);
+        grpcClient.getConfig().compressionPolicy().recordCompression(fullMethodName, length, bytes.length());
         PbjGrpcCall.networkBytesInspector.sent(bytes);
+        return bytes;
+    }
+
+    private static BufferData createCompressedDatagram(final Bytes bytes) {
         final BufferData bufferData =
                 BufferData.create(PbjGrpcDatagramReader.PREFIX_LENGTH + Math.toIntExact(bytes.length()));
 
         // GRPC datagram header
-        bufferData.write(GrpcCompression.IDENTITY.equals(grpcOutgoingEncoding) ? 0 : 1);
+        bufferData.write(1);
         bufferData.writeUnsignedInt32(Math.toIntExact(bytes.length()));
 
         // GRPC datagram data payload
         bufferData.write(bytes.toByteArray());
+        return bufferData;
+    }
+
+    /**
+     * Serialize an uncompressed request straight into the array of a new GRPC datagram. Compared to going through
+     * `Codec.toBytes()`, this saves allocating and copying an intermediate array for every request.
+     * @param request a request object
+     * @param length the serialized length of the request
+     * @return a GRPC datagram with the request
+     */
+    private BufferData createUncompressedDatagram(final RequestT request, final int length) {
+        final byte[] datagram = new byte[PbjGrpcDatagramReader.PREFIX_LENGTH + length];
+        writeUncompressedDatagram(request, length, datagram, 0);
+        return BufferData.create(datagram);
+    }
+
+    private void writeUncompressedDatagram(
+            final RequestT request, final int length, final byte[] output, final int offset) {
+        // GRPC datagram header
+        final BufferedData header = BufferedData.wrap(output, offset, PbjGrpcDatagramReader.PREFIX_LENGTH);
+        header.writeByte((byte) 0);
+        header.writeInt(length);
+
+        // GRPC datagram data payload
+        requestCodec.write(request, output, offset + PbjGrpcDatagramReader.PREFIX_LENGTH);
+        PbjGrpcCall.networkBytesInspector.sent(
+                Bytes.wrap(output, offset + PbjGrpcDatagramReader.PREFIX_LENGTH, length));
+    }
+
+    /**
+     * Append a GRPC datagram with a request to the batch, and write out the batch if it's full or if this is the last
+     * request. Datagrams that are larger than a batch are written on their own, right after the preceding batch.
+     * @param request a request object
+     * @param length the serialized length of the request
+     * @param compressed the compressed request, or null to send the request uncompressed
+     * @param endOfStream a flag indicating if this is the last request
+     */
+    private void batchRequest(
+            final RequestT request, final int length, final Bytes compressed, final boolean endOfStream) {
+        final int datagramLength = PbjGrpcDatagramReader.PREFIX_LENGTH
+                + (compressed == null ? length : Math.toIntExact(compressed.length()));
+        synchronized (batchLock) {
+            if (batchLength + datagramLength > batch.length && batchLength > 0) {
+                writeBatch(false);
+            }
+            if (datagramLength > batch.length) {
+                clientStream.writeData(
+                        compressed == null
+                                ? createUncompressedDatagram(request, length)
+                                : createCompressedDatagram(compressed),
+                        endOfStream);
+                return;
+            }
+
+            if (compressed == null) {
+                writeUncompressedDatagram(request, length, batch, batchLength);
+            } else {
+                final BufferedData header =
+                        BufferedData.wrap(batch, batchLength, PbjGrpcDatagramReader.PREFIX_LENGTH);
+                header.writeByte((byte) 1);
+                header.writeInt(Math.toIntExact(compressed.length()));
+                compressed.getBytes(
+                        0,
+                        batch,
+                        batchLength + PbjGrpcDatagramReader.PREFIX_LENGTH,
+                        Math.toIntExact(compressed.length()));
+            }
+            final boolean firstInBatch = batchLength == 0;
+            batchLength += datagramLength;
+
+            if (endOfStream || batchLength == batch.length) {
+                writeBatch(endOfStream);
+            } else if (firstInBatch) {
+                scheduleBatchWrite(batchGeneration);
+            }
+        }
+    }
+
+    /** Write out the batch, and start a new one. The caller MUST hold the batchLock. */
+    private void writeBatch(final boolean endOfStream) {
+        final byte[] data = batch;
+        final int dataLength = batchLength;
+        // The stream may keep referencing the data after the write, so a new batch gets a new array
+        batch = new byte[batch.length];
+        batchLength = 0;
+        batchGeneration++;
+        clientStream.writeData(BufferData.create(data, 0, dataLength), endOfStream);
+    }
 
-        clientStream.writeData(bufferData, endOfStream);
+    /**
+     * Write out the batch after the requestBatchDelay, unless it's been written by then already. The write may block
+     * on the flow control window of the stream, so it runs on the WebClient executor rather than the common pool.
+     */
+    private void scheduleBatchWrite(final long generation) {
+        CompletableFuture.delayedExecutor(
+                        grpcClient.getConfig().requestBatchDelay().toNanos(),
+                        TimeUnit.NANOSECONDS,
+                        grpcClient.getWebClient().executor())
+                .execute(() -> {
+                    try {
+                        synchronized (batchLock) {
+                            if (batchGeneration == generation && batchLength > 0) {
+                                writeBatch(false);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // Nobody waits for this write, so the error is reported to the replies pipeline:
+                        reportError(e);
+                    }
+                });
+    }
+
+    @Override
+    public void flush() {
+        if (batch == null) {
+            return;
+        }
+        synchronized (batchLock) {
+            if (batchLength > 0) {
+                writeBatch(false);
+            }
+        }
     }
 
     @Override
     public void completeRequests() {
+        if (batch != null) {
+            synchronized (batchLock) {
+                if (batchLength > 0) {
+                    writeBatch(true);
+                    return;
+                }
+            }
+        }
         clientStream.writeData(EMPTY_BUFFER_DATA, true);
     }
 
+    @Override
+    public void cancel() {
+        if (isStreamOpen()) {
+            clientStream.cancel();
+        }
+    }
+
     private boolean isStreamOpen() {
         return clientStream.streamState() != Http2StreamState.HALF_CLOSED_REMOTE
                 && clientStream.streamState() != Http2StreamState.CLOSED;
     }
 
+    /**
+     * Format a timeout as a grpc-timeout header value, which is at most 8 digits followed by a unit. The timeout is
+     * rounded down to the largest value that fits, so that the server never waits for longer than the client does.
+     * @param nanos the timeout in nanoseconds
+     * @return the header value, e.g. "1500m"
+     */
+    static String formatTimeout(final long nanos) {
+        final long max = 99_999_999L;
+        final long timeout = Math.max(1, nanos);
+        if (timeout <= max) {
+            return timeout + "n";
+        } else if (timeout / 1_000L <= max) {
+            return timeout / 1_000L + "u";
+        } else if (timeout / 1_000_000L <= max) {
+            return timeout / 1_000_000L + "m";
+        } else if (timeout / 1_000_000_000L <= max) {
+            return timeout / 1_000_000_000L + "S";
+        } else if (timeout / 60_000_000_000L <= max) {
+            return timeout / 60_000_000_000L + "M";
+        }
+        return Math.min(timeout / 3_600_000_000_000L, max) + "H";
+    }
+
+    /**
+     * Cancel the call with an RST_STREAM frame, so that the server stops working on it, and fail the pipeline with
+     * DEADLINE_EXCEEDED, unless the call has completed in the meantime.
+     */
+    private void expireDeadline() {
+        if (!terminate()) {
+            return;
+        }
+        try {
+            cancel();
+        } finally {
+            pipeline.onError(
+                    new GrpcException(GrpcStatus.DEADLINE_EXCEEDED, "The call didn't complete within " + timeout));
+        }
+    }
+
+    /**
+     * Claim the terminal signal of the pipeline. This waits for a reply that is being delivered, and no reply is
+     * delivered afterwards, so the terminal signal may be sent without holding the signalLock.
+     * @return true if the caller must complete or fail the pipeline, false if it's been completed or failed already
+     */
+    private boolean terminate() {
+        synchronized (signalLock) {
+            return terminated.compareAndSet(false, true);
+        }
+    }
+
+    /** Deliver a reply to the pipeline, unless it has been completed or failed already. */
+    private void reportReply(final ReplyT reply) {
+        synchronized (signalLock) {
+            if (!terminated.get()) {
+                pipeline.onNext(reply);
+            }
+        }
+    }
+
+    /** Fail the pipeline, unless it has been completed or failed already. */
+    private void reportError(final Throwable throwable) {
+        if (terminate()) {
+            pipeline.onError(throwable);
+        }
+    }
+
+    /** Complete the pipeline, unless it has been completed or failed already. */
+    private void reportComplete() {
+        if (terminate()) {
+            pipeline.onComplete();
+        }
+    }
+
+    /** The read timeout of the client, capped at the time left until the deadline, if any. */
+    private Duration readTimeout() {
+        final Duration readTimeout = grpcClient.getConfig().readTimeout();
+        if (timeout == null) {
+            return readTimeout;
+        }
+        final long remaining = Math.max(1, deadlineNanos - System.nanoTime());
+        return remaining < readTimeout.toNanos() ? Duration.ofNanos(remaining) : readTimeout;
+    }
+
     private void receiveRepliesLoop() {
         try {
             Http2Headers http2Headers = null;
@@ -188,16 +511,11 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                     http2Headers = clientStream.readHeaders();
                     // FUTURE WORK: examine the headers to check the content type, encoding, custom headers, etc.
                 } catch (StreamTimeoutException ignored) {
-                    // FUTURE WORK: implement an uber timeout to return
-
-                    // Ping the server on every timeout. This seems to create a bit of extra traffic.
-                    // However, this seems to be the only way to detect a broken connection. Otherwise, we'd never know
-                    // if the server died.
-                    // FUTURE WORK: consider a separate KeepAlive timeout for these pings, so that we don't flood the
-                    // network.
-                    clientStream.sendPing();
+                    // Pinging is the only way to detect a broken connection. Otherwise, we'd never know if the server
+                    // died. The keep-alive timer of the connection pings the server and fails the call if a ping
+                    // fails, so just check if the call is still running.
                 }
-            } while (http2Headers == null && isStreamOpen());
+            } while (http2Headers == null && isStreamOpen() && !terminated.get());
 
             final GrpcCompression.Decompressor decompressor = GrpcCompression.determineDecompressor(
                     http2Headers != null && http2Headers.httpHeaders() != null
@@ -207,14 +525,16 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
             // read data from stream
             final PbjGrpcDatagramReader datagramReader =
                     new PbjGrpcDatagramReader(grpcClient.getConfig().maxIncomingBufferSize());
-            while (isStreamOpen() && !clientStream.trailers().isDone() && clientStream.hasEntity()) {
+            while (isStreamOpen()
+                    && !terminated.get()
+                    && !clientStream.trailers().isDone()
+                    && clientStream.hasEntity()) {
                 final Http2FrameData frameData;
                 try {
-                    frameData = clientStream.readOne(grpcClient.getConfig().readTimeout());
+                    // Never wait past the deadline, so that the loop returns as soon as the call is cancelled
+                    frameData = clientStream.readOne(readTimeout());
                 } catch (StreamTimeoutException e) {
-                    // Check if the connection is alive. See a comment above about the KeepAlive timeout.
-                    clientStream.sendPing();
-                    // FUTURE WORK: implement an uber timeout to return
+                    // See a comment above about the keep-alive timer.
                     continue;
                 }
                 if (frameData != null) {
@@ -230,26 +550,34 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                             throw new IllegalStateException("GRPC datagram compressed flag " + datagram.compressedFlag()
                                     + " is unsupported. Only 0 and 1 are valid.");
                         }
-                        BufferData data = datagram.data();
-                        final byte[] array = data.readBytes();
-                        final Bytes bytes = Bytes.wrap(array);
-                        PbjGrpcCall.networkBytesInspector.received(bytes);
                         // If the compressedFlag is 0, then per the specification, the message isn't compressed
                         // regardless of the grpc-encoding value:
                         // https://github.com/grpc/grpc/blob/master/doc/PROTOCOL-HTTP2.md
-                        final Bytes replyBytes =
-                                datagram.compressedFlag() == 1 ? decompressor.decompress(bytes) : bytes;
+                        final ReadableSequentialData replyData;
+                        if (datagram.compressedFlag() == 1
+                                || PbjGrpcCall.networkBytesInspector != NO_OP_NETWORK_BYTES_INSPECTOR) {
+                            // The decompressor and the inspector need contiguous bytes
+                            final ReadableSequentialData data = datagram.data();
+                            final Bytes bytes = data.readBytes(Math.toIntExact(data.remaining()));
+                            PbjGrpcCall.networkBytesInspector.received(bytes);
+                            final Bytes replyBytes =
+                                    datagram.compressedFlag() == 1 ? decompressor.decompress(bytes) : bytes;
+                            replyData = replyBytes.toReadableSequentialData();
+                        } else {
+                            // Parse the datagram directly, even if it's split across several data frames
+                            replyData = datagram.data();
+                        }
 
                         try {
                             final ReplyT reply = replyCodec.parse(
-                                    replyBytes.toReadableSequentialData(),
+                                    replyData,
                                     false,
                                     false,
                                     Codec.DEFAULT_MAX_DEPTH,
                                     grpcClient.getConfig().maxSize());
-                            pipeline.onNext(reply);
+                            reportReply(reply);
                         } catch (ParseException e) {
-                            pipeline.onError(e);
+                            reportError(e);
                             // We won't be able to proceed probably because parsing failed.
                             // Also, we've just reported an error to the pipeline, which
                             // means the GRPC call is done. So we finish the call.
@@ -263,6 +591,11 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                 }
             }
 
+            if (terminated.get()) {
+                // The deadline has expired, and the call has been cancelled
+                return;
+            }
+
             // Google GRPC server can report an erroneous grpc-status in the headers.
             if (processHeaders(clientStream.readHeaders().httpHeaders())) {
                 return;
@@ -274,9 +607,7 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
             // with no errors and no replies whatsoever. In fact, we may never even receive the headers in a loop above,
             // we'll exit the loop because the stream gets closed though.
             try {
-                final Headers trailers = clientStream
-                        .trailers()
-                        .get(grpcClient.getConfig().readTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                final Headers trailers = clientStream.trailers().get(readTimeout().toMillis(), TimeUnit.MILLISECONDS);
                 if (processHeaders(trailers)) {
                     return;
                 }
@@ -284,7 +615,7 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                 // This is okayish. Reporting this as a replies error doesn't make sense. Re-throwing has no useful
                 // effect.
             } catch (ExecutionException e) {
-                pipeline.onError(e);
+                reportError(e);
                 return;
             } catch (TimeoutException ignored) {
                 // This is okay, the server doesn't support trailers or died, or the trailers got lost.
@@ -292,13 +623,16 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
             // Luckily, there's no any other places through which a grpc-status can be reported,
             // so the above two calls should cover all the possible cases.
 
-            pipeline.onComplete();
+            reportComplete();
         } catch (Throwable t) {
             // This method runs in the Helidon WebClient executor, so there's no need to re-throw the exception
             // as this won't produce any useful effects. We only report it to the replies pipeline here for
             // the application code to handle it:
-            pipeline.onError(t);
+            reportError(t);
         } finally {
+            if (deadlineTimer != null) {
+                deadlineTimer.cancel(false);
+            }
             clientStream.close();
         }
     }
@@ -323,7 +657,7 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                 final int grpcStatus = Integer.parseInt(value);
                 if (grpcStatus != 0) {
                     // Not OK
-                    pipeline.onError(new GrpcException(
+                    reportError(new GrpcException(
                             grpcStatus < GrpcStatus.values().length
                                     ? GrpcStatus.values()[grpcStatus]
                                     : GrpcStatus.UNKNOWN,
@@ -332,7 +666,7 @@ public class PbjGrpcCall<RequestT, ReplyT> implements GrpcCall<RequestT, ReplyT>
                 }
             } catch (NumberFormatException ignored) {
                 // a bad server sent an invalid header. This shouldn't happen really.
-                pipeline.onError(
+                reportError(
                         new RuntimeException(String.format("Invalid GRPC_STATUS: %s with message %s", value, message)));
                 onErrorCalled = true;
             }
@@ -22,11 +22,13 @@ import io.helidon.webclient.http2.Http2ClientImpl;
 import io.helidon.webclient.http2.Http2StreamConfig;
 import java.io.UncheckedIOException;
 import java.net.SocketAddress;
-import java.net.SocketException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * A PBJ GRPC client that uses the Helidon WebClient and its HTTP2 client implementation to call remote GRPC services.
@@ -43,8 +45,11 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
     private final ClientUri baseUri;
     private final String resolvedAuthority;
 
-    private final ClientConnection clientConnection;
-    private final Http2ClientConnection connection;
+    private final PbjGrpcConnectionPool connectionPool;
+
+    /** Runs the keep-alive timers of the pooled connections, which hand the pings off to the WebClient executor. */
+    private final ScheduledExecutorService keepAliveScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("pbj-grpc-keep-alive").daemon().factory());
 
     /**
      * Create a new PBJ GRPC client.
@@ -63,25 +68,24 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
                 .filter(authority -> !authority.isBlank())
                 .orElseGet(() -> createAuthorityFromClientUri(this.baseUri));
 
-        this.clientConnection = createClientConnection();
-        this.connection = createHttp2ClientConnection(clientConnection);
+        this.connectionPool = new PbjGrpcConnectionPool(
+                this::createPooledConnection,
+                config.connectionPoolSize(),
+                config.maxConcurrentStreams(),
+                config.readTimeout());
     }
 
     @Override
     public void close() {
         try {
-            connection.close();
-        } catch (UncheckedIOException e) {
-            if (e.getCause() instanceof SocketException) {
-                // Ignore as the server has already closed the connection.
-            } else {
-                throw e;
-            }
+            connectionPool.close();
+        } finally {
+            keepAliveScheduler.shutdownNow();
         }
     }
 
     /**
-     * Create a new GRPC call.
+     * Create a new GRPC call on the pooled connection with the fewest outstanding calls.
      *
      * @param <RequestT> request type
      * @param <ReplyT> reply type
@@ -98,15 +102,43 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
             final Codec<ReplyT> replyCodec,
             final Pipeline<ReplyT> pipeline,
             final Map<String, String> metadata) {
+        return createCall(fullMethodName, requestCodec, replyCodec, pipeline, metadata, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <RequestT, ReplyT> GrpcCall<RequestT, ReplyT> createCall(
+            final String fullMethodName,
+            final Codec<RequestT> requestCodec,
+            final Codec<ReplyT> replyCodec,
+            final Pipeline<ReplyT> pipeline,
+            final Map<String, String> metadata,
+            final Duration timeout) {
         final Options options = new Options(Optional.of(resolvedAuthority), config.contentType(), metadata);
-        return new PbjGrpcCall(
-                this,
-                createPbjGrpcClientStream(connection, clientConnection),
-                options,
-                fullMethodName,
-                requestCodec,
-                replyCodec,
-                pipeline);
+        final PbjGrpcConnectionPool.Connection connection = connectionPool.acquire();
+        final PbjGrpcClientStream clientStream = createPbjGrpcClientStream(
+                connection.http2Connection(),
+                connection.clientConnection(),
+                connection.keepAlive(),
+                () -> connectionPool.release(connection));
+        try {
+            return new PbjGrpcCall(
+                    this, clientStream, options, fullMethodName, requestCodec, replyCodec, pipeline, timeout);
+        } catch (RuntimeException e) {
+            if (e instanceof UncheckedIOException) {
+                // Sending the headers failed, so the connection is likely broken. Replace it for the next calls:
+                connectionPool.fail(connection);
+            }
+            // Closing the stream releases the connection
+            clientStream.close();
+            throw e;
+        }
+    }
+
+    /** Asynchronous calls are created and sent on the executor of the WebClient. */
+    @Override
+    public Executor executor() {
+        return webClient.executor();
     }
 
     WebClient getWebClient() {
@@ -118,12 +150,12 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
     }
 
     ClientConnection getClientConnection() {
-        return clientConnection;
+        return connectionPool.first().clientConnection();
     }
 
-    /// Return the local `SocketAddress` of this client instance.
+    /// Return the local `SocketAddress` of this client instance, or of its first connection if it has many.
     public SocketAddress getLocalAddress() {
-        return clientConnection.helidonSocket().localPeer().address();
+        return getClientConnection().helidonSocket().localPeer().address();
     }
 
     Http2ClientConnection createHttp2ClientConnection(final ClientConnection clientConnection) {
@@ -135,7 +167,10 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
     }
 
     PbjGrpcClientStream createPbjGrpcClientStream(
-            final Http2ClientConnection connection, final ClientConnection clientConnection) {
+            final Http2ClientConnection connection,
+            final ClientConnection clientConnection,
+            final PbjGrpcKeepAlive keepAlive,
+            final Runnable onClose) {
         return new PbjGrpcClientStream(
                 connection,
                 Http2Settings.create(),
@@ -158,7 +193,9 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
                 },
                 ((Http2ClientImpl) http2Client).prototype(),
                 connection.streamIdSequence(),
-                (Http2ClientImpl) http2Client);
+                (Http2ClientImpl) http2Client,
+                keepAlive,
+                onClose);
     }
 
     /**
@@ -172,6 +209,14 @@ public final class PbjGrpcClient implements GrpcClient, AutoCloseable {
     private record Options(Optional<String> authority, String contentType, Map<String, String> metadata)
             implements ServiceInterface.RequestOptions {}
 
+    private PbjGrpcConnectionPool.Connection createPooledConnection() {
+        final ClientConnection clientConnection = createClientConnection();
+        return new PbjGrpcConnectionPool.Connection(
+                clientConnection,
+                createHttp2ClientConnection(clientConnection),
+                new PbjGrpcKeepAlive(config.keepAliveInterval(), keepAliveScheduler, webClient.executor()));
+    }
+
     private ClientConnection createClientConnection() {
         // We cannot (don't want to) establish connections when unit-testing, so we use a marker:
         if ("pbj-unit-test-host".equals(this.baseUri.host())) {
@@ -1,8 +1,11 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.grpc.client.helidon;
 
+import static java.util.Objects.requireNonNull;
+
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import io.helidon.common.tls.Tls;
 import java.time.Duration;
 import java.util.Optional;
@@ -28,6 +31,24 @@ import java.util.Set;
  *                              the `maxSize` to account for protobuf metadata as well as support high rate of ingress
  *                              of multiple messages, especially in case of server or bidi streaming.
  *                              Defaults to Codec.DEFAULT_MAX_SIZE * 5.
+ * @param compressionPolicy a policy that decides which requests are compressed with the `encoding`. Requests that
+ *      aren't compressed are sent with the compressed flag set to 0. Defaults to `GrpcCompressionPolicy.adaptive()`,
+ *      which sends short requests, and requests of methods that hardly compress, uncompressed.
+ * @param connectionPoolSize the number of HTTP2 connections that the client opens to the server and spreads its calls
+ *      over, each call going to the connection with the fewest outstanding streams. Connections that fail are
+ *      re-established when the next call is created. Defaults to 1.
+ * @param maxConcurrentStreams the maximum number of outstanding calls on a single connection, which must not exceed
+ *      the SETTINGS_MAX_CONCURRENT_STREAMS of the server. When all the connections are at this limit, creating a call
+ *      waits up to the `readTimeout` for a call to complete. Defaults to Integer.MAX_VALUE, i.e. no limit.
+ * @param keepAliveInterval the interval between the PING frames that the client sends over a connection to detect
+ *      that the server died, while calls on the connection wait for replies. Every connection pings the server on its
+ *      own timer, rather than each call pinging every `readTimeout`, and the calls waiting on a connection fail as soon
+ *      as its ping fails. Zero disables the pings. Defaults to the `readTimeout`.
+ * @param requestBatchSize the maximum number of bytes of GRPC datagrams that a call coalesces into a single write to
+ *      its stream, or 0 to write every request as soon as it's sent. With batching, requests are written when the batch
+ *      is full, when `GrpcCall.flush()` is called, when the last request is sent, or `requestBatchDelay` after the
+ *      first request of the batch. Defaults to 0.
+ * @param requestBatchDelay the maximum time that a request may wait in a batch before it's written. Defaults to 1ms.
  */
 public record PbjGrpcClientConfig(
         Duration readTimeout,
@@ -37,7 +58,45 @@ public record PbjGrpcClientConfig(
         String encoding,
         Set<String> acceptEncodings,
         int maxSize,
-        int maxIncomingBufferSize) {
+        int maxIncomingBufferSize,
+        GrpcCompressionPolicy compressionPolicy,
+        int connectionPoolSize,
+        int maxConcurrentStreams,
+        Duration keepAliveInterval,
+        int requestBatchSize,
+        Duration requestBatchDelay) {
+
+    /** The default number of connections to the server. */
+    public static final int DEFAULT_CONNECTION_POOL_SIZE = 1;
+
+    /** The default maximum number of outstanding calls on a single connection, i.e. no limit. */
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS = Integer.MAX_VALUE;
+
+    /** The default maximum size of a batch of requests, i.e. no batching. */
+    public static final int DEFAULT_REQUEST_BATCH_SIZE = 0;
+
+    /** The default maximum time that a request may wait in a batch. */
+    public static final Duration DEFAULT_REQUEST_BATCH_DELAY = Duration.ofMillis(1);
+
+    public PbjGrpcClientConfig {
+        if (connectionPoolSize <= 0) {
+            throw new IllegalArgumentException("connectionPoolSize must be positive: " + connectionPoolSize);
+        }
+        if (maxConcurrentStreams <= 0) {
+            throw new IllegalArgumentException("maxConcurrentStreams must be positive: " + maxConcurrentStreams);
+        }
+        requireNonNull(keepAliveInterval, "keepAliveInterval");
+        if (keepAliveInterval.isNegative()) {
+            throw new IllegalArgumentException("keepAliveInterval must not be negative: " + keepAliveInterval);
+        }
+        if (requestBatchSize < 0) {
+            throw new IllegalArgumentException("requestBatchSize must not be negative: " + requestBatchSize);
+        }
+        requireNonNull(requestBatchDelay, "requestBatchDelay");
+        if (requestBatchDelay.isNegative()) {
+            throw new IllegalArgumentException("requestBatchDelay must not be negative: " + requestBatchDelay);
+        }
+    }
 
     /** For backward compatibility before encodings were introduced. */
     public PbjGrpcClientConfig(Duration readTimeout, Tls tls, Optional<String> authority, String contentType) {
@@ -70,4 +129,31 @@ public record PbjGrpcClientConfig(
                 Codec.DEFAULT_MAX_SIZE,
                 Codec.DEFAULT_MAX_SIZE * 5);
     }
+
+    /** For backward compatibility before compressionPolicy was introduced. */
+    public PbjGrpcClientConfig(
+            Duration readTimeout,
+            Tls tls,
+            Optional<String> authority,
+            String contentType,
+            String encoding,
+            Set<String> acceptEncodings,
+            int maxSize,
+            int maxIncomingBufferSize) {
+        this(
+                readTimeout,
+                tls,
+                authority,
+                contentType,
+                encoding,
+                acceptEncodings,
+                maxSize,
+                maxIncomingBufferSize,
+                GrpcCompressionPolicy.adaptive(),
+                DEFAULT_CONNECTION_POOL_SIZE,
+                DEFAULT_MAX_CONCURRENT_STREAMS,
+                readTimeout,
+                DEFAULT_REQUEST_BATCH_SIZE,
+                DEFAULT_REQUEST_BATCH_DELAY);
+    }
 }
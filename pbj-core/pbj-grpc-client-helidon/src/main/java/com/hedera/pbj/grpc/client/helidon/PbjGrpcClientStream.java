@@ -9,13 +9,24 @@ import io.helidon.webclient.http2.Http2ClientImpl;
 import io.helidon.webclient.http2.Http2ClientStream;
 import io.helidon.webclient.http2.Http2StreamConfig;
 import io.helidon.webclient.http2.LockingStreamIdSequence;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * A package-private class that extends a Helidon client stream class only for the purpose
  * of accessing its protected constructor. While the Http2ClientStream is marked as "not for applications use"
  * in Helidon, a GRPC client implementation must use this stream class in order to implement the GRPC protocol.
+ * The stream also notifies its `PbjGrpcClient` when it closes, so that the client can release its connection,
+ * and lets the keep-alive timer of its connection ping the server through it while it's open, and tell it when
+ * a ping fails.
  */
 class PbjGrpcClientStream extends Http2ClientStream {
+    private final PbjGrpcKeepAlive keepAlive;
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Consumer<UncheckedIOException> connectionFailureListener;
+
     PbjGrpcClientStream(
             final Http2ClientConnection connection,
             final Http2Settings serverSettings,
@@ -23,7 +34,50 @@ class PbjGrpcClientStream extends Http2ClientStream {
             final Http2StreamConfig http2StreamConfig,
             final Http2ClientConfig http2ClientConfig,
             final LockingStreamIdSequence streamIdSeq,
-            final Http2ClientImpl http2Client) {
+            final Http2ClientImpl http2Client,
+            final PbjGrpcKeepAlive keepAlive,
+            final Runnable onClose) {
         super(connection, serverSettings, ctx, http2StreamConfig, http2ClientConfig, streamIdSeq, http2Client);
+        this.keepAlive = keepAlive;
+        this.onClose = onClose;
+        keepAlive.add(this);
+    }
+
+    /**
+     * Notify a listener when a keep-alive ping of the connection of this stream fails, or right away if one has failed
+     * already. The listener may be notified more than once.
+     * @param listener a listener of the connection failure
+     */
+    void onConnectionFailure(final Consumer<UncheckedIOException> listener) {
+        connectionFailureListener = listener;
+        try {
+            keepAlive.checkConnection();
+        } catch (UncheckedIOException e) {
+            listener.accept(e);
+        }
+    }
+
+    /**
+     * Called by the keep-alive timer when a ping of the connection of this stream fails.
+     * @param e the failure of the ping
+     */
+    void connectionFailed(final UncheckedIOException e) {
+        final Consumer<UncheckedIOException> listener = connectionFailureListener;
+        if (listener != null) {
+            listener.accept(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            if (closed.compareAndSet(false, true)) {
+                keepAlive.remove(this);
+                onClose.run();
+            }
+        }
     }
 }
@@ -0,0 +1,345 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.client.helidon;
+
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.http2.Http2ClientConnection;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A fixed-size pool of HTTP2 connections to a single server that a `PbjGrpcClient` spreads its calls over.
+ * <p>
+ * Every call acquires the healthy connection with the fewest outstanding streams, scanning the connections from
+ * a rotating starting point so that ties are broken in a round-robin fashion, and releases it when its stream closes.
+ * A connection whose socket is no longer connected, or that has been reported as failed, is replaced with a new one
+ * the next time a call is acquired. A connection never carries more than `maxConcurrentStreams` outstanding streams,
+ * so when all of them are at the limit, acquiring waits for a stream to be released.
+ * <p>
+ * Establishing a connection takes a network round trip or more, so it's never done while holding the lock of the pool.
+ * The call that finds a connection unhealthy marks its slot as connecting, and establishes the replacement after
+ * unlocking, while other calls use the remaining connections or wait for the replacement. The replaced connection
+ * is closed once the streams still outstanding on it are released, rather than cutting them off.
+ * <p>
+ * This class is thread-safe. All the state is guarded by the lock.
+ */
+final class PbjGrpcConnectionPool implements AutoCloseable {
+    /** A pooled connection along with its keep-alive timer and the number of calls outstanding on it. */
+    static final class Connection {
+        private final ClientConnection clientConnection;
+        private final Http2ClientConnection http2Connection;
+        private final PbjGrpcKeepAlive keepAlive;
+
+        private int outstandingStreams;
+        private boolean failed;
+        /** Whether the connection has been replaced, so that it's closed once its last stream is released. */
+        private boolean retired;
+
+        Connection(
+                final ClientConnection clientConnection,
+                final Http2ClientConnection http2Connection,
+                final PbjGrpcKeepAlive keepAlive) {
+            this.clientConnection = clientConnection;
+            this.http2Connection = http2Connection;
+            this.keepAlive = keepAlive;
+        }
+
+        ClientConnection clientConnection() {
+            return clientConnection;
+        }
+
+        Http2ClientConnection http2Connection() {
+            return http2Connection;
+        }
+
+        PbjGrpcKeepAlive keepAlive() {
+            return keepAlive;
+        }
+
+        private boolean isHealthy() {
+            // The client connection is null in unit tests that never establish any actual connections.
+            return !failed
+                    && !keepAlive.isFailed()
+                    && (clientConnection == null || clientConnection.helidonSocket().isConnected());
+        }
+
+        private void close() {
+            keepAlive.close();
+            if (http2Connection == null) {
+                return;
+            }
+            try {
+                http2Connection.close();
+            } catch (UncheckedIOException e) {
+                if (e.getCause() instanceof SocketException) {
+                    // Ignore as the server has already closed the connection.
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private final Supplier<Connection> connectionFactory;
+    private final int maxConcurrentStreams;
+    private final Duration acquireTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signalled when a stream is released, a connection is established, or the pool is closed. */
+    private final Condition available = lock.newCondition();
+
+    /** The pooled connections. A slot is null while its connection is being established, or if that failed. */
+    private final Connection[] connections;
+
+    /** Whether a call is establishing the connection of a slot. */
+    private final boolean[] connecting;
+
+    /** The replaced connections that still have outstanding streams. */
+    private final List<Connection> draining = new ArrayList<>();
+
+    /** The index of the connection that the next scan starts with. */
+    private int nextIndex;
+
+    private boolean closed;
+
+    /**
+     * Create a pool and establish all its connections.
+     * @param connectionFactory a factory that establishes a new connection to the server
+     * @param size the number of connections
+     * @param maxConcurrentStreams the maximum number of outstanding streams on a single connection
+     * @param acquireTimeout how long to wait for a stream to be released when all connections are at the limit
+     */
+    PbjGrpcConnectionPool(
+            final Supplier<Connection> connectionFactory,
+            final int size,
+            final int maxConcurrentStreams,
+            final Duration acquireTimeout) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The connection pool size must be positive, got: " + size);
+        }
+        if (maxConcurrentStreams <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of concurrent streams must be positive, got: " + maxConcurrentStreams);
+        }
+        this.connectionFactory = connectionFactory;
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.acquireTimeout = acquireTimeout;
+        this.connections = new Connection[size];
+        this.connecting = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            connections[i] = connectionFactory.get();
+        }
+    }
+
+    /**
+     * Acquire a connection for a new stream, re-establishing any connections that have failed.
+     * The caller MUST {@link #release(Connection)} the connection when the stream closes.
+     * <p>
+     * If this call finds failed connections, it establishes their replacements before returning, but without
+     * holding the lock. If a replacement cannot be established, the slot stays empty until the next call retries,
+     * and the error is thrown only if there's no other connection to return.
+     * @return the healthy connection with the fewest outstanding streams
+     * @throws IllegalStateException if the pool is closed, or if all the connections stay at the maximum number
+     *      of concurrent streams for longer than the acquire timeout
+     */
+    Connection acquire() {
+        final long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        while (true) {
+            final List<Integer> reconnects = new ArrayList<>();
+            final List<Connection> drained = new ArrayList<>();
+            Connection best = null;
+            lock.lock();
+            try {
+                if (closed) {
+                    throw new IllegalStateException("The GRPC client is closed.");
+                }
+                for (int i = 0; i < connections.length; i++) {
+                    final int index = (nextIndex + i) % connections.length;
+                    if (connecting[index]) {
+                        continue;
+                    }
+                    final Connection connection = connections[index];
+                    if (connection == null || !connection.isHealthy()) {
+                        if (connection != null && retire(connection)) {
+                            drained.add(connection);
+                        }
+                        connections[index] = null;
+                        connecting[index] = true;
+                        reconnects.add(index);
+                        continue;
+                    }
+                    if (connection.outstandingStreams < maxConcurrentStreams
+                            && (best == null || connection.outstandingStreams < best.outstandingStreams)) {
+                        best = connection;
+                    }
+                }
+                nextIndex = (nextIndex + 1) % connections.length;
+                if (best != null) {
+                    best.outstandingStreams++;
+                } else if (reconnects.isEmpty()) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("All " + connections.length + " connections have "
+                                + maxConcurrentStreams
+                                + " outstanding streams, timed out waiting for one to complete.");
+                    }
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a connection.", e);
+                    }
+                    continue;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            drained.forEach(Connection::close);
+            RuntimeException failure = null;
+            for (final int index : reconnects) {
+                try {
+                    reconnect(index);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (best != null) {
+                return best;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Establish the connection of a slot that the calling thread marked as connecting, without holding the lock.
+     * @param index the index of the slot
+     */
+    private void reconnect(final int index) {
+        Connection connection = null;
+        try {
+            connection = connectionFactory.get();
+        } finally {
+            final boolean closeNow;
+            lock.lock();
+            try {
+                connecting[index] = false;
+                closeNow = closed && connection != null;
+                if (!closeNow) {
+                    connections[index] = connection;
+                }
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (closeNow) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Mark a connection as replaced. Must be called with the lock held.
+     * @param connection the connection
+     * @return true if no streams are outstanding on the connection, so the caller must close it after unlocking
+     */
+    private boolean retire(final Connection connection) {
+        connection.retired = true;
+        if (connection.outstandingStreams == 0) {
+            return true;
+        }
+        draining.add(connection);
+        return false;
+    }
+
+    /**
+     * Release a connection acquired for a stream that has closed. The last stream of a replaced connection
+     * closes it.
+     * @param connection the connection
+     */
+    void release(final Connection connection) {
+        final boolean drained;
+        lock.lock();
+        try {
+            connection.outstandingStreams--;
+            drained = connection.retired && connection.outstandingStreams == 0 && draining.remove(connection);
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (drained) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Report that a connection has failed, so that it's replaced with a new one the next time a call is acquired.
+     * @param connection the connection
+     */
+    void fail(final Connection connection) {
+        lock.lock();
+        try {
+            connection.failed = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return a connection of this pool, for reporting the local address and the like.
+     * @return the first established connection
+     * @throws IllegalStateException if no connection is established at the moment
+     */
+    Connection first() {
+        lock.lock();
+        try {
+            for (final Connection connection : connections) {
+                if (connection != null) {
+                    return connection;
+                }
+            }
+            throw new IllegalStateException("No connection is established.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the pool and all its connections, including the ones with outstanding streams. A connection that
+     * is being established is closed once it is.
+     */
+    @Override
+    public void close() {
+        final List<Connection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            available.signalAll();
+            for (final Connection connection : connections) {
+                if (connection != null) {
+                    toClose.add(connection);
+                }
+            }
+            toClose.addAll(draining);
+            draining.clear();
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(Connection::close);
+    }
+}
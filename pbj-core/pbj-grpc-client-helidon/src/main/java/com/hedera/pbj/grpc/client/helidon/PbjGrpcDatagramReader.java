@@ -1,8 +1,14 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.grpc.client.helidon;
 
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.buffer.CompositeReadableSequentialData;
 import io.helidon.common.buffers.BufferData;
 import java.nio.BufferOverflowException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An abstraction responsible for building complete GRPC datagrams out of individual data frames.
@@ -16,6 +22,10 @@ import java.nio.BufferOverflowException;
  * the last data frame may in fact contain a beginning of a new GRPC datagram which we'll
  * need to fully receive and process as well in the future.
  * <p>
+ * The data of a datagram that spans several data frames is not reassembled into a single buffer. Instead, it's
+ * returned as a {@link CompositeReadableSequentialData} over the pieces of the frames, which the reply codec can parse
+ * directly. This saves a copy of every datagram and keeps the peak memory at a single copy of the data.
+ * <p>
  * Typically, the client would call the PbjGrpcDatagramReader.add(BufferData) method as it receives data
  * from the network, and then call the PbjGrpcDatagramReader.extractNextDatagram() to check if a complete
  * datagram is available.
@@ -25,7 +35,7 @@ import java.nio.BufferOverflowException;
 class PbjGrpcDatagramReader {
 
     /** A GRPC Datagram that includes a `compressedFlag` and `data`. */
-    record Datagram(int compressedFlag, BufferData data) {}
+    record Datagram(int compressedFlag, ReadableSequentialData data) {}
 
     /**
      * A GRPC datagram has a prefix with 1 byte representing a compression flag,
@@ -34,38 +44,29 @@ class PbjGrpcDatagramReader {
      */
     static final int PREFIX_LENGTH = 5;
 
-    // This is an arbitrary initial size, but it seems reasonable.
-    private static final int INITIAL_BUFFER_SIZE = 1024;
-
     /**
-     * A buffer for incoming data. We copy the incoming BufferData objects into this buffer
-     * on purpose because existing BufferData implementations aren't immutable. Further, the code
-     * that creates the BufferData objects may reuse the underlying byte arrays now or in the future.
+     * The data added to the reader that hasn't been extracted yet, one chunk per add() call. We copy the incoming
+     * BufferData objects into the chunks on purpose because existing BufferData implementations aren't immutable.
+     * Further, the code that creates the BufferData objects may reuse the underlying byte arrays now or in the future.
      * So we cannot just maintain a list of BufferData objects added to the reader, although that would be nice.
      * <p>
-     * The io.helidon.common.buffers.GrowingBufferData is nice, too. However, it seems to create interim
-     * byte arrays when adding data to the buffer. Also, it doesn't support a capacity limit which
-     * may be important to prevent OOM. For this reason, we use a low-level circular byte array here.
+     * The chunks are never modified after they're added, so the extracted datagrams can safely reference them.
      */
-    private byte[] buffer;
+    private final ArrayDeque<Bytes> chunks = new ArrayDeque<>();
 
     /**
-     * The maximum size of the buffer.
+     * The maximum size of the data buffered in the reader.
      */
     private final int maxBufferSize;
 
-    /** Where we read data from. */
-    private int readPosition = 0;
-
-    /** Where we write new data to. */
-    private int writePosition = 0;
+    /** The number of bytes at the beginning of the first chunk that have already been extracted. */
+    private int headOffset = 0;
 
-    /** The length of the actual data added to the reader. Note that the buffer is circular. */
+    /** The length of the data added to the reader that hasn't been extracted yet. */
     private int length = 0;
 
     PbjGrpcDatagramReader(final int maxBufferSize) {
         this.maxBufferSize = maxBufferSize;
-        this.buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, maxBufferSize)];
     }
 
     /**
@@ -73,25 +74,20 @@ class PbjGrpcDatagramReader {
      * maybe even a piece containing a tail of one datagram and a head of another.
      * The client should call the extractNextDatagram() method to see if there's a complete datagram yet.
      * @param bufferData a piece of data to add to the reader
+     * @throws BufferOverflowException if the reader would buffer more than the maximum buffer size
      */
     void add(final BufferData bufferData) {
-        ensureCapacity(bufferData.available());
-
-        // Avoid creating interim arrays. Fill up the tail of the buffer first...
-        final int firstPartMaxLengthForWriting = buffer.length - writePosition;
-        int read =
-                bufferData.read(buffer, writePosition, Math.min(bufferData.available(), firstPartMaxLengthForWriting));
-
-        // ...and flip to the head if necessary
-        if (bufferData.available() > 0) {
-            read += bufferData.read(buffer, 0, bufferData.available());
+        final int available = bufferData.available();
+        if (available == 0) {
+            return;
         }
-
-        // Adjust the length and the writePosition
-        length += read;
-        // The `buffer` is circular. The position is wrapped on the `buffer.length` if it's past the tail.
-        writePosition += read;
-        writePosition %= buffer.length;
+        if (available > maxBufferSize - length) {
+            throw new BufferOverflowException();
+        }
+        final byte[] chunk = new byte[available];
+        bufferData.read(chunk);
+        chunks.addLast(Bytes.wrap(chunk));
+        length += available;
     }
 
     /** Return the size of the next complete datagram, or -1 if it's incomplete yet. */
@@ -102,18 +98,15 @@ class PbjGrpcDatagramReader {
             return -1;
         }
 
-        // We only remove complete datagrams from the buffer, so the readPosition is guaranteed to point
+        // We only remove complete datagrams from the reader, so the headOffset is guaranteed to point
         // to the beginning of a new datagram.
 
         // Read big endian (unsigned, but oh well...) int32 size from the GRPC header first
         // (ignoring the first byte which is a compression flag):
-        // The `buffer` is circular. The position is wrapped on the `buffer.length` if it's past the tail.
-        final int size = Byte.toUnsignedInt(buffer[(readPosition + 1) % buffer.length]) << 24
-                | (Byte.toUnsignedInt(buffer[(readPosition + 2) % buffer.length]) << 16)
-                | (Byte.toUnsignedInt(buffer[(readPosition + 3) % buffer.length]) << 8)
-                | (Byte.toUnsignedInt(buffer[(readPosition + 4) % buffer.length]));
+        final int size = getUnsignedByte(1) << 24 | (getUnsignedByte(2) << 16) | (getUnsignedByte(3) << 8)
+                | getUnsignedByte(4);
 
-        if (length < PREFIX_LENGTH + size) {
+        if (size < 0 || length - PREFIX_LENGTH < size) {
             // We don't have enough data yet. More data needs to be added to the reader to complete this datagram.
             return -1;
         }
@@ -122,7 +115,7 @@ class PbjGrpcDatagramReader {
     }
 
     /**
-     * Read the next complete GRPC datagram and return a BufferData with its data payload,
+     * Read the next complete GRPC datagram and return its data payload,
      * or return null if the datagram is incomplete yet and more data needs to be added to this reader.
      * @return the GRPC datagram data payload, or null if not ready yet
      */
@@ -132,62 +125,53 @@ class PbjGrpcDatagramReader {
             return null;
         }
 
-        // We have a complete datagram (and perhaps also a start of the next datagram) in the buffer.
+        // We have a complete datagram (and perhaps also a start of the next datagram) in the reader.
         // Let's extract the complete one. Note that we only return the data bytes because higher level code
         // shouldn't be concerned with the details of the GRPC header.
-        final BufferData data = BufferData.create(size);
-
-        final int compressedFlag = Byte.toUnsignedInt(buffer[readPosition % buffer.length]);
+        final int compressedFlag = getUnsignedByte(0);
 
         // Skip the header because we've already read the size and the compressed flag.
-        // The `buffer` is circular. The position is wrapped on the `buffer.length` if it's past the tail.
-        readPosition += PREFIX_LENGTH;
-        readPosition %= buffer.length;
-
-        final int firstPartMaxLengthForReading = buffer.length - readPosition;
-        data.write(buffer, readPosition, Math.min(firstPartMaxLengthForReading, size));
-        // and read the head of the buffer if needed:
-        if (size > firstPartMaxLengthForReading) {
-            data.write(buffer, 0, size - firstPartMaxLengthForReading);
-        }
-
-        // Advance the readPosition
-        // The `buffer` is circular. The position is wrapped on the `buffer.length` if it's past the tail.
-        readPosition += size;
-        readPosition %= buffer.length;
-        // Adjust the length
-        length -= PREFIX_LENGTH + size;
+        consume(PREFIX_LENGTH, null);
 
+        final List<Bytes> parts = new ArrayList<>();
+        consume(size, parts);
+        final ReadableSequentialData data = parts.size() == 1
+                ? parts.get(0).toReadableSequentialData()
+                : new CompositeReadableSequentialData(parts);
         return new Datagram(compressedFlag, data);
     }
 
-    /** Ensure there's enough capacity to write more data, or throw BufferOverflowException. */
-    private void ensureCapacity(final int minCapacity) {
-        final int currentCapacity = buffer.length - length;
-        if (currentCapacity >= minCapacity) {
-            return;
-        }
-
-        final int newLength = buffer.length + (minCapacity - currentCapacity);
-        if (newLength > maxBufferSize) {
-            throw new BufferOverflowException();
+    /** Get the byte at the given index of the data that hasn't been extracted yet. */
+    private int getUnsignedByte(final int index) {
+        int offset = headOffset + index;
+        for (final Bytes chunk : chunks) {
+            if (offset < chunk.length()) {
+                return chunk.getUnsignedByte(offset);
+            }
+            offset -= (int) chunk.length();
         }
+        throw new IndexOutOfBoundsException(index);
+    }
 
-        // Prefer to double the size each time. But resort to the newLength if it's greater, and respect the max limit.
-        final int actualNewLength = Math.min(Math.max(buffer.length * 2, newLength), maxBufferSize);
-        final byte[] newBuffer = new byte[actualNewLength];
-
-        if (length > 0) {
-            final int firstPartMaxLength = buffer.length - readPosition;
-            System.arraycopy(buffer, readPosition, newBuffer, 0, Math.min(length, firstPartMaxLength));
-            if (firstPartMaxLength < length) {
-                // The data has the second part in the head of our circular buffer:
-                System.arraycopy(buffer, 0, newBuffer, firstPartMaxLength, length - firstPartMaxLength);
+    /**
+     * Remove the given number of bytes from the beginning of the data, and drop the chunks that are fully consumed.
+     * @param count the number of bytes to remove
+     * @param parts a list to add the removed bytes to as slices of the chunks, or null to discard them
+     */
+    private void consume(int count, final List<Bytes> parts) {
+        length -= count;
+        while (count > 0) {
+            final Bytes chunk = chunks.getFirst();
+            final int n = (int) Math.min(count, chunk.length() - headOffset);
+            if (parts != null) {
+                parts.add(chunk.slice(headOffset, n));
+            }
+            headOffset += n;
+            count -= n;
+            if (headOffset == chunk.length()) {
+                chunks.removeFirst();
+                headOffset = 0;
             }
         }
-
-        buffer = newBuffer;
-        readPosition = 0;
-        writePosition = length;
     }
 }
@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.client.helidon;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A keep-alive timer of a single HTTP2 connection that pings the server to detect that it died, while calls on
+ * the connection wait for replies.
+ * <p>
+ * Every connection schedules its own periodic task that sends a PING frame once per keep-alive interval through any
+ * open stream of the connection, and skips the ping while the connection has no open streams. The calls never ping
+ * the server themselves, so tens of thousands of idle streams on a connection cause a single PING frame per interval.
+ * The ping is written on the executor of the client rather than on the scheduler, so that a connection that is slow
+ * to write doesn't delay the pings of the other connections. When a ping fails, the connection is considered broken:
+ * the pool replaces it, and the keep-alive timer fails the calls waiting on it right away through their streams.
+ * <p>
+ * This class is thread-safe.
+ */
+final class PbjGrpcKeepAlive implements AutoCloseable {
+    /** The open streams of the connection. */
+    private final Set<PbjGrpcClientStream> streams = ConcurrentHashMap.newKeySet();
+
+    /** Whether a ping has been handed off to the executor and hasn't been written yet. */
+    private final AtomicBoolean pinging = new AtomicBoolean();
+
+    private final Executor executor;
+
+    /** The periodic ping task, or null if the pings are disabled. */
+    private final ScheduledFuture<?> pingTask;
+
+    /** The failure of the last ping, or null if the connection is alive. */
+    private volatile UncheckedIOException failure;
+
+    /**
+     * Create a keep-alive timer and schedule its first ping after the interval.
+     * @param interval the interval between pings, or zero to disable the pings
+     * @param scheduler a scheduler for the periodic ping task, unused if the pings are disabled
+     * @param executor an executor that writes the pings
+     */
+    PbjGrpcKeepAlive(final Duration interval, final ScheduledExecutorService scheduler, final Executor executor) {
+        this.executor = executor;
+        final long intervalNanos = interval.toNanos();
+        this.pingTask = intervalNanos > 0
+                ? scheduler.scheduleWithFixedDelay(
+                        this::schedulePing, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS)
+                : null;
+    }
+
+    /**
+     * Start pinging the server through the given stream while it's open.
+     * @param stream an open stream of the connection
+     */
+    void add(final PbjGrpcClientStream stream) {
+        streams.add(stream);
+    }
+
+    /**
+     * Stop pinging the server through the given stream.
+     * @param stream a closed stream of the connection
+     */
+    void remove(final PbjGrpcClientStream stream) {
+        streams.remove(stream);
+    }
+
+    /** @return true if a ping has failed, and so the connection is broken */
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Check that the last ping of the connection succeeded.
+     * @throws UncheckedIOException if the last ping failed
+     */
+    void checkConnection() {
+        final UncheckedIOException e = failure;
+        if (e != null) {
+            throw connectionFailure(e);
+        }
+    }
+
+    /** Stop pinging the server. */
+    @Override
+    public void close() {
+        if (pingTask != null) {
+            pingTask.cancel(false);
+        }
+    }
+
+    private void schedulePing() {
+        if (failure != null || streams.isEmpty() || !pinging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::ping);
+        } catch (RejectedExecutionException e) {
+            // The client is closing
+            pinging.set(false);
+        }
+    }
+
+    private void ping() {
+        try {
+            // A PING frame belongs to the connection, so any open stream can send it
+            final Iterator<PbjGrpcClientStream> iterator = streams.iterator();
+            if (iterator.hasNext()) {
+                iterator.next().sendPing();
+            }
+        } catch (UncheckedIOException e) {
+            failure = e;
+            // No replies arrive on the connection any more, so fail its calls rather than let them wait for a timeout
+            for (final PbjGrpcClientStream stream : streams) {
+                stream.connectionFailed(connectionFailure(e));
+            }
+        } finally {
+            pinging.set(false);
+        }
+    }
+
+    private static UncheckedIOException connectionFailure(final UncheckedIOException e) {
+        return new UncheckedIOException("A keep-alive ping failed", e.getCause());
+    }
+}
@@ -2,21 +2,28 @@
 package com.hedera.pbj.grpc.client.helidon;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import com.hedera.pbj.runtime.grpc.GrpcException;
 import com.hedera.pbj.runtime.grpc.GrpcStatus;
 import com.hedera.pbj.runtime.grpc.Pipeline;
@@ -38,16 +45,21 @@ import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.http2.Http2ClientConnection;
 import io.helidon.webclient.http2.StreamTimeoutException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -109,18 +121,35 @@ public class PbjGrpcCallTest {
     private Headers headers;
 
     private PbjGrpcCall createCall(final ServiceInterface.RequestOptions options) {
+        return createCall(
+                options, new PbjGrpcClientConfig(READ_TIMEOUT, tls, OPTIONS.authority(), OPTIONS.contentType()));
+    }
+
+    private PbjGrpcCall createCall(final ServiceInterface.RequestOptions options, final PbjGrpcClientConfig config) {
+        return createCall(options, config, null);
+    }
+
+    private PbjGrpcCall createCall(
+            final ServiceInterface.RequestOptions options, final PbjGrpcClientConfig config, final Duration timeout) {
         doReturn(webClient).when(grpcClient).getWebClient();
         doReturn(executor).when(webClient).executor();
+        // Delayed tasks, such as batch writes and deadlines, run on the executor:
+        lenient()
+                .doAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(0).run();
+                    return null;
+                })
+                .when(executor)
+                .execute(any(Runnable.class));
         // Only used in tests that verify timeout pings:
         lenient().doReturn(clientConnection).when(grpcClient).getClientConnection();
         lenient().doReturn(dataWriter).when(clientConnection).writer();
 
-        final PbjGrpcClientConfig config =
-                new PbjGrpcClientConfig(READ_TIMEOUT, tls, OPTIONS.authority(), OPTIONS.contentType());
-        // The config is only read in the receiving loop:
+        // The config is only read in the receiving loop, and to send compressed requests:
         lenient().doReturn(config).when(grpcClient).getConfig();
 
-        return new PbjGrpcCall(grpcClient, grpcClientStream, options, METHOD_NAME, requestCodec, replyCodec, pipeline);
+        return new PbjGrpcCall(
+                grpcClient, grpcClientStream, options, METHOD_NAME, requestCodec, replyCodec, pipeline, timeout);
     }
 
     @ParameterizedTest
@@ -158,7 +187,15 @@ public class PbjGrpcCallTest {
         final Object request = mock(Object.class);
 
         final Bytes bytes = Bytes.wrap("test bytes string");
-        doReturn(bytes).when(requestCodec).toBytes(request);
+        doReturn((int) bytes.length()).when(requestCodec).measureRecord(request);
+        doAnswer(invocation -> {
+                    final byte[] output = invocation.getArgument(1);
+                    final int offset = invocation.getArgument(2);
+                    bytes.getBytes(0, output, offset, (int) bytes.length());
+                    return (int) bytes.length();
+                })
+                .when(requestCodec)
+                .write(eq(request), any(byte[].class), eq(5));
 
         call.sendRequest(request, endOfStream);
 
@@ -175,6 +212,119 @@ public class PbjGrpcCallTest {
         assertEquals(bytes.asUtf8String(), new String(Arrays.copyOfRange(output, 5, output.length)));
     }
 
+    @Test
+    public void testSendShortRequestWithoutCompression() {
+        final PbjGrpcClientConfig config = new PbjGrpcClientConfig(
+                READ_TIMEOUT,
+                tls,
+                OPTIONS.authority(),
+                OPTIONS.contentType(),
+                "gzip",
+                Set.of("gzip"),
+                Codec.DEFAULT_MAX_SIZE,
+                Codec.DEFAULT_MAX_SIZE * 5,
+                GrpcCompressionPolicy.adaptive(100, 0.1),
+                PbjGrpcClientConfig.DEFAULT_CONNECTION_POOL_SIZE,
+                PbjGrpcClientConfig.DEFAULT_MAX_CONCURRENT_STREAMS,
+                READ_TIMEOUT,
+                PbjGrpcClientConfig.DEFAULT_REQUEST_BATCH_SIZE,
+                PbjGrpcClientConfig.DEFAULT_REQUEST_BATCH_DELAY);
+        final PbjGrpcCall call = createCall(OPTIONS, config);
+
+        final Object request = mock(Object.class);
+        final Bytes bytes = Bytes.wrap("test bytes string");
+        doReturn((int) bytes.length()).when(requestCodec).measureRecord(request);
+        doReturn((int) bytes.length()).when(requestCodec).write(eq(request), any(byte[].class), eq(5));
+
+        call.sendRequest(request, true);
+
+        final ArgumentCaptor<BufferData> bufferDataCaptor = ArgumentCaptor.forClass(BufferData.class);
+        verify(grpcClientStream, times(1)).writeData(bufferDataCaptor.capture(), eq(true));
+        final byte[] output = bufferDataCaptor.getValue().readBytes();
+        // The compressed flag is 0, even though the grpc-encoding is gzip
+        assertEquals(0, output[0]);
+        assertEquals(5 + bytes.length(), output.length);
+    }
+
+    @Test
+    public void testBatchRequests() {
+        final PbjGrpcClientConfig config = new PbjGrpcClientConfig(
+                READ_TIMEOUT,
+                tls,
+                OPTIONS.authority(),
+                OPTIONS.contentType(),
+                "identity",
+                Set.of("identity"),
+                Codec.DEFAULT_MAX_SIZE,
+                Codec.DEFAULT_MAX_SIZE * 5,
+                GrpcCompressionPolicy.ALWAYS,
+                1,
+                Integer.MAX_VALUE,
+                READ_TIMEOUT,
+                100,
+                Duration.ofHours(1));
+        final PbjGrpcCall call = createCall(OPTIONS, config);
+
+        final Object request = mock(Object.class);
+        final Bytes bytes = Bytes.wrap("test bytes string");
+        doReturn((int) bytes.length()).when(requestCodec).measureRecord(request);
+        doAnswer(invocation -> {
+                    final byte[] output = invocation.getArgument(1);
+                    final int offset = invocation.getArgument(2);
+                    bytes.getBytes(0, output, offset, (int) bytes.length());
+                    return (int) bytes.length();
+                })
+                .when(requestCodec)
+                .write(eq(request), any(byte[].class), anyInt());
+
+        // Requests wait in the batch until it's flushed...
+        call.sendRequest(request, false);
+        call.sendRequest(request, false);
+        verify(grpcClientStream, times(0)).writeData(any(), anyBoolean());
+
+        call.flush();
+        final ArgumentCaptor<BufferData> bufferDataCaptor = ArgumentCaptor.forClass(BufferData.class);
+        verify(grpcClientStream, times(1)).writeData(bufferDataCaptor.capture(), eq(false));
+        final byte[] output = bufferDataCaptor.getValue().readBytes();
+        assertEquals(2 * (5 + bytes.length()), output.length);
+        assertEquals(bytes.length(), output[4]);
+        assertEquals(bytes.length(), output[5 + (int) bytes.length() + 4]);
+
+        // ...or until the last request is sent:
+        call.sendRequest(request, true);
+        verify(grpcClientStream, times(1)).writeData(bufferDataCaptor.capture(), eq(true));
+        assertEquals(5 + bytes.length(), bufferDataCaptor.getValue().available());
+    }
+
+    @Test
+    public void testDelayedBatchIsWrittenOnTheExecutor() {
+        final PbjGrpcClientConfig config = new PbjGrpcClientConfig(
+                READ_TIMEOUT,
+                tls,
+                OPTIONS.authority(),
+                OPTIONS.contentType(),
+                "identity",
+                Set.of("identity"),
+                Codec.DEFAULT_MAX_SIZE,
+                Codec.DEFAULT_MAX_SIZE * 5,
+                GrpcCompressionPolicy.ALWAYS,
+                1,
+                Integer.MAX_VALUE,
+                READ_TIMEOUT,
+                100,
+                Duration.ofMillis(1));
+        final PbjGrpcCall call = createCall(OPTIONS, config);
+
+        final Object request = mock(Object.class);
+        doReturn(1).when(requestCodec).measureRecord(request);
+        doReturn(1).when(requestCodec).write(eq(request), any(byte[].class), anyInt());
+
+        call.sendRequest(request, false);
+        // The write may block on the flow control window, so it must not run on the common pool:
+        verify(executor, timeout(1000)).execute(any(Runnable.class));
+        verify(grpcClientStream, timeout(1000)).writeData(any(), eq(false));
+    }
+
     @Test
     public void testCompleteRequests() {
         final PbjGrpcCall call = createCall(OPTIONS);
@@ -185,8 +335,85 @@ public class PbjGrpcCallTest {
         assertEquals(0, bufferDataCaptor.getValue().available());
     }
 
-    private Runnable fetchReceiveRepliesLoop() {
+    @ParameterizedTest
+    @EnumSource(
+            value = Http2StreamState.class,
+            names = {"OPEN", "HALF_CLOSED_LOCAL", "HALF_CLOSED_REMOTE", "CLOSED"})
+    public void testCancel(final Http2StreamState state) {
         final PbjGrpcCall call = createCall(OPTIONS);
+        doReturn(state).when(grpcClientStream).streamState();
+
+        call.cancel();
+
+        // Streams that the server has finished already are left alone
+        final boolean open = state == Http2StreamState.OPEN || state == Http2StreamState.HALF_CLOSED_LOCAL;
+        verify(grpcClientStream, times(open ? 1 : 0)).cancel();
+    }
+
+    @Test
+    public void testFormatTimeout() {
+        assertEquals("1n", PbjGrpcCall.formatTimeout(0));
+        assertEquals("99999999n", PbjGrpcCall.formatTimeout(99_999_999L));
+        assertEquals("100000u", PbjGrpcCall.formatTimeout(100_000_000L));
+        assertEquals("1500000u", PbjGrpcCall.formatTimeout(1_500_000_000L));
+        assertEquals("100000S", PbjGrpcCall.formatTimeout(100_000_000_000_000L));
+        assertEquals("2562047H", PbjGrpcCall.formatTimeout(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testDeadlineExceeded() {
+        createCall(
+                OPTIONS,
+                new PbjGrpcClientConfig(READ_TIMEOUT, tls, OPTIONS.authority(), OPTIONS.contentType()),
+                Duration.ofMillis(10));
+
+        final ArgumentCaptor<Http2Headers> http2HeadersCaptor = ArgumentCaptor.forClass(Http2Headers.class);
+        verify(grpcClientStream, times(1)).writeHeaders(http2HeadersCaptor.capture(), eq(false));
+        final String grpcTimeout = http2HeadersCaptor
+                .getValue()
+                .httpHeaders()
+                .get(HeaderNames.createFromLowercase("grpc-timeout"))
+                .get();
+        assertTrue(grpcTimeout.endsWith("n"), grpcTimeout);
+        assertTrue(Long.parseLong(grpcTimeout.substring(0, grpcTimeout.length() - 1)) <= 10_000_000L);
+
+        // The stream is reset on the executor, and the replies loop will not report anything once the deadline has
+        // been reported
+        verify(executor, timeout(1000)).execute(any(Runnable.class));
+        verify(grpcClientStream, timeout(1000)).cancel();
+        final ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+        verify(pipeline, timeout(1000)).onError(captor.capture());
+        assertInstanceOf(GrpcException.class, captor.getValue());
+        assertEquals(GrpcStatus.DEADLINE_EXCEEDED, ((GrpcException) captor.getValue()).status());
+        verifyNoMoreInteractions(pipeline);
+    }
+
+    @Test
+    public void testHugeTimeoutIsCapped() {
+        createCall(
+                OPTIONS,
+                new PbjGrpcClientConfig(READ_TIMEOUT, tls, OPTIONS.authority(), OPTIONS.contentType()),
+                ChronoUnit.FOREVER.getDuration());
+
+        final ArgumentCaptor<Http2Headers> http2HeadersCaptor = ArgumentCaptor.forClass(Http2Headers.class);
+        verify(grpcClientStream, times(1)).writeHeaders(http2HeadersCaptor.capture(), eq(false));
+        final String grpcTimeout = http2HeadersCaptor
+                .getValue()
+                .httpHeaders()
+                .get(HeaderNames.createFromLowercase("grpc-timeout"))
+                .get();
+        assertEquals(PbjGrpcCall.formatTimeout(PbjGrpcCall.MAX_TIMEOUT.toNanos()), grpcTimeout);
+        verifyNoMoreInteractions(pipeline);
+    }
+
+    private Runnable fetchReceiveRepliesLoop() {
+        return fetchReceiveRepliesLoop(null);
+    }
+
+    private Runnable fetchReceiveRepliesLoop(final Duration timeout) {
+        final PbjGrpcClientConfig config =
+                new PbjGrpcClientConfig(READ_TIMEOUT, tls, OPTIONS.authority(), OPTIONS.contentType());
+        createCall(OPTIONS, config, timeout);
 
         lenient().doReturn(http2Headers).when(grpcClientStream).readHeaders();
         lenient().doReturn(headers).when(http2Headers).httpHeaders();
@@ -217,7 +444,7 @@ public class PbjGrpcCallTest {
     }
 
     @Test
-    public void testReceiveRepliesLoopPingAndStreamClosed() {
+    public void testReceiveRepliesLoopTimeoutAndStreamClosed() {
         final Runnable runnable = fetchReceiveRepliesLoop();
 
         doReturn(CompletableFuture.completedFuture(headers))
@@ -237,7 +464,7 @@ public class PbjGrpcCallTest {
 
         runnable.run();
 
-        verify(grpcClientStream, times(1)).sendPing();
+        verify(grpcClientStream, times(2)).readHeaders();
         verify(pipeline, times(1)).onComplete();
         verifyNoMoreInteractions(pipeline);
     }
@@ -290,8 +517,81 @@ public class PbjGrpcCallTest {
 
         verify(pipeline, times(1)).onNext(reply);
         verify(pipeline, times(1)).onComplete();
-        // A ping:
-        if (isTimeout) verify(grpcClientStream, times(1)).sendPing();
+        // The keep-alive timer of the connection pings the server rather than the call:
+        verify(grpcClientStream, never()).sendPing();
+        verifyNoMoreInteractions(pipeline);
+    }
+
+    @Test
+    public void testConnectionFailureFailsTheCall() {
+        final Runnable runnable = fetchReceiveRepliesLoop();
+
+        final ArgumentCaptor<Consumer<UncheckedIOException>> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+        verify(grpcClientStream, times(1)).onConnectionFailure(listenerCaptor.capture());
+        final UncheckedIOException failure = new UncheckedIOException(new IOException("broken pipe"));
+        listenerCaptor.getValue().accept(failure);
+        // A late notification doesn't fail the call twice:
+        listenerCaptor.getValue().accept(failure);
+
+        verify(pipeline, times(1)).onError(failure);
+        verifyNoMoreInteractions(pipeline);
+
+        // The replies loop finds the call failed, and returns without completing it:
+        doReturn(Http2StreamState.OPEN).when(grpcClientStream).streamState();
+        doThrow(mock(StreamTimeoutException.class)).when(grpcClientStream).readHeaders();
+        runnable.run();
+
+        verify(grpcClientStream, times(1)).close();
+        verifyNoMoreInteractions(pipeline);
+    }
+
+    @Test
+    public void testDeadlineWaitsForTheReplyBeingDelivered() throws Exception {
+        final Runnable runnable = fetchReceiveRepliesLoop(Duration.ofMillis(50));
+
+        doReturn(new CompletableFuture<Headers>()).when(grpcClientStream).trailers();
+        doReturn(true).when(grpcClientStream).hasEntity();
+        final Http2FrameData data = mock(Http2FrameData.class);
+        doReturn(BufferData.create(new byte[] {0, 0, 0, 0, 1, 6})).when(data).data();
+        // A single reply, and then nothing until the deadline:
+        final AtomicBoolean readOneCalled = new AtomicBoolean(false);
+        final StreamTimeoutException streamTimeout = mock(StreamTimeoutException.class);
+        doAnswer(invocation -> {
+                    if (readOneCalled.compareAndSet(false, true)) {
+                        return data;
+                    }
+                    throw streamTimeout;
+                })
+                .when(grpcClientStream)
+                .readOne(any());
+        final Object reply = mock(Object.class);
+        doReturn(reply)
+                .when(replyCodec)
+                .parse(any(ReadableSequentialData.class), eq(false), eq(false), anyInt(), anyInt());
+
+        // The reply is still being delivered when the deadline expires:
+        final AtomicBoolean delivering = new AtomicBoolean();
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        doAnswer(invocation -> {
+                    delivering.set(true);
+                    Thread.sleep(200);
+                    delivering.set(false);
+                    return null;
+                })
+                .when(pipeline)
+                .onNext(reply);
+        doAnswer(invocation -> {
+                    overlapped.set(delivering.get());
+                    return null;
+                })
+                .when(pipeline)
+                .onError(any());
+
+        runnable.run();
+
+        verify(pipeline, times(1)).onNext(reply);
+        verify(pipeline, timeout(1000)).onError(any(GrpcException.class));
+        assertFalse(overlapped.get());
         verifyNoMoreInteractions(pipeline);
     }
 
@@ -3,11 +3,14 @@ package com.hedera.pbj.grpc.client.helidon;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import com.hedera.pbj.runtime.grpc.ServiceInterface;
 import io.helidon.common.tls.Tls;
 import io.helidon.webclient.api.ClientConnection;
@@ -20,6 +23,8 @@ import io.helidon.webclient.http2.Http2ClientImpl;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -81,7 +86,10 @@ public class PbjGrpcClientTest {
         final Http2ClientConnection connection = mock(Http2ClientConnection.class);
         final ClientConnection clientConnection = mock(ClientConnection.class);
 
-        final PbjGrpcClientStream stream = client.createPbjGrpcClientStream(connection, clientConnection);
+        final AtomicInteger closed = new AtomicInteger();
+
+        final PbjGrpcClientStream stream = client.createPbjGrpcClientStream(
+                connection, clientConnection, new PbjGrpcKeepAlive(Duration.ZERO, null, null), closed::incrementAndGet);
 
         // Check if it talks to the connection and clientConnection objects:
 
@@ -89,6 +97,8 @@ public class PbjGrpcClientTest {
         verify(clientConnection, times(1)).helidonSocket();
 
         stream.close();
+        stream.close();
+        assertEquals(1, closed.get());
     }
 
     @Test
@@ -110,4 +120,37 @@ public class PbjGrpcClientTest {
         // The client internally resolves authority to "pbj-unit-test-host:666" from the base URI
         // This is used when createCall is invoked to ensure RFC 9113 compliance
     }
+
+    @Test
+    void testConfigRejectsInvalidComponents() {
+        assertThrows(IllegalArgumentException.class, () -> createConfig(0, READ_TIMEOUT, 0, Duration.ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> createConfig(1, READ_TIMEOUT, -1, Duration.ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> createConfig(1, READ_TIMEOUT, 0, Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> createConfig(1, Duration.ofMillis(-1), 0, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> createConfig(1, null, 0, Duration.ofMillis(1)));
+        assertThrows(NullPointerException.class, () -> createConfig(1, READ_TIMEOUT, 0, null));
+        assertNotNull(createConfig(1, Duration.ZERO, 0, Duration.ZERO));
+    }
+
+    private PbjGrpcClientConfig createConfig(
+            final int connectionPoolSize,
+            final Duration keepAliveInterval,
+            final int requestBatchSize,
+            final Duration requestBatchDelay) {
+        return new PbjGrpcClientConfig(
+                READ_TIMEOUT,
+                tls,
+                OPTIONS.authority(),
+                OPTIONS.contentType(),
+                "identity",
+                Set.of("identity"),
+                Codec.DEFAULT_MAX_SIZE,
+                Codec.DEFAULT_MAX_SIZE * 5,
+                GrpcCompressionPolicy.adaptive(),
+                connectionPoolSize,
+                Integer.MAX_VALUE,
+                keepAliveInterval,
+                requestBatchSize,
+                requestBatchDelay);
+    }
 }
@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.client.helidon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.http2.Http2ClientConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class PbjGrpcConnectionPoolTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(100);
+
+    /** Create a keep-alive timer that never pings the server. */
+    private static PbjGrpcKeepAlive noPings() {
+        return new PbjGrpcKeepAlive(Duration.ZERO, null, null);
+    }
+
+    /** Create a connection that is never actually established, like in the PbjGrpcClient unit tests. */
+    private static PbjGrpcConnectionPool.Connection unconnected() {
+        return new PbjGrpcConnectionPool.Connection(null, null, noPings());
+    }
+
+    /** A factory of connections that are never actually established. */
+    private static final class ConnectionFactory implements Supplier<PbjGrpcConnectionPool.Connection> {
+        private final List<PbjGrpcConnectionPool.Connection> created = new ArrayList<>();
+
+        @Override
+        public PbjGrpcConnectionPool.Connection get() {
+            final PbjGrpcConnectionPool.Connection connection = unconnected();
+            created.add(connection);
+            return connection;
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final ConnectionFactory factory = new ConnectionFactory();
+        assertThrows(IllegalArgumentException.class, () -> new PbjGrpcConnectionPool(factory, 0, 1, TIMEOUT));
+        assertThrows(IllegalArgumentException.class, () -> new PbjGrpcConnectionPool(factory, 1, 0, TIMEOUT));
+    }
+
+    @Test
+    void testLeastOutstandingStreams() {
+        final ConnectionFactory factory = new ConnectionFactory();
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(factory, 3, 100, TIMEOUT);
+        assertEquals(3, factory.created.size());
+
+        // Ties are broken round-robin, so the first three calls land on distinct connections:
+        final Set<PbjGrpcConnectionPool.Connection> acquired = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            acquired.add(pool.acquire());
+        }
+        assertEquals(3, acquired.size());
+
+        // The connection with a completed call is the least loaded one:
+        final PbjGrpcConnectionPool.Connection released = factory.created.get(1);
+        pool.release(released);
+        assertSame(released, pool.acquire());
+    }
+
+    @Test
+    void testMaxConcurrentStreams() {
+        final ConnectionFactory factory = new ConnectionFactory();
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(factory, 2, 1, TIMEOUT);
+
+        final PbjGrpcConnectionPool.Connection first = pool.acquire();
+        final PbjGrpcConnectionPool.Connection second = pool.acquire();
+        assertNotSame(first, second);
+        assertThrows(IllegalStateException.class, pool::acquire);
+
+        pool.release(second);
+        assertSame(second, pool.acquire());
+    }
+
+    @Test
+    void testFailedConnectionsAreReplaced() {
+        final ConnectionFactory factory = new ConnectionFactory();
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(factory, 1, 100, TIMEOUT);
+
+        final PbjGrpcConnectionPool.Connection failed = pool.acquire();
+        pool.fail(failed);
+
+        final PbjGrpcConnectionPool.Connection replacement = pool.acquire();
+        assertNotSame(failed, replacement);
+        assertSame(replacement, pool.first());
+        assertEquals(2, factory.created.size());
+    }
+
+    @Test
+    void testDisconnectedConnectionsAreReplaced() {
+        final ClientConnection clientConnection = mock(ClientConnection.class);
+        final HelidonSocket socket = mock(HelidonSocket.class);
+        final Http2ClientConnection http2Connection = mock(Http2ClientConnection.class);
+        doReturn(socket).when(clientConnection).helidonSocket();
+        doReturn(false).when(socket).isConnected();
+
+        final PbjGrpcConnectionPool.Connection disconnected =
+                new PbjGrpcConnectionPool.Connection(clientConnection, http2Connection, noPings());
+        final PbjGrpcConnectionPool.Connection replacement = unconnected();
+        final List<PbjGrpcConnectionPool.Connection> connections = new ArrayList<>(List.of(disconnected, replacement));
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(connections::removeFirst, 1, 100, TIMEOUT);
+        assertSame(disconnected, pool.first());
+
+        assertSame(replacement, pool.acquire());
+        verify(http2Connection).close();
+    }
+
+    @Test
+    void testReconnectDoesNotBlockOtherCalls() throws Exception {
+        final Http2ClientConnection http2Connection = mock(Http2ClientConnection.class);
+        final PbjGrpcConnectionPool.Connection failing =
+                new PbjGrpcConnectionPool.Connection(null, http2Connection, noPings());
+        final PbjGrpcConnectionPool.Connection healthy = unconnected();
+        final PbjGrpcConnectionPool.Connection replacement = unconnected();
+        final List<PbjGrpcConnectionPool.Connection> initial = new ArrayList<>(List.of(failing, healthy));
+        final CountDownLatch connecting = new CountDownLatch(1);
+        final CountDownLatch connected = new CountDownLatch(1);
+        final Supplier<PbjGrpcConnectionPool.Connection> blockingFactory = () -> {
+            if (!initial.isEmpty()) {
+                return initial.removeFirst();
+            }
+            connecting.countDown();
+            try {
+                assertTrue(connected.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return replacement;
+        };
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(blockingFactory, 2, 100, Duration.ofSeconds(5));
+
+        // A call is still in progress on the connection when it fails:
+        final PbjGrpcConnectionPool.Connection inProgress = pool.acquire();
+        assertSame(failing, inProgress);
+        pool.fail(failing);
+
+        // The next call re-establishes the connection, which blocks:
+        final CompletableFuture<PbjGrpcConnectionPool.Connection> reconnecting =
+                CompletableFuture.supplyAsync(pool::acquire);
+        assertTrue(connecting.await(5, TimeUnit.SECONDS));
+
+        // Meanwhile, other calls use the healthy connection without waiting:
+        assertSame(healthy, pool.acquire());
+        assertFalse(reconnecting.isDone());
+
+        connected.countDown();
+        assertSame(healthy, reconnecting.get(5, TimeUnit.SECONDS));
+        assertSame(replacement, pool.first());
+
+        // The failed connection is closed only once the call in progress on it completes:
+        verify(http2Connection, never()).close();
+        pool.release(inProgress);
+        verify(http2Connection).close();
+    }
+
+    @Test
+    void testClose() {
+        final ConnectionFactory factory = new ConnectionFactory();
+        final PbjGrpcConnectionPool pool = new PbjGrpcConnectionPool(factory, 2, 100, TIMEOUT);
+        pool.close();
+        assertThrows(IllegalStateException.class, pool::acquire);
+    }
+}
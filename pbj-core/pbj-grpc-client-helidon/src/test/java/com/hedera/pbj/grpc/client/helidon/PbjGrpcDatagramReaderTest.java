@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import io.helidon.common.buffers.BufferData;
 import java.nio.BufferOverflowException;
 import java.util.Arrays;
@@ -37,19 +38,19 @@ public class PbjGrpcDatagramReaderTest {
         reader.add(zeroData);
         PbjGrpcDatagramReader.Datagram datagram = reader.extractNextDatagram();
         assertEquals(0, datagram.compressedFlag());
-        BufferData bufferData = datagram.data();
-        assertNotNull(bufferData);
-        assertEquals(0, bufferData.available());
+        ReadableSequentialData payload = datagram.data();
+        assertNotNull(payload);
+        assertEquals(0, payload.remaining());
 
         // 1 byte long datagram
         BufferData oneData = BufferData.create(new byte[] {0, 0, 0, 0, 1, 66});
         reader.add(oneData);
         datagram = reader.extractNextDatagram();
         assertEquals(0, datagram.compressedFlag());
-        bufferData = datagram.data();
-        assertNotNull(bufferData);
-        assertEquals(1, bufferData.available());
-        assertEquals(66, bufferData.read());
+        payload = datagram.data();
+        assertNotNull(payload);
+        assertEquals(1, payload.remaining());
+        assertEquals(66, payload.readUnsignedByte());
 
         // Many bytes long datagram
         String data = "Some test data here...";
@@ -60,10 +61,10 @@ public class PbjGrpcDatagramReaderTest {
         reader.add(manyData);
         datagram = reader.extractNextDatagram();
         assertEquals(0, datagram.compressedFlag());
-        bufferData = datagram.data();
-        assertNotNull(bufferData);
-        assertEquals(data.getBytes().length, bufferData.available());
-        assertEquals(data, bufferData.readString(data.getBytes().length));
+        payload = datagram.data();
+        assertNotNull(payload);
+        assertEquals(data.getBytes().length, payload.remaining());
+        assertEquals(data, payload.readUTF8(data.getBytes().length));
     }
 
     @Test
@@ -91,17 +92,16 @@ public class PbjGrpcDatagramReaderTest {
 
         PbjGrpcDatagramReader.Datagram datagram = reader.extractNextDatagram();
         assertEquals(0, datagram.compressedFlag());
-        BufferData bufferData = datagram.data();
-        assertNotNull(bufferData);
-        assertEquals(data.getBytes().length, bufferData.available());
-        assertEquals(data, bufferData.readString(data.getBytes().length));
+        ReadableSequentialData payload = datagram.data();
+        assertNotNull(payload);
+        assertEquals(data.getBytes().length, payload.remaining());
+        assertEquals(data, payload.readUTF8(data.getBytes().length));
     }
 
     @Test
-    void testFlipCircularBuffer() {
+    void testDatagramSharingChunks() {
         PbjGrpcDatagramReader reader = new PbjGrpcDatagramReader(MAX_BUFFER_SIZE);
 
-        // The initial size is currently 1024, so fill it up almost completely:
         String dataString = "a".repeat(1000);
 
         reader.add(BufferData.create(new byte[] {0}));
@@ -115,42 +115,34 @@ public class PbjGrpcDatagramReaderTest {
         BufferData theData = BufferData.create(dataString.getBytes());
         reader.add(theData);
 
-        // At this point we use 1005 bytes of the initial 1024 capacity.
-        // Just in case we implement any future optimizations, let's start
-        // sending the next datagram right away
+        // Let's start sending the next datagram right away
         reader.add(BufferData.create(new byte[] {0}));
 
-        // At this point the writePosition is at 1006 or something like that.
-        // Let's read the first datagram and mark almost the entire buffer free
-        // (except for that zero byte that we've just added above):
+        // Let's read the first datagram, which leaves the head of the next one in the reader:
         PbjGrpcDatagramReader.Datagram datagram = reader.extractNextDatagram();
         assertEquals(0, datagram.compressedFlag());
-        BufferData bufferData = datagram.data();
-        assertNotNull(bufferData);
-        assertEquals(dataString.getBytes().length, bufferData.available());
-        assertEquals(dataString, bufferData.readString(dataString.getBytes().length));
+        ReadableSequentialData payload = datagram.data();
+        assertNotNull(payload);
+        assertEquals(dataString.getBytes().length, payload.remaining());
+        assertEquals(dataString, payload.readUTF8(dataString.getBytes().length));
 
         // The next datagram isn't ready yet:
         assertNull(reader.extractNextDatagram());
 
-        // Now let's just finish adding the exact same 1000 bytes datagram,
-        // which should force the reader to flip:
+        // Now let's just finish adding the exact same 1000 bytes datagram:
         String newDataString = "b".repeat(dataString.length());
         lengthData.rewind();
         reader.add(lengthData);
         assertNull(reader.extractNextDatagram());
         reader.add(BufferData.create(newDataString.getBytes()));
 
-        // At this point, the circular buffer must've flipped over the tail to the head.
-        // The buffer is private, so we cannot check it. But we should be able to
-        // read back the last datagram. And more importantly, the flipping logic
-        // is now covered by tests.
+        // The header of this datagram is split across two chunks. We should still be able to read it back:
         PbjGrpcDatagramReader.Datagram newDatagram = reader.extractNextDatagram();
         assertEquals(0, newDatagram.compressedFlag());
-        BufferData newBufferData = newDatagram.data();
-        assertNotNull(newBufferData);
-        assertEquals(newDataString.getBytes().length, newBufferData.available());
-        assertEquals(newDataString, newBufferData.readString(newDataString.getBytes().length));
+        ReadableSequentialData newPayload = newDatagram.data();
+        assertNotNull(newPayload);
+        assertEquals(newDataString.getBytes().length, newPayload.remaining());
+        assertEquals(newDataString, newPayload.readUTF8(newDataString.getBytes().length));
     }
 
     private void testDatagrams(final PbjGrpcDatagramReader reader, final List<String> datagrams) {
@@ -167,10 +159,10 @@ public class PbjGrpcDatagramReaderTest {
         datagrams.forEach(dataString -> {
             PbjGrpcDatagramReader.Datagram datagram = reader.extractNextDatagram();
             assertEquals(0, datagram.compressedFlag());
-            BufferData bufferData = datagram.data();
-            assertNotNull(bufferData);
-            assertEquals(dataString.getBytes().length, bufferData.available());
-            assertEquals(dataString, bufferData.readString(dataString.getBytes().length));
+            ReadableSequentialData payload = datagram.data();
+            assertNotNull(payload);
+            assertEquals(dataString.getBytes().length, payload.remaining());
+            assertEquals(dataString, payload.readUTF8(dataString.getBytes().length));
         });
 
         // Ensure there's nothing else there:
@@ -181,13 +173,36 @@ public class PbjGrpcDatagramReaderTest {
     void testEnlargePartiallyFilledBuffer() {
         PbjGrpcDatagramReader reader = new PbjGrpcDatagramReader(MAX_BUFFER_SIZE);
 
-        // Add two datagrams of 1000 bytes, which will enlarge the initial 1024 bytes buffer
+        // Add two datagrams of 1000 bytes, and read them back
         testDatagrams(reader, List.of("a".repeat(1000), "b".repeat(1000)));
 
-        // Now repeat this again, but this time 3 times. The writePosition of the buffer
-        // is now near the tail. So writing 2 same datagrams would simply flip the pointer.
-        // However, writing the 3rd one would enlarge the buffer again AND copy parts
-        // from both the tail and the head of the buffer, hence fully covering the enlarging logic:
+        // Now repeat this again, but this time 3 times, to make sure the reader is reusable:
         testDatagrams(reader, List.of("1".repeat(1000), "2".repeat(1000), "3".repeat(1000)));
     }
+
+    @Test
+    void testDatagramAcrossFrames() {
+        PbjGrpcDatagramReader reader = new PbjGrpcDatagramReader(MAX_BUFFER_SIZE);
+
+        // A datagram split into many frames, where the frame BufferData is reused like a network layer may do
+        String dataString = "0123456789".repeat(100);
+        byte[] datagramBytes = new byte[PbjGrpcDatagramReader.PREFIX_LENGTH + dataString.length()];
+        datagramBytes[4] = (byte) 0xE8;
+        datagramBytes[3] = (byte) 0x03;
+        System.arraycopy(dataString.getBytes(), 0, datagramBytes, PbjGrpcDatagramReader.PREFIX_LENGTH, 1000);
+        byte[] frameBytes = new byte[5];
+        for (int i = 0; i < datagramBytes.length; i += frameBytes.length) {
+            System.arraycopy(datagramBytes, i, frameBytes, 0, frameBytes.length);
+            reader.add(BufferData.create(frameBytes));
+        }
+        // Overwrite the reused frame bytes, which must not affect the datagram
+        Arrays.fill(frameBytes, (byte) 1);
+
+        PbjGrpcDatagramReader.Datagram datagram = reader.extractNextDatagram();
+        assertEquals(0, datagram.compressedFlag());
+        ReadableSequentialData payload = datagram.data();
+        assertEquals(1000, payload.remaining());
+        assertEquals(dataString, payload.readUTF8(1000));
+        assertNull(reader.extractNextDatagram());
+    }
 }
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.client.helidon;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PbjGrpcKeepAliveTest {
+    private static final Duration INTERVAL = Duration.ofMillis(20);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testOnePingPerIntervalForAllStreams() throws Exception {
+        final AtomicInteger pings = new AtomicInteger();
+        final PbjGrpcKeepAlive keepAlive = new PbjGrpcKeepAlive(INTERVAL, scheduler, task -> {
+            pings.incrementAndGet();
+            task.run();
+        });
+
+        // Idle connections aren't pinged:
+        Thread.sleep(INTERVAL.toMillis() * 5);
+        assertEquals(0, pings.get());
+
+        // Many streams waiting for replies share a single ping per interval:
+        final PbjGrpcClientStream[] streams = IntStream.range(0, 1000)
+                .mapToObj(i -> mock(PbjGrpcClientStream.class))
+                .toArray(PbjGrpcClientStream[]::new);
+        for (final PbjGrpcClientStream stream : streams) {
+            keepAlive.add(stream);
+        }
+        Thread.sleep(INTERVAL.toMillis() * 5);
+        keepAlive.close();
+        // Let a ping that is in progress finish:
+        Thread.sleep(INTERVAL.toMillis());
+        final int pinged = pings.get();
+        assertTrue(pinged > 0 && pinged <= 10, "pings: " + pinged);
+        assertDoesNotThrow(keepAlive::checkConnection);
+
+        // No pings after closing:
+        Thread.sleep(INTERVAL.toMillis() * 3);
+        assertEquals(pinged, pings.get());
+    }
+
+    @Test
+    void testFailedPingFailsTheConnection() {
+        final PbjGrpcClientStream[] streams = new PbjGrpcClientStream[2];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = mock(PbjGrpcClientStream.class);
+            doThrow(new UncheckedIOException(new IOException("broken pipe")))
+                    .when(streams[i])
+                    .sendPing();
+        }
+        final PbjGrpcKeepAlive keepAlive = new PbjGrpcKeepAlive(INTERVAL, scheduler, Runnable::run);
+        for (final PbjGrpcClientStream stream : streams) {
+            keepAlive.add(stream);
+        }
+
+        // Every stream of the connection learns about the failure right away:
+        for (final PbjGrpcClientStream stream : streams) {
+            verify(stream, timeout(1000)).connectionFailed(any(UncheckedIOException.class));
+        }
+        assertTrue(keepAlive.isFailed());
+        assertThrows(UncheckedIOException.class, keepAlive::checkConnection);
+        keepAlive.close();
+    }
+
+    @Test
+    void testZeroIntervalNeverPings() throws Exception {
+        final PbjGrpcKeepAlive keepAlive = new PbjGrpcKeepAlive(Duration.ZERO, scheduler, Runnable::run);
+        final PbjGrpcClientStream stream = mock(PbjGrpcClientStream.class);
+        keepAlive.add(stream);
+        Thread.sleep(INTERVAL.toMillis() * 3);
+        verify(stream, never()).sendPing();
+        assertFalse(keepAlive.isFailed());
+        keepAlive.close();
+    }
+}
@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.common.compression;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Trains a zstd dictionary from sample messages, for a {@link ZstdGrpcTransformer} that compresses small, repetitive
+ * messages much better than plain zstd. The samples should be uncompressed messages that are typical for the methods
+ * that will use the dictionary. For example, with the "identity" encoding, a client can collect the requests it sends
+ * with a {@code PbjGrpcNetworkBytesInspector}:
+ *
+ * <pre>{@code
+ * final ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer();
+ * PbjGrpcCall.setNetworkBytesInspector(new PbjGrpcNetworkBytesInspector() {
+ *     public void sent(Bytes bytes) {
+ *         trainer.addSample(bytes);
+ *     }
+ * });
+ * // ... send typical requests ...
+ * final Bytes dictionary = trainer.train();
+ * final String encoding = new ZstdGrpcTransformer(3, dictionary).register();
+ * }</pre>
+ *
+ * <p>The dictionary must then be shipped to, and registered by, the remote peers, which can negotiate the encoding
+ * named by {@link ZstdGrpcTransformer#dictionaryEncoding(Bytes)} like any other.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class ZstdDictionaryTrainer {
+    /** The default maximum size of the trained dictionary, in bytes ({@value}). */
+    public static final int DEFAULT_DICTIONARY_SIZE = 16 * 1024;
+
+    /**
+     * The default maximum total size of the samples, in bytes ({@value}). zstd recommends about 100 times the size of
+     * the dictionary.
+     */
+    public static final int DEFAULT_MAX_SAMPLES_SIZE = 100 * DEFAULT_DICTIONARY_SIZE;
+
+    /** The zstd trainer, which collects the samples. Guarded by this. */
+    private final ZstdDictTrainer trainer;
+
+    /** The number of samples collected. Guarded by this. */
+    private int sampleCount;
+
+    /** Create a trainer with the {@link #DEFAULT_MAX_SAMPLES_SIZE} and the {@link #DEFAULT_DICTIONARY_SIZE}. */
+    public ZstdDictionaryTrainer() {
+        this(DEFAULT_MAX_SAMPLES_SIZE, DEFAULT_DICTIONARY_SIZE);
+    }
+
+    /**
+     * Create a trainer.
+     *
+     * @param maxSamplesSize the maximum total size of the samples, in bytes
+     * @param dictionarySize the maximum size of the trained dictionary, in bytes
+     */
+    public ZstdDictionaryTrainer(final int maxSamplesSize, final int dictionarySize) {
+        if (maxSamplesSize <= 0) {
+            throw new IllegalArgumentException("The maximum samples size must be positive");
+        }
+        if (dictionarySize <= 0) {
+            throw new IllegalArgumentException("The dictionary size must be positive");
+        }
+        this.trainer = new ZstdDictTrainer(maxSamplesSize, dictionarySize);
+    }
+
+    /**
+     * Add a sample message.
+     *
+     * @param sample an uncompressed message
+     * @return true if the sample was added, false if the maximum total size of the samples has been reached
+     */
+    public synchronized boolean addSample(@NonNull final Bytes sample) {
+        if (sample.length() == 0) {
+            return true;
+        }
+        final boolean added = trainer.addSample(sample.toByteArray());
+        if (added) {
+            sampleCount++;
+        }
+        return added;
+    }
+
+    /**
+     * Get the number of samples added so far.
+     *
+     * @return the number of samples
+     */
+    public synchronized int sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Train a dictionary from the samples added so far.
+     *
+     * @return the dictionary, which has a random dictionary ID
+     * @throws com.github.luben.zstd.ZstdException if the samples are too few, or too small, to train a dictionary
+     */
+    @NonNull
+    public synchronized Bytes train() {
+        return Bytes.wrap(trainer.trainSamples());
+    }
+}
@@ -1,21 +1,132 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.grpc.common.compression;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdException;
 import com.github.luben.zstd.ZstdInputStream;
 import com.github.luben.zstd.ZstdOutputStream;
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * A GRPC Compressor/Decompressor for zstd.
- * @param level zstd compression level, -5 to 22; 3 is the default.
+ *
+ * <p>Messages are compressed and decompressed in one native call each, with zstd contexts and buffers that are pooled
+ * and reused across messages, rather than through a new zstd stream and new buffers for each message. Only messages
+ * larger than {@value #MAX_BUFFERED_LENGTH} bytes, and frames that don't record their decompressed size, go through a
+ * zstd stream. The contexts are pooled rather than kept per thread, so that calls running on short-lived virtual
+ * threads reuse them too, and native memory isn't held by threads that are gone.
+ *
+ * <p>A transformer may use a pre-trained dictionary, which greatly improves the compression of small messages that
+ * share a lot of content. Both peers must use the same dictionary for the same encoding name, so a transformer with a
+ * trained dictionary registers itself under an encoding name that includes the ID of its dictionary, such as
+ * {@code zstd-dict-1234567}. See {@link ZstdDictionaryTrainer}.
  */
-public record ZstdGrpcTransformer(int level) implements GrpcCompression.GrpcTransformer {
+public final class ZstdGrpcTransformer implements GrpcCompression.StreamingGrpcTransformer {
+    /** The default zstd compression level. */
+    public static final int DEFAULT_LEVEL = 3;
+
+    /** The prefix of the encoding names of transformers with a trained dictionary. */
+    public static final String DICTIONARY_ENCODING_PREFIX = "zstd-dict-";
+
+    /** The magic number at the start of a trained zstd dictionary, in little-endian order. */
+    private static final int DICTIONARY_MAGIC = 0xEC30A437;
+
+    /** The largest message that is compressed or decompressed in a single call, rather than through a stream. */
+    private static final int MAX_BUFFERED_LENGTH = 16 * 1024 * 1024;
+
+    /** The largest buffer that a pooled session keeps for the next message. */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
+    /** zstd compression level, -5 to 22. */
+    private final int level;
+
+    /** The dictionary, or null. */
+    @Nullable
+    private final Bytes dictionary;
+
+    /** The digested dictionary for compression, shared by all the contexts, or null. */
+    @Nullable
+    private final ZstdDictCompress compressDictionary;
+
+    /** The digested dictionary for decompression, shared by all the contexts, or null. */
+    @Nullable
+    private final ZstdDictDecompress decompressDictionary;
+
+    /** The idle sessions. */
+    private final BlockingQueue<Session> sessions =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    /** Create a transformer with the {@link #DEFAULT_LEVEL} and no dictionary. */
     public ZstdGrpcTransformer() {
-        this(3);
+        this(DEFAULT_LEVEL);
+    }
+
+    /**
+     * Create a transformer without a dictionary.
+     *
+     * @param level zstd compression level, -5 to 22; 3 is the default.
+     */
+    public ZstdGrpcTransformer(final int level) {
+        this(level, null);
+    }
+
+    /**
+     * Create a transformer with a pre-trained dictionary, for example one trained with {@code zstd --train}.
+     *
+     * @param level zstd compression level, -5 to 22; 3 is the default.
+     * @param dictionary the dictionary, or null for none
+     */
+    public ZstdGrpcTransformer(final int level, @Nullable final Bytes dictionary) {
+        this.level = level;
+        this.dictionary = dictionary;
+        if (dictionary != null) {
+            final byte[] dictionaryBytes = dictionary.toByteArray();
+            this.compressDictionary = new ZstdDictCompress(dictionaryBytes, level);
+            this.decompressDictionary = new ZstdDictDecompress(dictionaryBytes);
+        } else {
+            this.compressDictionary = null;
+            this.decompressDictionary = null;
+        }
+    }
+
+    /**
+     * Get the compression level.
+     *
+     * @return zstd compression level, -5 to 22
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Get the dictionary.
+     *
+     * @return the dictionary, or null for none
+     */
+    @Nullable
+    public Bytes dictionary() {
+        return dictionary;
     }
 
     /**
@@ -27,31 +138,323 @@ public record ZstdGrpcTransformer(int level) implements GrpcCompression.GrpcTran
         GrpcCompression.registerDecompressor(name, this);
     }
 
+    /**
+     * Register the transformer with PBJ GrpcCompression, under the encoding name of its dictionary. Peers that
+     * registered the same dictionary negotiate this encoding like any other, by listing it in their
+     * {@code grpc-accept-encoding}, or choosing it as their preferred encoding.
+     *
+     * @return the name of the encoding, see {@link #dictionaryEncoding(Bytes)}
+     * @throws IllegalStateException if the transformer has no dictionary
+     * @throws IllegalArgumentException if the dictionary is not a trained zstd dictionary
+     */
+    @NonNull
+    public String register() {
+        if (dictionary == null) {
+            throw new IllegalStateException("Only a transformer with a dictionary has an encoding name of its own");
+        }
+        final String name = dictionaryEncoding(dictionary);
+        register(name);
+        return name;
+    }
+
+    /**
+     * Get the encoding name for a trained dictionary, which is {@value #DICTIONARY_ENCODING_PREFIX} followed by
+     * the dictionary ID that zstd stored in the dictionary.
+     *
+     * @param dictionary a dictionary trained by zstd, for example by a {@link ZstdDictionaryTrainer}
+     * @return the name of the encoding
+     * @throws IllegalArgumentException if the dictionary is not a trained zstd dictionary
+     */
+    @NonNull
+    public static String dictionaryEncoding(@NonNull final Bytes dictionary) {
+        if (dictionary.length() < 8 || dictionary.getInt(0, ByteOrder.LITTLE_ENDIAN) != DICTIONARY_MAGIC) {
+            throw new IllegalArgumentException("Not a trained zstd dictionary");
+        }
+        return DICTIONARY_ENCODING_PREFIX + Integer.toUnsignedString(dictionary.getInt(4, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /** {@inheritDoc} */
     @Override
     public Bytes compress(Bytes bytes) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                ZstdOutputStream zos = new ZstdOutputStream(baos, level)) {
-            bytes.writeTo(zos);
-            zos.flush();
-            zos.close();
+        final long length = bytes.length();
+        if (length > MAX_BUFFERED_LENGTH) {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            compressStream(bytes.toReadableSequentialData(), new WritableStreamingData(baos));
             return Bytes.wrap(baos.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+        }
+        final Session session = borrow();
+        try {
+            bytes.getBytes(0, session.source((int) length), 0, (int) length);
+            final int compressedLength = compress(session, (int) length);
+            return Bytes.wrap(Arrays.copyOf(session.target, compressedLength));
+        } finally {
+            release(session);
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void compress(@NonNull final ReadableSequentialData input, @NonNull final WritableSequentialData output) {
+        final long length = input.remaining();
+        if (length > MAX_BUFFERED_LENGTH) {
+            compressStream(input, output);
+            return;
+        }
+        final Session session = borrow();
+        try {
+            input.readBytes(session.source((int) length), 0, (int) length);
+            final int compressedLength = compress(session, (int) length);
+            output.writeBytes(session.target, 0, compressedLength);
+        } finally {
+            release(session);
+        }
+    }
+
+    /**
+     * Compress the remaining bytes of the source buffer into the destination buffer. Direct buffers are compressed
+     * natively, without copying them to or from the Java heap. The positions of both buffers move past the bytes
+     * that were read and written.
+     *
+     * @param source the data to compress
+     * @param destination the buffer to write the compressed data to
+     * @return the number of compressed bytes written
+     * @throws IllegalArgumentException if the buffers are neither both direct, nor both backed by accessible arrays
+     * @throws ZstdException if the destination has too little room
+     */
+    public int compress(@NonNull final ByteBuffer source, @NonNull final ByteBuffer destination) {
+        final Session session = borrow();
+        try {
+            final ZstdCompressCtx compressor = session.compressor;
+            final int compressedLength;
+            if (source.isDirect() && destination.isDirect()) {
+                compressedLength = compressor.compressDirectByteBuffer(
+                        destination,
+                        destination.position(),
+                        destination.remaining(),
+                        source,
+                        source.position(),
+                        source.remaining());
+            } else if (source.hasArray() && destination.hasArray()) {
+                compressedLength = compressor.compressByteArray(
+                        destination.array(),
+                        destination.arrayOffset() + destination.position(),
+                        destination.remaining(),
+                        source.array(),
+                        source.arrayOffset() + source.position(),
+                        source.remaining());
+            } else {
+                throw new IllegalArgumentException("Buffers must be both direct, or both backed by arrays");
+            }
+            source.position(source.limit());
+            destination.position(destination.position() + compressedLength);
+            return compressedLength;
+        } finally {
+            release(session);
+        }
+    }
+
+    /** {@inheritDoc} */
     @Override
     public Bytes decompress(Bytes bytes) {
-        byte[] buffer = new byte[1024];
-        try (ZstdInputStream zis = new ZstdInputStream(bytes.toInputStream());
-                ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            int len;
-            while ((len = zis.read(buffer, 0, buffer.length)) > 0) {
-                baos.write(buffer, 0, len);
+        final long length = bytes.length();
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (length > MAX_BUFFERED_LENGTH) {
+            decompressStream(bytes.toInputStream(), new WritableStreamingData(baos));
+            return Bytes.wrap(baos.toByteArray());
+        }
+        final Session session = borrow();
+        try {
+            bytes.getBytes(0, session.source((int) length), 0, (int) length);
+            final int decompressedLength = decompress(session, (int) length);
+            if (decompressedLength >= 0) {
+                return Bytes.wrap(Arrays.copyOf(session.target, decompressedLength));
             }
+            decompressStream(
+                    new ByteArrayInputStream(session.source, 0, (int) length), new WritableStreamingData(baos));
             return Bytes.wrap(baos.toByteArray());
+        } finally {
+            release(session);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void decompress(@NonNull final ReadableSequentialData input, @NonNull final WritableSequentialData output) {
+        final long length = input.remaining();
+        if (length > MAX_BUFFERED_LENGTH) {
+            decompressStream(input.asInputStream(), output);
+            return;
+        }
+        final Session session = borrow();
+        try {
+            input.readBytes(session.source((int) length), 0, (int) length);
+            final int decompressedLength = decompress(session, (int) length);
+            if (decompressedLength >= 0) {
+                output.writeBytes(session.target, 0, decompressedLength);
+            } else {
+                decompressStream(new ByteArrayInputStream(session.source, 0, (int) length), output);
+            }
+        } finally {
+            release(session);
+        }
+    }
+
+    /**
+     * Decompress the remaining bytes of the source buffer into the destination buffer. Direct buffers are
+     * decompressed natively, without copying them to or from the Java heap. The positions of both buffers move past
+     * the bytes that were read and written.
+     *
+     * @param source the compressed data
+     * @param destination the buffer to write the decompressed data to
+     * @return the number of decompressed bytes written
+     * @throws IllegalArgumentException if the buffers are neither both direct, nor both backed by accessible arrays
+     * @throws ZstdException if the source is not valid compressed data, or the destination has too little room
+     */
+    public int decompress(@NonNull final ByteBuffer source, @NonNull final ByteBuffer destination) {
+        final Session session = borrow();
+        try {
+            final ZstdDecompressCtx decompressor = session.decompressor;
+            final int decompressedLength;
+            if (source.isDirect() && destination.isDirect()) {
+                decompressedLength = decompressor.decompressDirectByteBuffer(
+                        destination,
+                        destination.position(),
+                        destination.remaining(),
+                        source,
+                        source.position(),
+                        source.remaining());
+            } else if (source.hasArray() && destination.hasArray()) {
+                decompressedLength = decompressor.decompressByteArray(
+                        destination.array(),
+                        destination.arrayOffset() + destination.position(),
+                        destination.remaining(),
+                        source.array(),
+                        source.arrayOffset() + source.position(),
+                        source.remaining());
+            } else {
+                throw new IllegalArgumentException("Buffers must be both direct, or both backed by arrays");
+            }
+            source.position(source.limit());
+            destination.position(destination.position() + decompressedLength);
+            return decompressedLength;
+        } finally {
+            release(session);
+        }
+    }
+
+    /** Compress the source bytes of the session into its target bytes, and return the compressed length. */
+    private static int compress(final Session session, final int length) {
+        final byte[] target = session.target((int) Zstd.compressBound(length));
+        return session.compressor.compressByteArray(target, 0, target.length, session.source, 0, length);
+    }
+
+    /**
+     * Decompress the source bytes of the session into its target bytes, and return the decompressed length, or -1
+     * if the data has to be decompressed through a stream instead.
+     */
+    private static int decompress(final Session session, final int length) {
+        // The frames of streaming compressors don't record their decompressed size
+        final long contentSize = Zstd.getFrameContentSize(session.source, 0, length);
+        if (contentSize < 0 || contentSize > MAX_BUFFERED_LENGTH) {
+            return -1;
+        }
+        final byte[] target = session.target((int) contentSize);
+        try {
+            return session.decompressor.decompressByteArray(target, 0, (int) contentSize, session.source, 0, length);
+        } catch (final ZstdException e) {
+            // For example, more frames follow the first one. The stream reports the error if the data is invalid.
+            return -1;
+        }
+    }
+
+    private void compressStream(final ReadableSequentialData input, final WritableSequentialData output) {
+        try (ZstdOutputStream zos = new ZstdOutputStream(asOutputStream(output), level)) {
+            if (compressDictionary != null) {
+                zos.setDict(compressDictionary);
+            }
+            input.asInputStream().transferTo(zos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void decompressStream(final InputStream input, final WritableSequentialData output) {
+        try (ZstdInputStream zis = new ZstdInputStream(input)) {
+            if (decompressDictionary != null) {
+                zis.setDict(decompressDictionary);
+            }
+            zis.transferTo(asOutputStream(output));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static OutputStream asOutputStream(final WritableSequentialData output) {
+        return new OutputStream() {
+            @Override
+            public void write(final int b) {
+                output.writeByte((byte) b);
+            }
+
+            @Override
+            public void write(@NonNull final byte[] b, final int off, final int len) {
+                output.writeBytes(b, off, len);
+            }
+        };
+    }
+
+    private Session borrow() {
+        final Session session = sessions.poll();
+        return session != null ? session : new Session();
+    }
+
+    private void release(final Session session) {
+        session.trim();
+        if (!sessions.offer(session)) {
+            session.compressor.close();
+            session.decompressor.close();
+        }
+    }
+
+    /** The reusable contexts and buffers of one compression or decompression at a time. */
+    private final class Session {
+        private final ZstdCompressCtx compressor = new ZstdCompressCtx();
+        private final ZstdDecompressCtx decompressor = new ZstdDecompressCtx();
+        private byte[] source = new byte[0];
+        private byte[] target = new byte[0];
+
+        private Session() {
+            compressor.setLevel(level);
+            if (compressDictionary != null) {
+                compressor.loadDict(compressDictionary);
+                decompressor.loadDict(decompressDictionary);
+            }
+        }
+
+        /** Get the source buffer, with room for at least the given number of bytes. */
+        private byte[] source(final int length) {
+            if (source.length < length) {
+                source = new byte[length];
+            }
+            return source;
+        }
+
+        /** Get the target buffer, with room for at least the given number of bytes. */
+        private byte[] target(final int length) {
+            if (target.length < length) {
+                target = new byte[length];
+            }
+            return target;
+        }
+
+        /** Drop buffers that are too large to keep for the next message. */
+        private void trim() {
+            if (source.length > MAX_RETAINED_BUFFER) {
+                source = new byte[0];
+            }
+            if (target.length > MAX_RETAINED_BUFFER) {
+                target = new byte[0];
+            }
+        }
+    }
 }
@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.common.compression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ZstdDictionaryTrainerTest {
+    private static Bytes receipt(final Random random) {
+        return Bytes.wrap("{\"status\":\"SUCCESS\",\"accountID\":{\"shardNum\":0,\"realmNum\":0,\"accountNum\":"
+                + (1000 + random.nextInt(100_000)) + "},\"exchangeRate\":{\"hbarEquiv\":30000,\"centEquiv\":"
+                + random.nextInt(1_000_000) + "},\"topicSequenceNumber\":" + random.nextInt(1000) + "}");
+    }
+
+    @Test
+    void testTrainAndRegister() {
+        final Random random = new Random(42);
+        final ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer(1024 * 1024, 4 * 1024);
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(trainer.addSample(receipt(random)));
+        }
+        assertEquals(2000, trainer.sampleCount());
+
+        final Bytes dictionary = trainer.train();
+        final ZstdGrpcTransformer withDictionary = new ZstdGrpcTransformer(3, dictionary);
+        final String encoding = withDictionary.register();
+        assertTrue(encoding.startsWith(ZstdGrpcTransformer.DICTIONARY_ENCODING_PREFIX));
+        assertEquals(encoding, ZstdGrpcTransformer.dictionaryEncoding(dictionary));
+        assertSame(withDictionary, GrpcCompression.getCompressor(encoding));
+        assertSame(withDictionary, GrpcCompression.getDecompressor(encoding));
+
+        final Bytes message = receipt(random);
+        final Bytes compressed = withDictionary.compress(message);
+        assertTrue(compressed.length() < new ZstdGrpcTransformer(3).compress(message).length());
+        assertEquals(message, withDictionary.decompress(compressed));
+    }
+
+    @Test
+    void testSamplesSizeLimit() {
+        final ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer(100, 4 * 1024);
+        assertTrue(trainer.addSample(Bytes.wrap(new byte[60])));
+        assertFalse(trainer.addSample(Bytes.wrap(new byte[60])));
+        assertEquals(1, trainer.sampleCount());
+    }
+
+    @Test
+    void testUntrainedDictionaryHasNoEncoding() {
+        final Bytes rawDictionary = Bytes.wrap("raw content dictionary");
+        assertThrows(IllegalArgumentException.class, () -> ZstdGrpcTransformer.dictionaryEncoding(rawDictionary));
+        assertThrows(IllegalStateException.class, () -> new ZstdGrpcTransformer().register());
+    }
+}
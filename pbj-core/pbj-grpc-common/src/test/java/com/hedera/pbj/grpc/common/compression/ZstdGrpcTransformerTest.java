@@ -3,9 +3,13 @@ package com.hedera.pbj.grpc.common.compression;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -36,15 +40,69 @@ public class ZstdGrpcTransformerTest {
     @Test
     void testTransformation() {
         final byte[] data = new byte[] {55, -37, 3, 0, 87, 57, 17};
-        final byte[] expectedCompressedData =
-                new byte[] {40, -75, 47, -3, 0, 88, 56, 0, 0, 55, -37, 3, 0, 87, 57, 17, 1, 0, 0};
 
         final ZstdGrpcTransformer zstdGrpcTransformer = new ZstdGrpcTransformer();
 
         final Bytes compressedData = zstdGrpcTransformer.compress(Bytes.wrap(data));
-        assertArrayEquals(expectedCompressedData, compressedData.toByteArray());
+        // zstd frame magic number
+        assertArrayEquals(new byte[] {40, -75, 47, -3}, compressedData.getBytes(0, 4).toByteArray());
 
         final Bytes decompressedData = zstdGrpcTransformer.decompress(compressedData);
         assertArrayEquals(data, decompressedData.toByteArray());
     }
+
+    @Test
+    void testStreamedFrameDecompression() {
+        // A frame written by a zstd stream, which doesn't record the decompressed size
+        final byte[] data = new byte[] {55, -37, 3, 0, 87, 57, 17};
+        final byte[] streamedData = new byte[] {40, -75, 47, -3, 0, 88, 56, 0, 0, 55, -37, 3, 0, 87, 57, 17, 1, 0, 0};
+
+        final ZstdGrpcTransformer zstdGrpcTransformer = new ZstdGrpcTransformer();
+
+        assertArrayEquals(data, zstdGrpcTransformer.decompress(Bytes.wrap(streamedData)).toByteArray());
+    }
+
+    @Test
+    void testSequentialDataAndBuffers() {
+        final byte[] data = new byte[10_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 7);
+        }
+        final ZstdGrpcTransformer zstdGrpcTransformer = new ZstdGrpcTransformer();
+
+        final BufferedData compressed = BufferedData.allocate(data.length);
+        zstdGrpcTransformer.compress(BufferedData.wrap(data), compressed);
+        compressed.flip();
+        final BufferedData decompressed = BufferedData.allocate(data.length);
+        zstdGrpcTransformer.decompress(compressed, decompressed);
+        decompressed.flip();
+        assertArrayEquals(data, decompressed.readBytes(data.length).toByteArray());
+
+        final ByteBuffer source = ByteBuffer.allocateDirect(data.length).put(data).flip();
+        final ByteBuffer compressedBuffer = ByteBuffer.allocateDirect(data.length);
+        final int compressedLength = zstdGrpcTransformer.compress(source, compressedBuffer);
+        assertEquals(compressedLength, compressedBuffer.position());
+        assertFalse(source.hasRemaining());
+        final ByteBuffer decompressedBuffer = ByteBuffer.allocateDirect(data.length);
+        assertEquals(data.length, zstdGrpcTransformer.decompress(compressedBuffer.flip(), decompressedBuffer));
+        final byte[] result = new byte[data.length];
+        decompressedBuffer.flip().get(result);
+        assertArrayEquals(data, result);
+    }
+
+    @Test
+    void testDictionary() {
+        final Bytes dictionary =
+                Bytes.wrap("{\"account\":\"0.0.1001\",\"memo\":\"transfer\",\"fee\":100000}".repeat(10));
+        final Bytes message = Bytes.wrap("{\"account\":\"0.0.1002\",\"memo\":\"transfer\",\"fee\":100001}");
+
+        final ZstdGrpcTransformer withDictionary = new ZstdGrpcTransformer(3, dictionary);
+        final ZstdGrpcTransformer withoutDictionary = new ZstdGrpcTransformer(3);
+        assertEquals(dictionary, withDictionary.dictionary());
+
+        final Bytes compressed = withDictionary.compress(message);
+        assertTrue(compressed.length() < withoutDictionary.compress(message).length());
+        assertEquals(message, withDictionary.decompress(compressed));
+        assertThrows(RuntimeException.class, () -> withoutDictionary.decompress(compressed));
+    }
 }
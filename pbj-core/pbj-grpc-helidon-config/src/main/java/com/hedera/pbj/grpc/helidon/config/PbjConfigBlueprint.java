@@ -1,9 +1,11 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.grpc.helidon.config;
 
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.webserver.spi.ProtocolConfig;
+import java.util.Optional;
 
 /**
  * Blueprint for PbjConfig.
@@ -28,6 +30,56 @@ interface PbjConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     int maxMessageSizeBytes();
 
+    /**
+     * Default maximum number of pending responses per stream ({@value}).
+     *
+     * @see #maxPendingResponses()
+     */
+    int DEFAULT_MAX_PENDING_RESPONSES = 16;
+
+    /**
+     * Maximum number of responses a single stream requests from its service before they are written to the client.
+     * This is the high-water mark of the stream: while the client's HTTP/2 window is open, the service is asked for
+     * up to this many responses ahead of time, and while the window is exhausted, only one. Defaults to
+     * {@value #DEFAULT_MAX_PENDING_RESPONSES}.
+     *
+     * @return the maximum number of responses requested but not yet written, per stream
+     */
+    @Option.DefaultInt(DEFAULT_MAX_PENDING_RESPONSES)
+    @Option.Configured
+    int maxPendingResponses();
+
+    /**
+     * Default maximum number of bytes of request messages buffered per stream ({@value}).
+     *
+     * @see #maxBufferedRequestBytes()
+     */
+    int DEFAULT_MAX_BUFFERED_REQUEST_BYTES = 1024 * 1024; // 1MB
+
+    /**
+     * Maximum number of bytes of request messages that a single stream buffers until its service receives them.
+     * The webserver returns the HTTP/2 window credit of a stream as soon as it reads a frame, so that a slow service
+     * doesn't hold up the other streams of the connection, which makes this the bound on the memory that a client
+     * can fill ahead of the service. Messages wait for the service to request them, and, with an executor, for the
+     * service to receive the previous message. A request that exceeds the limit fails with RESOURCE_EXHAUSTED. A single
+     * message is always buffered, up to {@link #maxMessageSizeBytes()}. Defaults to
+     * {@value #DEFAULT_MAX_BUFFERED_REQUEST_BYTES}.
+     *
+     * @return the maximum number of bytes of request messages received but not yet delivered, per stream
+     */
+    @Option.DefaultInt(DEFAULT_MAX_BUFFERED_REQUEST_BYTES)
+    @Option.Configured
+    int maxBufferedRequestBytes();
+
+    /**
+     * Policy that decides which responses are compressed with the encoding negotiated for a stream, for example
+     * {@link GrpcCompressionPolicy#ALWAYS}. Defaults to {@link GrpcCompressionPolicy#adaptive()}, which sends short
+     * responses, and responses of methods that hardly compress, uncompressed.
+     *
+     * @return the compression policy
+     */
+    Optional<GrpcCompressionPolicy> compressionPolicy();
+
     /**
      * Protocol configuration type.
      *
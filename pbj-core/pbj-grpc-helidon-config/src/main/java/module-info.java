@@ -8,6 +8,7 @@ import io.helidon.common.features.api.HelidonFlavor;
 @Features.Flavor(HelidonFlavor.SE)
 @Features.Path({"WebServer", "PBJ"})
 module com.hedera.pbj.grpc.helidon.config {
+    requires transitive com.hedera.pbj.runtime;
     requires transitive io.helidon.builder.api;
     requires transitive io.helidon.common.config; // indirectly used on API of generated 'PbjConfig'
     requires transitive io.helidon.common;
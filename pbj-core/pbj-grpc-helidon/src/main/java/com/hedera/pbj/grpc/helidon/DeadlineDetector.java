@@ -18,7 +18,7 @@ interface DeadlineDetector {
      * deadline may be exceeded by a small amount of time measuring in the microseconds or even
      * milliseconds.
      *
-     * @param deadlineNanos The deadline, in nanoseconds, from now.
+     * @param deadlineNanos The deadline, as a {@link System#nanoTime()} value.
      * @param onDeadlineExceeded The callback to invoke when the deadline has been exceeded.
      * @return A {@link ScheduledFuture} that can be used to cancel the deadline.
      */
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.helidon;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides which threads run the gRPC methods of a service, for example:
+ *
+ * <pre>{@code
+ * PbjRouting.builder()
+ *         .service(new HelloServiceImpl(), PbjGrpcServiceConfig.DEFAULT, PbjExecutionPolicy.virtualThreadPerCall())
+ * }</pre>
+ *
+ * <p>By default, methods run {@link #INLINE} on the thread of the HTTP/2 connection that delivered the request. That
+ * is the cheapest option for fast methods, but a slow method blocks every other stream of the same connection. With
+ * an executor, the calls into the method of each stream still happen one at a time and in order, but on the threads
+ * of the executor. If the executor rejects a call, the call fails with {@code RESOURCE_EXHAUSTED}.
+ *
+ * @param executor the executor to run the methods on, or null to run them on the connection thread
+ */
+public record PbjExecutionPolicy(@Nullable Executor executor) {
+    /** Run the methods on the thread of the HTTP/2 connection. */
+    public static final PbjExecutionPolicy INLINE = new PbjExecutionPolicy(null);
+
+    /**
+     * Run each call on a new virtual thread.
+     *
+     * @return a new policy
+     */
+    @NonNull
+    public static PbjExecutionPolicy virtualThreadPerCall() {
+        final ThreadFactory factory = Thread.ofVirtual().name("pbj-grpc-call-", 0).factory();
+        return new PbjExecutionPolicy(task -> factory.newThread(task).start());
+    }
+
+    /**
+     * Run the calls on a fixed number of platform threads. Calls that arrive while all threads are busy wait in a
+     * queue, and calls that arrive while the queue is full are rejected with {@code RESOURCE_EXHAUSTED}. The threads
+     * are daemon threads that stop when idle, so the pool needs no shutdown.
+     *
+     * @param threads the number of threads
+     * @param queueLimit the maximum number of calls waiting for a thread
+     * @return a new policy
+     */
+    @NonNull
+    public static PbjExecutionPolicy boundedPool(final int threads, final int queueLimit) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive");
+        }
+        if (queueLimit <= 0) {
+            throw new IllegalArgumentException("The queue limit must be positive");
+        }
+        final var count = new AtomicInteger();
+        final var pool = new ThreadPoolExecutor(
+                threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueLimit), task -> {
+                    final var thread = new Thread(task, "pbj-grpc-call-" + count.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return new PbjExecutionPolicy(pool);
+    }
+
+    /**
+     * Run the calls on the given executor. If it throws a
+     * {@link java.util.concurrent.RejectedExecutionException}, the call fails with {@code RESOURCE_EXHAUSTED}.
+     *
+     * @param executor the executor
+     * @return a new policy
+     */
+    @NonNull
+    public static PbjExecutionPolicy executor(@NonNull final Executor executor) {
+        return new PbjExecutionPolicy(requireNonNull(executor));
+    }
+}
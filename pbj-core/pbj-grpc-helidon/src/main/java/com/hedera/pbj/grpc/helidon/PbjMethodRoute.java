@@ -29,6 +29,12 @@ final class PbjMethodRoute extends PbjRoute {
     @NonNull
     private final ServiceInterface.Method method;
 
+    @NonNull
+    private final PbjExecutionPolicy executionPolicy;
+
+    @NonNull
+    private final PbjResponseCoalescing responseCoalescing;
+
     @NonNull
     private final String fullPath;
 
@@ -60,7 +66,7 @@ final class PbjMethodRoute extends PbjRoute {
     private final Counter deadlineExceededCounter;
 
     /**
-     * Constructor
+     * Constructor for a method that runs inline, on the thread of the connection.
      *
      * @param service The service that the method belongs to
      * @param method The method that this route represents
@@ -69,9 +75,43 @@ final class PbjMethodRoute extends PbjRoute {
             @NonNull final ServiceInterface service,
             @NonNull final PbjGrpcServiceConfig serviceConfig,
             @NonNull final ServiceInterface.Method method) {
+        this(service, serviceConfig, method, PbjExecutionPolicy.INLINE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param service The service that the method belongs to
+     * @param method The method that this route represents
+     * @param executionPolicy The policy that decides which threads run the method
+     */
+    PbjMethodRoute(
+            @NonNull final ServiceInterface service,
+            @NonNull final PbjGrpcServiceConfig serviceConfig,
+            @NonNull final ServiceInterface.Method method,
+            @NonNull final PbjExecutionPolicy executionPolicy) {
+        this(service, serviceConfig, method, executionPolicy, PbjResponseCoalescing.NONE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param service The service that the method belongs to
+     * @param method The method that this route represents
+     * @param executionPolicy The policy that decides which threads run the method
+     * @param responseCoalescing The coalescing of the responses of the method
+     */
+    PbjMethodRoute(
+            @NonNull final ServiceInterface service,
+            @NonNull final PbjGrpcServiceConfig serviceConfig,
+            @NonNull final ServiceInterface.Method method,
+            @NonNull final PbjExecutionPolicy executionPolicy,
+            @NonNull final PbjResponseCoalescing responseCoalescing) {
         this.service = requireNonNull(service);
         this.serviceConfig = requireNonNull(serviceConfig);
         this.method = requireNonNull(method);
+        this.executionPolicy = requireNonNull(executionPolicy);
+        this.responseCoalescing = requireNonNull(responseCoalescing);
 
         final var serviceName = service.fullName();
         final var methodName = method.name();
@@ -145,6 +185,18 @@ final class PbjMethodRoute extends PbjRoute {
         return serviceConfig;
     }
 
+    /** The {@link PbjExecutionPolicy} of the method. */
+    @NonNull
+    PbjExecutionPolicy executionPolicy() {
+        return executionPolicy;
+    }
+
+    /** The {@link PbjResponseCoalescing} of the method. */
+    @NonNull
+    PbjResponseCoalescing responseCoalescing() {
+        return responseCoalescing;
+    }
+
     /** The full path, such as `/example.HelloService/SayHello`. */
     @NonNull
     String fullPath() {
@@ -15,11 +15,15 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.grpc.common.compression.ZstdGrpcTransformer;
 import com.hedera.pbj.grpc.helidon.config.PbjConfig;
+import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import com.hedera.pbj.runtime.grpc.GrpcException;
 import com.hedera.pbj.runtime.grpc.GrpcStatus;
 import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.grpc.SerializingPipeline;
 import com.hedera.pbj.runtime.grpc.ServiceInterface;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -47,18 +51,24 @@ import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.http2.spi.Http2SubProtocolSelector;
 import java.net.SocketAddress;
 import java.security.cert.Certificate;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -82,6 +92,12 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
 
     private static final Pattern GRPC_TIMEOUT_PATTERN = Pattern.compile(GRPC_TIMEOUT_REGEX);
 
+    /** The length of the prefix of every gRPC message: a compressed flag byte, and a 4-byte length. */
+    private static final int PREFIX_LENGTH = 5;
+
+    /** The compression policy of configurations without one, shared so that it learns from all streams. */
+    private static final GrpcCompressionPolicy DEFAULT_COMPRESSION_POLICY = GrpcCompressionPolicy.adaptive();
+
     // Helidon-specific fields related to the connection itself
     private final Http2Headers headers;
     private final Http2StreamWriter streamWriter;
@@ -98,6 +114,9 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
 
     private final PbjConfig config;
 
+    /** Decides which responses are compressed with the {@link #outgoingEncoding}. */
+    private final GrpcCompressionPolicy compressionPolicy;
+
     /**
      * If there is a timeout defined for the request, then this detector is used to determine when
      * the timeout deadline has been met. The detector runs on a background thread/timer.
@@ -185,6 +204,26 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
      */
     private String outgoingEncoding = GrpcCompression.IDENTITY;
 
+    /**
+     * The subscriber that sends responses to the client. It is created with the handler so that
+     * {@link #windowUpdate} can resume the demand of the service once the client's window opens.
+     */
+    private final SendToClientSubscriber sendToClient = new SendToClientSubscriber();
+
+    /**
+     * The subscription given to the {@link #pipeline} for the request messages. The {@link #data} method queues the
+     * messages on it, and it delivers them as the service asks for them.
+     */
+    private final InboundSubscription inbound = new InboundSubscription();
+
+    /**
+     * Runs the calls into the {@link #pipeline} for this stream one at a time and in order, on the
+     * threads of the route's {@link PbjExecutionPolicy}. Null if the policy is inline, in which case
+     * the calls are made on the connection thread.
+     */
+    @Nullable
+    private final Executor pipelineExecutor;
+
     /** Create a new instance */
     PbjProtocolHandler(
             @NonNull final Http2Headers headers,
@@ -202,7 +241,10 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
         this.flowControl = requireNonNull(flowControl);
         this.currentStreamState = new AtomicReference<>(requireNonNull(currentStreamState));
         this.config = requireNonNull(config);
+        this.compressionPolicy = config.compressionPolicy().orElse(DEFAULT_COMPRESSION_POLICY);
         this.route = requireNonNull(route);
+        final Executor executor = route.executionPolicy().executor();
+        this.pipelineExecutor = executor == null ? null : new SerialExecutor(executor);
         this.deadlineDetector = requireNonNull(deadlineDetector);
         this.connectionContext = ctx;
     }
@@ -318,8 +360,11 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
             // Setup the subscribers. The "outgoing" subscriber will send messages to the client.
             // This is given to the "open" method on the service to allow it to send messages to
             // the client.
-            final Pipeline<? super Bytes> outgoing = new SendToClientSubscriber();
-            pipeline = route.service().open(route.method(), options, outgoing);
+            pipeline = route.service().open(route.method(), options, sendToClient);
+
+            // Services that do not ask for requests when subscribed get all of them, as they arrive
+            pipeline.onSubscribe(inbound);
+            inbound.requestAllIfIdle();
         } catch (final GrpcException grpcException) {
             route.failedGrpcRequestCounter().increment();
             new TrailerOnlyBuilder()
@@ -356,12 +401,14 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
 
     @Override
     public void rstStream(@NonNull final Http2RstStream rstStream) {
-        pipeline.onComplete();
+        inbound.close();
+        dispatch(pipeline::onComplete);
     }
 
     @Override
     public void windowUpdate(@NonNull final Http2WindowUpdate update) {
-        // Nothing to do
+        // The client is ready for more data, so the service may produce more responses
+        sendToClient.requestMore();
     }
 
     /**
@@ -416,8 +463,7 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
 
                             // In this case we have a request with no message, like an empty unary request
                             if (length == 0) {
-                                final Bytes bytes = Bytes.EMPTY;
-                                pipeline.onNext(bytes);
+                                inbound.offer(Bytes.EMPTY);
                                 currentReadState = ReadState.START;
                             } else {
                                 // Create a buffer to hold the message. We sadly cannot reuse this buffer
@@ -453,7 +499,9 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
                             if (entityIsCompressed == 1) {
                                 bytes = decompressor.decompress(bytes);
                             }
-                            pipeline.onNext(bytes);
+                            // The message is delivered once the service wants it. This method must not wait
+                            // for that, because it runs on the connection thread that serves all the streams.
+                            inbound.offer(bytes);
                             entityBytesIndex = 0;
                             entityBytes = null;
                         }
@@ -472,13 +520,44 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
                 // So we mark the stream as CLOSED as this is the only state under which
                 // the server HTTP2 stream will be properly released by Helidon.
                 currentStreamState.set(Http2StreamState.CLOSED);
-                pipeline.clientEndStreamReceived();
+                inbound.end();
             }
         } catch (final Exception e) {
             // I have to propagate this error through the service interface, so it can respond to
             // errors in the connection, tear down resources, etc. It will also forward this on
             // to the client, causing the connection to be torn down.
-            pipeline.onError(e);
+            dispatch(() -> pipeline.onError(e));
+        }
+    }
+
+    /**
+     * Make a call into the {@link #pipeline}, either right away or on the executor of the route's
+     * {@link PbjExecutionPolicy}. Calls made on the executor that fail are reported to the pipeline,
+     * like failures of calls made right away are reported by {@link #data}. If the executor rejects
+     * the call, the request fails with {@link GrpcStatus#RESOURCE_EXHAUSTED}, and the request
+     * messages that have not been delivered yet are dropped.
+     *
+     * @return false if the executor rejected the call
+     */
+    private boolean dispatch(@NonNull final Runnable call) {
+        if (pipelineExecutor == null) {
+            call.run();
+            return true;
+        }
+        try {
+            pipelineExecutor.execute(() -> {
+                try {
+                    call.run();
+                } catch (final Exception e) {
+                    pipeline.onError(e);
+                }
+            });
+            return true;
+        } catch (final RejectedExecutionException e) {
+            inbound.close();
+            route.failedGrpcRequestCounter().increment();
+            pipeline.onError(new GrpcException(GrpcStatus.RESOURCE_EXHAUSTED, "Too many calls in progress"));
+            return false;
         }
     }
 
@@ -496,6 +575,7 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
         // cancel is threadsafe
         deadlineFuture.cancel(false);
         currentStreamState.set(Http2StreamState.CLOSED);
+        inbound.close();
     }
 
     /**
@@ -702,43 +782,298 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
     /**
      * The implementation of {@link Pipeline} used to send messages to the client. It
      * receives bytes from the handlers to send to the client.
+     *
+     * <p>The demand signalled to the subscription follows the outbound HTTP/2 window of the stream.
+     * While the window is open, up to {@link PbjConfig#maxPendingResponses()} responses are requested
+     * ahead of being written. While the window is exhausted, at most one response is outstanding, and
+     * the rest of the demand is requested when a {@link #windowUpdate} arrives. A single response is
+     * still allowed so that the stream can never stall on a window update that is not delivered to it,
+     * since writing that response blocks until the window opens anyway.
+     *
+     * <p>If the {@link PbjResponseCoalescing} of the method is enabled, the datagrams of consecutive
+     * responses are appended to a pending buffer, which is written as a single DATA frame when it is
+     * full, when its linger expires, or before the trailers are sent. The linger timer runs on the
+     * scheduler thread shared by all the streams of the server, so it never writes the buffer itself,
+     * which may block on the outbound window. It hands the write off to the executor of the stream
+     * instead, and the next response writes the buffer first if it gets there before that.
      */
-    private final class SendToClientSubscriber implements Pipeline<Bytes> {
+    private final class SendToClientSubscriber implements SerializingPipeline {
         private final AtomicBoolean completedOnce = new AtomicBoolean(false);
 
+        /** The coalescing of the responses of the method. */
+        private final PbjResponseCoalescing coalescing = route.responseCoalescing();
+
+        /** Guards the pending buffer of coalesced datagrams, and the frames written from it. */
+        private final Object pendingLock = new Object();
+
+        /** The coalesced datagrams not written yet, or null if none. Guarded by pendingLock. */
+        private byte[] pending;
+
+        /** The number of bytes in the pending buffer. Guarded by pendingLock. */
+        private int pendingLength;
+
+        /** Incremented whenever the pending buffer is written, to ignore stale lingers. Guarded by pendingLock. */
+        private long pendingGeneration;
+
+        /** The generation of the pending buffer whose linger expired last, or -1 if none. */
+        private volatile long expiredGeneration = -1;
+
+        /** The subscription of the producer of the responses, or null before it subscribes. Guarded by this. */
+        private Flow.Subscription subscription;
+
+        /** The number of responses requested from the subscription but not received yet. Guarded by this. */
+        private long outstanding;
+
         @Override
         public void onSubscribe(@NonNull final Flow.Subscription subscription) {
-            // FUTURE: Add support for flow control
-            subscription.request(Long.MAX_VALUE);
+            requireNonNull(subscription);
+            synchronized (this) {
+                this.subscription = subscription;
+                this.outstanding = 0;
+            }
+            requestMore();
+        }
+
+        /**
+         * Request as many responses from the subscription as the outbound window and the high-water
+         * mark allow. The subscription is called outside the lock, because it may deliver responses
+         * synchronously.
+         */
+        void requestMore() {
+            final Flow.Subscription s;
+            final long n;
+            synchronized (this) {
+                if (subscription == null || completedOnce.get()) {
+                    return;
+                }
+                final long target =
+                        flowControl.getRemainingWindowSize() > 0 ? Math.max(1, config.maxPendingResponses()) : 1;
+                n = target - outstanding;
+                if (n <= 0) {
+                    return;
+                }
+                outstanding = target;
+                s = subscription;
+            }
+            s.request(n);
         }
 
         @Override
         public void onNext(@NonNull final Bytes response) {
+            writeDatagram(() -> createDatagram(response, shouldCompress(response.length())));
+        }
+
+        /**
+         * Serialize a response straight into a new gRPC datagram, if it is not compressed. A compressed
+         * response has to be serialized in full first, to compress it.
+         */
+        @Override
+        public <T> void onNext(@NonNull final T response, @NonNull final Codec<T> codec) {
+            writeDatagram(() -> {
+                final int length = codec.measureRecord(response);
+                return shouldCompress(length)
+                        ? createDatagram(codec.toBytes(response), true)
+                        : createDatagram(response, codec, length);
+            });
+        }
+
+        /**
+         * Decide whether to compress a response. Responses are compressed only with a compressing encoding,
+         * and only when the {@link #compressionPolicy} deems it worthwhile. Otherwise, they are sent with
+         * the compressed flag set to 0, which clients accept regardless of the grpc-encoding.
+         *
+         * @param length the length of the serialized response
+         * @return true to compress the response
+         */
+        private boolean shouldCompress(final long length) {
+            return !GrpcCompression.IDENTITY.equals(outgoingEncoding)
+                    && compressionPolicy.shouldCompress(route.fullPath(), length);
+        }
+
+        /**
+         * Write a gRPC datagram to the client, and request the next response from the service.
+         *
+         * @param datagram creates the datagram to write, and may fail like the write itself
+         */
+        private void writeDatagram(@NonNull final Supplier<BufferData> datagram) {
             try {
-                final Bytes compressedResponse =
-                        GrpcCompression.getCompressor(outgoingEncoding).compress(response);
-                final int length = (int) compressedResponse.length();
-                final var bufferData = BufferData.create(5 + length);
-                bufferData.write(GrpcCompression.IDENTITY.equals(outgoingEncoding) ? 0 : 1);
-                bufferData.writeUnsignedInt32(length);
-                bufferData.write(compressedResponse.toByteArray());
-                final var header = Http2FrameHeader.create(
-                        bufferData.available(), Http2FrameTypes.DATA, Http2Flag.DataFlags.create(0), streamId);
-
-                // This method may throw an UncheckedIOException. If this happens, the connection with the client
-                // has been violently terminated, and we should raise the error, and we should throw an exception
-                // so the user knows the connection is toast.
-                streamWriter.writeData(new Http2FrameData(header, bufferData), flowControl);
+                final var bufferData = datagram.get();
+                if (coalescing.enabled()) {
+                    coalesce(bufferData);
+                } else {
+                    writeFrame(bufferData);
+                }
             } catch (final Exception e) {
                 LOGGER.log(DEBUG, "Failed to respond to grpc request: " + route.method(), e);
                 route.failedResponseCounter().increment();
                 throw new RuntimeException(e);
             }
+
+            synchronized (this) {
+                if (outstanding > 0) {
+                    outstanding--;
+                }
+            }
+            requestMore();
+        }
+
+        /**
+         * Write data to the client as a single DATA frame.
+         *
+         * @param bufferData the data, one or more gRPC datagrams
+         */
+        private void writeFrame(@NonNull final BufferData bufferData) {
+            final var header = Http2FrameHeader.create(
+                    bufferData.available(), Http2FrameTypes.DATA, Http2Flag.DataFlags.create(0), streamId);
+
+            // This method may throw an UncheckedIOException. If this happens, the connection with the client
+            // has been violently terminated, and we should raise the error, and we should throw an exception
+            // so the user knows the connection is toast.
+            streamWriter.writeData(new Http2FrameData(header, bufferData), flowControl);
+        }
+
+        /**
+         * Append a datagram to the pending buffer, writing the buffer first if the datagram doesn't fit in it.
+         * A datagram that is larger than the buffer is written on its own. The linger starts when the first
+         * datagram is appended to an empty buffer.
+         *
+         * @param bufferData the datagram
+         */
+        private void coalesce(@NonNull final BufferData bufferData) {
+            final int length = bufferData.available();
+            synchronized (pendingLock) {
+                if (pendingLength + length > coalescing.maxBytes() || expiredGeneration == pendingGeneration) {
+                    writePending();
+                }
+                if (length > coalescing.maxBytes()) {
+                    writeFrame(bufferData);
+                    return;
+                }
+                if (pending == null) {
+                    pending = new byte[coalescing.maxBytes()];
+                }
+                bufferData.read(pending, pendingLength, length);
+                pendingLength += length;
+                if (pendingLength == length) {
+                    final long generation = pendingGeneration;
+                    deadlineDetector.scheduleDeadline(
+                            System.nanoTime() + coalescing.linger().toNanos(), () -> lingerExpired(generation));
+                }
+            }
+        }
+
+        /**
+         * Called on the shared scheduler thread when the linger of the pending buffer expires. It must not
+         * write, or even wait for the {@code pendingLock}, so it only marks the buffer as expired and hands
+         * the write off to the executor of the stream: the executor of the route's {@link PbjExecutionPolicy},
+         * or the executor of the connection if the policy is inline. If the executor rejects the write, the
+         * buffer is written with the next response, or before the trailers.
+         *
+         * @param generation the generation of the pending buffer when the linger started
+         */
+        private void lingerExpired(final long generation) {
+            expiredGeneration = generation;
+            try {
+                final Executor executor = pipelineExecutor != null ? pipelineExecutor : connectionContext.executor();
+                executor.execute(() -> linger(generation));
+            } catch (final RejectedExecutionException e) {
+                LOGGER.log(DEBUG, "Deferred the write of coalesced responses to the next response", e);
+            }
+        }
+
+        /**
+         * Write the pending buffer after its linger expired, unless it has been written since.
+         *
+         * @param generation the generation of the pending buffer when the linger started
+         */
+        private void linger(final long generation) {
+            try {
+                synchronized (pendingLock) {
+                    if (generation == pendingGeneration) {
+                        writePending();
+                    }
+                }
+            } catch (final Exception e) {
+                LOGGER.log(DEBUG, "Failed to respond to grpc request: " + route.method(), e);
+                route.failedResponseCounter().increment();
+                pipeline.onError(e);
+            }
+        }
+
+        /**
+         * Write the pending buffer, if it has any datagrams, as a single DATA frame. The written array is
+         * handed over to the writer, so a new one is allocated for the next datagrams.
+         */
+        private void writePending() {
+            synchronized (pendingLock) {
+                if (pendingLength == 0) {
+                    return;
+                }
+                final var bufferData = BufferData.create(pending, 0, pendingLength);
+                pending = null;
+                pendingLength = 0;
+                pendingGeneration++;
+                writeFrame(bufferData);
+            }
+        }
+
+        /**
+         * Copy a response, compressed if needed, straight into the array of a new gRPC datagram, after the
+         * prefix. The datagram wraps the array, so the response is copied once, rather than copied into an
+         * intermediate array first and then into the buffer of the datagram.
+         *
+         * @param response the serialized response
+         * @param compress whether to compress the response
+         * @return a gRPC datagram with the response
+         */
+        private BufferData createDatagram(@NonNull final Bytes response, final boolean compress) {
+            final Bytes payload;
+            if (compress) {
+                payload = GrpcCompression.getCompressor(outgoingEncoding).compress(response);
+                compressionPolicy.recordCompression(route.fullPath(), response.length(), payload.length());
+            } else {
+                payload = response;
+            }
+            final int length = Math.toIntExact(payload.length());
+            final byte[] datagram = new byte[PREFIX_LENGTH + length];
+
+            // gRPC datagram header
+            final BufferedData header = BufferedData.wrap(datagram);
+            header.writeByte((byte) (compress ? 1 : 0));
+            header.writeInt(length);
+
+            // gRPC datagram data payload
+            payload.writeTo(datagram, PREFIX_LENGTH);
+            return BufferData.create(datagram);
+        }
+
+        /**
+         * Serialize an uncompressed response straight into the array of a new gRPC datagram, after the
+         * prefix, so the response is never materialized on its own.
+         *
+         * @param response the response
+         * @param codec the codec to serialize the response with
+         * @param length the serialized length of the response
+         * @return a gRPC datagram with the response
+         */
+        private <T> BufferData createDatagram(
+                @NonNull final T response, @NonNull final Codec<T> codec, final int length) {
+            final byte[] datagram = new byte[PREFIX_LENGTH + length];
+
+            // gRPC datagram header
+            final BufferedData header = BufferedData.wrap(datagram);
+            header.writeByte((byte) 0);
+            header.writeInt(length);
+
+            // gRPC datagram data payload
+            codec.write(response, datagram, PREFIX_LENGTH);
+            return BufferData.create(datagram);
         }
 
         @Override
         public void onError(@NonNull final Throwable throwable) {
             try {
+                writePending();
                 if (throwable instanceof final GrpcException grpcException) {
                     new TrailerBuilder()
                             .grpcStatus(grpcException.status())
@@ -760,9 +1095,19 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
             if (!completedOnce.compareAndSet(false, true)) {
                 return;
             }
+            try {
+                writePending();
+            } catch (final Exception e) {
+                LOGGER.log(DEBUG, "Failed to respond to grpc request: " + route.method(), e);
+                route.failedResponseCounter().increment();
+                throw new RuntimeException(e);
+            }
             new TrailerBuilder().send();
 
             deadlineFuture.cancel(false);
+            // The service is done and will not ask for more, so any further requests go straight to
+            // the pipeline, which rejects them, rather than waiting for demand forever
+            inbound.request(Long.MAX_VALUE);
 
             currentStreamState.getAndUpdate(currentValue -> {
                 if (requireNonNull(currentValue) == Http2StreamState.OPEN) {
@@ -778,6 +1123,192 @@ final class PbjProtocolHandler implements Http2SubProtocolSelector.SubProtocolHa
         }
     }
 
+    /**
+     * The implementation of {@link Flow.Subscription} used to deliver request messages to the service
+     * only as fast as it asks for them. The webserver calls {@link #data} on the connection's thread,
+     * which also serves the other streams of the connection and its control frames, so the messages
+     * are queued here rather than waiting there for demand.
+     *
+     * <p>Helidon returns the HTTP/2 window credit of a stream as soon as {@link #data} consumes a
+     * frame, so the client is not held back while the service is slow. The queue is bounded instead:
+     * once the messages waiting to be delivered, whether for the demand of the service or for the
+     * executor of the route, would take more than {@link PbjConfig#maxBufferedRequestBytes()}, the
+     * request fails with {@link GrpcStatus#RESOURCE_EXHAUSTED}.
+     *
+     * <p>Messages, and the end of the stream after them, are delivered by whichever thread finds them
+     * deliverable, one thread at a time and in order. With an executor, that thread is a single task
+     * on the executor that takes the next message off the queue only once the service has received the
+     * previous one, so the messages wait here, where they are counted, rather than on the executor.
+     */
+    private final class InboundSubscription implements Flow.Subscription {
+        /** Guards the state below. Not held while calling the pipeline. */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** The messages received but not delivered yet. Guarded by {@link #lock}. */
+        private final ArrayDeque<Bytes> messages = new ArrayDeque<>();
+
+        /** The total length of the {@link #messages}. Guarded by {@link #lock}. */
+        private long bufferedBytes;
+
+        /** The number of messages requested but not delivered yet. Guarded by {@link #lock}. */
+        private long demand;
+
+        /** Whether any messages have been requested. Guarded by {@link #lock}. */
+        private boolean requested;
+
+        /** Whether the client ended the stream. Guarded by {@link #lock}. */
+        private boolean ended;
+
+        /** Whether the service cancelled, or the stream is closed. Guarded by {@link #lock}. */
+        private boolean closed;
+
+        /** The number of times {@link #drain()} was called while delivering, or 0 if not delivering. */
+        private final AtomicInteger drains = new AtomicInteger();
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                requested = true;
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            close();
+        }
+
+        /** Request all messages, unless some have been requested already. */
+        void requestAllIfIdle() {
+            final boolean idle;
+            lock.lock();
+            try {
+                idle = !requested;
+            } finally {
+                lock.unlock();
+            }
+            if (idle) {
+                request(Long.MAX_VALUE);
+            }
+        }
+
+        /**
+         * Queue a message received from the client, and deliver it if the service wants it.
+         *
+         * @param message the message
+         * @throws GrpcException if too many messages are waiting for the service already
+         */
+        void offer(@NonNull final Bytes message) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (!messages.isEmpty() && bufferedBytes + message.length() > config.maxBufferedRequestBytes()) {
+                    closed = true;
+                    messages.clear();
+                    bufferedBytes = 0;
+                    route.failedGrpcRequestCounter().increment();
+                    throw new GrpcException(
+                            GrpcStatus.RESOURCE_EXHAUSTED, "Too many requests waiting for the service");
+                }
+                messages.add(message);
+                bufferedBytes += message.length();
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        /** Tell the service that the client ended the stream, once it has received the queued messages. */
+        void end() {
+            lock.lock();
+            try {
+                ended = true;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        /** Drop the queued messages and any further ones. The end of the stream is still delivered. */
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                messages.clear();
+                bufferedBytes = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Deliver the queued messages for which there is demand, right away or on the executor of
+         * the route. If another thread is delivering already, that thread delivers them instead, so
+         * that calls into the pipeline never overlap, even when the service requests more from within
+         * onNext.
+         */
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            if (!dispatch(this::deliver)) {
+                // The request has failed, and nothing is delivering
+                drains.set(0);
+            }
+        }
+
+        /** Make the calls into the pipeline for the deliverable messages, until there are none left. */
+        private void deliver() {
+            int missed = 1;
+            do {
+                Runnable next;
+                while ((next = poll()) != null) {
+                    next.run();
+                }
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Take the next call to make into the pipeline, if any.
+         *
+         * @return the call that delivers the next message or the end of the stream, or null if there is none
+         */
+        @Nullable
+        private Runnable poll() {
+            lock.lock();
+            try {
+                if (!messages.isEmpty()) {
+                    if (demand == 0) {
+                        return null;
+                    }
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                    final Bytes message = messages.poll();
+                    bufferedBytes -= message.length();
+                    return () -> pipeline.onNext(message);
+                }
+                if (ended) {
+                    ended = false;
+                    return pipeline::clientEndStreamReceived;
+                }
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     /** Simple implementation of the {@link ServiceInterface.RequestOptions} interface. */
     private record Options(
             Optional<String> authority,
@@ -44,8 +44,8 @@ class PbjProtocolSelector implements Http2SubProtocolSelector {
      */
     PbjProtocolSelector(@NonNull final PbjConfig config) {
         this.config = requireNonNull(config);
-        this.deadlineDetector = (deadline, onDeadlineExceeded) ->
-                deadlineExecutorService.schedule(onDeadlineExceeded, deadline, TimeUnit.NANOSECONDS);
+        this.deadlineDetector = (deadline, onDeadlineExceeded) -> deadlineExecutorService.schedule(
+                onDeadlineExceeded, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
 
         final var metricRegistry = Metrics.globalRegistry();
         this.requestCounter = metricRegistry.getOrCreate(
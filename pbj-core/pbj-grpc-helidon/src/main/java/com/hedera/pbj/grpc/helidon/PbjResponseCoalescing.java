@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.helidon;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+
+/**
+ * Decides whether, and how, the responses of a streaming method are coalesced before they are written to the client.
+ * <p>
+ * By default, every response is written as its own HTTP2 DATA frame. With coalescing, consecutive responses are
+ * appended to a buffer of up to `maxBytes`, which is written as a single DATA frame when the next response doesn't
+ * fit in it, when the `linger` expires after the first response was appended, or when the method completes or fails.
+ * This trades a little latency for far fewer frames and socket writes when a method streams many small responses.
+ * A response that is larger than the buffer is written on its own.
+ * <p>
+ * The `maxBytes` should not exceed the maximum frame size negotiated with the clients, 16KB by default, or else
+ * the buffer is split into several frames anyway.
+ *
+ * @param maxBytes the size of the buffer, in bytes, or 0 to write every response as its own frame
+ * @param linger how long the first response in the buffer may wait for more responses before the buffer is written
+ */
+public record PbjResponseCoalescing(int maxBytes, @NonNull Duration linger) {
+    /** Write every response as its own frame. */
+    public static final PbjResponseCoalescing NONE = new PbjResponseCoalescing(0, Duration.ZERO);
+
+    /** The default size of the buffer, which is the default HTTP2 maximum frame size ({@value}). */
+    public static final int DEFAULT_MAX_BYTES = 16 * 1024;
+
+    /** The default linger, which adds little latency compared to a network round trip. */
+    public static final Duration DEFAULT_LINGER = Duration.ofNanos(200_000);
+
+    /** The default coalescing, with the {@link #DEFAULT_MAX_BYTES} and the {@link #DEFAULT_LINGER}. */
+    public static final PbjResponseCoalescing DEFAULT = new PbjResponseCoalescing(DEFAULT_MAX_BYTES, DEFAULT_LINGER);
+
+    public PbjResponseCoalescing {
+        requireNonNull(linger);
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("The maximum coalesced bytes must not be negative, got: " + maxBytes);
+        }
+        if (maxBytes > 0 && (linger.isNegative() || linger.isZero())) {
+            throw new IllegalArgumentException("The linger must be positive, got: " + linger);
+        }
+    }
+
+    /** Whether responses are coalesced at all. */
+    public boolean enabled() {
+        return maxBytes > 0;
+    }
+}
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.grpc.helidon;
 
+import static java.util.Objects.requireNonNull;
+
 import com.hedera.pbj.runtime.grpc.ServiceInterface;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -9,6 +11,7 @@ import io.helidon.webserver.Routing;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * A Helidon {@link Routing} used for constructing the routes for PBJ-based gRPC services.
@@ -114,7 +117,59 @@ public class PbjRouting implements Routing {
         @NonNull
         public Builder service(
                 @NonNull final ServiceInterface service, @NonNull final PbjGrpcServiceConfig serviceConfig) {
-            return route(new PbjServiceRoute(service, serviceConfig));
+            return service(service, serviceConfig, PbjExecutionPolicy.INLINE);
+        }
+
+        /**
+         * Configure grpc service, with all of its methods run according to the given execution policy.
+         *
+         * @param service service to add
+         * @param serviceConfig service configuration
+         * @param executionPolicy the policy that decides which threads run the methods of the service
+         * @return updated builder
+         */
+        @NonNull
+        public Builder service(
+                @NonNull final ServiceInterface service,
+                @NonNull final PbjGrpcServiceConfig serviceConfig,
+                @NonNull final PbjExecutionPolicy executionPolicy) {
+            requireNonNull(executionPolicy);
+            return service(service, serviceConfig, method -> executionPolicy);
+        }
+
+        /**
+         * Configure grpc service, with each method run according to its own execution policy.
+         *
+         * @param service service to add
+         * @param serviceConfig service configuration
+         * @param executionPolicies a function that returns the execution policy for each method of the service
+         * @return updated builder
+         */
+        @NonNull
+        public Builder service(
+                @NonNull final ServiceInterface service,
+                @NonNull final PbjGrpcServiceConfig serviceConfig,
+                @NonNull final Function<ServiceInterface.Method, PbjExecutionPolicy> executionPolicies) {
+            return service(service, serviceConfig, executionPolicies, method -> PbjResponseCoalescing.NONE);
+        }
+
+        /**
+         * Configure grpc service, with each method run according to its own execution policy, and the responses of
+         * each method coalesced according to its own {@link PbjResponseCoalescing}.
+         *
+         * @param service service to add
+         * @param serviceConfig service configuration
+         * @param executionPolicies a function that returns the execution policy for each method of the service
+         * @param responseCoalescing a function that returns the response coalescing for each method of the service
+         * @return updated builder
+         */
+        @NonNull
+        public Builder service(
+                @NonNull final ServiceInterface service,
+                @NonNull final PbjGrpcServiceConfig serviceConfig,
+                @NonNull final Function<ServiceInterface.Method, PbjExecutionPolicy> executionPolicies,
+                @NonNull final Function<ServiceInterface.Method, PbjResponseCoalescing> responseCoalescing) {
+            return route(new PbjServiceRoute(service, serviceConfig, executionPolicies, responseCoalescing));
         }
 
         @NonNull
@@ -8,6 +8,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.PathMatchers;
 import java.util.List;
+import java.util.function.Function;
 
 /** An implementation of {@link PbjRoute} that represents an entire service. */
 class PbjServiceRoute extends PbjRoute {
@@ -21,11 +22,26 @@ class PbjServiceRoute extends PbjRoute {
      * Create a new instance.
      *
      * @param service the service to represent
+     * @param serviceConfig the configuration of the service
+     * @param executionPolicies the execution policy of each method of the service
+     * @param responseCoalescing the response coalescing of each method of the service
      */
-    PbjServiceRoute(@NonNull final ServiceInterface service, @NonNull final PbjGrpcServiceConfig serviceConfig) {
+    PbjServiceRoute(
+            @NonNull final ServiceInterface service,
+            @NonNull final PbjGrpcServiceConfig serviceConfig,
+            @NonNull final Function<ServiceInterface.Method, PbjExecutionPolicy> executionPolicies,
+            @NonNull final Function<ServiceInterface.Method, PbjResponseCoalescing> responseCoalescing) {
         this.serviceName = requireNonNull(service).serviceName();
+        requireNonNull(serviceConfig);
+        requireNonNull(executionPolicies);
+        requireNonNull(responseCoalescing);
         this.routes = service.methods().stream()
-                .map(method -> new PbjMethodRoute(service, requireNonNull(serviceConfig), method))
+                .map(method -> new PbjMethodRoute(
+                        service,
+                        serviceConfig,
+                        method,
+                        requireNonNull(executionPolicies.apply(method)),
+                        requireNonNull(responseCoalescing.apply(method))))
                 .toList();
     }
 
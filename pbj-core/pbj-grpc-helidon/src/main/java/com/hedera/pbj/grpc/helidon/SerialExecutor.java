@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.grpc.helidon;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@link Executor} that runs its tasks one at a time, in the order they were submitted, on the threads of another
+ * executor. Each gRPC stream has one, so that the calls into its pipeline never overlap, no matter which executor
+ * the {@link PbjExecutionPolicy} provides.
+ */
+final class SerialExecutor implements Executor {
+    /** The executor that runs the tasks. */
+    private final Executor executor;
+
+    /** The tasks waiting to run. Guarded by this. */
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    /** Whether a task of the executor is running the queued tasks. Guarded by this. */
+    private boolean running;
+
+    /**
+     * Create a new instance.
+     *
+     * @param executor the executor that runs the tasks
+     */
+    SerialExecutor(@NonNull final Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Run the task after all tasks submitted before it.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    @Override
+    public void execute(@NonNull final Runnable task) {
+        synchronized (this) {
+            tasks.add(requireNonNull(task));
+            if (running) {
+                return;
+            }
+            running = true;
+        }
+        try {
+            executor.execute(this::runTasks);
+        } catch (final RejectedExecutionException e) {
+            synchronized (this) {
+                // Nothing was running, so the queue holds only this task
+                tasks.clear();
+                running = false;
+            }
+            throw e;
+        }
+    }
+
+    /** Run the queued tasks until there are none left. */
+    private void runTasks() {
+        while (true) {
+            final Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+                if (task == null) {
+                    running = false;
+                    return;
+                }
+            }
+            boolean completed = false;
+            try {
+                task.run();
+                completed = true;
+            } finally {
+                if (!completed) {
+                    // Let the next submitted task start a new run, rather than queueing behind this one forever
+                    synchronized (this) {
+                        running = false;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.entry;
 
 import com.hedera.pbj.grpc.helidon.config.PbjConfig;
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
+import com.hedera.pbj.runtime.grpc.GrpcCompressionPolicy;
 import com.hedera.pbj.runtime.grpc.GrpcException;
 import com.hedera.pbj.runtime.grpc.GrpcStatus;
 import com.hedera.pbj.runtime.grpc.Pipeline;
@@ -25,13 +26,16 @@ import io.helidon.http.HeaderNames;
 import io.helidon.http.Status;
 import io.helidon.http.WritableHeaders;
 import io.helidon.http.http2.FlowControl;
+import io.helidon.http.http2.Http2ErrorCode;
 import io.helidon.http.http2.Http2Flag;
 import io.helidon.http.http2.Http2FrameData;
 import io.helidon.http.http2.Http2FrameHeader;
 import io.helidon.http.http2.Http2FrameTypes;
 import io.helidon.http.http2.Http2Headers;
+import io.helidon.http.http2.Http2RstStream;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2StreamWriter;
+import io.helidon.http.http2.Http2WindowUpdate;
 import io.helidon.metrics.api.Metrics;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.ListenerContext;
@@ -42,13 +46,16 @@ import java.io.DataOutputStream;
 import java.net.SocketAddress;
 import java.security.Principal;
 import java.security.cert.Certificate;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -522,6 +529,94 @@ class PbjProtocolHandlerTest {
         assertThat(handler.streamState()).isEqualTo(Http2StreamState.CLOSED);
     }
 
+    @Test
+    void callsRunOnExecutorOfRoute() {
+        final var tasks = new ArrayList<Runnable>();
+        route = new PbjMethodRoute(
+                service,
+                PbjGrpcServiceConfig.DEFAULT,
+                ServiceInterfaceStub.METHOD,
+                PbjExecutionPolicy.executor(tasks::add));
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+
+        final Bytes bytes = createRequestData("Alice");
+        sendAllData(handler, bytes);
+
+        // The message and the end of the stream are queued behind a single task for the stream
+        assertThat(service.receivedBytes).isEmpty();
+        assertThat(tasks).hasSize(1);
+        tasks.getFirst().run();
+        assertThat(service.receivedBytes).containsExactly(bytes);
+    }
+
+    @Test
+    void rejectedCallFailsWithResourceExhausted() {
+        final var rejecting = PbjExecutionPolicy.executor(task -> {
+            throw new RejectedExecutionException("Full");
+        });
+        route = new PbjMethodRoute(service, PbjGrpcServiceConfig.DEFAULT, ServiceInterfaceStub.METHOD, rejecting);
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        sendAllData(handler, createRequestData("Alice"));
+
+        assertThat(service.receivedBytes).isEmpty();
+        assertThat(service.error).isInstanceOf(GrpcException.class);
+        assertThat(((GrpcException) service.error).status()).isEqualTo(GrpcStatus.RESOURCE_EXHAUSTED);
+        assertThat(route.failedGrpcRequestCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void requestsWaitingForTheExecutorAreBounded() {
+        final var tasks = new ArrayList<Runnable>();
+        route = new PbjMethodRoute(
+                service,
+                PbjGrpcServiceConfig.DEFAULT,
+                ServiceInterfaceStub.METHOD,
+                PbjExecutionPolicy.executor(tasks::add));
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+
+        // The service wants all the messages, but they wait on the stream rather than on the executor
+        final var names = new String[100];
+        Arrays.fill(names, "Alice");
+        handler.data(createDataFrameHeader(streamId, 0), createDataFrame(names));
+        assertThat(tasks).hasSize(1);
+        assertThat(route.failedGrpcRequestCounter().count()).isEqualTo(1);
+
+        runAll(tasks);
+        assertThat(service.receivedBytes).isEmpty();
+        assertThat(service.error).isInstanceOf(GrpcException.class);
+        assertThat(((GrpcException) service.error).status()).isEqualTo(GrpcStatus.RESOURCE_EXHAUSTED);
+    }
+
     /**
      * Verifies that {@code scheduleDeadline} computation is correct
      */
@@ -607,6 +702,386 @@ class PbjProtocolHandlerTest {
         assertThat(route.failedResponseCounter().count()).isEqualTo(1);
     }
 
+    @Test
+    void responseIsWrittenAsSingleDatagram() {
+        final var replyRef = new AtomicReference<Pipeline<? super HelloReply>>();
+        route = new PbjMethodRoute(
+                new GreeterServiceImpl() {
+                    @Override
+                    public void sayHelloStreamReply(HelloRequest request, Pipeline<? super HelloReply> replies) {
+                        replyRef.set(replies);
+                    }
+                },
+                PbjGrpcServiceConfig.DEFAULT,
+                GreeterService.GreeterMethod.sayHelloStreamReply);
+
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        sendAllData(handler, createRequestData("Alice"));
+
+        final var reply = HelloReply.newBuilder().setMessage("Hello Alice").build();
+        replyRef.get().onNext(reply);
+
+        assertThat(streamWriter.writtenDataFrames).hasSize(1);
+        final BufferData data = streamWriter.writtenDataFrames.getFirst().data();
+        final byte[] replyBytes = reply.toByteArray();
+        final byte[] datagram = new byte[data.available()];
+        data.read(datagram, 0, datagram.length);
+        assertThat(datagram).hasSize(5 + replyBytes.length);
+        assertThat(datagram[0]).isZero();
+        assertThat(Bytes.wrap(datagram).getInt(1)).isEqualTo(replyBytes.length);
+        assertThat(Bytes.wrap(datagram, 5, replyBytes.length)).isEqualTo(Bytes.wrap(replyBytes));
+    }
+
+    @Test
+    void shortResponsesAreNotCompressed() {
+        final WritableHeaders<?> h = WritableHeaders.create();
+        h.add(HeaderNames.CONTENT_TYPE, "application/grpc+proto");
+        h.add(HeaderNames.createFromLowercase("grpc-accept-encoding"), "gzip");
+        headers = Http2Headers.create(h);
+        final var replyRef = new AtomicReference<Pipeline<? super HelloReply>>();
+        route = new PbjMethodRoute(
+                new GreeterServiceImpl() {
+                    @Override
+                    public void sayHelloStreamReply(HelloRequest request, Pipeline<? super HelloReply> replies) {
+                        replyRef.set(replies);
+                    }
+                },
+                new PbjGrpcServiceConfig("gzip", Set.of("gzip", "identity")),
+                GreeterService.GreeterMethod.sayHelloStreamReply);
+
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        sendAllData(handler, createRequestData("Alice"));
+
+        final var shortReply = HelloReply.newBuilder().setMessage("Hello Alice").build();
+        final var longReply = HelloReply.newBuilder().setMessage("Hello Alice ".repeat(100)).build();
+        replyRef.get().onNext(shortReply);
+        replyRef.get().onNext(longReply);
+
+        assertThat(streamWriter.writtenDataFrames).hasSize(2);
+        final byte[] shortDatagram = readDatagram(streamWriter.writtenDataFrames.get(0).data());
+        assertThat(shortDatagram[0]).isZero();
+        assertThat(Bytes.wrap(shortDatagram, 5, shortDatagram.length - 5))
+                .isEqualTo(Bytes.wrap(shortReply.toByteArray()));
+
+        final byte[] longDatagram = readDatagram(streamWriter.writtenDataFrames.get(1).data());
+        assertThat(longDatagram[0]).isEqualTo((byte) 1);
+        final Bytes payload = Bytes.wrap(longDatagram, 5, longDatagram.length - 5);
+        assertThat(payload.length()).isLessThan(longReply.getSerializedSize());
+        assertThat(GrpcCompression.getDecompressor("gzip").decompress(payload))
+                .isEqualTo(Bytes.wrap(longReply.toByteArray()));
+    }
+
+    @Test
+    void coalescedResponsesAreWrittenAsOneFrame() {
+        final var replyRef = new AtomicReference<Pipeline<? super HelloReply>>();
+        final var tasks = new ArrayList<Runnable>();
+        route = new PbjMethodRoute(
+                new GreeterServiceImpl() {
+                    @Override
+                    public void sayHelloStreamReply(HelloRequest request, Pipeline<? super HelloReply> replies) {
+                        replyRef.set(replies);
+                    }
+                },
+                new PbjGrpcServiceConfig("identity", Set.of("identity")),
+                GreeterService.GreeterMethod.sayHelloStreamReply,
+                PbjExecutionPolicy.executor(tasks::add),
+                new PbjResponseCoalescing(64, Duration.ofMillis(1)));
+
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        sendAllData(handler, createRequestData("Alice"));
+        runAll(tasks);
+
+        final var reply = HelloReply.newBuilder().setMessage("Hello Alice").build();
+        final int datagramLength = 5 + reply.getSerializedSize();
+        final long beforeNanos = System.nanoTime();
+        replyRef.get().onNext(reply);
+        replyRef.get().onNext(reply);
+        assertThat(streamWriter.writtenDataFrames).isEmpty();
+        assertThat(deadlineDetector.capturedDeadlineNanos)
+                .isGreaterThanOrEqualTo(beforeNanos + Duration.ofMillis(1).toNanos());
+
+        // The linger expires, and the scheduler hands the write off to the executor of the stream
+        deadlineDetector.capturedCallback.run();
+        assertThat(streamWriter.writtenDataFrames).isEmpty();
+        runAll(tasks);
+        assertThat(streamWriter.writtenDataFrames).hasSize(1);
+        assertThat(streamWriter.writtenDataFrames.get(0).data().available()).isEqualTo(2 * datagramLength);
+
+        // If the next response arrives before the executor runs the write, the response writes the buffer first
+        replyRef.get().onNext(reply);
+        deadlineDetector.capturedCallback.run();
+        replyRef.get().onNext(reply);
+        assertThat(streamWriter.writtenDataFrames).hasSize(2);
+        assertThat(streamWriter.writtenDataFrames.get(1).data().available()).isEqualTo(datagramLength);
+        // The stale write is skipped, and the buffer of the second response waits for its own linger
+        runAll(tasks);
+        assertThat(streamWriter.writtenDataFrames).hasSize(2);
+        deadlineDetector.capturedCallback.run();
+        runAll(tasks);
+        assertThat(streamWriter.writtenDataFrames).hasSize(3);
+        streamWriter.writtenDataFrames.clear();
+
+        // A response that doesn't fit in the buffer writes the buffer first, and the rest is written on completion
+        final int fitting = 64 / datagramLength;
+        for (int i = 0; i <= fitting; i++) {
+            replyRef.get().onNext(reply);
+        }
+        assertThat(streamWriter.writtenDataFrames).hasSize(1);
+        assertThat(streamWriter.writtenDataFrames.get(0).data().available()).isEqualTo(fitting * datagramLength);
+        replyRef.get().onComplete();
+        runAll(tasks);
+        assertThat(streamWriter.writtenDataFrames).hasSize(2);
+        final byte[] datagram = readDatagram(streamWriter.writtenDataFrames.get(1).data());
+        assertThat(Bytes.wrap(datagram, 5, datagram.length - 5)).isEqualTo(Bytes.wrap(reply.toByteArray()));
+    }
+
+    private static void runAll(final List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.removeFirst().run();
+        }
+    }
+
+    private static byte[] readDatagram(final BufferData data) {
+        final byte[] datagram = new byte[data.available()];
+        data.read(datagram, 0, datagram.length);
+        return datagram;
+    }
+
+    @Test
+    void responseDemandFollowsOutboundWindow() {
+        final var requested = new ArrayList<Long>();
+        final var replyRef = new AtomicReference<Pipeline<? super HelloReply>>();
+        route = new PbjMethodRoute(
+                new GreeterServiceImpl() {
+                    @Override
+                    public void sayHelloStreamReply(HelloRequest request, Pipeline<? super HelloReply> replies) {
+                        replyRef.set(replies);
+                        replies.onSubscribe(new Flow.Subscription() {
+                            @Override
+                            public void request(long n) {
+                                requested.add(n);
+                            }
+
+                            @Override
+                            public void cancel() {}
+                        });
+                    }
+                },
+                PbjGrpcServiceConfig.DEFAULT,
+                GreeterService.GreeterMethod.sayHelloStreamReply);
+
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        sendAllData(handler, createRequestData("Alice"));
+
+        // The window is exhausted, so only a single response is requested
+        assertThat(requested).containsExactly(1L);
+        replyRef.get().onNext(HelloReply.newBuilder().setMessage("One").build());
+        assertThat(requested).containsExactly(1L, 1L);
+
+        // Once the window opens, the demand goes up to the high-water mark
+        flowControl.remainingWindowSize = 1000;
+        handler.windowUpdate(new Http2WindowUpdate(1000));
+        assertThat(requested).containsExactly(1L, 1L, 3L);
+        handler.windowUpdate(new Http2WindowUpdate(1000));
+        assertThat(requested).containsExactly(1L, 1L, 3L);
+
+        // Each written response is replaced by a new one
+        replyRef.get().onNext(HelloReply.newBuilder().setMessage("Two").build());
+        assertThat(requested).containsExactly(1L, 1L, 3L, 1L);
+    }
+
+    @Test
+    void requestsAreDeliveredOnDemand() {
+        final var service = new DemandGreeterService();
+        final var handler = createBidiHandler(service, streamId);
+
+        // Two messages arrive in a single frame, but only one has been requested. The frame is consumed
+        // right away anyway, so that the connection can go on serving other streams.
+        handler.data(createDataFrameHeader(streamId, 0), createDataFrame("Alice", "Bob"));
+        assertThat(service.received).containsExactly("Alice");
+
+        // The queued message is delivered once the service asks for more
+        service.subscription.request(1);
+        assertThat(service.received).containsExactly("Alice", "Bob");
+        assertThat(service.completed).isFalse();
+    }
+
+    @Test
+    void stalledStreamDoesNotBlockTheConnection() {
+        final var stalledService = new DemandGreeterService();
+        final var stalled = createBidiHandler(stalledService, streamId);
+        final var otherService = new DemandGreeterService();
+        final var other = createBidiHandler(otherService, streamId + 2);
+
+        // The service of the first stream only wants one message, but three arrive
+        stalled.data(createDataFrameHeader(streamId, 0), createDataFrame("Alice", "Bob", "Carol"));
+        assertThat(stalledService.received).containsExactly("Alice");
+
+        // Traffic on another stream of the same connection is still processed
+        other.data(createDataFrameHeader(streamId + 2, 0), createDataFrame("Dave"));
+        assertThat(otherService.received).containsExactly("Dave");
+
+        // And so is a reset of the stalled stream, which drops the messages that were not delivered
+        stalled.rstStream(Http2RstStream.create(Http2ErrorCode.CANCEL));
+        assertThat(stalledService.completed).isTrue();
+        stalledService.subscription.request(2);
+        assertThat(stalledService.received).containsExactly("Alice");
+    }
+
+    @Test
+    void endOfStreamIsDeliveredAfterQueuedRequests() {
+        final var service = new DemandGreeterService();
+        final var handler = createBidiHandler(service, streamId);
+
+        handler.data(createDataFrameHeader(streamId, Http2Flags.END_STREAM), createDataFrame("Alice", "Bob"));
+        assertThat(service.received).containsExactly("Alice");
+        assertThat(service.completed).isFalse();
+
+        service.subscription.request(1);
+        assertThat(service.received).containsExactly("Alice", "Bob");
+        assertThat(service.completed).isTrue();
+    }
+
+    @Test
+    void tooManyQueuedRequestsFailWithResourceExhausted() {
+        final var service = new DemandGreeterService();
+        final var handler = createBidiHandler(service, streamId);
+
+        final var names = new String[100];
+        Arrays.fill(names, "Alice");
+        handler.data(createDataFrameHeader(streamId, 0), createDataFrame(names));
+
+        assertThat(service.received).containsExactly("Alice");
+        assertThat(route.failedGrpcRequestCounter().count()).isEqualTo(1);
+        final var trailers = streamWriter.writtenHeaders.getLast().httpHeaders().stream()
+                .collect(Collectors.toMap(Header::name, Header::values));
+        assertThat(trailers).contains(entry("grpc-status", "" + GrpcStatus.RESOURCE_EXHAUSTED.ordinal()));
+
+        // The queued requests are dropped
+        service.subscription.request(Long.MAX_VALUE);
+        assertThat(service.received).containsExactly("Alice");
+    }
+
+    @Test
+    void queuedRequestsAreBoundedInBytes() {
+        final var service = new DemandGreeterService();
+        final var handler = createBidiHandler(service, streamId);
+        final var longName = "A".repeat(config.maxBufferedRequestBytes());
+
+        // A single message is queued even if it is longer than the limit
+        handler.data(createDataFrameHeader(streamId, 0), createDataFrame("Alice", longName));
+        assertThat(service.received).containsExactly("Alice");
+        assertThat(route.failedGrpcRequestCounter().count()).isZero();
+        service.subscription.request(1);
+        assertThat(service.received).containsExactly("Alice", longName);
+
+        // But nothing more than that
+        handler.data(createDataFrameHeader(streamId, 0), createDataFrame(longName, "Bob"));
+        assertThat(route.failedGrpcRequestCounter().count()).isEqualTo(1);
+        service.subscription.request(2);
+        assertThat(service.received).containsExactly("Alice", longName);
+    }
+
+    /** A bidi streaming service that requests a single message when subscribed, and then only as asked. */
+    private static final class DemandGreeterService extends GreeterServiceImpl {
+        private final List<String> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+
+        @Override
+        public Pipeline<? super HelloRequest> sayHelloStreamBidi(Pipeline<? super HelloReply> replies) {
+            return new Pipeline<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    DemandGreeterService.this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(HelloRequest item) {
+                    received.add(item.getName());
+                }
+
+                @Override
+                public void onError(Throwable throwable) {}
+
+                @Override
+                public void onComplete() {
+                    completed = true;
+                }
+            };
+        }
+    }
+
+    private PbjProtocolHandler createBidiHandler(GreeterServiceImpl service, int streamId) {
+        route = new PbjMethodRoute(
+                service, PbjGrpcServiceConfig.DEFAULT, GreeterService.GreeterMethod.sayHelloStreamBidi);
+        final var handler = new PbjProtocolHandler(
+                headers,
+                streamWriter,
+                streamId,
+                flowControl,
+                currentStreamState,
+                config,
+                route,
+                deadlineDetector,
+                connectionContext);
+        handler.init();
+        return handler;
+    }
+
+    private BufferData createDataFrame(String... names) {
+        final var messages = new BufferData[names.length];
+        for (int i = 0; i < names.length; i++) {
+            messages[i] = createDataFrameBytes(0, createRequestData(names[i]));
+        }
+        return BufferData.create(messages);
+    }
+
+    private Http2FrameHeader createDataFrameHeader(int streamId, int flags) {
+        return Http2FrameHeader.create(0, Http2FrameTypes.DATA, Http2Flag.DataFlags.create(flags), streamId);
+    }
+
     private Bytes createRequestData(String name) {
         return createData(HelloRequest.newBuilder().setName(name).build());
     }
@@ -640,6 +1115,7 @@ class PbjProtocolHandlerTest {
     }
 
     private static final class OutboundFlowControlStub implements FlowControl.Outbound {
+        private int remainingWindowSize = 0;
 
         @Override
         public long incrementStreamWindowSize(int increment) {
@@ -667,7 +1143,7 @@ class PbjProtocolHandlerTest {
 
         @Override
         public int getRemainingWindowSize() {
-            return 0;
+            return remainingWindowSize;
         }
     }
 
@@ -712,6 +1188,21 @@ class PbjProtocolHandlerTest {
             return 1000;
         }
 
+        @Override
+        public int maxPendingResponses() {
+            return 4;
+        }
+
+        @Override
+        public int maxBufferedRequestBytes() {
+            return 256;
+        }
+
+        @Override
+        public Optional<GrpcCompressionPolicy> compressionPolicy() {
+            return Optional.empty();
+        }
+
         @Override
         public String name() {
             return "";
@@ -720,11 +1211,13 @@ class PbjProtocolHandlerTest {
 
     private static final class DeadlineDetectorStub implements DeadlineDetector {
         long capturedDeadlineNanos = Long.MIN_VALUE;
+        Runnable capturedCallback;
 
         @NonNull
         @Override
         public ScheduledFuture<?> scheduleDeadline(long deadlineNanos, @NonNull Runnable onDeadlineExceeded) {
             capturedDeadlineNanos = deadlineNanos;
+            capturedCallback = onDeadlineExceeded;
             return new ScheduledFuture<>() {
                 @Override
                 public long getDelay(@NonNull TimeUnit unit) {
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Parses independent items of a batch in parallel, see {@link Codec#parseAll(List, boolean, boolean, int, int,
+ * Executor)}.
+ */
+final class BatchParser {
+    /** The number of tasks per available processor, so that uneven item sizes are balanced across the workers. */
+    private static final int TASKS_PER_PROCESSOR = 4;
+
+    /** Batches smaller than this are parsed on the caller thread, because forking would cost more than it saves. */
+    static final int MIN_PARALLEL_BATCH_SIZE = 4;
+
+    private BatchParser() {}
+
+    /**
+     * Parse all items, splitting them into contiguous chunks that are parsed on the executor. The caller thread
+     * parses the first chunk itself and then waits for the others.
+     *
+     * @param codec the codec to parse the items with
+     * @param inputs the serialized items
+     * @param strictMode the strictMode argument to pass to the codec
+     * @param parseUnknownFields the parseUnknownFields argument to pass to the codec
+     * @param maxDepth the maxDepth argument to pass to the codec
+     * @param maxSize the maxSize argument to pass to the codec
+     * @param executor the executor to parse the items on
+     * @param <T> the type of the items
+     * @return the results, in the order of the inputs
+     */
+    @NonNull
+    static <T> List<ParseResult<T>> parseAll(
+            @NonNull final Codec<T> codec,
+            @NonNull final List<Bytes> inputs,
+            final boolean strictMode,
+            final boolean parseUnknownFields,
+            final int maxDepth,
+            final int maxSize,
+            @NonNull final Executor executor) {
+        final int size = inputs.size();
+        @SuppressWarnings("unchecked")
+        final ParseResult<T>[] results = new ParseResult[size];
+        final int maxTasks = Runtime.getRuntime().availableProcessors() * TASKS_PER_PROCESSOR;
+        final int numOfTasks = size < MIN_PARALLEL_BATCH_SIZE ? 1 : Math.min(size, maxTasks);
+        final int chunkSize = (size + numOfTasks - 1) / Math.max(1, numOfTasks);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(numOfTasks);
+        for (int start = chunkSize; start < size; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(size, start + chunkSize);
+            futures.add(CompletableFuture.runAsync(
+                    () -> parseRange(
+                            codec, inputs, from, to, strictMode, parseUnknownFields, maxDepth, maxSize, results),
+                    executor));
+        }
+        parseRange(
+                codec,
+                inputs,
+                0,
+                Math.min(size, chunkSize),
+                strictMode,
+                parseUnknownFields,
+                maxDepth,
+                maxSize,
+                results);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return List.of(results);
+    }
+
+    /**
+     * Parse a range of items into the results array. Runtime exceptions thrown by the codec for malformed input,
+     * like a {@link java.nio.BufferUnderflowException}, are reported as a {@link ParseException} of the item.
+     */
+    private static <T> void parseRange(
+            @NonNull final Codec<T> codec,
+            @NonNull final List<Bytes> inputs,
+            final int from,
+            final int to,
+            final boolean strictMode,
+            final boolean parseUnknownFields,
+            final int maxDepth,
+            final int maxSize,
+            @NonNull final ParseResult<T>[] results) {
+        for (int i = from; i < to; i++) {
+            ParseResult<T> result;
+            try {
+                final T value = codec.parse(
+                        inputs.get(i).toReadableSequentialData(), strictMode, parseUnknownFields, maxDepth, maxSize);
+                result = new ParseResult<>(value, null);
+            } catch (final ParseException e) {
+                result = new ParseResult<>(null, e);
+            } catch (final UncheckedParseException e) {
+                result = new ParseResult<>(null, (ParseException) e.getCause());
+            } catch (final RuntimeException e) {
+                result = new ParseResult<>(null, new ParseException(e));
+            }
+            results[i] = result;
+        }
+    }
+}
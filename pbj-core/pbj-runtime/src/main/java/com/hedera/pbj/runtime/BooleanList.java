@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A `List<Boolean>` backed by a `boolean[]` array.
+ * Used for repeated bool fields of messages that enable the `pbj.primitive_repeated` option.
+ * Use {@link #getBoolean(int)} to read values without boxing.
+ */
+public final class BooleanList extends PrimitiveList<Boolean> {
+    /** The backing array, only the first {@code size} elements are in use. */
+    private boolean[] values;
+
+    /**
+     * Create a new empty list with the default initial capacity.
+     */
+    public BooleanList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty list.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    public BooleanList(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        values = new boolean[initialCapacity];
+    }
+
+    /**
+     * Create a new read-only list with a copy of the given values.
+     *
+     * @param values the values of the list
+     * @return a new read-only list
+     */
+    public static BooleanList of(final boolean... values) {
+        final BooleanList list = new BooleanList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Create a new read-only list with a copy of the values of the given list.
+     *
+     * @param source the list to copy values from, must not contain nulls
+     * @return a new read-only list
+     */
+    public static BooleanList copyOf(final List<Boolean> source) {
+        if (source instanceof BooleanList that) {
+            return of(Arrays.copyOf(that.values, that.size));
+        }
+        final BooleanList list = new BooleanList(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            list.addBoolean(source.get(i));
+        }
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Get the value at the given index without boxing it.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean getBoolean(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Append a value to the end of this list.
+     *
+     * @param value the value to append
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void addBoolean(final boolean value) {
+        checkReadOnly();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy the values of this list into a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public boolean[] toBooleanArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Boolean get(final int index) {
+        return getBoolean(index);
+    }
+
+    @Override
+    public Boolean set(final int index, final Boolean element) {
+        checkReadOnly();
+        final boolean oldValue = values[checkIndex(index)];
+        values[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Boolean element) {
+        addBoolean(element);
+        return true;
+    }
+
+    @Override
+    public int hashCode(final int initialHashCode) {
+        int hashCode = initialHashCode;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Boolean.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof BooleanList that) {
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+}
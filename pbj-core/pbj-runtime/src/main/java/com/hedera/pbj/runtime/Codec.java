@@ -3,12 +3,18 @@ package com.hedera.pbj.runtime;
 
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferLease;
+import com.hedera.pbj.runtime.io.buffer.BufferPool;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.BufferedSequentialData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Encapsulates Serialization, Deserialization and other IO operations.
@@ -71,6 +77,50 @@ public interface Codec<T> {
             int maxSize)
             throws ParseException;
 
+    /**
+     * Parses a batch of independent objects in parallel on the given executor, for example the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()} or a virtual thread per task executor, and returns the
+     * results in the order of the inputs. The calling thread takes part in the parsing and blocks until all the
+     * items are parsed.
+     * <p>
+     * A failure to parse one item doesn't fail the batch: its result holds the {@link ParseException} instead of a
+     * value. Runtime exceptions thrown by the parser for malformed input are reported the same way, wrapped in a
+     * {@link ParseException}. See {@link #parse(ReadableSequentialData, boolean, boolean, int, int)} for the meaning
+     * of the parse options.
+     *
+     * @param inputs The serialized objects to parse
+     * @param strictMode when {@code true}, the parser errors out on unknown fields; otherwise they'll be simply skipped.
+     * @param parseUnknownFields when {@code true} and strictMode is {@code false}, the parser will collect unknown
+     *                           fields in the unknownFields list in the model; otherwise they'll be simply skipped.
+     * @param maxDepth a ParseException will be thrown if the depth of nested messages exceeds the maxDepth value.
+     * @param maxSize a ParseException will be thrown if the size of a delimited field exceeds the limit
+     * @param executor The executor to parse the objects on
+     * @return An immutable list with one result per input, in the same order
+     */
+    @NonNull
+    default List<ParseResult<T>> parseAll(
+            @NonNull final List<Bytes> inputs,
+            final boolean strictMode,
+            final boolean parseUnknownFields,
+            final int maxDepth,
+            final int maxSize,
+            @NonNull final Executor executor) {
+        return BatchParser.parseAll(this, inputs, strictMode, parseUnknownFields, maxDepth, maxSize, executor);
+    }
+
+    /**
+     * Parses a batch of independent objects in parallel on the given executor, with the same options as
+     * {@link #parse(Bytes)}. See {@link #parseAll(List, boolean, boolean, int, int, Executor)}.
+     *
+     * @param inputs The serialized objects to parse
+     * @param executor The executor to parse the objects on
+     * @return An immutable list with one result per input, in the same order
+     */
+    @NonNull
+    default List<ParseResult<T>> parseAll(@NonNull final List<Bytes> inputs, @NonNull final Executor executor) {
+        return parseAll(inputs, false, false, DEFAULT_MAX_DEPTH, DEFAULT_MAX_SIZE, executor);
+    }
+
     /**
      * Parses an object from the {@link ReadableSequentialData} and returns it.
      * <p>
@@ -169,6 +219,53 @@ public interface Codec<T> {
         return parse(bytes.toReadableSequentialData());
     }
 
+    /**
+     * Parses only the fields selected by a {@link FieldMask} from the {@link ReadableSequentialData} and returns a
+     * partial object. Fields that are not selected are skipped without being decoded or validated, and are left at
+     * their default values. Generated models report that they were parsed partially with {@code isPartial()}. A
+     * partial object should not be written back out as a replacement of the original data.
+     * <p>
+     * This default implementation ignores the mask and parses all the fields, for codecs that don't support partial
+     * parsing, such as the codecs of generated models that don't enable the `pbj.field_mask` option. See
+     * {@link #parse(ReadableSequentialData, boolean, boolean, int, int)} for the other arguments.
+     *
+     * @param input The {@link ReadableSequentialData} from which to read the data to construct an object
+     * @param fieldMask the fields to parse, or null to parse all fields
+     * @param strictMode when {@code true}, the parser errors out on unknown fields; otherwise they'll be simply skipped.
+     *                   Fields that are skipped because of the mask are never reported as unknown.
+     * @param parseUnknownFields when {@code true} and strictMode is {@code false}, the parser will collect unknown
+     *                           fields in the unknownFields list in the model; otherwise they'll be simply skipped.
+     * @param maxDepth a ParseException will be thrown if the depth of nested messages exceeds the maxDepth value.
+     * @param maxSize a ParseException will be thrown if the size of a delimited field exceeds the limit
+     * @return The parsed object. It must not return null.
+     * @throws ParseException If parsing fails
+     */
+    @NonNull
+    default T parse(
+            @NonNull ReadableSequentialData input,
+            @Nullable FieldMask fieldMask,
+            boolean strictMode,
+            boolean parseUnknownFields,
+            int maxDepth,
+            int maxSize)
+            throws ParseException {
+        return parse(input, strictMode, parseUnknownFields, maxDepth, maxSize);
+    }
+
+    /**
+     * Parses only the fields selected by a {@link FieldMask} from the {@link Bytes}, with the same options as
+     * {@link #parse(Bytes)}. See {@link #parse(ReadableSequentialData, FieldMask, boolean, boolean, int, int)}.
+     *
+     * @param bytes The {@link Bytes} from which to read the data to construct an object
+     * @param fieldMask the fields to parse
+     * @return The parsed object. It must not return null.
+     * @throws ParseException If parsing fails
+     */
+    @NonNull
+    default T parse(@NonNull Bytes bytes, @NonNull FieldMask fieldMask) throws ParseException {
+        return parse(bytes.toReadableSequentialData(), fieldMask, false, false, DEFAULT_MAX_DEPTH, DEFAULT_MAX_SIZE);
+    }
+
     /**
      * Parses an object from the {@link ReadableSequentialData} and returns it. Throws an exception if fields
      * have been defined on the encoded object that are not supported by the parser. This
@@ -284,6 +381,37 @@ public interface Codec<T> {
         return Bytes.wrap(bytes);
     }
 
+    /**
+     * Writes an item to a buffer leased from the given pool, avoiding the allocation of a new array for every item
+     * in hot paths. The buffer is flipped after writing, so its position is zero and its limit is the size of the
+     * item. The caller must close the returned lease once it is done with the buffer.
+     *
+     * @param item The input model data to write
+     * @param pool The pool to lease the buffer from
+     * @param <B> The type of the buffer
+     * @return The lease of the buffer that holds the item
+     * @throws UncheckedIOException If it is impossible to write to the buffer
+     */
+    @NonNull
+    default <B extends BufferedSequentialData & ReadableSequentialData & WritableSequentialData> BufferLease<B> write(
+            @NonNull final T item, @NonNull final BufferPool<B> pool) {
+        final BufferLease<B> lease = pool.lease(measureRecord(item));
+        boolean written = false;
+        try {
+            final B buffer = lease.buffer();
+            write(item, buffer);
+            buffer.flip();
+            written = true;
+            return lease;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!written) {
+                lease.close();
+            }
+        }
+    }
+
     /**
      * Get the default value for the model class.
      *
@@ -0,0 +1,367 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a sequence of length-delimited messages, each one prefixed with its length as an unsigned varint, like the
+ * ones written by {@link DelimitedMessageWriter} or by {@code writeDelimitedTo()} of the Google protobuf library.
+ * <p>
+ * The reader prefetches up to {@code prefetchCount} frames, or {@value #PREFETCH_BYTES} bytes, whichever comes
+ * first, from the input into a reusable buffer with bulk reads, so the messages are parsed from memory rather than
+ * byte by byte from a stream. If an {@link Executor} is given, the frames are read and parsed on that executor, for
+ * example a virtual thread, while the caller consumes the previous batch, so I/O and parsing overlap with the
+ * processing of the messages.
+ * <p>
+ * The messages are parsed with the default parse options of {@link Codec#parse(ReadableSequentialData)}, except that
+ * {@code maxSize} applies both to the frames and to the fields within the messages. Errors are reported by
+ * {@link #hasNext()} and {@link #next()} as an {@link UncheckedParseException} if a frame cannot be parsed, or as the
+ * unchecked exception thrown by the input. A reader is not thread-safe and can be iterated only once.
+ *
+ * @param <T> the type of the messages
+ */
+public final class DelimitedMessageReader<T> implements Iterator<T>, AutoCloseable {
+    /** The default maximum number of frames to prefetch. */
+    public static final int DEFAULT_PREFETCH_COUNT = 64;
+
+    /** The number of bytes after which a batch is complete, even if it has fewer than prefetchCount frames. */
+    static final int PREFETCH_BYTES = 1024 * 1024;
+
+    private final Codec<T> codec;
+    private final ReadableSequentialData input;
+    private final int prefetchCount;
+    private final int maxSize;
+
+    /** The buffer that holds the frames of the current batch, reused for every batch. */
+    private BufferedData buffer = BufferedData.allocate(4096);
+
+    /** The end offsets of the frames in the buffer. */
+    private final int[] frameEnds;
+
+    /** The number of frames in the buffer, and the index of the next frame to parse. */
+    private int frameCount;
+
+    private int nextFrame;
+
+    /** True once the end of the input is reached, or no more frames can be read because of an error. */
+    private boolean endOfInput;
+
+    /** An error that occurred after some frames of the batch had been read, thrown once they are consumed. */
+    private RuntimeException pendingError;
+
+    /** The batches parsed in the background, or null if the frames are parsed by the caller thread. */
+    private final BlockingQueue<Batch<T>> batches;
+
+    /** The batch that is being consumed, if batches are parsed in the background. */
+    private Batch<T> batch;
+
+    private int nextItem;
+
+    private volatile boolean closed;
+
+    /**
+     * Create a new reader that parses the messages on the caller thread, with a default prefetch count and the
+     * default max size.
+     *
+     * @param codec the codec to parse the messages with
+     * @param input the input to read the frames from
+     */
+    public DelimitedMessageReader(@NonNull final Codec<T> codec, @NonNull final ReadableSequentialData input) {
+        this(codec, input, DEFAULT_PREFETCH_COUNT, Codec.DEFAULT_MAX_SIZE, null);
+    }
+
+    /**
+     * Create a new reader.
+     *
+     * @param codec the codec to parse the messages with
+     * @param input the input to read the frames from
+     * @param prefetchCount the maximum number of frames to read ahead
+     * @param maxSize the maximum size of a frame, and of the fields within it, see {@link Codec#parse(
+     *                ReadableSequentialData, boolean, boolean, int, int)}
+     * @param executor the executor to read and parse the frames on, or null to read and parse them on the
+     *                 caller thread
+     */
+    public DelimitedMessageReader(
+            @NonNull final Codec<T> codec,
+            @NonNull final ReadableSequentialData input,
+            final int prefetchCount,
+            final int maxSize,
+            @Nullable final Executor executor) {
+        this.codec = Objects.requireNonNull(codec);
+        this.input = Objects.requireNonNull(input);
+        if (prefetchCount < 1) {
+            throw new IllegalArgumentException("prefetchCount must be positive, got " + prefetchCount);
+        }
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative, got " + maxSize);
+        }
+        this.prefetchCount = prefetchCount;
+        this.maxSize = maxSize;
+        this.frameEnds = new int[prefetchCount];
+        if (executor == null) {
+            this.batches = null;
+        } else {
+            // One batch in the queue and one being built by the producer is enough to hide the I/O latency
+            this.batches = new ArrayBlockingQueue<>(1);
+            executor.execute(this::produce);
+        }
+    }
+
+    /**
+     * Get the messages as a sequential stream. Closing the stream closes this reader.
+     *
+     * @return a stream of the remaining messages
+     */
+    @NonNull
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (batches != null) {
+            while (batch == null || nextItem == batch.items().size()) {
+                if (batch != null && batch.last()) {
+                    return false;
+                }
+                batch = takeBatch();
+                nextItem = 0;
+                // A failed batch is the last one, so the error is thrown only once
+                if (batch.error() instanceof RuntimeException e) {
+                    throw e;
+                } else if (batch.error() instanceof Error e) {
+                    throw e;
+                }
+            }
+            return true;
+        }
+        if (nextFrame == frameCount) {
+            if (pendingError != null) {
+                final RuntimeException e = pendingError;
+                pendingError = null;
+                throw e;
+            }
+            if (endOfInput) {
+                return false;
+            }
+            readBatch();
+        }
+        return nextFrame < frameCount;
+    }
+
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (batches != null) {
+            return batch.items().get(nextItem++);
+        }
+        try {
+            return parseFrame(nextFrame++);
+        } catch (final ParseException e) {
+            throw new UncheckedParseException(e);
+        }
+    }
+
+    /**
+     * Stop reading. If the frames are read in the background, the background task stops after the batch it is
+     * reading. The input is not closed, it is owned by the caller.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (batches != null) {
+            // Unblock the producer if it is waiting for space in the queue
+            batches.clear();
+        }
+    }
+
+    /** Read and parse batches until the end of the input, and hand them over to the consumer. */
+    private void produce() {
+        try {
+            while (!closed && !endOfInput) {
+                readBatch();
+                final List<T> items = new ArrayList<>(frameCount);
+                try {
+                    for (int i = 0; i < frameCount; i++) {
+                        items.add(parseFrame(i));
+                    }
+                } catch (final ParseException e) {
+                    // Hand over the messages parsed before the frame that failed, and stop at it
+                    endOfInput = true;
+                    pendingError = new UncheckedParseException(e);
+                }
+                batches.put(new Batch<>(items, endOfInput && pendingError == null, null));
+                if (pendingError != null) {
+                    throw pendingError;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offerError(new UncheckedIOException(new InterruptedIOException("Interrupted while prefetching")));
+        } catch (final RuntimeException | Error e) {
+            offerError(e);
+        }
+    }
+
+    /**
+     * Hand an error over to the consumer, unless the reader is closed.
+     *
+     * @param error the error
+     */
+    private void offerError(@NonNull final Throwable error) {
+        try {
+            while (!closed && !batches.offer(new Batch<>(List.of(), true, error), 100, TimeUnit.MILLISECONDS)) {
+                // Wait for the consumer to take the previous batch
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Take the next batch from the background task.
+     *
+     * @return the next batch, which holds the error of the background task if it failed
+     */
+    @NonNull
+    private Batch<T> takeBatch() {
+        try {
+            return batches.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for messages"));
+        }
+    }
+
+    /**
+     * Read the next batch of frames into the buffer, up to prefetchCount frames or PREFETCH_BYTES bytes. If reading
+     * fails after some frames were read, the error is kept in pendingError so that those frames are not lost.
+     *
+     * @throws UncheckedParseException if the first frame is larger than maxSize or truncated
+     */
+    private void readBatch() {
+        buffer.reset();
+        frameCount = 0;
+        nextFrame = 0;
+        try {
+            readFrames();
+        } catch (final RuntimeException e) {
+            endOfInput = true;
+            if (frameCount == 0) {
+                throw e;
+            }
+            pendingError = e;
+        }
+    }
+
+    /** Read frames into the buffer until the batch is complete or the end of the input is reached. */
+    private void readFrames() {
+        while (frameCount < prefetchCount && buffer.position() < PREFETCH_BYTES) {
+            if (!input.hasRemaining()) {
+                endOfInput = true;
+                return;
+            }
+            final long start = input.position();
+            final int length;
+            try {
+                length = input.readVarInt(false);
+            } catch (final BufferUnderflowException e) {
+                // Streams only know that they are at the end after a failed read
+                if (input.position() == start) {
+                    endOfInput = true;
+                    return;
+                }
+                throw new UncheckedParseException(new ParseException("Truncated frame length"));
+            }
+            if (length < 0 || length > maxSize) {
+                throw new UncheckedParseException(
+                        new ParseException("Frame size " + Integer.toUnsignedLong(length) + " is greater than max "
+                                + maxSize));
+            }
+            final int frameStart = (int) buffer.position();
+            ensureCapacity(frameStart + length);
+            buffer.limit(frameStart + length);
+            final long read = input.readBytes(buffer);
+            if (read != length) {
+                throw new UncheckedParseException(
+                        new ParseException("Truncated frame, expected " + length + " bytes but got " + read));
+            }
+            buffer.limit(buffer.capacity());
+            frameEnds[frameCount++] = frameStart + length;
+        }
+    }
+
+    /**
+     * Grow the buffer, keeping its content, if it is smaller than the given capacity.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= buffer.capacity()) {
+            return;
+        }
+        final int position = (int) buffer.position();
+        final long doubled = Math.min(Integer.MAX_VALUE - 8, buffer.capacity() * 2);
+        final BufferedData grown = BufferedData.allocate((int) Math.max(capacity, doubled));
+        buffer.flip();
+        grown.writeBytes(buffer);
+        grown.position(position);
+        buffer = grown;
+    }
+
+    /**
+     * Parse a frame from the buffer. The buffer is reused for the next batch, which is safe because the models
+     * never reference the buffer: {@link BufferedData} always copies the bytes it returns.
+     *
+     * @param index the index of the frame
+     * @return the parsed message
+     * @throws ParseException if the frame cannot be parsed
+     */
+    @NonNull
+    private T parseFrame(final int index) throws ParseException {
+        final int start = index == 0 ? 0 : frameEnds[index - 1];
+        // limit() never goes below the position, so the position has to be moved first
+        buffer.position(start);
+        buffer.limit(frameEnds[index]);
+        return codec.parse(buffer, false, false, Codec.DEFAULT_MAX_DEPTH, maxSize);
+    }
+
+    /**
+     * A batch of parsed messages handed over from the background task to the consumer.
+     *
+     * @param items the messages
+     * @param last true if this is the last batch
+     * @param error the error that stopped the background task, or null
+     * @param <T> the type of the messages
+     */
+    private record Batch<T>(@NonNull List<T> items, boolean last, @Nullable Throwable error) {}
+}
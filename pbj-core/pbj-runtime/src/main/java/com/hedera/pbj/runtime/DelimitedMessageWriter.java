@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.BufferedSequentialData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Writes a sequence of length-delimited messages, each one prefixed with its length as an unsigned varint, that can
+ * be read back with {@link DelimitedMessageReader} or with {@code parseDelimitedFrom()} of the Google protobuf
+ * library.
+ * <p>
+ * If the output is not a buffer, for example a {@link com.hedera.pbj.runtime.io.stream.WritableStreamingData}, every
+ * message is first written to a reusable buffer and then to the output with a single bulk write. The output is not
+ * flushed or closed by the writer, it is owned by the caller. A writer is not thread-safe.
+ *
+ * @param <T> the type of the messages
+ */
+public final class DelimitedMessageWriter<T> {
+    private final Codec<T> codec;
+    private final WritableSequentialData output;
+
+    /** The buffer that messages are written to before a bulk write to the output, or null if not needed. */
+    private BufferedData scratch;
+
+    private long count;
+
+    /**
+     * Create a new writer.
+     *
+     * @param codec the codec to write the messages with
+     * @param output the output to write the frames to
+     */
+    public DelimitedMessageWriter(@NonNull final Codec<T> codec, @NonNull final WritableSequentialData output) {
+        this.codec = Objects.requireNonNull(codec);
+        this.output = Objects.requireNonNull(output);
+        this.scratch = output instanceof BufferedSequentialData ? null : BufferedData.allocate(4096);
+    }
+
+    /**
+     * Write a message, prefixed with its length.
+     *
+     * @param item the message to write
+     * @throws IOException if the message cannot be written
+     */
+    public void write(@NonNull final T item) throws IOException {
+        final int length = codec.measureRecord(item);
+        if (scratch == null) {
+            output.writeVarInt(length, false);
+            codec.write(item, output);
+        } else {
+            // A varint length takes at most 5 bytes
+            final int frameSize = length + 5;
+            if (scratch.capacity() < frameSize) {
+                final long doubled = Math.min(Integer.MAX_VALUE - 8, scratch.capacity() * 2);
+                scratch = BufferedData.allocate((int) Math.max(frameSize, doubled));
+            }
+            scratch.reset();
+            scratch.writeVarInt(length, false);
+            codec.write(item, scratch);
+            scratch.flip();
+            output.writeBytes(scratch);
+        }
+        count++;
+    }
+
+    /**
+     * Write all the given messages, each one prefixed with its length.
+     *
+     * @param items the messages to write
+     * @throws IOException if a message cannot be written
+     */
+    public void writeAll(@NonNull final Iterable<? extends T> items) throws IOException {
+        for (final T item : items) {
+            write(item);
+        }
+    }
+
+    /**
+     * Get the number of messages written by this writer.
+     *
+     * @return the number of messages
+     */
+    public long count() {
+        return count;
+    }
+}
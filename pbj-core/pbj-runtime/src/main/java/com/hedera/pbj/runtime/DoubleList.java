@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+/**
+ * A `List<Double>` backed by a `double[]` array.
+ * Used for repeated double fields of messages that enable the `pbj.primitive_repeated` option.
+ * Use {@link #getDouble(int)} to read values without boxing.
+ */
+public final class DoubleList extends PrimitiveList<Double> {
+    /** The backing array, only the first {@code size} elements are in use. */
+    private double[] values;
+
+    /**
+     * Create a new empty list with the default initial capacity.
+     */
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty list.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    public DoubleList(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        values = new double[initialCapacity];
+    }
+
+    /**
+     * Create a new read-only list with a copy of the given values.
+     *
+     * @param values the values of the list
+     * @return a new read-only list
+     */
+    public static DoubleList of(final double... values) {
+        final DoubleList list = new DoubleList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Create a new read-only list with a copy of the values of the given list.
+     *
+     * @param source the list to copy values from, must not contain nulls
+     * @return a new read-only list
+     */
+    public static DoubleList copyOf(final List<Double> source) {
+        if (source instanceof DoubleList that) {
+            return of(Arrays.copyOf(that.values, that.size));
+        }
+        final DoubleList list = new DoubleList(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            list.addDouble(source.get(i));
+        }
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Get the value at the given index without boxing it.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getDouble(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Append a value to the end of this list.
+     *
+     * @param value the value to append
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void addDouble(final double value) {
+        checkReadOnly();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy the values of this list into a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over the values of this list without boxing them.
+     *
+     * @return a stream of the values
+     */
+    public DoubleStream doubleStream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    @Override
+    public Double get(final int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(final int index, final Double element) {
+        checkReadOnly();
+        final double oldValue = values[checkIndex(index)];
+        values[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Double element) {
+        addDouble(element);
+        return true;
+    }
+
+    @Override
+    public int hashCode(final int initialHashCode) {
+        int hashCode = initialHashCode;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Double.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof DoubleList that) {
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+}
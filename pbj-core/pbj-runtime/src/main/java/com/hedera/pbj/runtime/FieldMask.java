@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable set of field paths that selects the fields to parse with
+ * {@link Codec#parse(com.hedera.pbj.runtime.io.ReadableSequentialData, FieldMask, boolean, boolean, int, int)}.
+ * <p>
+ * A path is a sequence of {@link FieldDefinition}s from the schema classes, for example
+ * {@code FieldMask.of(TransactionRecordSchema.RECEIPT, TransactionReceiptSchema.STATUS)}. Every element but the last
+ * must be a message field, and the path selects the last field, including all of its sub-fields if it is a message.
+ * Selecting a message field by a nested path only parses the selected sub-fields of that message.
+ * <p>
+ * Only the codecs of messages that enable the {@code // <<<pbj.field_mask = true>>>} option comment parse partially.
+ * Other messages, including nested ones, are parsed whole regardless of the mask.
+ * <p>
+ * Masks are typically created once and kept in a constant, because lookups are cheap but building a mask is not.
+ */
+public final class FieldMask {
+    /** The sorted numbers of the selected fields. */
+    private final int[] fieldNumbers;
+
+    /** The masks of the selected fields, at the same indices, or null where the whole field is selected. */
+    private final FieldMask[] subMasks;
+
+    private FieldMask(@NonNull final int[] fieldNumbers, @NonNull final FieldMask[] subMasks) {
+        this.fieldNumbers = fieldNumbers;
+        this.subMasks = subMasks;
+    }
+
+    /**
+     * Create a mask that selects a single path.
+     *
+     * @param path the fields from the root message to the selected field
+     * @return a new mask
+     * @throws IllegalArgumentException if the path is empty, or an element but the last is not a message field
+     */
+    @NonNull
+    public static FieldMask of(@NonNull final FieldDefinition... path) {
+        return new FieldMask(new int[0], new FieldMask[0]).and(path);
+    }
+
+    /**
+     * Create a mask that selects all the paths of this mask and one more.
+     *
+     * @param path the fields from the root message to the selected field
+     * @return a new mask
+     * @throws IllegalArgumentException if the path is empty, or an element but the last is not a message field
+     */
+    @NonNull
+    public FieldMask and(@NonNull final FieldDefinition... path) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("A field path cannot be empty");
+        }
+        for (int i = 0; i < path.length - 1; i++) {
+            final FieldDefinition field = Objects.requireNonNull(path[i]);
+            if (field.type() != FieldType.MESSAGE || field.optional()) {
+                throw new IllegalArgumentException(
+                        "Field " + field.name() + " is not a message field, so it cannot have sub-fields");
+            }
+        }
+        return add(path, 0);
+    }
+
+    /**
+     * Check if a field is selected, either as a whole or by some of its sub-fields.
+     *
+     * @param fieldNumber the field number
+     * @return true if the field should be parsed
+     */
+    public boolean includes(final int fieldNumber) {
+        return Arrays.binarySearch(fieldNumbers, fieldNumber) >= 0;
+    }
+
+    /**
+     * Get the mask of the sub-fields selected in a message field.
+     *
+     * @param fieldNumber the field number
+     * @return the mask of the sub-fields, or null if the whole field is selected or the field is not selected at all
+     */
+    @Nullable
+    public FieldMask subMask(final int fieldNumber) {
+        final int index = Arrays.binarySearch(fieldNumbers, fieldNumber);
+        return index >= 0 ? subMasks[index] : null;
+    }
+
+    /**
+     * Add a path to a copy of this mask.
+     *
+     * @param path the path
+     * @param depth the index of the path element that corresponds to this mask
+     * @return the new mask
+     */
+    @NonNull
+    private FieldMask add(@NonNull final FieldDefinition[] path, final int depth) {
+        final int number = Objects.requireNonNull(path[depth]).number();
+        final boolean last = depth == path.length - 1;
+        int index = Arrays.binarySearch(fieldNumbers, number);
+        final int[] newNumbers;
+        final FieldMask[] newSubMasks;
+        if (index >= 0) {
+            newNumbers = fieldNumbers;
+            newSubMasks = subMasks.clone();
+            if (last || newSubMasks[index] == null) {
+                // The whole field is selected, which includes any sub-fields
+                newSubMasks[index] = null;
+                return new FieldMask(newNumbers, newSubMasks);
+            }
+        } else {
+            index = -index - 1;
+            newNumbers = new int[fieldNumbers.length + 1];
+            newSubMasks = new FieldMask[subMasks.length + 1];
+            System.arraycopy(fieldNumbers, 0, newNumbers, 0, index);
+            System.arraycopy(fieldNumbers, index, newNumbers, index + 1, fieldNumbers.length - index);
+            System.arraycopy(subMasks, 0, newSubMasks, 0, index);
+            System.arraycopy(subMasks, index, newSubMasks, index + 1, subMasks.length - index);
+            newNumbers[index] = number;
+            if (last) {
+                return new FieldMask(newNumbers, newSubMasks);
+            }
+            newSubMasks[index] = new FieldMask(new int[0], new FieldMask[0]);
+        }
+        newSubMasks[index] = newSubMasks[index].add(path, depth + 1);
+        return new FieldMask(newNumbers, newSubMasks);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof FieldMask that
+                && Arrays.equals(fieldNumbers, that.fieldNumbers)
+                && Arrays.equals(subMasks, that.subMasks);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(fieldNumbers) + Arrays.hashCode(subMasks);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < fieldNumbers.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(fieldNumbers[i]);
+            if (subMasks[i] != null) {
+                sb.append(subMasks[i]);
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A `List<Float>` backed by a `float[]` array.
+ * Used for repeated float fields of messages that enable the `pbj.primitive_repeated` option.
+ * Use {@link #getFloat(int)} to read values without boxing.
+ */
+public final class FloatList extends PrimitiveList<Float> {
+    /** The backing array, only the first {@code size} elements are in use. */
+    private float[] values;
+
+    /**
+     * Create a new empty list with the default initial capacity.
+     */
+    public FloatList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty list.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    public FloatList(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        values = new float[initialCapacity];
+    }
+
+    /**
+     * Create a new read-only list with a copy of the given values.
+     *
+     * @param values the values of the list
+     * @return a new read-only list
+     */
+    public static FloatList of(final float... values) {
+        final FloatList list = new FloatList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Create a new read-only list with a copy of the values of the given list.
+     *
+     * @param source the list to copy values from, must not contain nulls
+     * @return a new read-only list
+     */
+    public static FloatList copyOf(final List<Float> source) {
+        if (source instanceof FloatList that) {
+            return of(Arrays.copyOf(that.values, that.size));
+        }
+        final FloatList list = new FloatList(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            list.addFloat(source.get(i));
+        }
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Get the value at the given index without boxing it.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public float getFloat(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Append a value to the end of this list.
+     *
+     * @param value the value to append
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void addFloat(final float value) {
+        checkReadOnly();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy the values of this list into a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Float get(final int index) {
+        return getFloat(index);
+    }
+
+    @Override
+    public Float set(final int index, final Float element) {
+        checkReadOnly();
+        final float oldValue = values[checkIndex(index)];
+        values[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Float element) {
+        addFloat(element);
+        return true;
+    }
+
+    @Override
+    public int hashCode(final int initialHashCode) {
+        int hashCode = initialHashCode;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Float.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof FloatList that) {
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+}
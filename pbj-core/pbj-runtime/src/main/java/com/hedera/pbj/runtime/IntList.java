@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A `List<Integer>` backed by an `int[]` array.
+ * Used for repeated int32, uint32, sint32, fixed32 and sfixed32 fields of messages
+ * that enable the `pbj.primitive_repeated` option.
+ * Use {@link #getInt(int)} to read values without boxing.
+ */
+public final class IntList extends PrimitiveList<Integer> {
+    /** The backing array, only the first {@code size} elements are in use. */
+    private int[] values;
+
+    /**
+     * Create a new empty list with the default initial capacity.
+     */
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty list.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    public IntList(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        values = new int[initialCapacity];
+    }
+
+    /**
+     * Create a new read-only list with a copy of the given values.
+     *
+     * @param values the values of the list
+     * @return a new read-only list
+     */
+    public static IntList of(final int... values) {
+        final IntList list = new IntList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Create a new read-only list with a copy of the values of the given list.
+     *
+     * @param source the list to copy values from, must not contain nulls
+     * @return a new read-only list
+     */
+    public static IntList copyOf(final List<Integer> source) {
+        if (source instanceof IntList that) {
+            return of(Arrays.copyOf(that.values, that.size));
+        }
+        final IntList list = new IntList(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            list.addInt(source.get(i));
+        }
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Get the value at the given index without boxing it.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getInt(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Append a value to the end of this list.
+     *
+     * @param value the value to append
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void addInt(final int value) {
+        checkReadOnly();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy the values of this list into a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the values of this list without boxing them.
+     *
+     * @return a stream of the values
+     */
+    public IntStream intStream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    @Override
+    public Integer get(final int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(final int index, final Integer element) {
+        checkReadOnly();
+        final int oldValue = values[checkIndex(index)];
+        values[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Integer element) {
+        addInt(element);
+        return true;
+    }
+
+    @Override
+    public int hashCode(final int initialHashCode) {
+        int hashCode = initialHashCode;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof IntList that) {
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+}
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * The unparsed protobuf bytes of a message field, which are parsed on the first call to {@link #get()}.
+ * <p>
+ * Generated parsers of messages that enable the `pbj.lazy_messages` option store their singular message fields
+ * in this form, so that applications that only read a few top-level fields don't pay for parsing the nested
+ * messages. The parse parameters of the enclosing message are captured, so the nested message is parsed
+ * exactly as it would have been parsed eagerly, except that any parse errors are reported on the first access
+ * as an {@link UncheckedParseException}.
+ *
+ * @param <T> the type of the message
+ */
+public final class LazyMessage<T> {
+    private final Codec<T> codec;
+    private final Bytes bytes;
+    private final boolean strictMode;
+    private final boolean parseUnknownFields;
+    private final int maxDepth;
+    private final int maxSize;
+
+    /**
+     * The parsed value, or null if not parsed yet. This field is subject to a benign data race: the parsing is
+     * idempotent and derived from immutable state, and models are safe to publish without synchronization.
+     */
+    private T value;
+
+    /**
+     * Create a new LazyMessage.
+     *
+     * @param codec the codec to parse the message with
+     * @param bytes the protobuf bytes of the message, without the tag and the length
+     * @param strictMode the strictMode argument to pass to the codec
+     * @param parseUnknownFields the parseUnknownFields argument to pass to the codec
+     * @param maxDepth the maxDepth argument to pass to the codec
+     * @param maxSize the maxSize argument to pass to the codec
+     */
+    public LazyMessage(
+            @NonNull final Codec<T> codec,
+            @NonNull final Bytes bytes,
+            final boolean strictMode,
+            final boolean parseUnknownFields,
+            final int maxDepth,
+            final int maxSize) {
+        this.codec = Objects.requireNonNull(codec);
+        this.bytes = Objects.requireNonNull(bytes);
+        this.strictMode = strictMode;
+        this.parseUnknownFields = parseUnknownFields;
+        this.maxDepth = maxDepth;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the parsed message, parsing it on the first call.
+     *
+     * @return the parsed message
+     * @throws UncheckedParseException if the bytes cannot be parsed
+     */
+    @NonNull
+    public T get() {
+        T v = value;
+        if (v == null) {
+            try {
+                v = codec.parse(bytes.toReadableSequentialData(), strictMode, parseUnknownFields, maxDepth, maxSize);
+            } catch (final ParseException e) {
+                throw new UncheckedParseException(e);
+            }
+            value = v;
+        }
+        return v;
+    }
+
+    /**
+     * Check if the message has been parsed already.
+     *
+     * @return true if {@link #get()} will not need to parse the bytes
+     */
+    public boolean isParsed() {
+        return value != null;
+    }
+
+    /**
+     * Get the protobuf bytes of the message, without the tag and the length.
+     *
+     * @return the bytes
+     */
+    @NonNull
+    public Bytes bytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * A `List<Long>` backed by a `long[]` array.
+ * Used for repeated int64, uint64, sint64, fixed64 and sfixed64 fields of messages
+ * that enable the `pbj.primitive_repeated` option.
+ * Use {@link #getLong(int)} to read values without boxing.
+ */
+public final class LongList extends PrimitiveList<Long> {
+    /** The backing array, only the first {@code size} elements are in use. */
+    private long[] values;
+
+    /**
+     * Create a new empty list with the default initial capacity.
+     */
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty list.
+     *
+     * @param initialCapacity the initial capacity of the backing array
+     */
+    public LongList(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        values = new long[initialCapacity];
+    }
+
+    /**
+     * Create a new read-only list with a copy of the given values.
+     *
+     * @param values the values of the list
+     * @return a new read-only list
+     */
+    public static LongList of(final long... values) {
+        final LongList list = new LongList(0);
+        list.values = values.clone();
+        list.size = values.length;
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Create a new read-only list with a copy of the values of the given list.
+     *
+     * @param source the list to copy values from, must not contain nulls
+     * @return a new read-only list
+     */
+    public static LongList copyOf(final List<Long> source) {
+        if (source instanceof LongList that) {
+            return of(Arrays.copyOf(that.values, that.size));
+        }
+        final LongList list = new LongList(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            list.addLong(source.get(i));
+        }
+        list.makeReadOnly();
+        return list;
+    }
+
+    /**
+     * Get the value at the given index without boxing it.
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getLong(final int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Append a value to the end of this list.
+     *
+     * @param value the value to append
+     * @throws UnsupportedOperationException if this list is read-only
+     */
+    public void addLong(final long value) {
+        checkReadOnly();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+        modCount++;
+    }
+
+    /**
+     * Copy the values of this list into a new array.
+     *
+     * @return a new array with the values of this list
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the values of this list without boxing them.
+     *
+     * @return a stream of the values
+     */
+    public LongStream longStream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    @Override
+    public Long get(final int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(final int index, final Long element) {
+        checkReadOnly();
+        final long oldValue = values[checkIndex(index)];
+        values[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Long element) {
+        addLong(element);
+        return true;
+    }
+
+    @Override
+    public int hashCode(final int initialHashCode) {
+        int hashCode = initialHashCode;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof LongList that) {
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+}
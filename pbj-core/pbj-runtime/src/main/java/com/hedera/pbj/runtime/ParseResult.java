@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * The result of parsing one item of a batch with {@link Codec#parseAll(java.util.List, java.util.concurrent.Executor)}:
+ * either the parsed value, or the error that prevented the item from being parsed.
+ *
+ * @param value the parsed value, or null if parsing failed
+ * @param error the parse error, or null if parsing succeeded
+ * @param <T> the type of the parsed value
+ */
+public record ParseResult<T>(@Nullable T value, @Nullable ParseException error) {
+    /**
+     * Construct a new ParseResult
+     *
+     * @param value the parsed value, or null if parsing failed
+     * @param error the parse error, or null if parsing succeeded
+     */
+    public ParseResult {
+        if ((value == null) == (error == null)) {
+            throw new IllegalArgumentException("Exactly one of value and error must be set");
+        }
+    }
+
+    /**
+     * Check if the item was parsed successfully.
+     *
+     * @return true if there is a value, false if there is an error
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Get the parsed value, or throw the parse error.
+     *
+     * @return the parsed value
+     * @throws ParseException if the item could not be parsed
+     */
+    @NonNull
+    public T getOrThrow() throws ParseException {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+}
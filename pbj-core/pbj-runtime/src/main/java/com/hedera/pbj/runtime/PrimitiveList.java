@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A base class for `List` implementations that store the values of a repeated primitive field in a primitive array
+ * rather than as boxed objects. The generated parsers fill these lists with `addXxx()` methods and then call
+ * `makeReadOnly()`, after which the list behaves like any other unmodifiable `List`.
+ * <p>
+ * The subclasses implement the full `List` contract including `equals()` and `hashCode()`, so a primitive list is
+ * equal to, and has the same hash code as, a regular `List` with the same boxed values. Code that is aware of the
+ * primitive list types can use the primitive accessors such as {@link LongList#getLong(int)} to avoid boxing.
+ *
+ * @param <E> the boxed type of elements
+ */
+public abstract class PrimitiveList<E> extends AbstractList<E> implements RandomAccess {
+    /** The capacity of the backing array of a list created with the default constructor. */
+    protected static final int DEFAULT_CAPACITY = 8;
+
+    /** The number of values stored in this list. */
+    protected int size = 0;
+
+    private boolean isReadOnly = false;
+
+    /**
+     * Mark this list as read-only.
+     * After this call, any mutating methods will throw the `UnsupportedOperationException`.
+     */
+    public void makeReadOnly() {
+        isReadOnly = true;
+    }
+
+    /**
+     * Throws if this list has been marked as read-only.
+     */
+    protected void checkReadOnly() {
+        if (isReadOnly) {
+            // For consistency with UnmodifiableArrayList and JDK unmodifiable collections.
+            throw new UnsupportedOperationException("This list is read-only");
+        }
+    }
+
+    /**
+     * Compute a new capacity for a backing array that has to hold at least one more element.
+     *
+     * @param currentCapacity the current length of the backing array
+     * @return the new length of the backing array
+     */
+    protected static int grow(final int currentCapacity) {
+        final int newCapacity = currentCapacity + Math.max(1, currentCapacity >> 1);
+        if (newCapacity < 0) {
+            throw new OutOfMemoryError("Required list capacity is too large: " + currentCapacity);
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Check that the given index is within the bounds of this list.
+     *
+     * @param index the index to check
+     * @return the index
+     */
+    protected int checkIndex(final int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Continue computing a hash code of a sequence of values with the values of this list, without boxing them.
+     * That is, for every value in the list, compute {@code hashCode = 31 * hashCode + Boxed.hashCode(value)}.
+     * The result is the same as iterating over the boxed values of the list.
+     *
+     * @param initialHashCode the hash code computed so far
+     * @return the hash code that includes the values of this list
+     */
+    public abstract int hashCode(int initialHashCode);
+
+    @Override
+    public int hashCode() {
+        // Same as List.hashCode()
+        return hashCode(1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -19,6 +19,11 @@ import static com.hedera.pbj.runtime.ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG;
 import static com.hedera.pbj.runtime.ProtoWriterTools.FIXED32_SIZE;
 import static com.hedera.pbj.runtime.ProtoWriterTools.FIXED64_SIZE;
 import static com.hedera.pbj.runtime.ProtoWriterTools.TAG_TYPE_BITS;
+import static com.hedera.pbj.runtime.ProtoWriterTools.booleanAt;
+import static com.hedera.pbj.runtime.ProtoWriterTools.doubleAt;
+import static com.hedera.pbj.runtime.ProtoWriterTools.floatAt;
+import static com.hedera.pbj.runtime.ProtoWriterTools.intAt;
+import static com.hedera.pbj.runtime.ProtoWriterTools.longAt;
 import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfBoolean;
 import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfBytes;
 import static com.hedera.pbj.runtime.ProtoWriterTools.sizeOfDouble;
@@ -190,6 +195,40 @@ public final class ProtoArrayWriterTools {
         return bytesWritten;
     }
 
+    /**
+     * Write a string to data output, assuming the field is non-repeated. The UTF-8 bytes of the value are
+     * copied as they are, without encoding the string again.
+     *
+     * @param output the byte array to write to
+     * @param offset the offset to start writing at
+     * @param field the descriptor for the field we are writing, the field must be non-repeated
+     * @param value the string value to write
+     * @param skipDefault default value results in no-op for non-oneOf
+     * @return the number of bytes written
+     */
+    public static int writeUtf8String(
+            @NonNull byte[] output,
+            final int offset,
+            @NonNull final FieldDefinition field,
+            final Utf8String value,
+            final boolean skipDefault) {
+        assert field.type() == FieldType.STRING : "Not a string type " + field;
+        assert !field.repeated() : "Use writeStringList with repeated types";
+        // When not a oneOf don't write default value
+        if (skipDefault && !field.oneOf() && (value == null || value.isEmpty())) {
+            return 0;
+        }
+        int bytesWritten = 0;
+        bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
+        if (value == null) {
+            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, 0);
+        } else {
+            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, value.utf8Length());
+            bytesWritten += value.bytes().writeTo(output, offset + bytesWritten);
+        }
+        return bytesWritten;
+    }
+
     /**
      * Write an optional string to data output
      *
@@ -708,6 +747,30 @@ public final class ProtoArrayWriterTools {
         return writeMessageNoChecks(output, offset, field, message, codec);
     }
 
+    /**
+     * Write a message that is already encoded in protobuf format, such as the bytes of a {@link LazyMessage},
+     * assuming the corresponding field is non-repeated. The bytes are copied as they are.
+     *
+     * @param output the byte array to write to
+     * @param offset the offset to start writing at
+     * @param field the descriptor for the field we are writing, the field must not be repeated
+     * @param messageBytes the protobuf bytes of the message, without the tag and the length
+     * @return the number of bytes written
+     */
+    public static int writeMessageBytes(
+            @NonNull final byte[] output,
+            final int offset,
+            @NonNull final FieldDefinition field,
+            @NonNull final Bytes messageBytes) {
+        assert field.type() == FieldType.MESSAGE : "Not a message type " + field;
+        assert !field.repeated() : "Use writeMessageList with repeated types";
+        int bytesWritten = 0;
+        bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
+        bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, Math.toIntExact(messageBytes.length()));
+        bytesWritten += messageBytes.writeTo(output, offset + bytesWritten);
+        return bytesWritten;
+    }
+
     /**
      * Write a message to data output - no validation checks.
      *
@@ -811,14 +874,14 @@ public final class ProtoArrayWriterTools {
         final int listSize = list.size();
         int size = 0;
         for (int i = 0; i < listSize; i++) {
-            final int val = list.get(i);
+            final int val = intAt(list, i);
             size += sizeOfVarInt32(val);
         }
         int bytesWritten = 0;
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         for (int i = 0; i < listSize; i++) {
-            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, list.get(i));
+            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, intAt(list, i));
         }
         return bytesWritten;
     }
@@ -841,14 +904,14 @@ public final class ProtoArrayWriterTools {
         final int listSize = list.size();
         int size = 0;
         for (int i = 0; i < listSize; i++) {
-            final int val = list.get(i);
+            final int val = intAt(list, i);
             size += sizeOfUnsignedVarInt64(Integer.toUnsignedLong(val));
         }
         int bytesWritten = 0;
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         for (int i = 0; i < listSize; i++) {
-            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, Integer.toUnsignedLong(list.get(i)));
+            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, Integer.toUnsignedLong(intAt(list, i)));
         }
         return bytesWritten;
     }
@@ -871,14 +934,14 @@ public final class ProtoArrayWriterTools {
         final int listSize = list.size();
         int size = 0;
         for (int i = 0; i < listSize; i++) {
-            final int val = list.get(i);
+            final int val = intAt(list, i);
             size += sizeOfUnsignedVarInt32((val << 1) ^ (val >> 31));
         }
         int bytesWritten = 0;
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         for (int i = 0; i < listSize; i++) {
-            bytesWritten += writeSignedVarInt32(output, offset + bytesWritten, list.get(i));
+            bytesWritten += writeSignedVarInt32(output, offset + bytesWritten, intAt(list, i));
         }
         return bytesWritten;
     }
@@ -903,7 +966,7 @@ public final class ProtoArrayWriterTools {
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, (long) list.size() * FIXED32_SIZE);
         for (int i = 0; i < listSize; i++) {
-            INTEGER_LITTLE_ENDIAN.set(output, offset + bytesWritten, list.get(i));
+            INTEGER_LITTLE_ENDIAN.set(output, offset + bytesWritten, intAt(list, i));
             bytesWritten += Integer.BYTES;
         }
         return bytesWritten;
@@ -927,14 +990,14 @@ public final class ProtoArrayWriterTools {
         final int listSize = list.size();
         int size = 0;
         for (int i = 0; i < listSize; i++) {
-            final long val = list.get(i);
+            final long val = longAt(list, i);
             size += sizeOfUnsignedVarInt64(val);
         }
         int bytesWritten = 0;
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         for (int i = 0; i < listSize; i++) {
-            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, list.get(i));
+            bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, longAt(list, i));
         }
         return bytesWritten;
     }
@@ -957,14 +1020,14 @@ public final class ProtoArrayWriterTools {
         final int listSize = list.size();
         int size = 0;
         for (int i = 0; i < listSize; i++) {
-            final long val = list.get(i);
+            final long val = longAt(list, i);
             size += sizeOfUnsignedVarInt64((val << 1) ^ (val >> 63));
         }
         int bytesWritten = 0;
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         for (int i = 0; i < listSize; i++) {
-            bytesWritten += writeSignedVarInt64(output, offset + bytesWritten, list.get(i));
+            bytesWritten += writeSignedVarInt64(output, offset + bytesWritten, longAt(list, i));
         }
         return bytesWritten;
     }
@@ -989,7 +1052,7 @@ public final class ProtoArrayWriterTools {
         bytesWritten += writeTag(output, offset, field, WIRE_TYPE_DELIMITED);
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, (long) list.size() * FIXED64_SIZE);
         for (int i = 0; i < listSize; i++) {
-            LONG_LITTLE_ENDIAN.set(output, offset + bytesWritten, list.get(i));
+            LONG_LITTLE_ENDIAN.set(output, offset + bytesWritten, longAt(list, i));
             bytesWritten += Long.BYTES;
         }
         return bytesWritten;
@@ -1018,7 +1081,7 @@ public final class ProtoArrayWriterTools {
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            INTEGER_LITTLE_ENDIAN.set(output, offset + bytesWritten, Float.floatToRawIntBits(list.get(i)));
+            INTEGER_LITTLE_ENDIAN.set(output, offset + bytesWritten, Float.floatToRawIntBits(floatAt(list, i)));
             bytesWritten += Integer.BYTES;
         }
         return bytesWritten;
@@ -1047,7 +1110,7 @@ public final class ProtoArrayWriterTools {
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, size);
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            LONG_LITTLE_ENDIAN.set(output, offset + bytesWritten, Double.doubleToLongBits(list.get(i)));
+            LONG_LITTLE_ENDIAN.set(output, offset + bytesWritten, Double.doubleToLongBits(doubleAt(list, i)));
             bytesWritten += Long.BYTES;
         }
         return bytesWritten;
@@ -1076,7 +1139,7 @@ public final class ProtoArrayWriterTools {
         bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, list.size());
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            final boolean b = list.get(i);
+            final boolean b = booleanAt(list, i);
             bytesWritten += writeUnsignedVarInt(output, offset + bytesWritten, b ? 1 : 0);
         }
         return bytesWritten;
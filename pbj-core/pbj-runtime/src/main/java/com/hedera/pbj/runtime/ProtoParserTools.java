@@ -7,11 +7,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.BufferUnderflowException;
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.charset.CharacterCodingException;
-import java.nio.charset.CodingErrorAction;
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -52,6 +48,91 @@ public final class ProtoParserTools {
         return list;
     }
 
+    /**
+     * Add an int to a list returning a new {@link IntList} with the item or the same list with the item added.
+     * If the list is Collections.EMPTY_LIST then a new {@link IntList} is created and returned with the item added.
+     * Used by generated parsers of messages with the `pbj.primitive_repeated` option.
+     *
+     * @param list The list to add item to or Collections.EMPTY_LIST, must be an IntList otherwise
+     * @param newItem The item to add
+     * @return The list passed in if mutable or new list
+     */
+    public static List<Integer> addToIntList(List<Integer> list, final int newItem) {
+        if (list == Collections.EMPTY_LIST) {
+            list = new IntList();
+        }
+        ((IntList) list).addInt(newItem);
+        return list;
+    }
+
+    /**
+     * Add a long to a list returning a new {@link LongList} with the item or the same list with the item added.
+     * If the list is Collections.EMPTY_LIST then a new {@link LongList} is created and returned with the item added.
+     * Used by generated parsers of messages with the `pbj.primitive_repeated` option.
+     *
+     * @param list The list to add item to or Collections.EMPTY_LIST, must be a LongList otherwise
+     * @param newItem The item to add
+     * @return The list passed in if mutable or new list
+     */
+    public static List<Long> addToLongList(List<Long> list, final long newItem) {
+        if (list == Collections.EMPTY_LIST) {
+            list = new LongList();
+        }
+        ((LongList) list).addLong(newItem);
+        return list;
+    }
+
+    /**
+     * Add a float to a list returning a new {@link FloatList} with the item or the same list with the item added.
+     * If the list is Collections.EMPTY_LIST then a new {@link FloatList} is created and returned with the item added.
+     * Used by generated parsers of messages with the `pbj.primitive_repeated` option.
+     *
+     * @param list The list to add item to or Collections.EMPTY_LIST, must be a FloatList otherwise
+     * @param newItem The item to add
+     * @return The list passed in if mutable or new list
+     */
+    public static List<Float> addToFloatList(List<Float> list, final float newItem) {
+        if (list == Collections.EMPTY_LIST) {
+            list = new FloatList();
+        }
+        ((FloatList) list).addFloat(newItem);
+        return list;
+    }
+
+    /**
+     * Add a double to a list returning a new {@link DoubleList} with the item or the same list with the item added.
+     * If the list is Collections.EMPTY_LIST then a new {@link DoubleList} is created and returned with the item added.
+     * Used by generated parsers of messages with the `pbj.primitive_repeated` option.
+     *
+     * @param list The list to add item to or Collections.EMPTY_LIST, must be a DoubleList otherwise
+     * @param newItem The item to add
+     * @return The list passed in if mutable or new list
+     */
+    public static List<Double> addToDoubleList(List<Double> list, final double newItem) {
+        if (list == Collections.EMPTY_LIST) {
+            list = new DoubleList();
+        }
+        ((DoubleList) list).addDouble(newItem);
+        return list;
+    }
+
+    /**
+     * Add a boolean to a list returning a new {@link BooleanList} with the item or the same list with the item added.
+     * If the list is Collections.EMPTY_LIST then a new {@link BooleanList} is created and returned with the item added.
+     * Used by generated parsers of messages with the `pbj.primitive_repeated` option.
+     *
+     * @param list The list to add item to or Collections.EMPTY_LIST, must be a BooleanList otherwise
+     * @param newItem The item to add
+     * @return The list passed in if mutable or new list
+     */
+    public static List<Boolean> addToBooleanList(List<Boolean> list, final boolean newItem) {
+        if (list == Collections.EMPTY_LIST) {
+            list = new BooleanList();
+        }
+        ((BooleanList) list).addBoolean(newItem);
+        return list;
+    }
+
     /**
      * Add an entry to a map returning a new map with the entry or the same map with the entry added. If the map is
      * Collections.EMPTY_MAP then a new map is created and returned with the entry added.
@@ -247,26 +328,41 @@ public final class ProtoParserTools {
         if (input.remaining() < length) {
             throw new BufferUnderflowException();
         }
-        final ByteBuffer bb = ByteBuffer.allocate(length);
-        final long bytesRead = input.readBytes(bb);
-        if (bytesRead != length) {
-            throw new BufferUnderflowException();
-        }
-        bb.rewind();
+        // Shouldn't use `new String()` because we want to error out on malformed UTF-8 bytes.
+        return input.readUTF8(length);
+    }
 
+    /**
+     * Read a String field from data input as a lazily decoded {@link Utf8String}. The bytes are validated, but not
+     * decoded. Like {@link #readBytes(ReadableSequentialData)}, the result may be a direct reference to the input
+     * data, so it has the same life span as the input.
+     *
+     * @param input the input to read from
+     * @return read string
+     */
+    public static Utf8String readUtf8String(final ReadableSequentialData input) throws IOException {
         try {
-            // Shouldn't use `new String()` because we want to error out on malformed UTF-8 bytes.
-            return StandardCharsets.UTF_8
-                    .newDecoder()
-                    .onMalformedInput(CodingErrorAction.REPORT)
-                    .onUnmappableCharacter(CodingErrorAction.REPORT)
-                    .decode(bb)
-                    .toString();
-        } catch (CharacterCodingException e) {
-            throw new MalformedProtobufException("Malformed UTF-8 string encountered", e);
+            return readUtf8String(input, Long.MAX_VALUE);
+        } catch (ParseException ex) {
+            throw new UncheckedParseException(ex);
         }
     }
 
+    /**
+     * Read a String field from data input as a lazily decoded {@link Utf8String}. The bytes are validated, but not
+     * decoded.
+     *
+     * @param input the input to read from
+     * @param maxSize the maximum allowed size
+     * @return read string
+     * @throws ParseException if the length is greater than maxSize
+     * @throws MalformedProtobufException if the string is not valid UTF-8
+     */
+    public static Utf8String readUtf8String(final ReadableSequentialData input, final long maxSize)
+            throws IOException, ParseException {
+        return Utf8String.wrap(readBytes(input, maxSize));
+    }
+
     /**
      * Read a Bytes field from data input
      *
@@ -363,6 +363,83 @@ public final class ProtoWriterTools {
         Utf8Tools.encodeUtf8(value, out);
     }
 
+    /**
+     * Write a string to data output, assuming the field is non-repeated. The UTF-8 bytes of the value are
+     * written as they are, without encoding the string again.
+     *
+     * @param out The data output to write to
+     * @param field the descriptor for the field we are writing, the field must be non-repeated
+     * @param value the string value to write
+     * @throws IOException If a I/O error occurs
+     */
+    public static void writeUtf8String(
+            final WritableSequentialData out, final FieldDefinition field, final Utf8String value)
+            throws IOException {
+        writeUtf8String(out, field, value, true);
+    }
+
+    /**
+     * Write a string to data output, assuming the field is non-repeated. The UTF-8 bytes of the value are
+     * written as they are, without encoding the string again.
+     *
+     * @param out The data output to write to
+     * @param field the descriptor for the field we are writing, the field must be non-repeated
+     * @param value the string value to write
+     * @param skipDefault default value results in no-op for non-oneOf
+     * @throws IOException If a I/O error occurs
+     */
+    public static void writeUtf8String(
+            final WritableSequentialData out,
+            final FieldDefinition field,
+            final Utf8String value,
+            final boolean skipDefault)
+            throws IOException {
+        assert field.type() == FieldType.STRING : "Not a string type " + field;
+        assert !field.repeated() : "Use writeOneRepeatedUtf8String with repeated types";
+        // When not a oneOf don't write default value
+        if (skipDefault && !field.oneOf() && (value == null || value.isEmpty())) {
+            return;
+        }
+        writeUtf8StringNoChecks(out, field, value);
+    }
+
+    /**
+     * Write a string to data output, assuming the field is repeated. The UTF-8 bytes of the value are
+     * written as they are, without encoding the string again.
+     *
+     * @param out The data output to write to
+     * @param field the descriptor for the field we are writing, the field must be repeated
+     * @param value the string value to write
+     * @throws IOException If a I/O error occurs
+     */
+    public static void writeOneRepeatedUtf8String(
+            final WritableSequentialData out, final FieldDefinition field, final Utf8String value)
+            throws IOException {
+        assert field.type() == FieldType.STRING : "Not a string type " + field;
+        assert field.repeated() : "writeOneRepeatedUtf8String can only be used with repeated fields";
+        writeUtf8StringNoChecks(out, field, value);
+    }
+
+    /**
+     * Write a Utf8String to data output - no validation checks.
+     *
+     * @param out The data output to write to
+     * @param field the descriptor for the field we are writing
+     * @param value the string value to write, null is written as an empty string
+     * @throws IOException If a I/O error occurs
+     */
+    private static void writeUtf8StringNoChecks(
+            final WritableSequentialData out, final FieldDefinition field, final Utf8String value)
+            throws IOException {
+        writeTag(out, field, WIRE_TYPE_DELIMITED);
+        if (value == null) {
+            out.writeVarInt(0, false);
+        } else {
+            out.writeVarInt(value.utf8Length(), false);
+            out.writeBytes(value.bytes());
+        }
+    }
+
     /**
      * Write a bytes to data output, assuming the corresponding field is non-repeated, and field type
      * is any delimited: bytes, string, or message.
@@ -486,6 +563,25 @@ public final class ProtoWriterTools {
         writeMessageNoChecks(out, field, message, codec);
     }
 
+    /**
+     * Write a message that is already encoded in protobuf format, such as the bytes of a {@link LazyMessage},
+     * assuming the corresponding field is non-repeated. The bytes are written as they are.
+     *
+     * @param out The data output to write to
+     * @param field the descriptor for the field we are writing, the field must not be repeated
+     * @param messageBytes the protobuf bytes of the message, without the tag and the length
+     * @throws IOException If a I/O error occurs
+     */
+    public static void writeMessageBytes(
+            final WritableSequentialData out, final FieldDefinition field, final RandomAccessData messageBytes)
+            throws IOException {
+        assert field.type() == FieldType.MESSAGE : "Not a message type " + field;
+        assert !field.repeated() : "Use writeMessageList with repeated types";
+        writeTag(out, field, WIRE_TYPE_DELIMITED);
+        out.writeVarInt(Math.toIntExact(messageBytes.length()), false);
+        out.writeBytes(messageBytes);
+    }
+
     /**
      * Write a message to data output - no validation checks.
      *
@@ -672,6 +768,61 @@ public final class ProtoWriterTools {
     // ================================================================================================================
     // LIST VERSIONS OF WRITE METHODS
 
+    /**
+     * Get an element of an integer list, without boxing it if the list is an {@link IntList}.
+     *
+     * @param list the list
+     * @param index the index of the element
+     * @return the element
+     */
+    static int intAt(final List<Integer> list, final int index) {
+        return list instanceof IntList intList ? intList.getInt(index) : list.get(index);
+    }
+
+    /**
+     * Get an element of a long list, without boxing it if the list is a {@link LongList}.
+     *
+     * @param list the list
+     * @param index the index of the element
+     * @return the element
+     */
+    static long longAt(final List<Long> list, final int index) {
+        return list instanceof LongList longList ? longList.getLong(index) : list.get(index);
+    }
+
+    /**
+     * Get an element of a float list, without boxing it if the list is a {@link FloatList}.
+     *
+     * @param list the list
+     * @param index the index of the element
+     * @return the element
+     */
+    static float floatAt(final List<Float> list, final int index) {
+        return list instanceof FloatList floatList ? floatList.getFloat(index) : list.get(index);
+    }
+
+    /**
+     * Get an element of a double list, without boxing it if the list is a {@link DoubleList}.
+     *
+     * @param list the list
+     * @param index the index of the element
+     * @return the element
+     */
+    static double doubleAt(final List<Double> list, final int index) {
+        return list instanceof DoubleList doubleList ? doubleList.getDouble(index) : list.get(index);
+    }
+
+    /**
+     * Get an element of a boolean list, without boxing it if the list is a {@link BooleanList}.
+     *
+     * @param list the list
+     * @param index the index of the element
+     * @return the element
+     */
+    static boolean booleanAt(final List<Boolean> list, final int index) {
+        return list instanceof BooleanList booleanList ? booleanList.getBoolean(index) : list.get(index);
+    }
+
     /**
      * Write a list of integers to data output
      *
@@ -697,39 +848,39 @@ public final class ProtoWriterTools {
             case INT32 -> {
                 int size = 0;
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     size += sizeOfVarInt32(val);
                 }
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarInt(size, false);
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     out.writeVarInt(val, false);
                 }
             }
             case UINT32 -> {
                 int size = 0;
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     size += sizeOfUnsignedVarInt64(Integer.toUnsignedLong(val));
                 }
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarInt(size, false);
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     out.writeVarLong(Integer.toUnsignedLong(val), false);
                 }
             }
             case SINT32 -> {
                 int size = 0;
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     size += sizeOfUnsignedVarInt64(((long) val << 1) ^ ((long) val >> 63));
                 }
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarInt(size, false);
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     out.writeVarInt(val, true);
                 }
             }
@@ -739,7 +890,7 @@ public final class ProtoWriterTools {
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarLong((long) list.size() * FIXED32_SIZE, false);
                 for (int i = 0; i < listSize; i++) {
-                    final int val = list.get(i);
+                    final int val = intAt(list, i);
                     out.writeInt(val, ByteOrder.LITTLE_ENDIAN);
                 }
             }
@@ -772,26 +923,26 @@ public final class ProtoWriterTools {
             case INT64, UINT64 -> {
                 int size = 0;
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     size += sizeOfUnsignedVarInt64(val);
                 }
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarInt(size, false);
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     out.writeVarLong(val, false);
                 }
             }
             case SINT64 -> {
                 int size = 0;
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     size += sizeOfUnsignedVarInt64((val << 1) ^ (val >> 63));
                 }
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarInt(size, false);
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     out.writeVarLong(val, true);
                 }
             }
@@ -801,7 +952,7 @@ public final class ProtoWriterTools {
                 writeTag(out, field, WIRE_TYPE_DELIMITED);
                 out.writeVarLong((long) list.size() * FIXED64_SIZE, false);
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     out.writeLong(val, ByteOrder.LITTLE_ENDIAN);
                 }
             }
@@ -828,7 +979,7 @@ public final class ProtoWriterTools {
         out.writeVarInt(size, false);
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            out.writeFloat(list.get(i), ByteOrder.LITTLE_ENDIAN);
+            out.writeFloat(floatAt(list, i), ByteOrder.LITTLE_ENDIAN);
         }
     }
 
@@ -851,7 +1002,7 @@ public final class ProtoWriterTools {
         out.writeVarInt(size, false);
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            out.writeDouble(list.get(i), ByteOrder.LITTLE_ENDIAN);
+            out.writeDouble(doubleAt(list, i), ByteOrder.LITTLE_ENDIAN);
         }
     }
 
@@ -874,7 +1025,7 @@ public final class ProtoWriterTools {
         out.writeVarInt(list.size(), false);
         final int listSize = list.size();
         for (int i = 0; i < listSize; i++) {
-            final boolean b = list.get(i);
+            final boolean b = booleanAt(list, i);
             out.writeVarInt(b ? 1 : 0, false);
         }
     }
@@ -1334,6 +1485,33 @@ public final class ProtoWriterTools {
         return sizeOfDelimited(field, sizeOfStringNoTag(value));
     }
 
+    /**
+     * Get number of bytes that would be needed to encode a Utf8String field
+     *
+     * @param field descriptor of field
+     * @param value string value to get encoded size for
+     * @return the number of bytes for encoded value
+     */
+    public static int sizeOfUtf8String(FieldDefinition field, Utf8String value) {
+        return sizeOfUtf8String(field, value, true);
+    }
+
+    /**
+     * Get number of bytes that would be needed to encode a Utf8String field
+     *
+     * @param field descriptor of field
+     * @param value string value to get encoded size for
+     * @param skipDefault default value results in zero size
+     * @return the number of bytes for encoded value
+     */
+    public static int sizeOfUtf8String(FieldDefinition field, Utf8String value, boolean skipDefault) {
+        // When not a oneOf don't write default value
+        if (skipDefault && !field.oneOf() && (value == null || value.isEmpty())) {
+            return 0;
+        }
+        return sizeOfDelimited(field, value == null ? 0 : value.utf8Length());
+    }
+
     /**
      * Get number of bytes that would be needed to encode a string, without field tag
      *
@@ -1417,17 +1595,17 @@ public final class ProtoWriterTools {
         switch (field.type()) {
             case INT32 -> {
                 for (int i = 0; i < listSize; i++) {
-                    size += sizeOfVarInt32(list.get(i));
+                    size += sizeOfVarInt32(intAt(list, i));
                 }
             }
             case UINT32 -> {
                 for (int i = 0; i < listSize; i++) {
-                    size += sizeOfUnsignedVarInt32(list.get(i));
+                    size += sizeOfUnsignedVarInt32(intAt(list, i));
                 }
             }
             case SINT32 -> {
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = intAt(list, i);
                     size += sizeOfUnsignedVarInt64((val << 1) ^ (val >> 63));
                 }
             }
@@ -1454,12 +1632,12 @@ public final class ProtoWriterTools {
         switch (field.type()) {
             case INT64, UINT64 -> {
                 for (int i = 0; i < listSize; i++) {
-                    size += sizeOfUnsignedVarInt64(list.get(i));
+                    size += sizeOfUnsignedVarInt64(longAt(list, i));
                 }
             }
             case SINT64 -> {
                 for (int i = 0; i < listSize; i++) {
-                    final long val = list.get(i);
+                    final long val = longAt(list, i);
                     size += sizeOfUnsignedVarInt64((val << 1) ^ (val >> 63));
                 }
             }
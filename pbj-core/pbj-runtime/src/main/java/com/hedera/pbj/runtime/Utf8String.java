@@ -0,0 +1,186 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An immutable string that is stored as UTF-8 encoded {@link Bytes} and decoded into a {@link String} lazily.
+ * <p>
+ * A {@code Utf8String} read from protobuf input with {@link ProtoParserTools#readUtf8String(
+ * com.hedera.pbj.runtime.io.ReadableSequentialData)} keeps the bytes of the field and only validates them, so
+ * a string that is parsed, hashed, compared and written back out with {@link ProtoWriterTools#writeUtf8String(
+ * com.hedera.pbj.runtime.io.WritableSequentialData, FieldDefinition, Utf8String)} is never decoded or re-encoded.
+ * The {@code String} is created on the first call to {@link #toString()} or any {@link CharSequence} method.
+ * <p>
+ * Generated models of messages that enable the {@code // <<<pbj.utf8_strings = true>>>} option store their singular
+ * string fields as {@code Utf8String} values. Their getters still return {@code String}, and an extra
+ * {@code <field>Utf8()} getter returns the {@code Utf8String}.
+ * <p>
+ * Equality and hash code are based on the UTF-8 bytes. Since valid UTF-8 encoding is unique, two instances are
+ * equal if and only if their decoded strings are equal. Note that the hash code is NOT the same as the hash code
+ * of the decoded {@code String}.
+ */
+public final class Utf8String implements CharSequence, Comparable<Utf8String> {
+    /** An empty string. */
+    public static final Utf8String EMPTY = new Utf8String(Bytes.EMPTY, "");
+
+    /** The UTF-8 encoded bytes of the string. */
+    private final Bytes utf8;
+
+    /**
+     * The decoded string, or null if not decoded yet. Races are benign: every thread that decodes the bytes
+     * produces an equal string, and String is safe to publish without synchronization.
+     */
+    private String string;
+
+    private Utf8String(@NonNull final Bytes utf8, @Nullable final String string) {
+        this.utf8 = utf8;
+        this.string = string;
+    }
+
+    /**
+     * Create a new {@code Utf8String} wrapping the given UTF-8 encoded bytes. The bytes are validated, but not
+     * copied or decoded.
+     *
+     * @param utf8 the UTF-8 encoded bytes
+     * @return a new {@code Utf8String}
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     */
+    @NonNull
+    public static Utf8String wrap(@NonNull final Bytes utf8) throws MalformedProtobufException {
+        if (utf8.length() == 0) {
+            return EMPTY;
+        }
+        if (!Utf8Tools.isValidUtf8(utf8, 0, utf8.length())) {
+            throw new MalformedProtobufException("Malformed UTF-8 string encountered");
+        }
+        return new Utf8String(utf8, null);
+    }
+
+    /**
+     * Create a new {@code Utf8String} from a {@code String}. The string is encoded eagerly.
+     *
+     * @param string the string
+     * @return a new {@code Utf8String}
+     * @throws MalformedUtf8Exception if the string contains unpaired surrogates
+     */
+    @NonNull
+    public static Utf8String of(@NonNull final String string) {
+        if (string.isEmpty()) {
+            return EMPTY;
+        }
+        final byte[] utf8;
+        try {
+            utf8 = new byte[Utf8Tools.encodedLength(string)];
+        } catch (final IOException e) {
+            throw new MalformedUtf8Exception(e.getMessage(), e);
+        }
+        Utf8Tools.encodeUtf8(utf8, 0, string);
+        return new Utf8String(Bytes.wrap(utf8), string);
+    }
+
+    /**
+     * Get the UTF-8 encoded bytes of this string.
+     *
+     * @return the bytes, never null
+     */
+    @NonNull
+    public Bytes bytes() {
+        return utf8;
+    }
+
+    /**
+     * Get the number of bytes in the UTF-8 encoding of this string.
+     *
+     * @return the encoded length
+     */
+    public int utf8Length() {
+        return Math.toIntExact(utf8.length());
+    }
+
+    /**
+     * Check if this string is empty, without decoding it.
+     *
+     * @return true if the string has no characters
+     */
+    public boolean isEmpty() {
+        return utf8.length() == 0;
+    }
+
+    /**
+     * Check if the string has been decoded already. Useful mainly for tests.
+     *
+     * @return true if {@link #toString()} will not need to decode the bytes
+     */
+    public boolean isDecoded() {
+        return string != null;
+    }
+
+    /**
+     * Get the decoded string. The bytes are decoded on the first call only.
+     *
+     * @return the string
+     */
+    @NonNull
+    @Override
+    public String toString() {
+        String s = string;
+        if (s == null) {
+            s = utf8.asUtf8String();
+            string = s;
+        }
+        return s;
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return toString().charAt(index);
+    }
+
+    @NonNull
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /**
+     * Compares the UTF-8 bytes as unsigned values, which is the same as comparing the strings by code points.
+     *
+     * @param o the other string
+     * @return a negative number, zero, or a positive number
+     */
+    @Override
+    public int compareTo(@NonNull final Utf8String o) {
+        return Bytes.SORT_BY_UNSIGNED_VALUE.compare(utf8, o.utf8);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Utf8String that)) {
+            return false;
+        }
+        final String s1 = string;
+        final String s2 = that.string;
+        if (s1 != null && s2 != null) {
+            return s1.equals(s2);
+        }
+        return Objects.equals(utf8, that.utf8);
+    }
+
+    @Override
+    public int hashCode() {
+        return utf8.hashCode();
+    }
+}
@@ -3,14 +3,24 @@ package com.hedera.pbj.runtime;
 
 import static java.lang.Character.*;
 
+import com.hedera.pbj.runtime.io.UnsafeUtils;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.RandomAccessData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * UTF8 tools based on protobuf standard library, so we are byte for byte identical
  */
 public final class Utf8Tools {
+    /** The high bits of all eight bytes in a long, which are all zero if the bytes are ASCII. */
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
 
     /**
      * Returns the number of bytes in the UTF-8-encoded form of {@code sequence}. For a string, this
@@ -166,4 +176,220 @@ public final class Utf8Tools {
         }
         return j - offset;
     }
+
+    /**
+     * Checks if a range of bytes is a well-formed UTF-8 encoding, without decoding or copying the bytes. Overlong
+     * encodings, encoded surrogates, and code points above U+10FFFF are rejected, the same as the JDK decoder and
+     * protoc do.
+     *
+     * @param data the data to check
+     * @param offset the offset of the first byte to check
+     * @param length the number of bytes to check
+     * @return true if the bytes are well-formed UTF-8
+     */
+    public static boolean isValidUtf8(@NonNull final RandomAccessData data, final long offset, final long length) {
+        final long limit = offset + length;
+        long i = offset;
+        // This loop optimizes for pure ASCII.
+        while (i < limit && data.getByte(i) >= 0) {
+            i++;
+        }
+        while (i < limit) {
+            final int b1 = data.getByte(i++);
+            if (b1 >= 0) {
+                continue;
+            }
+            if (b1 < (byte) 0xE0) {
+                // Two bytes (110x xxxx 10xx xxxx), rejecting overlong C0 and C1
+                if (i >= limit || b1 < (byte) 0xC2 || data.getByte(i++) > (byte) 0xBF) {
+                    return false;
+                }
+            } else if (b1 < (byte) 0xF0) {
+                // Three bytes (1110 xxxx 10xx xxxx 10xx xxxx)
+                if (i + 1 >= limit) {
+                    return false;
+                }
+                final int b2 = data.getByte(i++);
+                if (b2 > (byte) 0xBF
+                        // overlong
+                        || (b1 == (byte) 0xE0 && b2 < (byte) 0xA0)
+                        // surrogate
+                        || (b1 == (byte) 0xED && b2 >= (byte) 0xA0)
+                        || data.getByte(i++) > (byte) 0xBF) {
+                    return false;
+                }
+            } else {
+                // Four bytes (1111 0xxx 10xx xxxx 10xx xxxx 10xx xxxx)
+                if (i + 2 >= limit) {
+                    return false;
+                }
+                final int b2 = data.getByte(i++);
+                if (b2 > (byte) 0xBF
+                        // overlong or above U+10FFFF, all in one check
+                        || (((b1 << 28) + (b2 - (byte) 0x90)) >> 30) != 0
+                        || data.getByte(i++) > (byte) 0xBF
+                        || data.getByte(i++) > (byte) 0xBF) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a range of UTF-8 bytes into a string. Unlike {@code new String(bytes, UTF_8)}, malformed input is
+     * rejected instead of being replaced with U+FFFD, using the same rules as {@link #isValidUtf8(RandomAccessData,
+     * long, long)}. Unlike a JDK {@code CharsetDecoder}, no decoder or intermediate buffers are allocated. ASCII
+     * input, which is the most common case for protobuf strings, is checked eight bytes at a time and copied
+     * straight into the string.
+     *
+     * @param src the array to decode the bytes from
+     * @param offset the offset of the first byte to decode
+     * @param length the number of bytes to decode
+     * @return the decoded string
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     */
+    @NonNull
+    public static String decodeUtf8(@NonNull final byte[] src, final int offset, final int length)
+            throws MalformedProtobufException {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        final int limit = offset + length;
+        int i = offset;
+        // This loop optimizes for pure ASCII, checking a word at a time.
+        while (i <= limit - Long.BYTES
+                && (UnsafeUtils.getLong(src, i, ByteOrder.LITTLE_ENDIAN) & NON_ASCII_MASK) == 0) {
+            i += Long.BYTES;
+        }
+        while (i < limit && src[i] >= 0) {
+            i++;
+        }
+        if (i == limit) {
+            // Decoding ASCII as ISO-8859-1 is a plain copy into a compact string
+            return new String(src, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return decodeUtf8General(src, offset, i, limit);
+    }
+
+    /**
+     * Decodes a range of UTF-8 bytes from a {@link ByteBuffer} into a string, see {@link #decodeUtf8(byte[], int,
+     * int)}. Heap buffers are decoded from their backing array. The position and the limit of the buffer are not
+     * changed.
+     *
+     * @param src the buffer to decode the bytes from
+     * @param offset the absolute index of the first byte to decode
+     * @param length the number of bytes to decode
+     * @return the decoded string
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer limit
+     */
+    @NonNull
+    public static String decodeUtf8(@NonNull final ByteBuffer src, final int offset, final int length)
+            throws MalformedProtobufException {
+        Objects.checkFromIndexSize(offset, length, src.limit());
+        if (src.hasArray()) {
+            return decodeUtf8(src.array(), src.arrayOffset() + offset, length);
+        }
+        // Direct or read-only buffer. A string lives on the heap anyway, so copy the bytes there first
+        final byte[] bytes = new byte[length];
+        src.get(offset, bytes);
+        return decodeUtf8(bytes, 0, length);
+    }
+
+    /**
+     * Decodes a range of UTF-8 bytes from a {@link MemorySegment} into a string, see {@link #decodeUtf8(byte[], int,
+     * int)}. Segments backed by a byte array are decoded from the array directly.
+     *
+     * @param src the segment to decode the bytes from
+     * @param offset the offset of the first byte to decode
+     * @param length the number of bytes to decode
+     * @return the decoded string
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the segment
+     */
+    @NonNull
+    public static String decodeUtf8(@NonNull final MemorySegment src, final long offset, final int length)
+            throws MalformedProtobufException {
+        Objects.checkFromIndexSize(offset, length, src.byteSize());
+        if (src.heapBase().orElse(null) instanceof byte[] array) {
+            // The address of a heap segment is its offset in the backing array
+            return decodeUtf8(array, Math.toIntExact(src.address() + offset), length);
+        }
+        final byte[] bytes = new byte[length];
+        MemorySegment.copy(src, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return decodeUtf8(bytes, 0, length);
+    }
+
+    /**
+     * Decodes bytes that contain at least one non-ASCII byte, with the same validation as {@link
+     * #isValidUtf8(RandomAccessData, long, long)}.
+     *
+     * @param src the array to decode the bytes from
+     * @param offset the offset of the first byte to decode
+     * @param start the offset of the first non-ASCII byte
+     * @param limit the offset after the last byte to decode
+     * @return the decoded string
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     */
+    private static String decodeUtf8General(final byte[] src, final int offset, final int start, final int limit)
+            throws MalformedProtobufException {
+        // UTF-8 never needs fewer bytes than UTF-16 needs chars
+        final char[] chars = new char[limit - offset];
+        int j = 0;
+        for (int i = offset; i < start; i++) {
+            chars[j++] = (char) src[i];
+        }
+        int i = start;
+        while (i < limit) {
+            final int b1 = src[i++];
+            if (b1 >= 0) {
+                chars[j++] = (char) b1;
+            } else if (b1 < (byte) 0xE0) {
+                // Two bytes (110x xxxx 10xx xxxx), rejecting overlong C0 and C1
+                if (i >= limit || b1 < (byte) 0xC2 || src[i] > (byte) 0xBF) {
+                    throw malformedUtf8();
+                }
+                chars[j++] = (char) (((b1 & 0x1F) << 6) | (src[i++] & 0x3F));
+            } else if (b1 < (byte) 0xF0) {
+                // Three bytes (1110 xxxx 10xx xxxx 10xx xxxx)
+                if (i + 1 >= limit) {
+                    throw malformedUtf8();
+                }
+                final int b2 = src[i++];
+                final int b3 = src[i++];
+                if (b2 > (byte) 0xBF
+                        // overlong
+                        || (b1 == (byte) 0xE0 && b2 < (byte) 0xA0)
+                        // surrogate
+                        || (b1 == (byte) 0xED && b2 >= (byte) 0xA0)
+                        || b3 > (byte) 0xBF) {
+                    throw malformedUtf8();
+                }
+                chars[j++] = (char) (((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+            } else {
+                // Four bytes (1111 0xxx 10xx xxxx 10xx xxxx 10xx xxxx)
+                if (i + 2 >= limit) {
+                    throw malformedUtf8();
+                }
+                final int b2 = src[i++];
+                final int b3 = src[i++];
+                final int b4 = src[i++];
+                if (b2 > (byte) 0xBF
+                        // overlong or above U+10FFFF, all in one check
+                        || (((b1 << 28) + (b2 - (byte) 0x90)) >> 30) != 0
+                        || b3 > (byte) 0xBF
+                        || b4 > (byte) 0xBF) {
+                    throw malformedUtf8();
+                }
+                final int codePoint = ((b1 & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+                chars[j++] = highSurrogate(codePoint);
+                chars[j++] = lowSurrogate(codePoint);
+            }
+        }
+        return new String(chars, 0, j);
+    }
+
+    private static MalformedProtobufException malformedUtf8() {
+        return new MalformedProtobufException("Malformed UTF-8 string encountered");
+    }
 }
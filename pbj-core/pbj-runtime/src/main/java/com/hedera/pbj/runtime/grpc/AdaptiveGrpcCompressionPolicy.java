@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link GrpcCompressionPolicy} that skips short messages, and methods whose messages don't compress well.
+ *
+ * @see GrpcCompressionPolicy#adaptive(int, double)
+ */
+final class AdaptiveGrpcCompressionPolicy implements GrpcCompressionPolicy {
+    /** The weight of the latest message in the rolling compression ratio of a method. */
+    private static final double WEIGHT = 1.0 / 16;
+
+    /** How often a message of a method that doesn't compress well is compressed anyway, to measure it again. */
+    private static final int PROBE_INTERVAL = 32;
+
+    private final int minLength;
+
+    /** The compression ratio, compressed length over length, above which messages aren't worth compressing. */
+    private final double maxRatio;
+
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+
+    AdaptiveGrpcCompressionPolicy(final int minLength, final double minSavings) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("The minimum length must not be negative");
+        }
+        if (minSavings < 0 || minSavings > 1) {
+            throw new IllegalArgumentException("The minimum savings must be between 0 and 1");
+        }
+        this.minLength = minLength;
+        this.maxRatio = 1 - minSavings;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean shouldCompress(@NonNull final String method, final long length) {
+        if (length < minLength) {
+            return false;
+        }
+        final MethodStats stats = methods.get(method);
+        return stats == null || stats.shouldCompress(maxRatio);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordCompression(@NonNull final String method, final long length, final long compressedLength) {
+        if (length > 0) {
+            methods.computeIfAbsent(method, m -> new MethodStats()).record((double) compressedLength / length);
+        }
+    }
+
+    /** The rolling compression ratio of the messages of one method. */
+    private static final class MethodStats {
+        /** The rolling compression ratio. Guarded by this. */
+        private double ratio = -1;
+
+        /** The number of messages skipped since the last one that was compressed. Guarded by this. */
+        private int skipped;
+
+        synchronized boolean shouldCompress(final double maxRatio) {
+            if (ratio <= maxRatio || ++skipped >= PROBE_INTERVAL) {
+                skipped = 0;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void record(final double messageRatio) {
+            ratio = ratio < 0 ? messageRatio : ratio + WEIGHT * (messageRatio - ratio);
+        }
+    }
+}
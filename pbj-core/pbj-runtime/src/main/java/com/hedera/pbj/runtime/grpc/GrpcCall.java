@@ -37,4 +37,22 @@ public interface GrpcCall<RequestT, ReplyT> {
      * Note that sending more requests after calling this method will result in an exception.
      */
     void completeRequests();
+
+    /**
+     * Write out the requests that have been sent, but that an implementation which coalesces requests into larger
+     * writes still holds in a batch.
+     * <p>
+     * Applications that stream requests in bursts may call this method at the end of a burst to avoid waiting for
+     * the batching delay of the implementation. The default implementation does nothing because it doesn't batch.
+     */
+    default void flush() {}
+
+    /**
+     * Cancel the call because the application no longer needs its replies, e.g. when its deadline has passed.
+     * <p>
+     * When using HTTP2 as a transport protocol, this resets the stream with the CANCEL error code, so that the service
+     * can stop working on the call. Replies that are received after this point may be dropped, or reported to
+     * the pipeline along with an error. The default implementation does nothing.
+     */
+    default void cancel() {}
 }
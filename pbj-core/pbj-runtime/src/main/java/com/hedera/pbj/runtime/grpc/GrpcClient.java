@@ -2,7 +2,10 @@
 package com.hedera.pbj.runtime.grpc;
 
 import com.hedera.pbj.runtime.Codec;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * An interface for GRPC client.
@@ -29,6 +32,39 @@ public interface GrpcClient extends AutoCloseable {
             Pipeline<ReplyT> pipeline,
             Map<String, String> metadata);
 
+    /**
+     * Create a new GRPC call with a deadline. When the timeout expires before the call completes, the call is
+     * cancelled, and the pipeline fails with a {@link GrpcException} with the {@link GrpcStatus#DEADLINE_EXCEEDED}
+     * status. Implementations that don't support deadlines ignore the timeout.
+     *
+     * @param <RequestT> request type
+     * @param <ReplyT> reply type
+     * @param fullMethodName a full GRPC method name that includes the fully-qualified service name and the method name
+     * @param requestCodec a PBJ codec for requests
+     * @param replyCodec a PBJ codec for replies
+     * @param pipeline a pipeline for receiving replies
+     * @param metadata metadata to be sent to the service
+     * @param timeout the time after which the call fails, or null for no deadline
+     */
+    default <RequestT, ReplyT> GrpcCall<RequestT, ReplyT> createCall(
+            String fullMethodName,
+            Codec<RequestT> requestCodec,
+            Codec<ReplyT> replyCodec,
+            Pipeline<ReplyT> pipeline,
+            Map<String, String> metadata,
+            @Nullable Duration timeout) {
+        return createCall(fullMethodName, requestCodec, replyCodec, pipeline, metadata);
+    }
+
+    /**
+     * Get the executor that asynchronous calls use to create GRPC calls and send their requests. Both may block, for
+     * example while opening a connection or writing to the network, so they must not run on the caller thread.
+     * The default implementation starts a new virtual thread for every task.
+     */
+    default Executor executor() {
+        return task -> Thread.ofVirtual().start(task);
+    }
+
     /**
      * Closes this GrpcClient instance releasing all resources, such as open network connections etc.
      */
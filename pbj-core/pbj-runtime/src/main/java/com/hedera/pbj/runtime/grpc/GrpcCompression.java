@@ -3,17 +3,16 @@ package com.hedera.pbj.runtime.grpc;
 
 import static java.lang.System.Logger.Level.DEBUG;
 
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * A registry of GRPC compressors and decompressors (commonly - transformers) supported by PBJ GRPC server and client.
@@ -39,6 +38,41 @@ public class GrpcCompression {
     /** Convenience interface to implement both Compressor and Decompressor at once. */
     public interface GrpcTransformer extends Compressor, Decompressor {}
 
+    /**
+     * A Compressor that can also compress from and to sequential data, for example straight from a buffer into an
+     * OutputStream, without holding the whole message or the whole compressed message as Bytes.
+     */
+    public interface StreamingCompressor extends Compressor {
+        /**
+         * Compress all remaining bytes of the input, and write the compressed bytes to the output.
+         *
+         * @param input the data to compress, read up to its limit
+         * @param output the output to write the compressed data to
+         * @throws java.nio.BufferOverflowException if the output has no room for all the compressed data
+         * @throws UncheckedIOException if the input or output fails
+         */
+        void compress(@NonNull ReadableSequentialData input, @NonNull WritableSequentialData output);
+    }
+
+    /**
+     * A Decompressor that can also decompress from and to sequential data, for example straight from the frames of a
+     * message into a buffer, without holding the whole compressed message or the whole message as Bytes.
+     */
+    public interface StreamingDecompressor extends Decompressor {
+        /**
+         * Decompress all remaining bytes of the input, and write the decompressed bytes to the output.
+         *
+         * @param input the compressed data, read up to its limit
+         * @param output the output to write the decompressed data to
+         * @throws java.nio.BufferOverflowException if the output has no room for all the decompressed data
+         * @throws UncheckedIOException if the input is not valid compressed data, or the input or output fails
+         */
+        void decompress(@NonNull ReadableSequentialData input, @NonNull WritableSequentialData output);
+    }
+
+    /** Convenience interface to implement both StreamingCompressor and StreamingDecompressor at once. */
+    public interface StreamingGrpcTransformer extends GrpcTransformer, StreamingCompressor, StreamingDecompressor {}
+
     private static class IdentityGrpcTransformer implements GrpcTransformer {
         private static final String NAME = IDENTITY;
         private static final GrpcTransformer INSTANCE = new IdentityGrpcTransformer();
@@ -54,38 +88,6 @@ public class GrpcCompression {
         }
     }
 
-    private static class GzipGrpcTransformer implements GrpcTransformer {
-        private static final String NAME = "gzip";
-        private static final GrpcTransformer INSTANCE = new GzipGrpcTransformer();
-
-        @Override
-        public Bytes compress(Bytes bytes) {
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                    GZIPOutputStream gos = new GZIPOutputStream(baos)) {
-                bytes.writeTo(gos);
-                gos.finish();
-                return Bytes.wrap(baos.toByteArray());
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-        }
-
-        @Override
-        public Bytes decompress(Bytes bytes) {
-            byte[] buffer = new byte[1024];
-            try (GZIPInputStream gis = new GZIPInputStream(bytes.toInputStream());
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                int len;
-                while ((len = gis.read(buffer, 0, buffer.length)) > 0) {
-                    baos.write(buffer, 0, len);
-                }
-                return Bytes.wrap(baos.toByteArray());
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-        }
-    }
-
     private static final Map<String, Compressor> COMPRESSOR_MAP = new HashMap<>();
     private static final Map<String, Decompressor> DECOMPRESSOR_MAP = new HashMap<>();
 
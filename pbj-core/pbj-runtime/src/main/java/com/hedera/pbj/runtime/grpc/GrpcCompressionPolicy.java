@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Decides, message by message, whether a gRPC peer compresses a message it sends with the encoding negotiated for the
+ * stream. A message that isn't compressed is sent with the compressed flag of its datagram set to 0, which every
+ * receiver must accept regardless of the grpc-encoding of the stream. Compressing a tiny message, or a message of a
+ * method whose messages hardly compress, only costs CPU and latency.
+ *
+ * <p>Implementations must be thread-safe, because one policy serves all the streams of a server or client.
+ */
+public interface GrpcCompressionPolicy {
+    /** A policy that compresses every message, which is what gRPC peers do without a policy. */
+    GrpcCompressionPolicy ALWAYS = (method, length) -> true;
+
+    /**
+     * The default minimum length of a message to compress, in bytes ({@value}). Smaller messages barely compress,
+     * and fit in a single frame anyway.
+     */
+    int DEFAULT_MIN_LENGTH = 256;
+
+    /**
+     * The default minimum fraction of its length that compression must save on the messages of a method ({@value}).
+     */
+    double DEFAULT_MIN_SAVINGS = 0.1;
+
+    /**
+     * Decide whether to compress a message.
+     *
+     * @param method the full name of the gRPC method that the message belongs to
+     * @param length the length of the serialized message, in bytes
+     * @return true to compress the message, false to send it uncompressed
+     */
+    boolean shouldCompress(@NonNull String method, long length);
+
+    /**
+     * Learn how well a message compressed, after {@link #shouldCompress(String, long)} decided to compress it.
+     *
+     * @param method the full name of the gRPC method that the message belongs to
+     * @param length the length of the serialized message, in bytes
+     * @param compressedLength the length of the compressed message, in bytes
+     */
+    default void recordCompression(@NonNull String method, long length, long compressedLength) {}
+
+    /**
+     * Create a policy with the {@link #DEFAULT_MIN_LENGTH} and the {@link #DEFAULT_MIN_SAVINGS}.
+     *
+     * @return a new policy
+     * @see #adaptive(int, double)
+     */
+    @NonNull
+    static GrpcCompressionPolicy adaptive() {
+        return adaptive(DEFAULT_MIN_LENGTH, DEFAULT_MIN_SAVINGS);
+    }
+
+    /**
+     * Create a policy that doesn't compress messages shorter than the minimum length, and that keeps a rolling
+     * compression ratio for each method. While compression of the messages of a method saves less than the minimum
+     * savings, only an occasional message of the method is compressed, to notice when its messages compress well
+     * again.
+     *
+     * @param minLength the minimum length of a message to compress, in bytes
+     * @param minSavings the minimum fraction of their length, between 0 and 1, that compression must save on the
+     *     messages of a method to keep compressing them
+     * @return a new policy
+     */
+    @NonNull
+    static GrpcCompressionPolicy adaptive(final int minLength, final double minSavings) {
+        return new AdaptiveGrpcCompressionPolicy(minLength, minSavings);
+    }
+}
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decides how a client retries, or hedges, a unary gRPC call that fails or is slow to reply. The generated client
+ * stubs use the policy returned by {@link ServiceInterface.RequestOptions#retryPolicy(String)} for each call.
+ *
+ * <p>A call fails for good as soon as an attempt fails with a status that isn't one of the retryable statuses.
+ * Connection failures are retryable if {@link GrpcStatus#UNAVAILABLE} is. Without hedging, a failed attempt is
+ * retried after an exponential backoff: the n-th retry waits a random delay of up to
+ * {@code min(initialBackoff * backoffMultiplier^(n-1), maxBackoff)}. With hedging, another attempt is sent whenever
+ * no attempt has replied within the hedging delay since the last attempt was sent, or as soon as an attempt fails.
+ * The first reply wins, and all the other attempts are cancelled. With a connection pool, every attempt goes to the
+ * connection with the fewest outstanding calls, so a hedged attempt usually avoids a connection that is stalled.
+ *
+ * <p>No attempt is ever sent after {@code maxAttempts} attempts, or once the budget has elapsed since the call
+ * started. The call then fails with the failure of its last attempt. A call with a timeout has a single deadline
+ * shared by all its attempts: every attempt is sent with the time left until the deadline, and no attempt is sent
+ * once the deadline has passed.
+ *
+ * @param maxAttempts the maximum number of attempts, including the first one
+ * @param initialBackoff the maximum delay before the first retry
+ * @param maxBackoff the maximum delay before any retry
+ * @param backoffMultiplier the factor by which the maximum delay grows with every retry
+ * @param retryableStatuses the statuses of failures that are retried, or hedged
+ * @param hedgingDelay the delay after which another attempt is sent while no attempt has replied, or zero to only
+ *     retry attempts that have failed
+ * @param budget the time since the call started after which no attempt is sent anymore
+ */
+public record GrpcRetryPolicy(
+        int maxAttempts,
+        @NonNull Duration initialBackoff,
+        @NonNull Duration maxBackoff,
+        double backoffMultiplier,
+        @NonNull Set<GrpcStatus> retryableStatuses,
+        @NonNull Duration hedgingDelay,
+        @NonNull Duration budget) {
+    /** A policy that sends every call exactly once, which is what clients do without a policy. */
+    public static final GrpcRetryPolicy NONE = new GrpcRetryPolicy(
+            1, Duration.ZERO, Duration.ZERO, 1.0, Set.of(), Duration.ZERO, ChronoUnit.FOREVER.getDuration());
+
+    /** The default factor by which the maximum delay grows with every retry ({@value}). */
+    public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+
+    public GrpcRetryPolicy {
+        requireNonNull(initialBackoff);
+        requireNonNull(maxBackoff);
+        requireNonNull(hedgingDelay);
+        requireNonNull(budget);
+        retryableStatuses = Set.copyOf(retryableStatuses);
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("The maximum number of attempts must be positive, got: " + maxAttempts);
+        }
+        if (initialBackoff.isNegative() || maxBackoff.isNegative() || hedgingDelay.isNegative()) {
+            throw new IllegalArgumentException("The backoffs and the hedging delay must not be negative");
+        }
+        if (backoffMultiplier < 1.0) {
+            throw new IllegalArgumentException("The backoff multiplier must be at least 1, got: " + backoffMultiplier);
+        }
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("The budget must be positive, got: " + budget);
+        }
+    }
+
+    /**
+     * Create a policy that retries failed attempts after an exponential backoff with the
+     * {@link #DEFAULT_BACKOFF_MULTIPLIER}.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param initialBackoff the maximum delay before the first retry
+     * @param maxBackoff the maximum delay before any retry
+     * @param budget the time since the call started after which no attempt is sent anymore
+     * @param retryableStatuses the statuses of failures that are retried
+     * @return a new policy
+     */
+    @NonNull
+    public static GrpcRetryPolicy retry(
+            final int maxAttempts,
+            @NonNull final Duration initialBackoff,
+            @NonNull final Duration maxBackoff,
+            @NonNull final Duration budget,
+            @NonNull final GrpcStatus... retryableStatuses) {
+        return new GrpcRetryPolicy(
+                maxAttempts,
+                initialBackoff,
+                maxBackoff,
+                DEFAULT_BACKOFF_MULTIPLIER,
+                Set.of(retryableStatuses),
+                Duration.ZERO,
+                budget);
+    }
+
+    /**
+     * Create a policy that hedges slow attempts, and retries failed attempts right away.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first one
+     * @param hedgingDelay the delay after which another attempt is sent while no attempt has replied
+     * @param budget the time since the call started after which no attempt is sent anymore
+     * @param retryableStatuses the statuses of failures that are retried
+     * @return a new policy
+     */
+    @NonNull
+    public static GrpcRetryPolicy hedge(
+            final int maxAttempts,
+            @NonNull final Duration hedgingDelay,
+            @NonNull final Duration budget,
+            @NonNull final GrpcStatus... retryableStatuses) {
+        if (hedgingDelay.isZero()) {
+            throw new IllegalArgumentException("The hedging delay must be positive");
+        }
+        return new GrpcRetryPolicy(
+                maxAttempts,
+                Duration.ZERO,
+                Duration.ZERO,
+                DEFAULT_BACKOFF_MULTIPLIER,
+                Set.of(retryableStatuses),
+                hedgingDelay,
+                budget);
+    }
+
+    /** Whether slow attempts are hedged. */
+    public boolean hedging() {
+        return hedgingDelay.isPositive();
+    }
+
+    /**
+     * Decide whether a failed attempt may be retried.
+     *
+     * @param failure the failure of the attempt
+     * @return true if the failure has a retryable status
+     */
+    public boolean isRetryable(@NonNull final Throwable failure) {
+        final Throwable cause =
+                failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof final GrpcException grpcException) {
+            return retryableStatuses.contains(grpcException.status());
+        }
+        return cause instanceof UncheckedIOException && retryableStatuses.contains(GrpcStatus.UNAVAILABLE);
+    }
+
+    /**
+     * Make a unary call according to this policy.
+     *
+     * @param attempt sends an attempt of the call, and returns a future of its reply. Cancelling the future must
+     *     cancel the attempt.
+     * @return a future of the reply of the first attempt that replies. Cancelling the future cancels all the
+     *     attempts in flight.
+     * @param <T> the type of the reply
+     */
+    @NonNull
+    public <T> CompletableFuture<T> call(@NonNull final Supplier<CompletableFuture<T>> attempt) {
+        requireNonNull(attempt);
+        return call(null, timeout -> attempt.get());
+    }
+
+    /**
+     * Make a unary call with a deadline according to this policy.
+     *
+     * @param timeout the time since the call started after which the call fails, or null for a call without
+     *     a deadline
+     * @param attempt sends an attempt of the call that fails once the given time left until the deadline expires, or
+     *     never if it's null, and returns a future of its reply. Cancelling the future must cancel the attempt.
+     * @return a future of the reply of the first attempt that replies. Cancelling the future cancels all the
+     *     attempts in flight.
+     * @param <T> the type of the reply
+     */
+    @NonNull
+    public <T> CompletableFuture<T> call(
+            @Nullable final Duration timeout, @NonNull final Function<Duration, CompletableFuture<T>> attempt) {
+        if (maxAttempts == 1) {
+            return attempt.apply(timeout);
+        }
+        return new RetryingGrpcCall<>(this, timeout, attempt).start();
+    }
+}
@@ -0,0 +1,279 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A GRPC Compressor/Decompressor for gzip, as described in RFC 1952.
+ *
+ * <p>The deflater, inflater, and buffers that do the work are pooled and reused across messages, rather than created
+ * for each message like {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream} do. They are
+ * pooled rather than kept per thread, so that calls running on short-lived virtual threads reuse them too.
+ */
+final class GzipGrpcTransformer implements GrpcCompression.StreamingGrpcTransformer {
+    static final String NAME = "gzip";
+    static final GzipGrpcTransformer INSTANCE = new GzipGrpcTransformer();
+
+    /** The gzip header that this transformer writes: deflate, no flags, no time, unknown OS. */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    /** The gzip header flags that announce optional fields before the compressed data. */
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    /** The size of the chunks that are fed to and taken from the deflater and inflater. */
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    /** The largest output buffer that a session keeps for the next message. */
+    private static final int MAX_RETAINED_OUTPUT = 1024 * 1024;
+
+    /** The idle sessions. */
+    private final BlockingQueue<Session> sessions =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    /** {@inheritDoc} */
+    @Override
+    public Bytes compress(Bytes bytes) {
+        final Session session = borrow();
+        try {
+            compress(session, bytes.toReadableSequentialData(), session.output);
+            return session.result();
+        } finally {
+            release(session);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void compress(@NonNull final ReadableSequentialData input, @NonNull final WritableSequentialData output) {
+        final Session session = borrow();
+        try {
+            compress(session, input, output);
+        } finally {
+            release(session);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Bytes decompress(Bytes bytes) {
+        final Session session = borrow();
+        try {
+            decompress(session, bytes.toReadableSequentialData(), session.output);
+            return session.result();
+        } finally {
+            release(session);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void decompress(@NonNull final ReadableSequentialData input, @NonNull final WritableSequentialData output) {
+        final Session session = borrow();
+        try {
+            decompress(session, input, output);
+        } finally {
+            release(session);
+        }
+    }
+
+    private static void compress(
+            final Session session, final ReadableSequentialData input, final WritableSequentialData output) {
+        final Deflater deflater = session.deflater;
+        final CRC32 crc = session.crc;
+        deflater.reset();
+        crc.reset();
+        long size = 0;
+
+        output.writeBytes(HEADER);
+        while (input.hasRemaining()) {
+            final int read = (int) input.readBytes(session.in);
+            crc.update(session.in, 0, read);
+            size += read;
+            deflater.setInput(session.in, 0, read);
+            while (!deflater.needsInput()) {
+                output.writeBytes(session.out, 0, deflater.deflate(session.out));
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            output.writeBytes(session.out, 0, deflater.deflate(session.out));
+        }
+        output.writeInt((int) crc.getValue(), ByteOrder.LITTLE_ENDIAN);
+        output.writeInt((int) size, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void decompress(
+            final Session session, final ReadableSequentialData input, final WritableSequentialData output) {
+        session.input = input;
+        try {
+            // A gzip stream may consist of several members, which decompress to their concatenation
+            do {
+                decompressMember(session, output);
+            } while (session.hasRemaining());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            session.input = null;
+            session.inPosition = 0;
+            session.inLimit = 0;
+        }
+    }
+
+    private static void decompressMember(final Session session, final WritableSequentialData output)
+            throws IOException {
+        if (session.readUnsignedByte() != 0x1f || session.readUnsignedByte() != 0x8b) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (session.readUnsignedByte() != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported compression method");
+        }
+        final int flags = session.readUnsignedByte();
+        // Skip the time, the extra flags, and the OS
+        session.skip(6);
+        if ((flags & FEXTRA) != 0) {
+            session.skip(session.readUnsignedByte() | (session.readUnsignedByte() << 8));
+        }
+        if ((flags & FNAME) != 0) {
+            while (session.readUnsignedByte() != 0) {
+                // Skip the zero-terminated file name
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (session.readUnsignedByte() != 0) {
+                // Skip the zero-terminated comment
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            session.skip(2);
+        }
+
+        final Inflater inflater = session.inflater;
+        final CRC32 crc = session.crc;
+        inflater.reset();
+        crc.reset();
+        long size = 0;
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    session.fill();
+                    inflater.setInput(session.in, session.inPosition, session.inLimit - session.inPosition);
+                    session.inPosition = session.inLimit;
+                }
+                final int inflated = inflater.inflate(session.out);
+                if (inflated == 0 && inflater.needsDictionary()) {
+                    throw new ZipException("Unexpected preset dictionary");
+                }
+                crc.update(session.out, 0, inflated);
+                size += inflated;
+                output.writeBytes(session.out, 0, inflated);
+            }
+        } catch (final DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+        // The inflater may have been given more bytes than the deflate data, which belong to the trailer
+        session.inPosition = session.inLimit - inflater.getRemaining();
+
+        final long expectedCrc = session.readUnsignedInt();
+        final long expectedSize = session.readUnsignedInt();
+        if (expectedCrc != crc.getValue() || expectedSize != (size & 0xFFFFFFFFL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private Session borrow() {
+        final Session session = sessions.poll();
+        return session != null ? session : new Session();
+    }
+
+    private void release(final Session session) {
+        session.outputBytes.reset();
+        if (!session.retainable || !sessions.offer(session)) {
+            session.deflater.end();
+            session.inflater.end();
+        }
+    }
+
+    /** The reusable state of one compression or decompression at a time. */
+    private static final class Session {
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] in = new byte[CHUNK_SIZE];
+        private final byte[] out = new byte[CHUNK_SIZE];
+
+        /** Collects the result of the methods that return Bytes. */
+        private final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+
+        private final WritableStreamingData output = new WritableStreamingData(outputBytes);
+
+        /** Whether the buffer of {@link #outputBytes} is small enough to keep for the next message. */
+        private boolean retainable = true;
+
+        /** The input being decompressed, of which {@link #in} holds the bytes from inPosition to inLimit. */
+        private ReadableSequentialData input;
+
+        private int inPosition;
+        private int inLimit;
+
+        /** Get the collected result. */
+        private Bytes result() {
+            retainable = outputBytes.size() <= MAX_RETAINED_OUTPUT;
+            return Bytes.wrap(outputBytes.toByteArray());
+        }
+
+        private boolean hasRemaining() {
+            return inPosition < inLimit || input.hasRemaining();
+        }
+
+        /** Make sure that {@link #in} holds at least one byte of the input. */
+        private void fill() throws EOFException {
+            if (inPosition < inLimit) {
+                return;
+            }
+            if (!input.hasRemaining()) {
+                throw new EOFException("Unexpected end of GZIP input");
+            }
+            inPosition = 0;
+            inLimit = (int) input.readBytes(in);
+        }
+
+        private int readUnsignedByte() throws EOFException {
+            fill();
+            return in[inPosition++] & 0xFF;
+        }
+
+        private long readUnsignedInt() throws EOFException {
+            long value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value |= (long) readUnsignedByte() << (8 * i);
+            }
+            return value;
+        }
+
+        private void skip(final int count) throws EOFException {
+            for (int i = 0; i < count; i++) {
+                readUnsignedByte();
+            }
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.hedera.pbj.runtime.grpc;
 
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.concurrent.Flow;
 
 /**
@@ -138,6 +140,18 @@ public final class Pipelines {
         @NonNull
         UnaryBuilder<T, R> mapResponse(@NonNull ExceptionalFunction<R, Bytes> mapper);
 
+        /**
+         * Configures the codec of the response message type, instead of a mapping function. If the replies
+         * subscriber is a {@link SerializingPipeline}, each response is passed to it together with the codec, so it
+         * can serialize the response straight into its own buffer. Otherwise, the codec maps the response to
+         * {@link Bytes}. Either this or {@link #mapResponse(ExceptionalFunction)} must be specified.
+         *
+         * @param codec The codec of the response message type.
+         * @return This builder.
+         */
+        @NonNull
+        UnaryBuilder<T, R> mapResponse(@NonNull Codec<R> codec);
+
         /**
          * Configures a subscriber to receive the response messages. This must be specified. This subscriber is
          * provided by the web server and is responsible for sending the responses back to the client.
@@ -196,6 +210,18 @@ public final class Pipelines {
         @NonNull
         BidiStreamingBuilder<T, R> mapResponse(@NonNull ExceptionalFunction<R, Bytes> mapper);
 
+        /**
+         * Configures the codec of the response message type, instead of a mapping function. If the replies
+         * subscriber is a {@link SerializingPipeline}, each response is passed to it together with the codec, so it
+         * can serialize the response straight into its own buffer. Otherwise, the codec maps the response to
+         * {@link Bytes}. Either this or {@link #mapResponse(ExceptionalFunction)} must be specified.
+         *
+         * @param codec The codec of the response message type.
+         * @return This builder.
+         */
+        @NonNull
+        BidiStreamingBuilder<T, R> mapResponse(@NonNull Codec<R> codec);
+
         /**
          * Configures a subscriber to receive the response messages. This must be specified. This subscriber is
          * provided by the web server and is responsible for sending the responses back to the client.
@@ -255,6 +281,18 @@ public final class Pipelines {
         @NonNull
         ClientStreamingBuilder<T, R> mapResponse(@NonNull ExceptionalFunction<R, Bytes> mapper);
 
+        /**
+         * Configures the codec of the response message type, instead of a mapping function. If the replies
+         * subscriber is a {@link SerializingPipeline}, each response is passed to it together with the codec, so it
+         * can serialize the response straight into its own buffer. Otherwise, the codec maps the response to
+         * {@link Bytes}. Either this or {@link #mapResponse(ExceptionalFunction)} must be specified.
+         *
+         * @param codec The codec of the response message type.
+         * @return This builder.
+         */
+        @NonNull
+        ClientStreamingBuilder<T, R> mapResponse(@NonNull Codec<R> codec);
+
         /**
          * Configures a subscriber to receive the response messages. This must be specified. This subscriber is
          * provided by the web server and is responsible for sending the responses back to the client.
@@ -311,6 +349,18 @@ public final class Pipelines {
         @NonNull
         ServerStreamingBuilder<T, R> mapResponse(@NonNull ExceptionalFunction<R, Bytes> mapper);
 
+        /**
+         * Configures the codec of the response message type, instead of a mapping function. If the replies
+         * subscriber is a {@link SerializingPipeline}, each response is passed to it together with the codec, so it
+         * can serialize the response straight into its own buffer. Otherwise, the codec maps the response to
+         * {@link Bytes}. Either this or {@link #mapResponse(ExceptionalFunction)} must be specified.
+         *
+         * @param codec The codec of the response message type.
+         * @return This builder.
+         */
+        @NonNull
+        ServerStreamingBuilder<T, R> mapResponse(@NonNull Codec<R> codec);
+
         /**
          * Configures a subscriber to receive the response messages. This must be specified. This subscriber is
          * provided by the web server and is responsible for sending the responses back to the client.
@@ -404,14 +454,15 @@ public final class Pipelines {
     private abstract static class PipelineBuilderImpl<T, R> implements Pipeline<Bytes>, Flow.Subscription {
         protected ExceptionalFunction<Bytes, T> requestMapper;
         protected ExceptionalFunction<R, Bytes> responseMapper;
+        protected Codec<R> responseCodec;
         protected Pipeline<? super Bytes> replies;
         private Flow.Subscription sourceSubscription;
         protected boolean completed = false;
 
         @Override
         public void request(long n) {
-            // If we supported flow control, we'd pay attention to the number being presented. And we should, ideally,
-            // implement flow control. For now, we don't, so for now this is ignored.
+            // This is the subscription of the replies. A single reply is produced per request message, so there is
+            // nothing to hold back. The demand for request messages is handled by the source subscription instead.
         }
 
         @Override
@@ -421,11 +472,31 @@ public final class Pipelines {
 
         @Override
         public void onSubscribe(@NonNull final Flow.Subscription subscription) {
-            // This method is called ...
+            // This method is called by the webserver, with a subscription for the request messages. If the method
+            // handles a stream of requests, and it requests them from its own subscription when subscribed, then the
+            // requests are delivered only as fast as it asks for them. Otherwise, they are delivered as they arrive.
             this.sourceSubscription = requireNonNull(subscription);
+            final Pipeline<?> incoming = incoming();
+            if (incoming != null) {
+                final var incomingSubscription = new IncomingSubscription(subscription);
+                incoming.onSubscribe(incomingSubscription);
+                if (incomingSubscription.requested) {
+                    return;
+                }
+            }
             subscription.request(Long.MAX_VALUE);
         }
 
+        /**
+         * Get the pipeline of the method that receives the stream of request messages, if there is one.
+         *
+         * @return the pipeline returned by the method, or null if the method does not return one
+         */
+        @Nullable
+        protected Pipeline<?> incoming() {
+            return null;
+        }
+
         @Override
         public void onError(@NonNull final Throwable throwable) {
             if (replies != null) {
@@ -441,6 +512,34 @@ public final class Pipelines {
             }
         }
 
+        /**
+         * Use a codec for the responses. It also serves as the response mapper, for replies that cannot serialize
+         * the responses themselves.
+         */
+        protected void mapResponseWith(@NonNull final Codec<R> codec) {
+            this.responseCodec = requireNonNull(codec);
+            this.responseMapper = codec::toBytes;
+        }
+
+        /**
+         * Create the subscriber that the method sends its responses to, which passes them on to the replies.
+         */
+        @NonNull
+        protected MapSubscriber<R, Bytes> responseConverter() {
+            return new MapSubscriber<>(replies, item -> responseMapper.apply(item), responseCodec);
+        }
+
+        /**
+         * Send a single response to the replies, serialized by the replies themselves if they can.
+         */
+        protected void sendReply(@NonNull final R reply) throws Exception {
+            if (responseCodec != null && replies instanceof final SerializingPipeline serializingReplies) {
+                serializingReplies.onNext(reply, responseCodec);
+            } else {
+                replies.onNext(responseMapper.apply(reply));
+            }
+        }
+
         protected void validateParams() {
             if (replies == null) {
                 throw new IllegalStateException("The replies subscriber must be specified.");
@@ -486,6 +585,13 @@ public final class Pipelines {
             return this;
         }
 
+        @Override
+        @NonNull
+        public UnaryBuilder<T, R> mapResponse(@NonNull final Codec<R> codec) {
+            mapResponseWith(codec);
+            return this;
+        }
+
         @Override
         @NonNull
         public UnaryBuilder<T, R> respondTo(@NonNull final Pipeline<? super Bytes> replies) {
@@ -519,8 +625,7 @@ public final class Pipelines {
             try {
                 final var request = requestMapper.apply(message);
                 final var reply = method.apply(request);
-                final var replyBytes = responseMapper.apply(reply);
-                replies.onNext(replyBytes);
+                sendReply(reply);
                 onComplete();
             } catch (RuntimeException e) {
                 replies.onError(e);
@@ -553,6 +658,12 @@ public final class Pipelines {
         private BidiStreamingMethod<T, R> method;
         private Pipeline<? super T> incoming;
 
+        @Override
+        @Nullable
+        protected Pipeline<?> incoming() {
+            return incoming;
+        }
+
         @Override
         @NonNull
         public BidiStreamingBuilderImpl<T, R> mapRequest(@NonNull final ExceptionalFunction<Bytes, T> mapper) {
@@ -574,6 +685,13 @@ public final class Pipelines {
             return this;
         }
 
+        @Override
+        @NonNull
+        public BidiStreamingBuilderImpl<T, R> mapResponse(@NonNull final Codec<R> codec) {
+            mapResponseWith(codec);
+            return this;
+        }
+
         @Override
         @NonNull
         public BidiStreamingBuilderImpl<T, R> respondTo(@NonNull final Pipeline<? super Bytes> replies) {
@@ -594,7 +712,7 @@ public final class Pipelines {
             // This subscriber maps from the response type to bytes and sends them back to the client. Whenever
             // the "onNext" method produces a new response, it will pass through this subscriber before being
             // forwarded to the "replies" subscriber, where the webserver will return it to the client.
-            final var responseConverter = new MapSubscriber<R, Bytes>(replies, item -> responseMapper.apply(item));
+            final var responseConverter = responseConverter();
 
             try {
                 incoming = method.apply(responseConverter);
@@ -652,6 +770,12 @@ public final class Pipelines {
         private ClientStreamingMethod<T, R> method;
         private Pipeline<? super T> incoming;
 
+        @Override
+        @Nullable
+        protected Pipeline<?> incoming() {
+            return incoming;
+        }
+
         @Override
         @NonNull
         public ClientStreamingBuilderImpl<T, R> mapRequest(@NonNull final ExceptionalFunction<Bytes, T> mapper) {
@@ -673,6 +797,13 @@ public final class Pipelines {
             return this;
         }
 
+        @Override
+        @NonNull
+        public ClientStreamingBuilderImpl<T, R> mapResponse(@NonNull final Codec<R> codec) {
+            mapResponseWith(codec);
+            return this;
+        }
+
         @Override
         @NonNull
         public ClientStreamingBuilderImpl<T, R> respondTo(@NonNull final Pipeline<? super Bytes> replies) {
@@ -688,7 +819,7 @@ public final class Pipelines {
                 throw new IllegalStateException("The method must be specified.");
             }
             replies.onSubscribe(this);
-            final var responseConverter = new MapSubscriber<R, Bytes>(replies, item -> responseMapper.apply(item));
+            final var responseConverter = responseConverter();
 
             try {
                 incoming = method.apply(responseConverter);
@@ -766,6 +897,13 @@ public final class Pipelines {
             return this;
         }
 
+        @Override
+        @NonNull
+        public ServerStreamingBuilderImpl<T, R> mapResponse(@NonNull final Codec<R> codec) {
+            mapResponseWith(codec);
+            return this;
+        }
+
         @Override
         @NonNull
         public ServerStreamingBuilderImpl<T, R> respondTo(@NonNull final Pipeline<? super Bytes> replies) {
@@ -781,9 +919,9 @@ public final class Pipelines {
                 throw new IllegalStateException("The method must be specified.");
             }
 
-            responseConverter = new MapSubscriber<>(replies, item -> responseMapper.apply(item));
-            responseConverter.onSubscribe(
-                    this); // Theoretically this should be done. But now I'm subscribing to this AND replies!
+            // The converter subscribes to the replies, and forwards their demand to the method if it subscribes to
+            // the converter. The replies subscribe to the converter only, not this, so the demand is not split.
+            responseConverter = responseConverter();
             return this;
         }
 
@@ -818,40 +956,122 @@ public final class Pipelines {
         }
     }
 
+    /**
+     * The subscription given to the pipeline of a method that receives a stream of request messages. It forwards the
+     * demand of the method to the webserver, and records whether the method has asked for any requests at all.
+     */
+    private static final class IncomingSubscription implements Flow.Subscription {
+        /** The subscription of the webserver for the request messages. */
+        private final Flow.Subscription source;
+        /** Whether the method has requested any messages. */
+        private volatile boolean requested;
+
+        private IncomingSubscription(@NonNull final Flow.Subscription source) {
+            this.source = source;
+        }
+
+        @Override
+        public void request(long n) {
+            requested = true;
+            source.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            source.cancel();
+        }
+    }
+
     /**
      * A subscriber that maps from one type to another. It is like a Java "map" operation on a stream, but as a
      * subscriber.
      *
-     * @param next The subscriber to send the mapped values to.
-     * @param mapper The function to map from one type to another.
+     * <p>The demand of the next subscriber is forwarded to the subscription given to {@link #onSubscribe}, if the
+     * producer of the values subscribes at all. Demand signalled before that is accumulated and requested when it
+     * subscribes. Producers that never subscribe just call {@link #onNext}, as before.
+     *
+     * <p>If a codec is given and the next subscriber is a {@link SerializingPipeline}, the values are passed to it with
+     * the codec rather than mapped, so that it can serialize them itself.
+     *
      * @param <T> The type of the input.
      * @param <R> The type of the output.
      */
-    private record MapSubscriber<T, R>(Pipeline<? super R> next, ExceptionalFunction<T, R> mapper)
-            implements Pipeline<T>, Flow.Subscription {
-
-        private MapSubscriber {
+    private static final class MapSubscriber<T, R> implements Pipeline<T>, Flow.Subscription {
+        /** The subscriber to send the mapped values to. */
+        private final Pipeline<? super R> next;
+        /** The function to map from one type to another. */
+        private final ExceptionalFunction<T, R> mapper;
+        /** The codec of the values, to let the next subscriber serialize them itself if it can, or null. */
+        @Nullable
+        private final Codec<T> codec;
+        /** The subscription of the producer of the values, or null before it subscribes. Guarded by this. */
+        private Flow.Subscription upstream;
+        /** The demand of the next subscriber that has not been requested from the upstream yet. Guarded by this. */
+        private long pendingDemand;
+        /** Whether the next subscriber has cancelled before the producer subscribed. Guarded by this. */
+        private boolean cancelled;
+
+        private MapSubscriber(
+                @NonNull final Pipeline<? super R> next,
+                @NonNull final ExceptionalFunction<T, R> mapper,
+                @Nullable final Codec<T> codec) {
+            this.next = next;
+            this.mapper = mapper;
+            this.codec = codec;
             next.onSubscribe(this);
         }
 
         @Override
         public void request(long n) {
-            // We don't care about flow control right now. We should, but we don't.
+            final Flow.Subscription subscription;
+            synchronized (this) {
+                if (upstream == null) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                    return;
+                }
+                subscription = upstream;
+            }
+            subscription.request(n);
         }
 
         @Override
         public void cancel() {
-            // FUTURE: Look into implementing this
+            final Flow.Subscription subscription;
+            synchronized (this) {
+                if (upstream == null) {
+                    cancelled = true;
+                    return;
+                }
+                subscription = upstream;
+            }
+            subscription.cancel();
         }
 
         @Override
         public void onSubscribe(Flow.Subscription subscription) {
-            subscription.request(Long.MAX_VALUE);
+            requireNonNull(subscription);
+            final long demand;
+            final boolean cancel;
+            synchronized (this) {
+                upstream = subscription;
+                demand = pendingDemand;
+                cancel = cancelled;
+                pendingDemand = 0;
+            }
+            if (cancel) {
+                subscription.cancel();
+            } else if (demand > 0) {
+                subscription.request(demand);
+            }
         }
 
         @Override
         public void onNext(T item) {
             try {
+                if (codec != null && next instanceof final SerializingPipeline serializingNext) {
+                    serializingNext.onNext(item, codec);
+                    return;
+                }
                 final var r = mapper.apply(item);
                 next.onNext(r);
             } catch (RuntimeException e) {
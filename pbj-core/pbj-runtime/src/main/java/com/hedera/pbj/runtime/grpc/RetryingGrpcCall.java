@@ -0,0 +1,221 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A unary call that sends attempts according to a {@link GrpcRetryPolicy}, until one of them replies. The delays
+ * before retries and hedges are scheduled with {@link CompletableFuture#delayedExecutor}, so no thread waits for them.
+ * The attempts share the deadline of the call, so each attempt gets the time left until the deadline.
+ *
+ * <p>This class is thread-safe. All the state is guarded by this.
+ *
+ * @param <T> the type of the reply
+ */
+final class RetryingGrpcCall<T> {
+    private final GrpcRetryPolicy policy;
+    private final Function<Duration, CompletableFuture<T>> attempt;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    /** The System.nanoTime() when the call started. */
+    private final long startNanos;
+
+    /** The timeout of the whole call, or null if the call has no deadline. */
+    @Nullable
+    private final Duration timeout;
+
+    /** The time since the start in nanos after which no attempt is sent: the budget, or the timeout if it's shorter. */
+    private final long cutoffNanos;
+
+    /** The futures of the attempts in flight. */
+    private final List<CompletableFuture<T>> inFlight = new ArrayList<>();
+
+    /** The number of attempts sent so far. */
+    private int attempts;
+
+    /** The number of attempts sent that haven't completed yet. */
+    private int running;
+
+    RetryingGrpcCall(
+            @NonNull final GrpcRetryPolicy policy,
+            @Nullable final Duration timeout,
+            @NonNull final Function<Duration, CompletableFuture<T>> attempt) {
+        this.policy = requireNonNull(policy);
+        this.timeout = timeout;
+        this.attempt = requireNonNull(attempt);
+        this.startNanos = System.nanoTime();
+        final long budgetNanos = saturatedNanos(policy.budget());
+        this.cutoffNanos = timeout == null ? budgetNanos : Math.min(budgetNanos, saturatedNanos(timeout));
+    }
+
+    /**
+     * Send the first attempt.
+     *
+     * @return the future of the reply of the call
+     */
+    @NonNull
+    CompletableFuture<T> start() {
+        result.whenComplete((reply, failure) -> cancelInFlight());
+        sendAttempt();
+        return result;
+    }
+
+    /**
+     * Send another attempt with the time left until the deadline, unless the call is done, the attempts or the budget
+     * are exhausted, or the deadline has passed. The first attempt is always sent. With hedging, this also schedules
+     * the next hedge.
+     *
+     * @return true if an attempt was sent
+     */
+    private boolean sendAttempt() {
+        final int sentAttempts;
+        final long elapsedNanos;
+        synchronized (this) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            if (result.isDone() || attempts >= policy.maxAttempts() || (attempts > 0 && elapsedNanos >= cutoffNanos)) {
+                return false;
+            }
+            sentAttempts = ++attempts;
+            running++;
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = attempt.apply(timeout == null ? null : timeout.minusNanos(elapsedNanos));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        synchronized (this) {
+            inFlight.add(future);
+        }
+        final CompletableFuture<T> sent = future;
+        sent.whenComplete((reply, failure) -> onAttemptComplete(sent, reply, failure));
+        if (result.isDone()) {
+            sent.cancel(false);
+        }
+
+        if (policy.hedging()) {
+            schedule(policy.hedgingDelay(), () -> hedge(sentAttempts));
+        }
+        return true;
+    }
+
+    /**
+     * Send a hedged attempt when the hedging delay after an attempt expires, unless another attempt has been sent
+     * since, which has scheduled its own hedge.
+     *
+     * @param sentAttempts the number of attempts sent when the hedge was scheduled
+     */
+    private void hedge(final int sentAttempts) {
+        synchronized (this) {
+            if (attempts != sentAttempts) {
+                return;
+            }
+        }
+        sendAttempt();
+    }
+
+    /**
+     * Complete the call with the reply of an attempt, fail it if the attempt failed for good, or send another attempt.
+     *
+     * @param future the future of the attempt
+     * @param reply the reply, if the attempt succeeded
+     * @param failure the failure, if the attempt failed
+     */
+    private void onAttemptComplete(
+            @NonNull final CompletableFuture<T> future, @Nullable final T reply, @Nullable final Throwable failure) {
+        synchronized (this) {
+            inFlight.remove(future);
+            running--;
+        }
+        if (failure == null) {
+            result.complete(reply);
+            return;
+        }
+        final Throwable cause =
+                failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (result.isDone() || !policy.isRetryable(cause)) {
+            result.completeExceptionally(cause);
+            return;
+        }
+
+        if (policy.hedging()) {
+            if (!sendAttempt()) {
+                failIfIdle(cause);
+            }
+            return;
+        }
+        final Duration backoff = backoff();
+        synchronized (this) {
+            if (attempts >= policy.maxAttempts() || System.nanoTime() - startNanos + backoff.toNanos() >= cutoffNanos) {
+                failIfIdle(cause);
+                return;
+            }
+        }
+        schedule(backoff, () -> {
+            if (!sendAttempt()) {
+                failIfIdle(cause);
+            }
+        });
+    }
+
+    /**
+     * Fail the call if no attempts are in flight anymore, which could still reply.
+     *
+     * @param cause the failure of the last attempt
+     */
+    private void failIfIdle(@NonNull final Throwable cause) {
+        final boolean idle;
+        synchronized (this) {
+            idle = running == 0;
+        }
+        if (idle) {
+            result.completeExceptionally(cause);
+        }
+    }
+
+    /** Compute a random delay before the next retry, growing exponentially with the number of attempts. */
+    @NonNull
+    private Duration backoff() {
+        final int retries;
+        synchronized (this) {
+            retries = attempts;
+        }
+        final double maxBackoff = Math.min(
+                policy.initialBackoff().toNanos() * Math.pow(policy.backoffMultiplier(), retries - 1),
+                policy.maxBackoff().toNanos());
+        return Duration.ofNanos((long) (ThreadLocalRandom.current().nextDouble() * maxBackoff));
+    }
+
+    /** Cancel all the attempts in flight, once the call is done. */
+    private void cancelInFlight() {
+        final List<CompletableFuture<T>> futures;
+        synchronized (this) {
+            futures = List.copyOf(inFlight);
+        }
+        futures.forEach(future -> future.cancel(false));
+    }
+
+    private static void schedule(@NonNull final Duration delay, @NonNull final Runnable task) {
+        CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(task);
+    }
+
+    private static long saturatedNanos(@NonNull final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
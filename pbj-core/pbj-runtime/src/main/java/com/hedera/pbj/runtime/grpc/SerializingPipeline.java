@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A {@link Pipeline} of serialized messages that can also take a message together with its {@link Codec}, and
+ * serialize it itself. A transport implements this to write each message straight into its own outbound buffer, with
+ * {@link Codec#measureRecord(Object)} and {@link Codec#write(Object, com.hedera.pbj.runtime.io.WritableSequentialData)},
+ * rather than receiving the message as {@link Bytes} that it then has to copy into that buffer. For large messages,
+ * this saves allocating and copying the whole message once.
+ *
+ * <p>The {@link Pipelines} builders pass responses to the replies this way when they are configured with a codec.
+ */
+public interface SerializingPipeline extends Pipeline<Bytes> {
+    /**
+     * Serialize a message with the given codec, and handle the result like {@link #onNext(Object)} handles
+     * serialized messages.
+     *
+     * @param message the message
+     * @param codec the codec to serialize the message with
+     * @param <T> the type of the message
+     * @throws RuntimeException if an error occurs while trying to write data to the pipeline
+     */
+    <T> void onNext(@NonNull T message, @NonNull Codec<T> codec) throws RuntimeException;
+}
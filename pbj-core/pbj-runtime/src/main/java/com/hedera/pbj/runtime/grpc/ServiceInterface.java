@@ -5,6 +5,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.net.SocketAddress;
 import java.security.cert.Certificate;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -150,6 +151,34 @@ public interface ServiceInterface extends AutoCloseable {
         default Optional<Certificate[]> remoteCertificateChain() {
             return Optional.empty();
         }
+
+        /**
+         * The policy with which a client retries, or hedges, the unary calls of a method. A client application can
+         * implement this method in the RequestOptions object that it passes to a client stub, to retry calls that
+         * fail with a transient status, or to hedge calls against a server that is occasionally slow to reply.
+         * Servers ignore this method.
+         *
+         * @param method the full name of the method, e.g. "example.HelloService/SayHello"
+         * @return the policy, which is {@link GrpcRetryPolicy#NONE} by default
+         */
+        @NonNull
+        default GrpcRetryPolicy retryPolicy(@NonNull String method) {
+            return GrpcRetryPolicy.NONE;
+        }
+
+        /**
+         * The timeout of each call, after which a client cancels the call and fails it with
+         * {@link GrpcStatus#DEADLINE_EXCEEDED}. The client sends the deadline to the server in the "grpc-timeout"
+         * header, so that the server can stop working on the call too. With a {@link #retryPolicy(String)}, the timeout
+         * covers the whole call rather than each attempt: every attempt is sent with the time left until the deadline,
+         * and no attempt is sent once the deadline has passed. Servers ignore this method.
+         *
+         * @return the timeout, or empty for calls without a deadline, which is the default
+         */
+        @NonNull
+        default Optional<Duration> timeout() {
+            return Optional.empty();
+        }
     }
 
     /** Gets the simple name of the service. For example, "HelloService". */
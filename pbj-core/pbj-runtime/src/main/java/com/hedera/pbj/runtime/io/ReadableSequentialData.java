@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.runtime.io;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.buffer.RandomAccessData;
@@ -221,6 +223,38 @@ public interface ReadableSequentialData extends SequentialData {
         return Bytes.wrap(bytes);
     }
 
+    /**
+     * Read {@code length} bytes from this sequence and decode them as a UTF-8 encoded string. Malformed UTF-8 is
+     * rejected rather than replaced with U+FFFD. The {@link #position()} is incremented by {@code length} bytes.
+     *
+     * <p>Buffers decode the string in place, without copying the bytes first, see {@link
+     * RandomAccessData#getUtf8String(long, long)}.
+     *
+     * @param length The non-negative length in bytes to read
+     * @return the decoded string
+     * @throws IllegalArgumentException If {@code length} is negative
+     * @throws BufferUnderflowException If there are not {@code length} bytes remaining in this sequence
+     * @throws MalformedProtobufException If the bytes are not valid UTF-8
+     * @throws UncheckedIOException If an I/O error occurs
+     */
+    default @NonNull String readUTF8(final int length)
+            throws BufferUnderflowException, MalformedProtobufException, UncheckedIOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length not allowed");
+        }
+
+        if (remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+
+        final var bytes = new byte[length];
+        final long bytesRead = readBytes(bytes, 0, length);
+        if (bytesRead != length) {
+            throw new BufferUnderflowException();
+        }
+        return Utf8Tools.decodeUtf8(bytes, 0, length);
+    }
+
     /**
      * Return a "view" on the underlying sequence of bytes, starting at the current {@link #position()} and extending
      * {@code length} bytes. The returned bytes may change over time if the underlying data is updated! The
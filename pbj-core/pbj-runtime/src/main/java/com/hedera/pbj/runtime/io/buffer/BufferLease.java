@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.io.buffer;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A buffer leased from a {@link BufferPool}. Closing the lease returns the buffer to the pool, after which the
+ * buffer must not be used anymore. Closing a lease more than once has no effect.
+ * <p>
+ * A lease is meant to be used by a single thread at a time, just like the buffer itself.
+ *
+ * @param <T> the type of the buffer
+ */
+public final class BufferLease<T extends BufferedSequentialData> implements AutoCloseable {
+    /** The leased buffer, or null once the lease is closed. */
+    private T buffer;
+
+    /** The free buffers of the size class of the buffer, or null if the buffer is not pooled. */
+    private final ArrayBlockingQueue<T> queue;
+
+    /** The leak tracker of this lease in debug mode, or null. */
+    private final BufferPool.LeakTracker tracker;
+
+    BufferLease(
+            @NonNull final T buffer,
+            @Nullable final ArrayBlockingQueue<T> queue,
+            @Nullable final BufferPool.LeakTracker tracker) {
+        this.buffer = buffer;
+        this.queue = queue;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Get the leased buffer.
+     *
+     * @return the buffer
+     * @throws IllegalStateException if the lease is closed
+     */
+    @NonNull
+    public T buffer() {
+        final T b = buffer;
+        if (b == null) {
+            throw new IllegalStateException("The buffer lease is closed");
+        }
+        return b;
+    }
+
+    /**
+     * Return the buffer to the pool. If the pool is full, the buffer is dropped instead.
+     */
+    @Override
+    public void close() {
+        final T b = buffer;
+        if (b == null) {
+            return;
+        }
+        buffer = null;
+        if (tracker != null) {
+            tracker.close();
+        }
+        if (queue != null) {
+            b.reset();
+            queue.offer(b);
+        }
+    }
+}
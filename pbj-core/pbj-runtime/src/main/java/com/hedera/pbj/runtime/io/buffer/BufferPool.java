@@ -0,0 +1,259 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.io.buffer;
+
+import static java.lang.System.Logger.Level.WARNING;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.WritableSequentialData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * A bounded, thread-safe pool of reusable buffers, for hot paths that serialize many messages and would otherwise
+ * allocate a new array for every one of them.
+ * <p>
+ * Buffers are handed out by {@link #lease(int)} in power-of-two size classes from {@value #MIN_CAPACITY} bytes up to
+ * the maximum capacity of the pool. Closing the returned {@link BufferLease} returns the buffer to the pool, unless
+ * the pool already holds the maximum number of free buffers of that size class, in which case the buffer is left to
+ * the garbage collector. Requests larger than the maximum capacity are served with a new buffer that is never pooled.
+ * <p>
+ * A leased buffer must not be used after its lease is closed, because it may already be leased to another thread.
+ * In debug mode, which is enabled with the {@value #DEBUG_PROPERTY} system property or the {@code debug} argument of
+ * the constructor, the pool records where every lease was taken and logs a warning with that stack trace if a lease
+ * is garbage collected without being closed.
+ *
+ * @param <T> the type of the pooled buffers
+ */
+public final class BufferPool<T extends BufferedSequentialData & ReadableSequentialData & WritableSequentialData> {
+    private static final System.Logger LOGGER = System.getLogger(BufferPool.class.getName());
+
+    /** The system property that enables debug mode for pools that don't specify it explicitly. */
+    public static final String DEBUG_PROPERTY = "pbj.bufferPool.debug";
+
+    /** The capacity of the smallest size class. */
+    public static final int MIN_CAPACITY = 256;
+
+    /** The cleaner that detects leaked leases in debug mode, created on first use. */
+    private static volatile Cleaner cleaner;
+
+    /** Allocates a new buffer with the given capacity. */
+    private final IntFunction<T> allocator;
+
+    /** Free buffers of each size class. The buffers at index {@code i} have a capacity of {@code MIN_CAPACITY << i}. */
+    private final List<ArrayBlockingQueue<T>> freeBuffers;
+
+    /** True to track leaked leases. */
+    private final boolean debug;
+
+    /** The number of leases that were garbage collected without being closed. Only counted in debug mode. */
+    private final AtomicLong leakCount = new AtomicLong();
+
+    /**
+     * Create a new pool.
+     *
+     * @param allocator a function that allocates a new buffer with the given capacity
+     * @param maxCapacity the capacity of the largest pooled buffers, rounded up to a power of two
+     * @param maxBuffersPerSizeClass the maximum number of free buffers of each size class kept in the pool
+     * @param debug true to detect leases that are never closed, at the cost of capturing a stack trace per lease
+     */
+    public BufferPool(
+            @NonNull final IntFunction<T> allocator,
+            final int maxCapacity,
+            final int maxBuffersPerSizeClass,
+            final boolean debug) {
+        this.allocator = Objects.requireNonNull(allocator);
+        if (maxCapacity < MIN_CAPACITY || maxCapacity > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "maxCapacity must be between " + MIN_CAPACITY + " and " + (1 << 30) + ", got " + maxCapacity);
+        }
+        if (maxBuffersPerSizeClass < 1) {
+            throw new IllegalArgumentException(
+                    "maxBuffersPerSizeClass must be positive, got " + maxBuffersPerSizeClass);
+        }
+        final int numOfSizeClasses = sizeClass(maxCapacity) + 1;
+        final List<ArrayBlockingQueue<T>> queues = new ArrayList<>(numOfSizeClasses);
+        for (int i = 0; i < numOfSizeClasses; i++) {
+            queues.add(new ArrayBlockingQueue<>(maxBuffersPerSizeClass));
+        }
+        this.freeBuffers = List.copyOf(queues);
+        this.debug = debug;
+    }
+
+    /**
+     * Create a new pool of on-heap {@link BufferedData} buffers.
+     *
+     * @param maxCapacity the capacity of the largest pooled buffers, rounded up to a power of two
+     * @param maxBuffersPerSizeClass the maximum number of free buffers of each size class kept in the pool
+     * @return a new pool
+     */
+    @NonNull
+    public static BufferPool<BufferedData> ofBufferedData(final int maxCapacity, final int maxBuffersPerSizeClass) {
+        return new BufferPool<>(
+                BufferedData::allocate, maxCapacity, maxBuffersPerSizeClass, Boolean.getBoolean(DEBUG_PROPERTY));
+    }
+
+    /**
+     * Create a new pool of off-heap {@link BufferedData} buffers.
+     *
+     * @param maxCapacity the capacity of the largest pooled buffers, rounded up to a power of two
+     * @param maxBuffersPerSizeClass the maximum number of free buffers of each size class kept in the pool
+     * @return a new pool
+     */
+    @NonNull
+    public static BufferPool<BufferedData> ofBufferedDataOffHeap(
+            final int maxCapacity, final int maxBuffersPerSizeClass) {
+        return new BufferPool<>(
+                BufferedData::allocateOffHeap, maxCapacity, maxBuffersPerSizeClass, Boolean.getBoolean(DEBUG_PROPERTY));
+    }
+
+    /**
+     * Create a new pool of on-heap {@link MemoryData} buffers.
+     *
+     * @param maxCapacity the capacity of the largest pooled buffers, rounded up to a power of two
+     * @param maxBuffersPerSizeClass the maximum number of free buffers of each size class kept in the pool
+     * @return a new pool
+     */
+    @NonNull
+    public static BufferPool<MemoryData> ofMemoryData(final int maxCapacity, final int maxBuffersPerSizeClass) {
+        return new BufferPool<>(
+                MemoryData::allocate, maxCapacity, maxBuffersPerSizeClass, Boolean.getBoolean(DEBUG_PROPERTY));
+    }
+
+    /**
+     * Create a new pool of off-heap {@link MemoryData} buffers. The native memory of a buffer is freed when the
+     * buffer is garbage collected, see {@link MemoryData#allocateOffHeap(int)}.
+     *
+     * @param maxCapacity the capacity of the largest pooled buffers, rounded up to a power of two
+     * @param maxBuffersPerSizeClass the maximum number of free buffers of each size class kept in the pool
+     * @return a new pool
+     */
+    @NonNull
+    public static BufferPool<MemoryData> ofMemoryDataOffHeap(final int maxCapacity, final int maxBuffersPerSizeClass) {
+        return new BufferPool<>(
+                MemoryData::allocateOffHeap, maxCapacity, maxBuffersPerSizeClass, Boolean.getBoolean(DEBUG_PROPERTY));
+    }
+
+    /**
+     * Lease a buffer with at least the given capacity. The buffer is reset, so its position is zero and its limit
+     * is its capacity. The lease must be closed when the buffer is no longer used, preferably with
+     * try-with-resources.
+     *
+     * @param minCapacity the minimum capacity of the buffer
+     * @return a new lease of a buffer
+     */
+    @NonNull
+    public BufferLease<T> lease(final int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity not allowed");
+        }
+        final int sizeClass = sizeClass(minCapacity);
+        final T buffer;
+        final ArrayBlockingQueue<T> queue;
+        if (sizeClass < freeBuffers.size()) {
+            queue = freeBuffers.get(sizeClass);
+            final T free = queue.poll();
+            buffer = free != null ? free : allocator.apply(MIN_CAPACITY << sizeClass);
+        } else {
+            queue = null;
+            buffer = allocator.apply(minCapacity);
+        }
+        buffer.reset();
+        if (!debug) {
+            return new BufferLease<>(buffer, queue, null);
+        }
+        final LeakTracker tracker = new LeakTracker(leakCount);
+        final BufferLease<T> lease = new BufferLease<>(buffer, queue, tracker);
+        cleaner().register(lease, tracker);
+        return lease;
+    }
+
+    /**
+     * Get the number of leases that were garbage collected without being closed. Leaks are only detected in debug
+     * mode, and only after the garbage collector has collected the lease.
+     *
+     * @return the number of leaked leases
+     */
+    public long leakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * Get the number of free buffers of all size classes that are currently held by this pool.
+     *
+     * @return the number of free buffers
+     */
+    public int freeBufferCount() {
+        int count = 0;
+        for (final ArrayBlockingQueue<T> queue : freeBuffers) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    /**
+     * Compute the index of the smallest size class that can hold the given number of bytes.
+     *
+     * @param capacity the number of bytes
+     * @return the size class index
+     */
+    private static int sizeClass(final int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - Integer.numberOfTrailingZeros(MIN_CAPACITY);
+    }
+
+    /**
+     * Get the cleaner that detects leaked leases, creating it on first use.
+     *
+     * @return the cleaner
+     */
+    private static Cleaner cleaner() {
+        Cleaner c = cleaner;
+        if (c == null) {
+            synchronized (BufferPool.class) {
+                c = cleaner;
+                if (c == null) {
+                    c = Cleaner.create();
+                    cleaner = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Tracks a single lease in debug mode. The tracker is registered with a {@link Cleaner} as the cleaning action
+     * of the lease, and if the lease is garbage collected before it is closed, the leak is logged with the stack
+     * trace of the {@link #lease(int)} call.
+     */
+    static final class LeakTracker implements Runnable {
+        private final AtomicLong leakCount;
+        private final Throwable leasedAt = new Throwable("Buffer leased here");
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LeakTracker(@NonNull final AtomicLong leakCount) {
+            this.leakCount = leakCount;
+        }
+
+        /** Mark the lease as closed. */
+        void close() {
+            closed.set(true);
+        }
+
+        @Override
+        public void run() {
+            if (!closed.get()) {
+                leakCount.incrementAndGet();
+                LOGGER.log(WARNING, "A BufferLease was garbage collected without being closed", leasedAt);
+            }
+        }
+    }
+}
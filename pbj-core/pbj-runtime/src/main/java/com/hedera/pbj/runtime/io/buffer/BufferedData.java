@@ -3,6 +3,8 @@ package com.hedera.pbj.runtime.io.buffer;
 
 import static java.nio.ByteOrder.BIG_ENDIAN;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -419,6 +421,20 @@ public sealed class BufferedData
         return len;
     }
 
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public String getUtf8String(final long offset, final long len) throws MalformedProtobufException {
+        if (len == 0) {
+            return "";
+        }
+        checkOffset(offset, length());
+        if (len > length() - offset) {
+            throw new BufferUnderflowException();
+        }
+        return Utf8Tools.decodeUtf8(buffer, Math.toIntExact(offset), Math.toIntExact(len));
+    }
+
     /** {@inheritDoc} */
     @NonNull
     @Override
@@ -609,6 +625,18 @@ public sealed class BufferedData
         return bytes;
     }
 
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public String readUTF8(final int length) throws MalformedProtobufException {
+        if (length < 0) throw new IllegalArgumentException("Length cannot be negative");
+        if (remaining() < length) throw new BufferUnderflowException();
+
+        final var string = getUtf8String(position(), length);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
     /** {@inheritDoc} */
     @NonNull
     @Override
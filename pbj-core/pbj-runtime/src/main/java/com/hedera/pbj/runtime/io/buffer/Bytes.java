@@ -3,6 +3,8 @@ package com.hedera.pbj.runtime.io.buffer;
 
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
 import com.hedera.pbj.runtime.hashing.XXH3_64;
 import com.hedera.pbj.runtime.io.DataEncodingException;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
@@ -715,6 +717,20 @@ public final class Bytes implements RandomAccessData, Comparable<Bytes> {
         return new String(buffer, Math.toIntExact(start + offset), Math.toIntExact(len), StandardCharsets.UTF_8);
     }
 
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public String getUtf8String(final long offset, final long len) throws MalformedProtobufException {
+        if (len == 0) {
+            return "";
+        }
+        checkOffset(offset, length());
+        if (len > length() - offset) {
+            throw new BufferUnderflowException();
+        }
+        return Utf8Tools.decodeUtf8(buffer, Math.toIntExact(start + offset), Math.toIntExact(len));
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean contains(final long offset, @NonNull final byte[] bytes) {
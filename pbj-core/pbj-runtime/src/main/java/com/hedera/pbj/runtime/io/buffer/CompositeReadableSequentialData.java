@@ -0,0 +1,345 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.io.buffer;
+
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.io.DataEncodingException;
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ReadableSequentialData} that presents a list of {@link Bytes} chunks as one logical sequence of bytes,
+ * without copying them into a single buffer first. This is useful when a message arrives in pieces, like the data
+ * frames of a gRPC message, because generated codecs can parse it directly from the pieces.
+ *
+ * <p>Reads that fall within a single chunk are as cheap as reads from the chunk itself. In particular,
+ * {@link #readBytes(int)} and {@link #view(int)} return views of the chunks rather than copies, so like the chunks,
+ * the chunks must not be modified while this sequence or any bytes read from it are in use. Only reads that span a
+ * chunk boundary are assembled byte by byte or copied.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class CompositeReadableSequentialData implements ReadableSequentialData {
+    /** The longest possible varint, in bytes */
+    private static final int MAX_VAR_LONG_SIZE = 10;
+
+    /** The non-empty chunks */
+    private final Bytes[] chunks;
+
+    /** The position of the first byte of each chunk, plus the capacity as the last element */
+    private final long[] chunkStarts;
+
+    /** The total length of all chunks */
+    private final long capacity;
+
+    /** The position. Will be a value between 0 and the {@link #limit} */
+    private long position;
+
+    /** The limit. Will be a value between {@link #position} and the {@link #capacity} */
+    private long limit;
+
+    /** The index of the chunk that contains the {@link #position}, or the number of chunks at the end */
+    private int chunkIndex;
+
+    /**
+     * Create a new sequence over the given chunks, in order. The position is 0 and the limit is the total length of
+     * the chunks.
+     *
+     * @param chunks the chunks, which may include empty ones
+     */
+    public CompositeReadableSequentialData(@NonNull final List<Bytes> chunks) {
+        final List<Bytes> nonEmpty = new ArrayList<>(chunks.size());
+        for (final Bytes chunk : chunks) {
+            if (chunk.length() > 0) {
+                nonEmpty.add(chunk);
+            }
+        }
+        this.chunks = nonEmpty.toArray(Bytes[]::new);
+        this.chunkStarts = new long[this.chunks.length + 1];
+        for (int i = 0; i < this.chunks.length; i++) {
+            chunkStarts[i + 1] = chunkStarts[i] + this.chunks[i].length();
+        }
+        this.capacity = chunkStarts[this.chunks.length];
+        this.limit = capacity;
+    }
+
+    /**
+     * Create a new sequence over the given chunks, in order.
+     *
+     * @param chunks the chunks, which may include empty ones
+     * @return a new sequence
+     */
+    @NonNull
+    public static CompositeReadableSequentialData of(@NonNull final Bytes... chunks) {
+        return new CompositeReadableSequentialData(List.of(chunks));
+    }
+
+    // ================================================================================================================
+    // SequentialData Methods
+
+    /** {@inheritDoc} */
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() {
+        return position;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long limit() {
+        return limit;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void limit(final long limit) {
+        this.limit = Math.max(position, Math.min(limit, capacity));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void skip(final long count) {
+        if (count > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (count <= 0) {
+            return;
+        }
+        advance(count);
+    }
+
+    // ================================================================================================================
+    // ReadableSequentialData Methods
+
+    /** {@inheritDoc} */
+    @Override
+    public byte readByte() {
+        checkUnderflow(1);
+        final byte b = chunks[chunkIndex].getByte(position - chunkStarts[chunkIndex]);
+        advance(1);
+        return b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readBytes(@NonNull final byte[] dst, final int offset, final int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Negative maxLength not allowed");
+        }
+        if (offset < 0 || offset > dst.length) {
+            throw new IndexOutOfBoundsException("Offset cannot be negative or larger than last index");
+        }
+        if (maxLength > dst.length - offset) {
+            throw new IndexOutOfBoundsException("Offset plus maxLength is larger than the dst array");
+        }
+        final long length = Math.min(maxLength, remaining());
+        long read = 0;
+        while (read < length) {
+            final int n = (int) Math.min(length - read, chunkRemaining());
+            chunks[chunkIndex].getBytes(position - chunkStarts[chunkIndex], dst, offset + (int) read, n);
+            advance(n);
+            read += n;
+        }
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readBytes(@NonNull final ByteBuffer dst) {
+        final long length = Math.min(dst.remaining(), remaining());
+        long read = 0;
+        while (read < length) {
+            final int n = (int) Math.min(length - read, chunkRemaining());
+            chunks[chunkIndex].getBytes(position - chunkStarts[chunkIndex], n).getBytes(0, dst);
+            advance(n);
+            read += n;
+        }
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readBytes(@NonNull final BufferedData dst) {
+        final long length = Math.min(dst.remaining(), remaining());
+        long read = 0;
+        while (read < length) {
+            final int n = (int) Math.min(length - read, chunkRemaining());
+            chunks[chunkIndex].getBytes(position - chunkStarts[chunkIndex], n).getBytes(0, dst);
+            advance(n);
+            read += n;
+        }
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public Bytes readBytes(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length not allowed");
+        }
+        if (remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        if (length == 0) {
+            return Bytes.EMPTY;
+        }
+        if (length <= chunkRemaining()) {
+            // The chunks are immutable Bytes, so a view of a single chunk is as good as a copy
+            final Bytes bytes = chunks[chunkIndex].getBytes(position - chunkStarts[chunkIndex], length);
+            advance(length);
+            return bytes;
+        }
+        final byte[] bytes = new byte[length];
+        readBytes(bytes, 0, length);
+        return Bytes.wrap(bytes);
+    }
+
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public String readUTF8(final int length) throws MalformedProtobufException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length not allowed");
+        }
+        if (remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+        if (length == 0) {
+            return "";
+        }
+        if (length <= chunkRemaining()) {
+            final String string = chunks[chunkIndex].getUtf8String(position - chunkStarts[chunkIndex], length);
+            advance(length);
+            return string;
+        }
+        return ReadableSequentialData.super.readUTF8(length);
+    }
+
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public ReadableSequentialData view(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        checkUnderflow(length);
+        if (length <= chunkRemaining()) {
+            return readBytes(length).toReadableSequentialData();
+        }
+        final List<Bytes> viewChunks = new ArrayList<>();
+        long left = length;
+        while (left > 0) {
+            final int n = (int) Math.min(left, chunkRemaining());
+            viewChunks.add(chunks[chunkIndex].getBytes(position - chunkStarts[chunkIndex], n));
+            advance(n);
+            left -= n;
+        }
+        return new CompositeReadableSequentialData(viewChunks);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt() {
+        return readInt(ByteOrder.BIG_ENDIAN);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt(@NonNull final ByteOrder byteOrder) {
+        if (chunkRemaining() < Integer.BYTES) {
+            return ByteBuffer.wrap(readAcrossChunks(Integer.BYTES)).order(byteOrder).getInt();
+        }
+        final int result = chunks[chunkIndex].getInt(position - chunkStarts[chunkIndex], byteOrder);
+        advance(Integer.BYTES);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong() {
+        return readLong(ByteOrder.BIG_ENDIAN);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong(@NonNull final ByteOrder byteOrder) {
+        if (chunkRemaining() < Long.BYTES) {
+            return ByteBuffer.wrap(readAcrossChunks(Long.BYTES)).order(byteOrder).getLong();
+        }
+        final long result = chunks[chunkIndex].getLong(position - chunkStarts[chunkIndex], byteOrder);
+        advance(Long.BYTES);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readVarInt(final boolean zigZag) {
+        return (int) readVarLong(zigZag);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readVarLong(final boolean zigZag) {
+        if (chunkRemaining() < MAX_VAR_LONG_SIZE) {
+            // The varint may span a chunk boundary, or it may be malformed at the limit
+            return ReadableSequentialData.super.readVarLong(zigZag);
+        }
+        final Bytes chunk = chunks[chunkIndex];
+        final long start = position - chunkStarts[chunkIndex];
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_LONG_SIZE; i++) {
+            final byte b = chunk.getByte(start + i);
+            value |= (long) (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                advance(i + 1);
+                return zigZag ? (value >>> 1) ^ -(value & 1) : value;
+            }
+        }
+        throw new DataEncodingException("Malformed var int");
+    }
+
+    // ================================================================================================================
+    // Helpers
+
+    /**
+     * Get the number of bytes that can be read from the current chunk, which is also limited by the {@link #limit}.
+     */
+    private long chunkRemaining() {
+        if (chunkIndex == chunks.length) {
+            return 0;
+        }
+        return Math.min(chunkStarts[chunkIndex + 1], limit) - position;
+    }
+
+    /** Move the position forward, and find the chunk that contains the new position. */
+    private void advance(final long count) {
+        position += count;
+        while (chunkIndex < chunks.length && position >= chunkStarts[chunkIndex + 1]) {
+            chunkIndex++;
+        }
+    }
+
+    /** Read a few bytes that span a chunk boundary into a new array. */
+    private byte[] readAcrossChunks(final int length) {
+        checkUnderflow(length);
+        final byte[] bytes = new byte[length];
+        readBytes(bytes, 0, length);
+        return bytes;
+    }
+
+    private void checkUnderflow(final int remainingBytes) {
+        if (remaining() - remainingBytes < 0) {
+            throw new BufferUnderflowException();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.runtime.io.buffer;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -16,7 +18,11 @@ import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.util.Objects;
 import java.util.Optional;
@@ -123,6 +129,46 @@ public final class MemoryData
         return new MemoryData(Arena.ofAuto().allocate(size));
     }
 
+    /// Maps a whole file into memory, see `FileChannel.map(MapMode, long, long, Arena)`, and wraps the mapped segment.
+    /// Messages can then be parsed directly out of the file, and views and slices of the returned data are zero-copy.
+    /// Files larger than 2 GB are supported.
+    ///
+    /// The mapping is bound to the given arena, so closing the arena unmaps the file deterministically. After that,
+    /// neither the returned data nor any of its views or slices may be used. A `READ_ONLY` mapping rejects writes.
+    /// Writes to a `READ_WRITE` mapping go to the file, and writes to a `PRIVATE` mapping are only visible in memory.
+    ///
+    /// @param path the file to map
+    /// @param mode the mapping mode
+    /// @param arena the arena that controls the life-cycle of the mapping
+    /// @return a new MemoryData of the whole file, with the position at 0 and the limit at the file size
+    /// @throws IOException if the file cannot be opened or mapped
+    @NonNull
+    public static MemoryData mapFile(
+            @NonNull final Path path, @NonNull final FileChannel.MapMode mode, @NonNull final Arena arena)
+            throws IOException {
+        // Both READ_WRITE and PRIVATE mappings require a channel that is open for writing
+        final OpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new OpenOption[] {StandardOpenOption.READ}
+                : new OpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (final FileChannel channel = FileChannel.open(path, options)) {
+            return new MemoryData(channel.map(mode, 0, channel.size(), arena));
+        }
+    }
+
+    /// Convenience method to map a whole file in a new auto Arena, see `mapFile(Path, MapMode, Arena)`.
+    /// The file stays mapped until the returned data and all its views and slices are garbage collected,
+    /// so applications that map many files or need to delete or replace them should use their own Arena instead.
+    ///
+    /// @param path the file to map
+    /// @param mode the mapping mode
+    /// @return a new MemoryData of the whole file, with the position at 0 and the limit at the file size
+    /// @throws IOException if the file cannot be opened or mapped
+    @NonNull
+    public static MemoryData mapFile(@NonNull final Path path, @NonNull final FileChannel.MapMode mode)
+            throws IOException {
+        return mapFile(path, mode, Arena.ofAuto());
+    }
+
     private MemoryData(@NonNull final MemorySegment segment) {
         this.segment = segment;
         this.limit = segment.byteSize();
@@ -238,7 +284,7 @@ public final class MemoryData
         if (maxLength < 0) {
             throw new IllegalArgumentException("Negative maxLength not allowed");
         }
-        final int length = Math.min(maxLength, Math.toIntExact(remaining()));
+        final int length = (int) Math.min(maxLength, remaining());
         if (length == 0) {
             return 0;
         }
@@ -284,12 +330,23 @@ public final class MemoryData
             throw new BufferUnderflowException();
         }
 
-        final var pos = Math.toIntExact(position());
+        final var pos = position();
         final var buf = slice(pos, length);
-        position((long) pos + length);
+        position(pos + length);
         return buf;
     }
 
+    @NonNull
+    @Override
+    public String readUTF8(final int length) throws MalformedProtobufException {
+        if (length < 0) throw new IllegalArgumentException("Length cannot be negative");
+        if (remaining() < length) throw new BufferUnderflowException();
+
+        final var string = getUtf8String(position(), length);
+        position = position + length;
+        return string;
+    }
+
     @NonNull
     @Override // to match BufferedData semantics and return Bytes.EMPTY
     public Bytes readBytes(final int length) {
@@ -625,14 +682,16 @@ public final class MemoryData
     @Override // to follow BufferedData semantics and not modify the dst position
     public long getBytes(final long offset, @NonNull final ByteBuffer dst) {
         final var len = Math.min(dst.remaining(), length() - offset);
-        dst.put(dst.position(), segment.asByteBuffer(), Math.toIntExact(offset), Math.toIntExact(len));
+        // MemorySegment.ofBuffer() captures the current position/limit of the buffer, so dstOffset is 0.
+        // Unlike asByteBuffer(), this works for segments larger than 2 GB:
+        MemorySegment.copy(segment, offset, MemorySegment.ofBuffer(dst), 0, len);
         return len;
     }
 
     @Override // to follow BufferedData semantics and not modify the dst position
     public long getBytes(final long offset, @NonNull final BufferedData dst) {
         final var len = Math.min(dst.remaining(), length() - offset);
-        dst.buffer.put(dst.buffer.position(), segment.asByteBuffer(), Math.toIntExact(offset), Math.toIntExact(len));
+        MemorySegment.copy(segment, offset, MemorySegment.ofBuffer(dst.buffer), 0, len);
         return len;
     }
 
@@ -646,7 +705,11 @@ public final class MemoryData
     public void writeTo(@NonNull OutputStream outStream) {
         try {
             final WritableByteChannel channel = Channels.newChannel(outStream);
-            channel.write(segment.asByteBuffer().limit(Math.toIntExact(limit)));
+            // asByteBuffer() is limited to 2 GB, so large segments are written in chunks
+            for (long offset = 0; offset < limit; offset += Integer.MAX_VALUE) {
+                channel.write(segment.asSlice(offset, Math.min(Integer.MAX_VALUE, limit - offset))
+                        .asByteBuffer());
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -662,7 +725,7 @@ public final class MemoryData
         }
         try {
             final WritableByteChannel channel = Channels.newChannel(outStream);
-            channel.write(segment.asByteBuffer().position(offset).limit(Math.toIntExact(offset + length)));
+            channel.write(segment.asSlice(offset, length).asByteBuffer());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -670,7 +733,11 @@ public final class MemoryData
 
     @Override
     public void writeTo(@NonNull MessageDigest digest) {
-        digest.update(segment.asByteBuffer().limit(Math.toIntExact(limit)));
+        // asByteBuffer() is limited to 2 GB, so large segments are digested in chunks
+        for (long offset = 0; offset < limit; offset += Integer.MAX_VALUE) {
+            digest.update(segment.asSlice(offset, Math.min(Integer.MAX_VALUE, limit - offset))
+                    .asByteBuffer());
+        }
     }
 
     @Override
@@ -752,6 +819,19 @@ public final class MemoryData
         return segment.get(determineDoubleLayout(byteOrder, offset), offset);
     }
 
+    @NonNull
+    @Override
+    public String getUtf8String(final long offset, final long len) throws MalformedProtobufException {
+        if (len == 0) {
+            return "";
+        }
+        checkOffset(offset, length());
+        if (len > length() - offset) {
+            throw new BufferUnderflowException();
+        }
+        return Utf8Tools.decodeUtf8(segment, offset, Math.toIntExact(len));
+    }
+
     @Override
     public boolean contains(final long offset, @NonNull final byte[] bytes) {
         checkOffset(offset, length());
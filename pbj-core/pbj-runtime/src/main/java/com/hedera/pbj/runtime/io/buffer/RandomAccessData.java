@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.runtime.io.buffer;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
 import com.hedera.pbj.runtime.io.DataEncodingException;
 import com.hedera.pbj.runtime.io.SequentialData;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -609,6 +611,34 @@ public interface RandomAccessData {
         return new String(data, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Get the contents of a subset of this buffer as a UTF-8 encoded string, rejecting malformed input. Unlike
+     * {@link #asUtf8String(long, long)}, which replaces malformed bytes with U+FFFD, this method is meant for parsing
+     * protobuf string fields. Implementations decode straight from their backing array or memory segment when they
+     * can, see {@link Utf8Tools#decodeUtf8(byte[], int, int)}.
+     *
+     * @param offset the offset into the buffer to start reading bytes from
+     * @param len the number of bytes to read
+     * @return data converted to string
+     * @throws MalformedProtobufException if the bytes are not valid UTF-8
+     * @throws BufferUnderflowException if {@code len} is greater than {@link #length()} - {@code offset}
+     * @throws IndexOutOfBoundsException If the given {@code offset} is negative or not less than {@link #length()}
+     */
+    @NonNull
+    default String getUtf8String(final long offset, final long len) throws MalformedProtobufException {
+        if (len == 0) {
+            return "";
+        }
+        checkOffset(offset, length());
+        if (len > length() - offset) {
+            throw new BufferUnderflowException();
+        }
+
+        final var data = new byte[Math.toIntExact(len)];
+        getBytes(offset, data);
+        return Utf8Tools.decodeUtf8(data, 0, data.length);
+    }
+
     /**
      * Check if the beginning of this buffer matches the given prefix bytes. An empty buffer matches an empty prefix.
      *
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.runtime.io.buffer;
 
+import com.hedera.pbj.runtime.MalformedProtobufException;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.BufferUnderflowException;
@@ -194,6 +195,22 @@ final class RandomAccessSequenceAdapter implements ReadableSequentialData {
         return bytes;
     }
 
+    /** {@inheritDoc} */
+    @NonNull
+    @Override
+    public String readUTF8(final int length) throws MalformedProtobufException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length not allowed");
+        }
+        if (remaining() < length) {
+            throw new BufferUnderflowException();
+        }
+
+        final var string = delegate.getUtf8String(start + position, length);
+        position += length;
+        return string;
+    }
+
     /** {@inheritDoc} */
     @NonNull
     @Override
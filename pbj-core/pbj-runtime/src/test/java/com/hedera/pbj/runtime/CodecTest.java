@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferLease;
+import com.hedera.pbj.runtime.io.buffer.BufferPool;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.buffer.MemoryData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class CodecTest {
+    private static final Codec<String> STRING_CODEC = new CodecWrapper<>(
+            (data, out) -> out.writeUTF8(data), data -> data.getBytes(StandardCharsets.UTF_8).length);
+
+    @Test
+    void writeToPooledBuffer() {
+        final BufferPool<MemoryData> pool = BufferPool.ofMemoryData(1024, 4);
+        try (final BufferLease<MemoryData> lease = STRING_CODEC.write("pooled", pool)) {
+            assertEquals(0, lease.buffer().position());
+            assertEquals(6, lease.buffer().limit());
+            assertEquals("pooled", lease.buffer().asUtf8String());
+        }
+        assertEquals(1, pool.freeBufferCount());
+    }
+
+    @Test
+    void failedWriteReturnsBuffer() {
+        final Codec<String> failing = new CodecWrapper<>(
+                (data, out) -> {
+                    throw new IOException("boom");
+                },
+                String::length);
+        final BufferPool<MemoryData> pool = BufferPool.ofMemoryData(1024, 4);
+        assertThrows(UncheckedIOException.class, () -> failing.write("fails", pool));
+        assertEquals(1, pool.freeBufferCount());
+    }
+
+    /** A codec that parses the whole input as a UTF-8 string, and fails on "bad" and "underflow". */
+    private static final class ParsingStringCodec extends CodecWrapper<String> {
+        ParsingStringCodec() {
+            super((data, out) -> out.writeUTF8(data), data -> data.getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @NonNull
+        @Override
+        public String parse(
+                @NonNull ReadableSequentialData input,
+                boolean strictMode,
+                boolean parseUnknownFields,
+                int maxDepth,
+                int maxSize)
+                throws ParseException {
+            final String value = input.readBytes((int) input.remaining()).asUtf8String();
+            if (value.equals("bad")) {
+                throw new ParseException("bad input");
+            } else if (value.equals("underflow")) {
+                throw new BufferUnderflowException();
+            }
+            return value;
+        }
+    }
+
+    @Test
+    void parseAllKeepsOrder() throws Exception {
+        final List<String> values = IntStream.range(0, 1000).mapToObj(i -> "item " + i).toList();
+        final List<Bytes> inputs = values.stream().map(Bytes::wrap).toList();
+        final List<ParseResult<String>> results = new ParsingStringCodec().parseAll(inputs, ForkJoinPool.commonPool());
+        assertEquals(values.size(), results.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertTrue(results.get(i).isSuccess());
+            assertEquals(values.get(i), results.get(i).getOrThrow());
+        }
+    }
+
+    @Test
+    void parseAllCollectsErrors() throws Exception {
+        final List<Bytes> inputs =
+                List.of(Bytes.wrap("a"), Bytes.wrap("bad"), Bytes.wrap("underflow"), Bytes.wrap("b"));
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<ParseResult<String>> results = new ParsingStringCodec().parseAll(inputs, executor);
+            assertEquals("a", results.get(0).value());
+            assertFalse(results.get(1).isSuccess());
+            assertEquals("bad input", results.get(1).error().getMessage());
+            assertThrows(ParseException.class, () -> results.get(1).getOrThrow());
+            assertInstanceOf(BufferUnderflowException.class, results.get(2).error().getCause());
+            assertEquals("b", results.get(3).getOrThrow());
+        }
+    }
+
+    @Test
+    void parseAllEmpty() {
+        assertTrue(new ParsingStringCodec().parseAll(List.of(), ForkJoinPool.commonPool()).isEmpty());
+    }
+}
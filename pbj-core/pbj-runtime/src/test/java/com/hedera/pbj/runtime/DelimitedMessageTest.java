@@ -0,0 +1,156 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.stream.ReadableStreamingData;
+import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class DelimitedMessageTest {
+    /** A message that the codec fails to parse. */
+    private static final String INVALID = "invalid";
+
+    /** A codec that "parses" the whole input as a UTF-8 string, unless it is {@link #INVALID}. */
+    private static final class StringCodec extends CodecWrapper<String> {
+        StringCodec() {
+            super((data, out) -> out.writeUTF8(data), data -> data.getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @NonNull
+        @Override
+        public String parse(
+                @NonNull ReadableSequentialData input,
+                boolean strictMode,
+                boolean parseUnknownFields,
+                int maxDepth,
+                int maxSize)
+                throws ParseException {
+            if (input.remaining() > maxSize) {
+                throw new ParseException("size " + input.remaining() + " is greater than max " + maxSize);
+            }
+            final String message = input.readBytes((int) input.remaining()).asUtf8String();
+            if (INVALID.equals(message)) {
+                throw new ParseException("invalid message");
+            }
+            return message;
+        }
+    }
+
+    private static final StringCodec CODEC = new StringCodec();
+
+    private static List<String> messages(final int count) {
+        // Include empty messages and messages larger than the initial buffers
+        return IntStream.range(0, count)
+                .mapToObj(i -> i % 7 == 0 ? "" : "message " + i + "x".repeat(i * 13))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] writeAll(final List<String> messages) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final WritableStreamingData stream = new WritableStreamingData(out)) {
+            final DelimitedMessageWriter<String> writer = new DelimitedMessageWriter<>(CODEC, stream);
+            writer.writeAll(messages);
+            assertEquals(messages.size(), writer.count());
+        }
+        return out.toByteArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 64})
+    void roundTripStream(final int prefetchCount) throws Exception {
+        final List<String> messages = messages(500);
+        final byte[] bytes = writeAll(messages);
+        try (final DelimitedMessageReader<String> reader = new DelimitedMessageReader<>(
+                CODEC, new ReadableStreamingData(bytes), prefetchCount, Codec.DEFAULT_MAX_SIZE, null)) {
+            final List<String> read = new ArrayList<>();
+            reader.forEachRemaining(read::add);
+            assertEquals(messages, read);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void roundTripBuffer() throws Exception {
+        final List<String> messages = messages(100);
+        final BufferedData buffer = BufferedData.allocate(writeAll(messages).length);
+        new DelimitedMessageWriter<>(CODEC, buffer).writeAll(messages);
+        buffer.flip();
+        try (final DelimitedMessageReader<String> reader = new DelimitedMessageReader<>(CODEC, buffer)) {
+            assertEquals(messages, reader.stream().toList());
+        }
+    }
+
+    @Test
+    void backgroundParsing() throws Exception {
+        final List<String> messages = messages(1000);
+        final byte[] bytes = writeAll(messages);
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                final DelimitedMessageReader<String> reader = new DelimitedMessageReader<>(
+                        CODEC, new ReadableStreamingData(bytes), 16, Codec.DEFAULT_MAX_SIZE, executor)) {
+            assertEquals(messages, reader.stream().toList());
+        }
+    }
+
+    @Test
+    void emptyInput() {
+        try (final DelimitedMessageReader<String> reader =
+                new DelimitedMessageReader<>(CODEC, new ReadableStreamingData(new byte[0]))) {
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void truncatedFrame() throws Exception {
+        final byte[] bytes = writeAll(List.of("hello", "world"));
+        final byte[] truncated = new byte[bytes.length - 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        try (final DelimitedMessageReader<String> reader =
+                new DelimitedMessageReader<>(CODEC, new ReadableStreamingData(truncated))) {
+            // The frames read before the error are not lost
+            assertEquals("hello", reader.next());
+            assertThrows(UncheckedParseException.class, reader::hasNext);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void frameLargerThanMaxSize() throws Exception {
+        final byte[] bytes = writeAll(List.of("a", "too large"));
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                final DelimitedMessageReader<String> reader =
+                        new DelimitedMessageReader<>(CODEC, new ReadableStreamingData(bytes), 1, 4, executor)) {
+            assertEquals("a", reader.next());
+            assertThrows(UncheckedParseException.class, reader::hasNext);
+        }
+    }
+
+    @Test
+    void unparsableFrameInBackground() throws Exception {
+        final byte[] bytes = writeAll(List.of("a", "b", INVALID, "c"));
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                final DelimitedMessageReader<String> reader = new DelimitedMessageReader<>(
+                        CODEC, new ReadableStreamingData(bytes), 16, Codec.DEFAULT_MAX_SIZE, executor)) {
+            // The messages parsed before the error in the same batch are not lost
+            assertEquals("a", reader.next());
+            assertEquals("b", reader.next());
+            assertThrows(UncheckedParseException.class, reader::hasNext);
+            assertFalse(reader.hasNext());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class LazyMessageTest {
+    /** A codec that "parses" the whole input as a UTF-8 string and counts the parse calls. */
+    private static final class StringCodec extends CodecWrapper<String> {
+        private final AtomicInteger parseCount = new AtomicInteger();
+
+        StringCodec() {
+            super((data, out) -> out.writeUTF8(data), data -> data.getBytes(StandardCharsets.UTF_8).length);
+        }
+
+        @NonNull
+        @Override
+        public String parse(
+                @NonNull ReadableSequentialData input,
+                boolean strictMode,
+                boolean parseUnknownFields,
+                int maxDepth,
+                int maxSize)
+                throws ParseException {
+            parseCount.incrementAndGet();
+            if (maxDepth < 0) {
+                throw new ParseException("Reached maximum allowed depth of nested messages");
+            }
+            return input.readBytes((int) input.remaining()).asUtf8String();
+        }
+    }
+
+    @Test
+    void parsedOnce() {
+        final StringCodec codec = new StringCodec();
+        final LazyMessage<String> lazy =
+                new LazyMessage<>(codec, Bytes.wrap("hello"), false, false, 1, Codec.DEFAULT_MAX_SIZE);
+        assertFalse(lazy.isParsed());
+        assertEquals(0, codec.parseCount.get());
+        assertEquals(Bytes.wrap("hello"), lazy.bytes());
+
+        final String value = lazy.get();
+        assertEquals("hello", value);
+        assertTrue(lazy.isParsed());
+        assertSame(value, lazy.get());
+        assertEquals(1, codec.parseCount.get());
+    }
+
+    @Test
+    void parseErrorsAreUnchecked() {
+        final LazyMessage<String> lazy =
+                new LazyMessage<>(new StringCodec(), Bytes.wrap("hello"), false, false, -1, Codec.DEFAULT_MAX_SIZE);
+        final UncheckedParseException e = assertThrows(UncheckedParseException.class, lazy::get);
+        assertInstanceOf(ParseException.class, e.getCause());
+        assertFalse(lazy.isParsed());
+    }
+
+    @Test
+    void writeMessageBytes() throws Exception {
+        final FieldDefinition definition = new FieldDefinition("test", FieldType.MESSAGE, false, 3);
+        final StringCodec codec = new StringCodec();
+        final BufferedData expected = BufferedData.allocate(32);
+        ProtoWriterTools.writeMessage(expected, definition, "nested", codec);
+
+        final BufferedData actual = BufferedData.allocate(32);
+        ProtoWriterTools.writeMessageBytes(actual, definition, Bytes.wrap("nested"));
+        assertEquals(expected.position(), actual.position());
+        assertEquals(ProtoWriterTools.sizeOfDelimited(definition, 6), actual.position());
+
+        final byte[] array = new byte[32];
+        final int written = ProtoArrayWriterTools.writeMessageBytes(array, 0, definition, Bytes.wrap("nested"));
+        assertEquals(actual.position(), written);
+
+        expected.flip();
+        final byte[] expectedBytes = new byte[written];
+        expected.readBytes(expectedBytes);
+        final byte[] arrayBytes = new byte[written];
+        System.arraycopy(array, 0, arrayBytes, 0, written);
+        assertArrayEquals(expectedBytes, arrayBytes);
+    }
+}
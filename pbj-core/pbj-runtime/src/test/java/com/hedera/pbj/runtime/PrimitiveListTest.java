@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveListTest {
+    @Test
+    void intListBasic() {
+        final IntList list = new IntList(1);
+        for (int i = 0; i < 20; i++) {
+            list.addInt(i * 3);
+        }
+        assertEquals(20, list.size());
+        assertEquals(57, list.getInt(19));
+        assertEquals(Integer.valueOf(57), list.get(19));
+        assertEquals(20, list.intStream().count());
+        assertEquals(20, list.toIntArray().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(20));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(-1));
+    }
+
+    @Test
+    void equalsAndHashCodeMatchArrayList() {
+        final List<Long> expected = new ArrayList<>(List.of(1L, -2L, Long.MAX_VALUE));
+        final LongList list = LongList.of(1L, -2L, Long.MAX_VALUE);
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(LongList.copyOf(expected), list);
+        assertNotEquals(LongList.of(1L, -2L), list);
+
+        assertEquals(List.of(1.5f, -0.0f), FloatList.of(1.5f, -0.0f));
+        assertEquals(List.of(1.5f, -0.0f).hashCode(), FloatList.of(1.5f, -0.0f).hashCode());
+        assertEquals(List.of(Double.NaN), DoubleList.of(Double.NaN));
+        assertEquals(List.of(Double.NaN).hashCode(), DoubleList.of(Double.NaN).hashCode());
+        assertEquals(List.of(true, false), BooleanList.of(true, false));
+        assertEquals(List.of(true, false).hashCode(), BooleanList.of(true, false).hashCode());
+    }
+
+    @Test
+    void continuedHashCode() {
+        final List<Integer> values = List.of(7, 8, 9);
+        int expected = 17;
+        for (Integer value : values) {
+            expected = 31 * expected + value.hashCode();
+        }
+        assertEquals(expected, IntList.copyOf(values).hashCode(17));
+    }
+
+    @Test
+    void readOnly() {
+        final DoubleList list = new DoubleList();
+        list.addDouble(1.0);
+        list.add(2.0);
+        list.set(0, 3.0);
+        list.makeReadOnly();
+        assertEquals(List.of(3.0, 2.0), list);
+        assertThrows(UnsupportedOperationException.class, () -> list.addDouble(4.0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(4.0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 4.0));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, () -> BooleanList.of(true).add(false));
+    }
+
+    @Test
+    void parserToolsCreatePrimitiveLists() {
+        List<Integer> ints = Collections.emptyList();
+        ints = ProtoParserTools.addToIntList(ints, 1);
+        ints = ProtoParserTools.addToIntList(ints, 2);
+        assertInstanceOf(IntList.class, ints);
+        assertEquals(List.of(1, 2), ints);
+
+        List<Boolean> booleans = Collections.emptyList();
+        booleans = ProtoParserTools.addToBooleanList(booleans, true);
+        assertInstanceOf(BooleanList.class, booleans);
+        assertEquals(List.of(true), booleans);
+    }
+
+    @Test
+    void writerToolsProduceSameBytes() {
+        final FieldDefinition definition = new FieldDefinition("test", FieldType.SINT64, true, 1);
+        final List<Long> values = List.of(0L, -1L, 1L << 40, Long.MIN_VALUE);
+
+        final BufferedData boxed = BufferedData.allocate(128);
+        ProtoWriterTools.writeLongList(boxed, definition, values);
+        final BufferedData primitive = BufferedData.allocate(128);
+        ProtoWriterTools.writeLongList(primitive, definition, LongList.copyOf(values));
+
+        assertEquals(boxed.position(), primitive.position());
+        assertEquals(ProtoWriterTools.sizeOfLongList(definition, values), primitive.position());
+        boxed.flip();
+        primitive.flip();
+        final byte[] expected = new byte[(int) boxed.remaining()];
+        final byte[] actual = new byte[(int) primitive.remaining()];
+        boxed.readBytes(expected);
+        primitive.readBytes(actual);
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class Utf8StringTest {
+    private static Stream<String> provideStrings() {
+        return Stream.of("", "a", "not blank", "ݬ test", "ݬ  test", "😀 emoji");
+    }
+
+    private static Stream<byte[]> provideMalformed() {
+        return Stream.of(
+                new byte[] {(byte) 0x80},
+                new byte[] {(byte) 0xC0, (byte) 0x80}, // overlong NUL
+                new byte[] {(byte) 0xC3}, // truncated
+                new byte[] {(byte) 0xE0, (byte) 0x80, (byte) 0x80}, // overlong
+                new byte[] {(byte) 0xED, (byte) 0xA0, (byte) 0x80}, // surrogate
+                new byte[] {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}, // above U+10FFFF
+                new byte[] {(byte) 0xF0, (byte) 0x9F, (byte) 0x98}, // truncated
+                new byte[] {'a', (byte) 0xFF});
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStrings")
+    void roundTrip(final String string) throws Exception {
+        final Bytes utf8 = Bytes.wrap(string.getBytes(StandardCharsets.UTF_8));
+        final Utf8String wrapped = Utf8String.wrap(utf8);
+        final Utf8String encoded = Utf8String.of(string);
+        assertEquals(encoded, wrapped);
+        assertEquals(encoded.hashCode(), wrapped.hashCode());
+        assertEquals(0, encoded.compareTo(wrapped));
+        assertEquals(utf8, encoded.bytes());
+        assertEquals(string.isEmpty(), wrapped.isEmpty());
+        assertEquals(string, wrapped.toString());
+        assertEquals(string.length(), wrapped.length());
+    }
+
+    @Test
+    void decodedLazily() throws Exception {
+        final Utf8String string = Utf8String.wrap(Bytes.wrap("hello"));
+        assertFalse(string.isDecoded());
+        assertEquals(5, string.utf8Length());
+        assertEquals(Utf8String.of("hello"), string);
+        assertFalse(string.isDecoded());
+        assertEquals("hello", string.toString());
+        assertTrue(string.isDecoded());
+        assertSame(string.toString(), string.toString());
+    }
+
+    @Test
+    void compareToUsesCodePointOrder() {
+        assertTrue(Utf8String.of("a").compareTo(Utf8String.of("b")) < 0);
+        assertTrue(Utf8String.of("ab").compareTo(Utf8String.of("a")) > 0);
+        // U+FFFD sorts before a supplementary code point, unlike String.compareTo()
+        assertTrue(Utf8String.of("�").compareTo(Utf8String.of("😀")) < 0);
+        assertNotEquals(Utf8String.of("a"), Utf8String.of("b"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMalformed")
+    void malformed(final byte[] bytes) {
+        assertFalse(Utf8Tools.isValidUtf8(Bytes.wrap(bytes), 0, bytes.length));
+        assertThrows(MalformedProtobufException.class, () -> Utf8String.wrap(Bytes.wrap(bytes)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStrings")
+    void parseAndWrite(final String string) throws Exception {
+        final FieldDefinition definition = new FieldDefinition("test", FieldType.STRING, false, 1);
+        final BufferedData expected = BufferedData.allocate(64);
+        ProtoWriterTools.writeString(expected, definition, string, false);
+        expected.flip();
+
+        // Skip the tag
+        expected.readVarInt(false);
+        final Utf8String parsed = ProtoParserTools.readUtf8String(expected);
+        assertEquals(string.isEmpty(), parsed.isDecoded());
+        assertEquals(string, parsed.toString());
+
+        final BufferedData actual = BufferedData.allocate(64);
+        ProtoWriterTools.writeUtf8String(actual, definition, parsed, false);
+        assertEquals(expected.length(), actual.position());
+        assertEquals(ProtoWriterTools.sizeOfUtf8String(definition, parsed, false), actual.position());
+
+        final byte[] array = new byte[64];
+        final int written = ProtoArrayWriterTools.writeUtf8String(array, 0, definition, parsed, false);
+        assertEquals(actual.position(), written);
+        actual.flip();
+        final byte[] actualBytes = new byte[written];
+        actual.readBytes(actualBytes);
+        final byte[] arrayBytes = new byte[written];
+        System.arraycopy(array, 0, arrayBytes, 0, written);
+        assertArrayEquals(actualBytes, arrayBytes);
+    }
+
+    @Test
+    void defaultValueIsSkipped() throws Exception {
+        final FieldDefinition definition = new FieldDefinition("test", FieldType.STRING, false, 1);
+        final BufferedData out = BufferedData.allocate(16);
+        ProtoWriterTools.writeUtf8String(out, definition, Utf8String.EMPTY);
+        assertEquals(0, out.position());
+        assertEquals(0, ProtoWriterTools.sizeOfUtf8String(definition, Utf8String.EMPTY));
+    }
+}
@@ -3,10 +3,16 @@ package com.hedera.pbj.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.buffer.MemoryData;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HexFormat;
 import java.util.stream.Stream;
@@ -63,4 +69,61 @@ public class Utf8ToolsTest {
     void handleNull() {
         assertEquals(0, assertDoesNotThrow(() -> Utf8Tools.encodedLength(null)));
     }
+
+    @ParameterizedTest
+    @MethodSource("provideStringsAndLengths")
+    void decodeUtf8(String testStr, int expectedLength) throws IOException {
+        final byte[] utf8 = testStr.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedLength, utf8.length);
+        // Surround the string with other bytes to make sure that offsets are respected
+        final byte[] padded = new byte[utf8.length + 16];
+        System.arraycopy(utf8, 0, padded, 7, utf8.length);
+        assertEquals(testStr, Utf8Tools.decodeUtf8(padded, 7, utf8.length));
+        assertEquals(testStr, Utf8Tools.decodeUtf8(ByteBuffer.wrap(padded), 7, utf8.length));
+        assertEquals(testStr, Utf8Tools.decodeUtf8(ByteBuffer.wrap(padded).asReadOnlyBuffer(), 7, utf8.length));
+        final ByteBuffer direct = ByteBuffer.allocateDirect(padded.length).put(padded);
+        assertEquals(testStr, Utf8Tools.decodeUtf8(direct, 7, utf8.length));
+        assertEquals(testStr, Utf8Tools.decodeUtf8(MemorySegment.ofArray(padded), 7, utf8.length));
+        assertEquals(testStr, Utf8Tools.decodeUtf8(MemorySegment.ofArray(padded).asSlice(3), 4, utf8.length));
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(padded.length).copyFrom(MemorySegment.ofArray(padded));
+            assertEquals(testStr, Utf8Tools.decodeUtf8(segment, 7, utf8.length));
+        }
+    }
+
+    @Test
+    void decodeUtf8LongStrings() throws IOException {
+        // Long enough to exercise the word-at-a-time ASCII loop, with the non-ASCII part at different offsets
+        final String ascii = "The quick brown fox jumps over the lazy dog";
+        for (int i = 0; i <= ascii.length(); i++) {
+            final String testStr = ascii.substring(0, i) + "\u00e9\u4e16\ud83d\ude00" + ascii.substring(i);
+            final byte[] utf8 = testStr.getBytes(StandardCharsets.UTF_8);
+            assertEquals(testStr, Utf8Tools.decodeUtf8(utf8, 0, utf8.length));
+            assertEquals(ascii.substring(0, i), Utf8Tools.decodeUtf8(utf8, 0, i));
+        }
+    }
+
+    private static Stream<byte[]> provideMalformed() {
+        return Stream.of(
+                new byte[] {(byte) 0x80},
+                new byte[] {(byte) 0xC0, (byte) 0x80}, // overlong NUL
+                new byte[] {(byte) 0xC3}, // truncated
+                new byte[] {(byte) 0xE0, (byte) 0x80, (byte) 0x80}, // overlong
+                new byte[] {(byte) 0xED, (byte) 0xA0, (byte) 0x80}, // surrogate
+                new byte[] {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}, // above U+10FFFF
+                new byte[] {(byte) 0xF0, (byte) 0x9F, (byte) 0x98}, // truncated
+                new byte[] {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', (byte) 0xFF});
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMalformed")
+    void decodeUtf8Malformed(final byte[] bytes) {
+        assertThrows(MalformedProtobufException.class, () -> Utf8Tools.decodeUtf8(bytes, 0, bytes.length));
+        assertThrows(MalformedProtobufException.class, () -> Bytes.wrap(bytes).getUtf8String(0, bytes.length));
+        assertThrows(MalformedProtobufException.class, () -> BufferedData.wrap(bytes).readUTF8(bytes.length));
+        assertThrows(MalformedProtobufException.class, () -> MemoryData.wrap(bytes).readUTF8(bytes.length));
+        assertThrows(
+                MalformedProtobufException.class,
+                () -> Bytes.wrap(bytes).toReadableSequentialData().readUTF8(bytes.length));
+    }
 }
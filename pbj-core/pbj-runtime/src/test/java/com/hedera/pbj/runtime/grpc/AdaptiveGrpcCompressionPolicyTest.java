@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveGrpcCompressionPolicyTest {
+    private static final String METHOD = "example.Service/Method";
+
+    @Test
+    void shortMessagesAreNotCompressed() {
+        final var policy = GrpcCompressionPolicy.adaptive(100, 0.1);
+        assertThat(policy.shouldCompress(METHOD, 99)).isFalse();
+        assertThat(policy.shouldCompress(METHOD, 100)).isTrue();
+    }
+
+    @Test
+    void methodsThatCompressWellAreCompressed() {
+        final var policy = GrpcCompressionPolicy.adaptive(0, 0.1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.shouldCompress(METHOD, 1000)).isTrue();
+            policy.recordCompression(METHOD, 1000, 500);
+        }
+    }
+
+    @Test
+    void methodsThatDoNotCompressWellAreProbedOccasionally() {
+        final var policy = GrpcCompressionPolicy.adaptive(0, 0.1);
+        policy.recordCompression(METHOD, 1000, 990);
+
+        int compressed = 0;
+        for (int i = 0; i < 320; i++) {
+            if (policy.shouldCompress(METHOD, 1000)) {
+                compressed++;
+            }
+        }
+        assertThat(compressed).isEqualTo(10);
+        // Other methods are not affected
+        assertThat(policy.shouldCompress("example.Service/Other", 1000)).isTrue();
+    }
+
+    @Test
+    void methodsThatCompressWellAgainAreCompressedAgain() {
+        final var policy = GrpcCompressionPolicy.adaptive(0, 0.1);
+        policy.recordCompression(METHOD, 1000, 1000);
+        assertThat(policy.shouldCompress(METHOD, 1000)).isFalse();
+
+        for (int i = 0; i < 10; i++) {
+            policy.recordCompression(METHOD, 1000, 100);
+        }
+        assertThat(policy.shouldCompress(METHOD, 1000)).isTrue();
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThatThrownBy(() -> GrpcCompressionPolicy.adaptive(-1, 0.1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GrpcCompressionPolicy.adaptive(0, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
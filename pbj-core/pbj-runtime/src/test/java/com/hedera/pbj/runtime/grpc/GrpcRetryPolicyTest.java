@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+final class GrpcRetryPolicyTest {
+    private static final Duration BUDGET = Duration.ofSeconds(10);
+
+    /** Replies to the attempts with the given futures in order, and records the attempts. */
+    private static final class Attempts implements Supplier<CompletableFuture<String>> {
+        private final List<CompletableFuture<String>> replies;
+        private final List<CompletableFuture<String>> sent = new ArrayList<>();
+
+        @SafeVarargs
+        Attempts(final CompletableFuture<String>... replies) {
+            this.replies = List.of(replies);
+        }
+
+        @Override
+        public synchronized CompletableFuture<String> get() {
+            final CompletableFuture<String> reply = replies.get(sent.size());
+            sent.add(reply);
+            return reply;
+        }
+
+        synchronized int count() {
+            return sent.size();
+        }
+    }
+
+    private static CompletableFuture<String> failed(final GrpcStatus status) {
+        return CompletableFuture.failedFuture(new GrpcException(status));
+    }
+
+    @Test
+    void noneSendsOnce() {
+        final var attempts = new Attempts(failed(GrpcStatus.UNAVAILABLE));
+        assertThatThrownBy(() -> GrpcRetryPolicy.NONE.call(attempts).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(GrpcException.class);
+        assertThat(attempts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void retryableFailuresAreRetried() {
+        final var policy =
+                GrpcRetryPolicy.retry(3, Duration.ofMillis(1), Duration.ofMillis(5), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var attempts = new Attempts(
+                failed(GrpcStatus.UNAVAILABLE),
+                CompletableFuture.failedFuture(new UncheckedIOException(new IOException("reset"))),
+                CompletableFuture.completedFuture("reply"));
+        assertThat(policy.call(attempts).join()).isEqualTo("reply");
+        assertThat(attempts.count()).isEqualTo(3);
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        final var policy =
+                GrpcRetryPolicy.retry(3, Duration.ofMillis(1), Duration.ofMillis(5), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var attempts = new Attempts(failed(GrpcStatus.INVALID_ARGUMENT));
+        assertThatThrownBy(() -> policy.call(attempts).join()).hasCauseInstanceOf(GrpcException.class);
+        assertThat(attempts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void attemptsAreLimited() {
+        final var policy =
+                GrpcRetryPolicy.retry(2, Duration.ofMillis(1), Duration.ofMillis(5), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var attempts = new Attempts(failed(GrpcStatus.UNAVAILABLE), failed(GrpcStatus.UNAVAILABLE));
+        assertThatThrownBy(() -> policy.call(attempts).join()).hasCauseInstanceOf(GrpcException.class);
+        assertThat(attempts.count()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesAreBoundedByTheBudget() {
+        final var policy = GrpcRetryPolicy.retry(
+                3, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofNanos(1), GrpcStatus.UNAVAILABLE);
+        final var attempts = new Attempts(failed(GrpcStatus.UNAVAILABLE));
+        assertThatThrownBy(() -> policy.call(attempts).join()).hasCauseInstanceOf(GrpcException.class);
+        assertThat(attempts.count()).isEqualTo(1);
+    }
+
+    @Test
+    void attemptsShareTheDeadlineOfTheCall() {
+        final var policy =
+                GrpcRetryPolicy.retry(3, Duration.ofMillis(5), Duration.ofMillis(5), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var attempts = new Attempts(failed(GrpcStatus.UNAVAILABLE), CompletableFuture.completedFuture("reply"));
+        final List<Duration> timeouts = new ArrayList<>();
+        final Duration timeout = Duration.ofSeconds(5);
+        final CompletableFuture<String> call = policy.call(timeout, time -> {
+            timeouts.add(time);
+            return attempts.get();
+        });
+        assertThat(call.join()).isEqualTo("reply");
+        assertThat(timeouts).hasSize(2);
+        assertThat(timeouts.get(0)).isPositive().isLessThanOrEqualTo(timeout);
+        assertThat(timeouts.get(1)).isPositive().isLessThan(timeouts.get(0));
+    }
+
+    @Test
+    void noAttemptIsSentAfterTheDeadline() {
+        final var policy =
+                GrpcRetryPolicy.retry(1000, Duration.ofMillis(1), Duration.ofMillis(2), BUDGET, GrpcStatus.UNAVAILABLE);
+        final List<Duration> timeouts = new ArrayList<>();
+        final CompletableFuture<String> call = policy.call(Duration.ofMillis(50), time -> {
+            synchronized (timeouts) {
+                timeouts.add(time);
+            }
+            return failed(GrpcStatus.UNAVAILABLE);
+        });
+        assertThatThrownBy(call::join).hasCauseInstanceOf(GrpcException.class);
+        synchronized (timeouts) {
+            assertThat(timeouts).hasSizeBetween(2, 999);
+            assertThat(timeouts).allSatisfy(time -> assertThat(time).isPositive());
+        }
+    }
+
+    @Test
+    void noneSendsTheWholeTimeout() {
+        final Duration timeout = Duration.ofSeconds(1);
+        assertThat(GrpcRetryPolicy.NONE.call(timeout, CompletableFuture::completedFuture).join())
+                .isEqualTo(timeout);
+        assertThat(GrpcRetryPolicy.NONE.<Duration>call(null, CompletableFuture::completedFuture).join())
+                .isNull();
+    }
+
+    @Test
+    void slowAttemptsAreHedged() {
+        final var policy = GrpcRetryPolicy.hedge(3, Duration.ofMillis(10), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var slow = new CompletableFuture<String>();
+        final var attempts = new Attempts(slow, CompletableFuture.completedFuture("hedged"));
+        assertThat(policy.call(attempts).join()).isEqualTo("hedged");
+        assertThat(attempts.count()).isEqualTo(2);
+        assertThat(slow).isCancelled();
+    }
+
+    @Test
+    void cancellingTheCallCancelsTheAttempts() {
+        final var policy =
+                GrpcRetryPolicy.retry(3, Duration.ofMillis(1), Duration.ofMillis(5), BUDGET, GrpcStatus.UNAVAILABLE);
+        final var inFlight = new CompletableFuture<String>();
+        final var call = policy.call(new Attempts(inFlight));
+        call.cancel(true);
+        assertThat(inFlight).isCancelled();
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertThatThrownBy(() -> GrpcRetryPolicy.retry(0, Duration.ZERO, Duration.ZERO, BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GrpcRetryPolicy.retry(2, Duration.ofMillis(-1), Duration.ZERO, BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GrpcRetryPolicy.retry(2, Duration.ZERO, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GrpcRetryPolicy.hedge(2, Duration.ZERO, BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
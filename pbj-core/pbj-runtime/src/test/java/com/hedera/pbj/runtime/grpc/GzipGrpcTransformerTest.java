@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class GzipGrpcTransformerTest {
+    private final GzipGrpcTransformer transformer = GzipGrpcTransformer.INSTANCE;
+
+    private static byte[] data(final int size) {
+        final Random random = new Random(size);
+        final byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) random.nextInt(10);
+        }
+        return data;
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8191, 8192, 8193, 100_000})
+    void compressedDataIsReadableByJdk(final int size) throws IOException {
+        final byte[] data = data(size);
+        final Bytes compressed = transformer.compress(Bytes.wrap(data));
+        try (GZIPInputStream gzip = new GZIPInputStream(compressed.toInputStream())) {
+            assertThat(gzip.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8191, 8192, 8193, 100_000})
+    void dataCompressedByJdkIsDecompressed(final int size) throws IOException {
+        final byte[] data = data(size);
+        assertThat(transformer.decompress(Bytes.wrap(gzip(data))).toByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void membersAndOptionalHeaderFieldsAreDecompressed() throws IOException {
+        final byte[] member = gzip(data(1000));
+        // The same member again, with a zero-terminated file name
+        final byte[] named = new byte[member.length + 4];
+        System.arraycopy(member, 0, named, 0, 10);
+        named[3] = 8;
+        named[10] = 'a';
+        System.arraycopy(member, 10, named, 14, member.length - 10);
+
+        final ByteArrayOutputStream input = new ByteArrayOutputStream();
+        input.write(member);
+        input.write(named);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(data(1000));
+        expected.write(data(1000));
+        assertThat(transformer.decompress(Bytes.wrap(input.toByteArray())).toByteArray())
+                .isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void sequentialDataIsCompressedAndDecompressed() {
+        final byte[] data = data(20_000);
+        final BufferedData compressed = BufferedData.allocate(30_000);
+        transformer.compress(Bytes.wrap(data).toReadableSequentialData(), compressed);
+        compressed.flip();
+
+        final BufferedData decompressed = BufferedData.allocate(30_000);
+        transformer.decompress(compressed, decompressed);
+        decompressed.flip();
+        assertThat(decompressed.readBytes((int) decompressed.remaining()).toByteArray()).isEqualTo(data);
+    }
+
+    @Test
+    void corruptDataIsRejected() {
+        assertThatThrownBy(() -> transformer.decompress(Bytes.wrap(new byte[] {1, 2, 3})))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(ZipException.class);
+
+        final byte[] compressed = transformer.compress(Bytes.wrap(data(100))).toByteArray();
+        compressed[compressed.length - 5] ^= 1;
+        assertThatThrownBy(() -> transformer.decompress(Bytes.wrap(compressed)))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(ZipException.class);
+    }
+}
@@ -11,7 +11,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.ArrayList;
 import java.util.List;
@@ -182,6 +184,42 @@ class PipelinesTest {
             pipeline.onNext(Bytes.wrap("hello"));
             verify(replies).onNext(Bytes.wrap("HELLO"));
         }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void codecMapsResponseForPlainReplies() {
+            final Codec<String> codec = mock(Codec.class);
+            when(codec.toBytes("HELLO")).thenReturn(Bytes.wrap("HELLO"));
+            final var pipeline = Pipelines.<String, String>unary()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method(String::toUpperCase)
+                    .mapResponse(codec)
+                    .respondTo(replies)
+                    .build();
+
+            pipeline.onSubscribe(subscription);
+            pipeline.onNext(Bytes.wrap("hello"));
+            verify(replies).onNext(Bytes.wrap("HELLO"));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void codecIsPassedToSerializingReplies() {
+            final Codec<String> codec = mock(Codec.class);
+            final SerializingPipeline serializingReplies = mock(SerializingPipeline.class);
+            final var pipeline = Pipelines.<String, String>unary()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method(String::toUpperCase)
+                    .mapResponse(codec)
+                    .respondTo(serializingReplies)
+                    .build();
+
+            pipeline.onSubscribe(subscription);
+            pipeline.onNext(Bytes.wrap("hello"));
+            verify(serializingReplies).onNext("HELLO", codec);
+            verify(serializingReplies, never()).onNext(any(Bytes.class));
+            verify(codec, never()).toBytes(any());
+        }
     }
 
     @Nested
@@ -349,6 +387,40 @@ class PipelinesTest {
             verify(replies, times(2)).onNext(argCaptor.capture());
             assertThat(argCaptor.getAllValues()).containsExactly(Bytes.wrap("HELLO"), Bytes.wrap("WORLD"));
         }
+
+        @Test
+        void methodWithoutDemandReceivesAllRequests() {
+            final var pipeline = Pipelines.<String, String>bidiStreaming()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method(sink -> client)
+                    .mapResponse(Bytes::wrap)
+                    .respondTo(replies)
+                    .build();
+
+            pipeline.onSubscribe(subscription);
+            verify(client).onSubscribe(any());
+            verify(subscription).request(Long.MAX_VALUE);
+        }
+
+        @Test
+        void demandOfMethodIsForwardedToSource() {
+            doAnswer(invocation -> {
+                        invocation.getArgument(0, Flow.Subscription.class).request(1);
+                        return null;
+                    })
+                    .when(client)
+                    .onSubscribe(any());
+            final var pipeline = Pipelines.<String, String>bidiStreaming()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method(sink -> client)
+                    .mapResponse(Bytes::wrap)
+                    .respondTo(replies)
+                    .build();
+
+            pipeline.onSubscribe(subscription);
+            verify(subscription).request(1);
+            verify(subscription, never()).request(Long.MAX_VALUE);
+        }
     }
 
     @Nested
@@ -486,6 +558,56 @@ class PipelinesTest {
             pipeline.onNext(Bytes.wrap("hello"));
             verify(replies).onNext(Bytes.wrap("HELLO"));
         }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void codecIsPassedToSerializingReplies() {
+            final Codec<String> codec = mock(Codec.class);
+            final SerializingPipeline serializingReplies = mock(SerializingPipeline.class);
+            final var pipeline = Pipelines.<String, String>serverStreaming()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method((msg, sink) -> {
+                        sink.onNext(msg.toUpperCase());
+                        sink.onNext(msg);
+                    })
+                    .mapResponse(codec)
+                    .respondTo(serializingReplies)
+                    .build();
+
+            pipeline.onSubscribe(subscription);
+            pipeline.onNext(Bytes.wrap("hello"));
+            verify(serializingReplies).onNext("HELLO", codec);
+            verify(serializingReplies).onNext("hello", codec);
+            verify(codec, never()).toBytes(any());
+        }
+
+        @Test
+        void demandOfRepliesIsForwardedToMethod() {
+            final var methodSubscription = mock(Flow.Subscription.class);
+            final var pipeline = Pipelines.<String, String>serverStreaming()
+                    .mapRequest(Bytes::asUtf8String)
+                    .method((msg, sink) -> sink.onSubscribe(methodSubscription))
+                    .mapResponse(Bytes::wrap)
+                    .respondTo(replies)
+                    .build();
+
+            final ArgumentCaptor<Flow.Subscription> captor = ArgumentCaptor.forClass(Flow.Subscription.class);
+            verify(replies).onSubscribe(captor.capture());
+            final var repliesSubscription = captor.getValue();
+
+            // Demand before the method subscribes is accumulated
+            repliesSubscription.request(2);
+            repliesSubscription.request(3);
+            pipeline.onSubscribe(subscription);
+            pipeline.onNext(Bytes.wrap("hello"));
+            verify(methodSubscription).request(5);
+
+            // Demand after the method subscribes is forwarded as is
+            repliesSubscription.request(1);
+            verify(methodSubscription).request(1);
+            repliesSubscription.cancel();
+            verify(methodSubscription).cancel();
+        }
     }
 
     @Nested
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.io.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class BufferPoolTest {
+    private static Stream<BufferPool<?>> providePools() {
+        return Stream.of(
+                BufferPool.ofBufferedData(4096, 4),
+                BufferPool.ofBufferedDataOffHeap(4096, 4),
+                BufferPool.ofMemoryData(4096, 4),
+                BufferPool.ofMemoryDataOffHeap(4096, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("providePools")
+    void sizeClasses(final BufferPool<?> pool) {
+        assertEquals(256, leasedCapacity(pool, 0));
+        assertEquals(256, leasedCapacity(pool, 256));
+        assertEquals(512, leasedCapacity(pool, 257));
+        assertEquals(4096, leasedCapacity(pool, 4096));
+        // Larger than the largest size class, so allocated exactly and not pooled
+        final int before = pool.freeBufferCount();
+        assertEquals(4097, leasedCapacity(pool, 4097));
+        assertEquals(before, pool.freeBufferCount());
+    }
+
+    private static long leasedCapacity(final BufferPool<?> pool, final int minCapacity) {
+        try (final BufferLease<?> lease = pool.lease(minCapacity)) {
+            return lease.buffer().capacity();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("providePools")
+    void buffersAreReusedAndReset(final BufferPool<?> pool) {
+        final BufferLease<?> first = pool.lease(100);
+        final BufferedSequentialData buffer = first.buffer();
+        buffer.position(10);
+        buffer.limit(20);
+        first.close();
+        assertEquals(1, pool.freeBufferCount());
+
+        try (final BufferLease<?> second = pool.lease(200)) {
+            assertSame(buffer, second.buffer());
+            assertEquals(0, second.buffer().position());
+            assertEquals(second.buffer().capacity(), second.buffer().limit());
+            assertEquals(0, pool.freeBufferCount());
+        }
+    }
+
+    @Test
+    void closedLeaseCannotBeUsed() {
+        final BufferPool<BufferedData> pool = BufferPool.ofBufferedData(1024, 4);
+        final BufferLease<BufferedData> lease = pool.lease(10);
+        lease.close();
+        assertThrows(IllegalStateException.class, lease::buffer);
+        // Closing twice must not return the buffer twice
+        lease.close();
+        assertEquals(1, pool.freeBufferCount());
+        try (final BufferLease<BufferedData> a = pool.lease(10);
+                final BufferLease<BufferedData> b = pool.lease(10)) {
+            assertNotSame(a.buffer(), b.buffer());
+        }
+    }
+
+    @Test
+    void poolIsBounded() {
+        final BufferPool<BufferedData> pool = BufferPool.ofBufferedData(1024, 2);
+        final List<BufferLease<BufferedData>> leases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            leases.add(pool.lease(300));
+        }
+        leases.forEach(BufferLease::close);
+        assertEquals(2, pool.freeBufferCount());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.ofBufferedData(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.ofBufferedData(1024, 0));
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.ofBufferedData(1024, 1).lease(-1));
+    }
+
+    @Test
+    void leaksAreDetectedInDebugMode() throws InterruptedException {
+        final BufferPool<BufferedData> pool = new BufferPool<>(BufferedData::allocate, 1024, 4, true);
+        try (final BufferLease<BufferedData> closed = pool.lease(10)) {
+            closed.buffer().writeByte((byte) 1);
+        }
+        leak(pool);
+        for (int i = 0; i < 100 && pool.leakCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, pool.leakCount());
+        assertEquals(1, pool.freeBufferCount());
+    }
+
+    private static void leak(final BufferPool<BufferedData> pool) {
+        pool.lease(10).buffer().writeByte((byte) 1);
+    }
+}
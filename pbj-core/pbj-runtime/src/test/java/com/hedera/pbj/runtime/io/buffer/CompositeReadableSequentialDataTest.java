@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.runtime.io.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.pbj.runtime.io.ReadableSequentialData;
+import com.hedera.pbj.runtime.io.ReadableSequentialTestBase;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class CompositeReadableSequentialDataTest extends ReadableSequentialTestBase {
+    /** A small chunk size, so that most reads of the base tests span chunk boundaries */
+    private static final int CHUNK_SIZE = 3;
+
+    @NonNull
+    @Override
+    protected ReadableSequentialData emptySequence() {
+        return new CompositeReadableSequentialData(List.of());
+    }
+
+    @NonNull
+    @Override
+    protected ReadableSequentialData fullyUsedSequence() {
+        final var seq = sequence(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        seq.skip(10);
+        return seq;
+    }
+
+    @NonNull
+    @Override
+    protected ReadableSequentialData sequence(@NonNull final byte[] arr) {
+        return new CompositeReadableSequentialData(chunks(arr, CHUNK_SIZE));
+    }
+
+    private static List<Bytes> chunks(final byte[] arr, final int chunkSize) {
+        final List<Bytes> chunks = new ArrayList<>();
+        for (int i = 0; i < arr.length; i += chunkSize) {
+            chunks.add(Bytes.wrap(Arrays.copyOfRange(arr, i, Math.min(arr.length, i + chunkSize))));
+            // Empty chunks are allowed and skipped
+            chunks.add(Bytes.EMPTY);
+        }
+        return chunks;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 7, 64, 1024})
+    @DisplayName("Values written to a buffer read back the same across chunk boundaries")
+    void readAcrossChunks(final int chunkSize) {
+        final BufferedData buf = BufferedData.allocate(4096);
+        for (int i = 0; i < 100; i++) {
+            buf.writeVarLong(i * 0x1234567890L, i % 2 == 0);
+            buf.writeInt(i, ByteOrder.LITTLE_ENDIAN);
+            buf.writeLong(-i);
+            buf.writeUTF8("Hello " + i);
+        }
+        buf.flip();
+        final byte[] arr = new byte[(int) buf.remaining()];
+        buf.readBytes(arr);
+
+        final var seq = new CompositeReadableSequentialData(chunks(arr, chunkSize));
+        assertThat(seq.capacity()).isEqualTo(arr.length);
+        for (int i = 0; i < 100; i++) {
+            assertThat(seq.readVarLong(i % 2 == 0)).isEqualTo(i * 0x1234567890L);
+            assertThat(seq.readInt(ByteOrder.LITTLE_ENDIAN)).isEqualTo(i);
+            assertThat(seq.readLong()).isEqualTo(-i);
+            final String expected = "Hello " + i;
+            assertThat(seq.readUTF8(expected.length())).isEqualTo(expected);
+        }
+        assertThat(seq.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("readBytes() within a chunk returns a view of the chunk")
+    void readBytesWithinChunkIsView() {
+        final byte[] chunk = {1, 2, 3, 4, 5, 6, 7, 8};
+        final var seq = CompositeReadableSequentialData.of(Bytes.wrap(chunk), Bytes.wrap(new byte[] {9, 10}));
+        seq.skip(2);
+        final Bytes bytes = seq.readBytes(4);
+        assertThat(bytes.toByteArray()).containsExactly(3, 4, 5, 6);
+        chunk[2] = 42;
+        assertThat(bytes.getByte(0)).isEqualTo((byte) 42);
+        // A read across the boundary is a copy
+        assertThat(seq.readBytes(3).toByteArray()).containsExactly(7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("view() across chunks respects the limit of the view")
+    void viewAcrossChunks() {
+        final var seq = sequence(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        seq.skip(1);
+        final var view = seq.view(7);
+        assertThat(seq.position()).isEqualTo(8);
+        assertThat(view.capacity()).isEqualTo(7);
+        view.limit(5);
+        final byte[] dst = new byte[10];
+        assertThat(view.readBytes(dst)).isEqualTo(5);
+        assertThat(Arrays.copyOf(dst, 5)).containsExactly(2, 3, 4, 5, 6);
+    }
+}
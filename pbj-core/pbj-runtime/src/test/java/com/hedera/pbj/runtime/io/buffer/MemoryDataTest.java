@@ -1,14 +1,22 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.pbj.runtime.io.buffer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.RandomAccessFile;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /// Test for heap MemoryData
 final class MemoryDataTest extends BufferedDataTestBase<MemoryData> {
@@ -50,4 +58,76 @@ final class MemoryDataTest extends BufferedDataTestBase<MemoryData> {
         assertThrows(IllegalArgumentException.class, () -> data.putVarLong(0, 111L));
         assertEquals(str, data.asUtf8String());
     }
+
+    @Test
+    @DisplayName("mapFile() with READ_ONLY mode reads the file and rejects writes")
+    void mapFileReadOnly(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("data.bin");
+        Files.write(file, "1234567890".getBytes(StandardCharsets.UTF_8));
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemoryData data = MemoryData.mapFile(file, FileChannel.MapMode.READ_ONLY, arena);
+            assertEquals(10, data.length());
+            assertEquals(10, data.remaining());
+            assertEquals("1234567890", data.asUtf8String());
+            assertEquals("345", data.view(5).asUtf8String(2, 3));
+            assertThrows(IllegalArgumentException.class, () -> data.putByte(0, (byte) 0));
+        }
+    }
+
+    @Test
+    @DisplayName("mapFile() with READ_WRITE mode writes through to the file")
+    void mapFileReadWrite(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[8]);
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemoryData data = MemoryData.mapFile(file, FileChannel.MapMode.READ_WRITE, arena);
+            data.writeLong(0x0102030405060708L);
+        }
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Data mapped with mapFile() is not accessible after its arena is closed")
+    void mapFileClosedArena(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("data.bin");
+        Files.write(file, new byte[8]);
+        final Arena arena = Arena.ofShared();
+        final MemoryData data = MemoryData.mapFile(file, FileChannel.MapMode.READ_ONLY, arena);
+        arena.close();
+        assertThrows(IllegalStateException.class, () -> data.getByte(0));
+    }
+
+    @Test
+    @DisplayName("mapFile() supports files larger than 2 GB")
+    void mapFileLarge(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("large.bin");
+        final long size = 3L * 1024 * 1024 * 1024;
+        final long offset = size - 16;
+        // A sparse file, so the test doesn't need 3 GB of disk space
+        try (final RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size);
+            raf.seek(offset);
+            raf.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        }
+        try (final Arena arena = Arena.ofConfined()) {
+            final MemoryData data = MemoryData.mapFile(file, FileChannel.MapMode.READ_ONLY, arena);
+            assertEquals(size, data.length());
+            assertEquals(0x0102030405060708L, data.getLong(offset));
+
+            data.position(offset);
+            final byte[] bytes = new byte[16];
+            assertEquals(16, data.readBytes(bytes));
+            assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 0, 0, 0, 0, 0, 0, 0, 0}, bytes);
+
+            data.position(offset);
+            assertEquals(0x0102030405060708L, data.view(8).readLong());
+            assertEquals(offset + 8, data.position());
+
+            final ByteBuffer dst = ByteBuffer.allocate(4);
+            assertEquals(4, data.getBytes(offset + 4, dst));
+            assertEquals(0, dst.position());
+            assertArrayEquals(new byte[] {5, 6, 7, 8}, dst.array());
+            assertEquals(Bytes.wrap(new byte[] {3, 4}), data.getBytes(offset + 2, 2));
+        }
+    }
 }
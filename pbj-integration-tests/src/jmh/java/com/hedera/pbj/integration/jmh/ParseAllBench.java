@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.integration.jmh;
+
+import com.hedera.hapi.block.stream.Block;
+import com.hedera.hapi.block.stream.BlockItem;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.ParseResult;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks parsing the items of a sample block one by one versus in parallel with {@code Codec.parseAll()}, to show
+ * how the throughput scales with the number of threads.
+ */
+@SuppressWarnings("unused")
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class ParseAllBench {
+    /** The serialized items of the sample block */
+    private static final List<Bytes> ITEMS;
+
+    static {
+        try (var in = new BufferedInputStream(new GZIPInputStream(Objects.requireNonNull(
+                ParseAllBench.class.getResourceAsStream("/000000000000000000000000000000497558.blk.gz"))))) {
+            final Block block = Block.PROTOBUF.parse(Bytes.wrap(in.readAllBytes()));
+            ITEMS = block.items().stream().map(BlockItem.PROTOBUF::toBytes).toList();
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void parseSequential(final Blackhole blackhole) throws ParseException {
+        for (int i = 0; i < ITEMS.size(); i++) {
+            blackhole.consume(BlockItem.PROTOBUF.parse(ITEMS.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void parseAll(final Blackhole blackhole) {
+        final List<ParseResult<BlockItem>> results = BlockItem.PROTOBUF.parseAll(ITEMS, pool);
+        blackhole.consume(results);
+    }
+}
@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.integration.jmh.utf8;
+
+import com.hedera.pbj.runtime.MalformedProtobufException;
+import com.hedera.pbj.runtime.Utf8Tools;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.runtime.io.buffer.MemoryData;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the PBJ UTF-8 decoder in {@link Utf8Tools} with the JDK decoders on strings that are all ASCII, mostly
+ * ASCII with some Latin-1 and emoji characters, and all CJK.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 4, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class Utf8DecodeBench {
+    private static final int NUM_OF_VALUES = 1000;
+
+    @Param({"ASCII", "MIXED", "CJK"})
+    public String payload;
+
+    private final int[] offsets = new int[NUM_OF_VALUES + 1];
+    private byte[] array;
+    private Bytes bytes;
+    private BufferedData dataBuffer;
+    private BufferedData dataBufferDirect;
+    private MemoryData memoryDataOffHeap;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(9387498731984L);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            final int start = sb.length();
+            final int length = random.nextInt(8, 128);
+            for (int j = 0; j < length; j++) {
+                sb.appendCodePoint(nextCodePoint(random));
+            }
+            offsets[i + 1] = offsets[i] + sb.substring(start).getBytes(StandardCharsets.UTF_8).length;
+        }
+        array = sb.toString().getBytes(StandardCharsets.UTF_8);
+        bytes = Bytes.wrap(array);
+        dataBuffer = BufferedData.wrap(array);
+        dataBufferDirect = BufferedData.allocateOffHeap(array.length);
+        dataBufferDirect.writeBytes(array);
+        memoryDataOffHeap = MemoryData.allocateOffHeap(array.length);
+        memoryDataOffHeap.writeBytes(array);
+    }
+
+    private int nextCodePoint(final Random random) {
+        return switch (payload) {
+            case "ASCII" -> random.nextInt(0x20, 0x7F);
+            case "MIXED" -> {
+                final int kind = random.nextInt(20);
+                if (kind == 0) {
+                    yield random.nextInt(0xC0, 0x100); // Latin-1 letters
+                } else if (kind == 1) {
+                    yield random.nextInt(0x1F600, 0x1F650); // emoji, encoded as surrogate pairs
+                } else {
+                    yield random.nextInt(0x20, 0x7F);
+                }
+            }
+            case "CJK" -> random.nextInt(0x4E00, 0x9FFF);
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void jdkDecoder(Blackhole blackhole) throws CharacterCodingException {
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            // What ProtoParserTools.readString() used to do, with a new decoder for every string
+            final ByteBuffer bb = ByteBuffer.wrap(array, offsets[i], offsets[i + 1] - offsets[i]);
+            blackhole.consume(StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(bb)
+                    .toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void jdkNewString(Blackhole blackhole) {
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            // Not a fair comparison as malformed input is replaced rather than rejected, but a useful baseline
+            blackhole.consume(new String(array, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void pbjByteArray(Blackhole blackhole) throws MalformedProtobufException {
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            blackhole.consume(Utf8Tools.decodeUtf8(array, offsets[i], offsets[i + 1] - offsets[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void pbjBytes(Blackhole blackhole) throws MalformedProtobufException {
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            blackhole.consume(bytes.getUtf8String(offsets[i], offsets[i + 1] - offsets[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void pbjDataBuffer(Blackhole blackhole) throws MalformedProtobufException {
+        dataBuffer.reset();
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            blackhole.consume(dataBuffer.readUTF8(offsets[i + 1] - offsets[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void pbjDataBufferDirect(Blackhole blackhole) throws MalformedProtobufException {
+        dataBufferDirect.reset();
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            blackhole.consume(dataBufferDirect.readUTF8(offsets[i + 1] - offsets[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_OF_VALUES)
+    public void pbjMemoryDataOffHeap(Blackhole blackhole) throws MalformedProtobufException {
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            blackhole.consume(memoryDataOffHeap.getUtf8String(offsets[i], offsets[i + 1] - offsets[i]));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(Utf8DecodeBench.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.integration.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.FieldMask;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.test.proto.pbj.CacheableMaskedOuter;
+import com.hedera.pbj.test.proto.pbj.MaskedInner;
+import com.hedera.pbj.test.proto.pbj.MaskedOuter;
+import com.hedera.pbj.test.proto.pbj.UnmaskedMessage;
+import com.hedera.pbj.test.proto.pbj.schema.CacheableMaskedOuterSchema;
+import com.hedera.pbj.test.proto.pbj.schema.MaskedInnerSchema;
+import com.hedera.pbj.test.proto.pbj.schema.MaskedOuterSchema;
+import com.hedera.pbj.test.proto.pbj.schema.UnmaskedMessageSchema;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FieldMaskTest {
+    private static final MaskedInner INNER =
+            MaskedInner.newBuilder().number(1).text("one").values(1L, 2L).build();
+    private static final MaskedOuter OUTER = MaskedOuter.newBuilder()
+            .name("outer")
+            .inner(INNER)
+            .innerList(List.of(INNER, MaskedInner.newBuilder().number(2).text("two").build()))
+            .counts(Map.of("a", 1, "b", 2))
+            .choiceInner(INNER)
+            .build();
+    private static final Bytes BYTES = MaskedOuter.PROTOBUF.toBytes(OUTER);
+
+    private static MaskedOuter parse(final FieldMask mask) throws Exception {
+        return MaskedOuter.PROTOBUF.parse(
+                BYTES.toReadableSequentialData(),
+                mask,
+                false,
+                false,
+                Codec.DEFAULT_MAX_DEPTH,
+                Codec.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    void nullMaskParsesEverything() throws Exception {
+        final MaskedOuter parsed = parse(null);
+        assertEquals(OUTER, parsed);
+        assertFalse(parsed.isPartial());
+        assertNull(parsed.getFieldMask());
+    }
+
+    @Test
+    void topLevelFields() throws Exception {
+        final FieldMask mask = FieldMask.of(MaskedOuterSchema.NAME).and(MaskedOuterSchema.COUNTS);
+        final MaskedOuter parsed = parse(mask);
+        assertTrue(parsed.isPartial());
+        assertEquals(mask, parsed.getFieldMask());
+        assertEquals(MaskedOuter.newBuilder().name("outer").counts(OUTER.counts()).build(), parsed);
+        assertEquals(parsed, MaskedOuter.PROTOBUF.parse(BYTES, mask));
+    }
+
+    @Test
+    void nestedFields() throws Exception {
+        final FieldMask mask = FieldMask.of(MaskedOuterSchema.INNER, MaskedInnerSchema.TEXT)
+                .and(MaskedOuterSchema.INNER_LIST, MaskedInnerSchema.NUMBER)
+                .and(MaskedOuterSchema.CHOICE_INNER);
+        final MaskedOuter parsed = parse(mask);
+        assertEquals("", parsed.name());
+        assertEquals(MaskedInner.newBuilder().text("one").build(), parsed.inner());
+        assertTrue(parsed.inner().isPartial());
+        assertEquals(
+                List.of(MaskedInner.newBuilder().number(1).build(), MaskedInner.newBuilder().number(2).build()),
+                parsed.innerList());
+        // The whole oneof field is selected, so it is complete
+        assertEquals(INNER, parsed.choiceInner());
+        assertFalse(parsed.choiceInner().isPartial());
+        assertTrue(parsed.counts().isEmpty());
+    }
+
+    @Test
+    void partialObjectsCompareAndWriteTheirFieldValues() throws Exception {
+        final MaskedOuter partial = parse(FieldMask.of(MaskedOuterSchema.NAME));
+        final MaskedOuter expected = MaskedOuter.newBuilder().name("outer").build();
+        // equals() and hashCode() ignore the mask
+        assertEquals(expected, partial);
+        assertEquals(expected.hashCode(), partial.hashCode());
+        // copyBuilder() doesn't copy the mask
+        final MaskedOuter copy = partial.copyBuilder().build();
+        assertFalse(copy.isPartial());
+        assertEquals(partial, copy);
+        // The fields that were not parsed have default values, so they are not written
+        assertEquals(MaskedOuter.PROTOBUF.toBytes(expected), MaskedOuter.PROTOBUF.toBytes(partial));
+    }
+
+    @Test
+    void messagesWithoutTheOptionAreParsedWhole() throws Exception {
+        final UnmaskedMessage message = UnmaskedMessage.newBuilder()
+                .name("whole")
+                .number(7)
+                .inner(INNER)
+                .build();
+        final UnmaskedMessage parsed = UnmaskedMessage.PROTOBUF.parse(
+                UnmaskedMessage.PROTOBUF.toBytes(message), FieldMask.of(UnmaskedMessageSchema.NAME));
+        assertEquals(message, parsed);
+        assertFalse(parsed.inner().isPartial());
+    }
+
+    @Test
+    void wholeFieldWinsOverSubFields() {
+        final FieldMask mask = FieldMask.of(MaskedOuterSchema.INNER, MaskedInnerSchema.TEXT)
+                .and(MaskedOuterSchema.INNER);
+        assertTrue(mask.includes(MaskedOuterSchema.INNER.number()));
+        assertNull(mask.subMask(MaskedOuterSchema.INNER.number()));
+        assertEquals(
+                mask, FieldMask.of(MaskedOuterSchema.INNER).and(MaskedOuterSchema.INNER, MaskedInnerSchema.TEXT));
+    }
+
+    @Test
+    void partialObjectsAreNotCached() throws Exception {
+        final CacheableMaskedOuter outer =
+                CacheableMaskedOuter.newBuilder().name("cached").inner(INNER).build();
+        final Bytes bytes = CacheableMaskedOuter.PROTOBUF.toBytes(outer);
+        final CacheableMaskedOuter partial =
+                CacheableMaskedOuter.PROTOBUF.parse(bytes, FieldMask.of(CacheableMaskedOuterSchema.NAME));
+        assertTrue(partial.isPartial());
+        assertNull(partial.inner());
+        final CacheableMaskedOuter full = CacheableMaskedOuter.PROTOBUF.parse(bytes);
+        assertFalse(full.isPartial());
+        assertEquals(outer, full);
+        assertNotSame(partial, full);
+    }
+}
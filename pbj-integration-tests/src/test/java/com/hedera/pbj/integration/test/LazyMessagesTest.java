@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.integration.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.UncheckedParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.test.proto.pbj.LazyInner;
+import com.hedera.pbj.test.proto.pbj.LazyKind;
+import com.hedera.pbj.test.proto.pbj.LazyOuter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class LazyMessagesTest {
+    private static final LazyOuter OUTER = LazyOuter.newBuilder()
+            .name("outer")
+            .inner(LazyInner.newBuilder().number(1).text("one").values(1L, 2L).build())
+            .innerList(List.of(LazyInner.newBuilder().number(2).build()))
+            .kind(LazyKind.LAZY_KIND_LARGE)
+            .choiceInner(LazyInner.newBuilder().number(3).build())
+            .build();
+
+    @Test
+    void parsedFieldsKeepTheirBytes() throws Exception {
+        final Bytes bytes = LazyOuter.PROTOBUF.toBytes(OUTER);
+        final LazyOuter parsed = LazyOuter.PROTOBUF.parse(bytes);
+
+        assertNull(OUTER.innerProtobufBytes());
+        assertEquals(LazyInner.PROTOBUF.toBytes(OUTER.inner()), parsed.innerProtobufBytes());
+        assertTrue(parsed.hasInner());
+        assertFalse(parsed.hasOther());
+        assertNull(parsed.otherProtobufBytes());
+
+        // Writing the message doesn't need to parse the lazy fields
+        assertEquals(bytes, LazyOuter.PROTOBUF.toBytes(parsed));
+        assertEquals(bytes.length(), parsed.protobufSize());
+        final byte[] array = new byte[(int) bytes.length()];
+        assertEquals(array.length, LazyOuter.PROTOBUF.write(parsed, array, 0));
+        assertEquals(bytes, Bytes.wrap(array));
+
+        assertEquals(OUTER.inner(), parsed.inner());
+        assertEquals(OUTER, parsed);
+        assertEquals(OUTER.hashCode(), parsed.hashCode());
+        assertEquals(OUTER.toString(), parsed.toString());
+        assertEquals(bytes, LazyOuter.PROTOBUF.toBytes(parsed));
+    }
+
+    @Test
+    void equalsParsesBothObjects() throws Exception {
+        final Bytes bytes = LazyOuter.PROTOBUF.toBytes(OUTER);
+        assertEquals(LazyOuter.PROTOBUF.parse(bytes), LazyOuter.PROTOBUF.parse(bytes));
+        assertEquals(
+                LazyOuter.PROTOBUF.parse(bytes).hashCode(),
+                LazyOuter.PROTOBUF.parse(bytes).hashCode());
+        assertEquals(OUTER, LazyOuter.PROTOBUF.parse(bytes).copyBuilder().build());
+    }
+
+    @Test
+    void emptyMessageIsNotLazy() throws Exception {
+        final LazyOuter outer =
+                LazyOuter.newBuilder().inner(LazyInner.DEFAULT).build();
+        final LazyOuter parsed = LazyOuter.PROTOBUF.parse(LazyOuter.PROTOBUF.toBytes(outer));
+        assertNull(parsed.innerProtobufBytes());
+        assertEquals(LazyInner.DEFAULT, parsed.inner());
+    }
+
+    @Test
+    void malformedFieldThrowsOnAccess() throws Exception {
+        // Field 2 (inner) with a single byte that is a truncated varint tag
+        final Bytes bytes = Bytes.wrap(new byte[] {0x12, 0x01, (byte) 0x80});
+        final LazyOuter parsed = LazyOuter.PROTOBUF.parse(bytes);
+        assertNotNull(parsed.innerProtobufBytes());
+        assertEquals(bytes, LazyOuter.PROTOBUF.toBytes(parsed));
+        assertThrows(UncheckedParseException.class, parsed::inner);
+    }
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.pbj.integration.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.Utf8String;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.hedera.pbj.test.proto.pbj.Utf8Kind;
+import com.hedera.pbj.test.proto.pbj.Utf8Strings;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class Utf8StringsTest {
+    private static final Utf8Strings MESSAGE = Utf8Strings.newBuilder()
+            .name("name é中😀")
+            .description("description")
+            .tags(List.of("a", "b"))
+            .kind(Utf8Kind.UTF8_KIND_NAME)
+            .labels(Map.of("k", "v"))
+            .choiceText("choice")
+            .build();
+
+    @Test
+    void parsedStringsAreDecodedOnFirstAccess() throws Exception {
+        final Bytes bytes = Utf8Strings.PROTOBUF.toBytes(MESSAGE);
+        final Utf8Strings parsed = Utf8Strings.PROTOBUF.parse(bytes);
+
+        assertFalse(parsed.nameUtf8().isDecoded());
+        assertFalse(parsed.descriptionUtf8().isDecoded());
+
+        // Writing, measuring, comparing and hashing work on the bytes
+        assertEquals(bytes, Utf8Strings.PROTOBUF.toBytes(parsed));
+        assertEquals(bytes.length(), parsed.protobufSize());
+        final byte[] array = new byte[(int) bytes.length()];
+        assertEquals(array.length, Utf8Strings.PROTOBUF.write(parsed, array, 0));
+        assertEquals(bytes, Bytes.wrap(array));
+        assertEquals(MESSAGE, parsed);
+        assertEquals(MESSAGE.hashCode(), parsed.hashCode());
+        assertFalse(parsed.nameUtf8().isDecoded());
+
+        assertEquals(MESSAGE.name(), parsed.name());
+        assertTrue(parsed.nameUtf8().isDecoded());
+        assertFalse(parsed.descriptionUtf8().isDecoded());
+        assertEquals(MESSAGE.toString(), parsed.toString());
+        assertEquals(MESSAGE, parsed.copyBuilder().build());
+    }
+
+    @Test
+    void builtStringsAreEncodedOnce() {
+        assertTrue(MESSAGE.nameUtf8().isDecoded());
+        assertSame(MESSAGE.nameUtf8(), MESSAGE.nameUtf8());
+        assertEquals(Utf8String.of(MESSAGE.name()), MESSAGE.nameUtf8());
+        assertSame(Utf8String.EMPTY, Utf8Strings.DEFAULT.nameUtf8());
+        assertEquals("", Utf8Strings.DEFAULT.name());
+    }
+
+    @Test
+    void matchesProtoc() throws Exception {
+        final Bytes bytes = Utf8Strings.PROTOBUF.toBytes(MESSAGE);
+        final com.hedera.pbj.test.proto.java.Utf8Strings protoc =
+                com.hedera.pbj.test.proto.java.Utf8Strings.parseFrom(bytes.toByteArray());
+        assertEquals(MESSAGE.name(), protoc.getName());
+        assertEquals(MESSAGE.description(), protoc.getDescription());
+        assertEquals(MESSAGE, Utf8Strings.PROTOBUF.parse(Bytes.wrap(protoc.toByteArray())));
+    }
+
+    @Test
+    void malformedUtf8FailsToParse() {
+        // Field 1 (name) with a lone continuation byte
+        final Bytes bytes = Bytes.wrap(new byte[] {0x0A, 0x01, (byte) 0x80});
+        assertThrows(ParseException.class, () -> Utf8Strings.PROTOBUF.parse(bytes));
+    }
+}
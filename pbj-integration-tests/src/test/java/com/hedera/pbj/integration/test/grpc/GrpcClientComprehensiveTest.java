@@ -8,14 +8,25 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.hedera.pbj.integration.grpc.GrpcTestUtils;
 import com.hedera.pbj.integration.grpc.PortsAllocator;
 import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.grpc.GrpcCall;
 import com.hedera.pbj.runtime.grpc.GrpcClient;
 import com.hedera.pbj.runtime.grpc.GrpcCompression;
 import com.hedera.pbj.runtime.grpc.GrpcException;
+import com.hedera.pbj.runtime.grpc.GrpcRetryPolicy;
+import com.hedera.pbj.runtime.grpc.GrpcStatus;
 import com.hedera.pbj.runtime.grpc.Pipeline;
+import com.hedera.pbj.runtime.grpc.ServiceInterface;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -50,6 +61,48 @@ public class GrpcClientComprehensiveTest {
                 Arguments.of((Function<Integer, GrpcServerGreeterHandle>) GoogleProtobufGrpcServerGreeterHandle::new));
     }
 
+    /** Request options that retry, or hedge, unary calls with a given policy. */
+    private record RetryingOptions(GrpcRetryPolicy retryPolicy) implements ServiceInterface.RequestOptions {
+        @Override
+        public Optional<String> authority() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String contentType() {
+            return APPLICATION_GRPC;
+        }
+
+        @Override
+        public GrpcRetryPolicy retryPolicy(final String method) {
+            return retryPolicy;
+        }
+    }
+
+    /** Request options that give every call a deadline, and retry, or hedge, unary calls with a given policy. */
+    private record TimeoutOptions(Duration callTimeout, GrpcRetryPolicy retryPolicy)
+            implements ServiceInterface.RequestOptions {
+        @Override
+        public Optional<String> authority() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String contentType() {
+            return APPLICATION_GRPC;
+        }
+
+        @Override
+        public GrpcRetryPolicy retryPolicy(final String method) {
+            return retryPolicy;
+        }
+
+        @Override
+        public Optional<Duration> timeout() {
+            return Optional.of(callTimeout);
+        }
+    }
+
     public GrpcClientComprehensiveTest(Function<Integer, GrpcServerGreeterHandle> serverFactory) {
         this.serverFactory = serverFactory;
     }
@@ -110,6 +163,177 @@ public class GrpcClientComprehensiveTest {
         }
     }
 
+    @Test
+    void testUnaryMethodAsync() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            server.setSayHello(request ->
+                    HelloReply.newBuilder().message("Hello " + request.name()).build());
+
+            final GrpcClient grpcClient = GrpcTestUtils.createGrpcClient(port.port(), GrpcTestUtils.PROTO_OPTIONS);
+            final GreeterInterface.GreeterClient client =
+                    new GreeterInterface.GreeterClient(grpcClient, GrpcTestUtils.PROTO_OPTIONS);
+
+            // All the calls are in flight at once, w/o a thread waiting for each of them:
+            final List<CompletableFuture<HelloReply>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(client.sayHelloAsync(HelloRequest.newBuilder().name("name " + i).build()));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals("Hello name " + i, futures.get(i).join().message());
+            }
+        }
+    }
+
+    @Test
+    void testUnaryMethodAsyncDoesNotBlockTheCaller() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            server.setSayHello(request ->
+                    HelloReply.newBuilder().message("Hello " + request.name()).build());
+
+            // Creating a call blocks, e.g. while a new connection is established, until the latch opens:
+            final GrpcClient delegate = GrpcTestUtils.createGrpcClient(port.port(), GrpcTestUtils.PROTO_OPTIONS);
+            final CountDownLatch connected = new CountDownLatch(1);
+            final GrpcClient grpcClient = new GrpcClient() {
+                @Override
+                public <RequestT, ReplyT> GrpcCall<RequestT, ReplyT> createCall(
+                        final String fullMethodName,
+                        final Codec<RequestT> requestCodec,
+                        final Codec<ReplyT> replyCodec,
+                        final Pipeline<ReplyT> pipeline,
+                        final Map<String, String> metadata) {
+                    try {
+                        connected.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                    return delegate.createCall(fullMethodName, requestCodec, replyCodec, pipeline, metadata);
+                }
+
+                @Override
+                public void close() {
+                    delegate.close();
+                }
+            };
+            final GreeterInterface.GreeterClient client =
+                    new GreeterInterface.GreeterClient(grpcClient, GrpcTestUtils.PROTO_OPTIONS);
+
+            final CompletableFuture<HelloReply> future =
+                    client.sayHelloAsync(HelloRequest.newBuilder().name("test name").build());
+            assertFalse(future.isDone());
+            connected.countDown();
+            assertEquals("Hello test name", future.join().message());
+        }
+    }
+
+    @Test
+    void testUnaryMethodAsyncThrowsException() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            server.setSayHello(request -> {
+                throw new RuntimeException("generic failure");
+            });
+
+            final GrpcClient grpcClient = GrpcTestUtils.createGrpcClient(port.port(), GrpcTestUtils.PROTO_OPTIONS);
+            final GreeterInterface.GreeterClient client =
+                    new GreeterInterface.GreeterClient(grpcClient, GrpcTestUtils.PROTO_OPTIONS);
+
+            final CompletableFuture<HelloReply> future =
+                    client.sayHelloAsync(HelloRequest.newBuilder().name("test name").build());
+            assertThrowsCause(GrpcException.class, future::join);
+        }
+    }
+
+    @Test
+    void testUnaryMethodAsyncRetriesFailures() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            final AtomicInteger calls = new AtomicInteger();
+            server.setSayHello(request -> {
+                if (calls.incrementAndGet() < 3) {
+                    throw new RuntimeException("transient failure");
+                }
+                return HelloReply.newBuilder().message("Hello " + request.name()).build();
+            });
+
+            // Google reports UNKNOWN, while PBJ reports INTERNAL for a generic failure:
+            final GrpcRetryPolicy retryPolicy = GrpcRetryPolicy.retry(
+                    3,
+                    Duration.ofMillis(10),
+                    Duration.ofMillis(100),
+                    Duration.ofSeconds(5),
+                    GrpcStatus.UNKNOWN,
+                    GrpcStatus.INTERNAL);
+            final ServiceInterface.RequestOptions options = new RetryingOptions(retryPolicy);
+            final GrpcClient grpcClient = GrpcTestUtils.createGrpcClient(port.port(), options);
+            final GreeterInterface.GreeterClient client = new GreeterInterface.GreeterClient(grpcClient, options);
+
+            final HelloReply reply =
+                    client.sayHelloAsync(HelloRequest.newBuilder().name("test name").build()).join();
+            assertEquals("Hello test name", reply.message());
+            assertEquals(3, calls.get());
+        }
+    }
+
+    @Test
+    void testUnaryMethodDeadlineExceeded() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            server.setSayHello(request -> {
+                LockSupport.parkNanos(Duration.ofSeconds(1).toNanos());
+                return HelloReply.newBuilder().message("Hello " + request.name()).build();
+            });
+
+            final ServiceInterface.RequestOptions options =
+                    new TimeoutOptions(Duration.ofMillis(100), GrpcRetryPolicy.NONE);
+            final GrpcClient grpcClient = GrpcTestUtils.createGrpcClient(port.port(), options);
+            final GreeterInterface.GreeterClient client = new GreeterInterface.GreeterClient(grpcClient, options);
+
+            final GrpcException grpcException = assertThrowsCause(
+                    GrpcException.class, () -> client.sayHello(HelloRequest.newBuilder().name("test name").build()));
+            assertEquals(GrpcStatus.DEADLINE_EXCEEDED, grpcException.status());
+        }
+    }
+
+    @Test
+    void testUnaryMethodDeadlineCoversAllAttempts() {
+        try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();
+                final GrpcServerGreeterHandle server = serverFactory.apply(port.port())) {
+            server.start();
+            final AtomicInteger calls = new AtomicInteger();
+            server.setSayHello(request -> {
+                calls.incrementAndGet();
+                LockSupport.parkNanos(Duration.ofSeconds(1).toNanos());
+                return HelloReply.newBuilder().message("Hello " + request.name()).build();
+            });
+
+            // Every attempt would time out, and would be retried if it had a deadline of its own:
+            final GrpcRetryPolicy retryPolicy = GrpcRetryPolicy.retry(
+                    10,
+                    Duration.ofMillis(1),
+                    Duration.ofMillis(10),
+                    Duration.ofSeconds(10),
+                    GrpcStatus.DEADLINE_EXCEEDED);
+            final ServiceInterface.RequestOptions options = new TimeoutOptions(Duration.ofMillis(200), retryPolicy);
+            final GrpcClient grpcClient = GrpcTestUtils.createGrpcClient(port.port(), options);
+            final GreeterInterface.GreeterClient client = new GreeterInterface.GreeterClient(grpcClient, options);
+
+            final long start = System.nanoTime();
+            final GrpcException grpcException = assertThrowsCause(
+                    GrpcException.class, () -> client.sayHello(HelloRequest.newBuilder().name("test name").build()));
+            assertEquals(GrpcStatus.DEADLINE_EXCEEDED, grpcException.status());
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+            assertTrue(calls.get() <= 2, "calls: " + calls.get());
+        }
+    }
+
     @Test
     void testUnaryMethodReceivingExtraLargePayload() {
         try (final PortsAllocator.Port port = GrpcTestUtils.PORTS.acquire();